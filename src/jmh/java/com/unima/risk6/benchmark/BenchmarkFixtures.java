@@ -0,0 +1,97 @@
+package com.unima.risk6.benchmark;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.models.Probabilities;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.simulation.BotType;
+import com.unima.risk6.game.simulation.HeadlessGame;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the game states the benchmarks run on. All states are played by bots from a fixed seed,
+ * so every run of a benchmark measures the same board and results can be compared between
+ * releases.
+ *
+ * @author eameri
+ */
+public class BenchmarkFixtures {
+
+  public static final long SEED = 6_2023L;
+  public static final int MID_GAME_TURNS = 12;
+
+  /**
+   * Plays a game between three EasyBots for a few turns, so that the countries are spread over
+   * the players as in the middle of a real game.
+   *
+   * @param seed The seed of the game.
+   * @return The game state, the current player is about to reinforce.
+   */
+  public static GameState createMidGame(long seed) {
+    return playGame(List.of(BotType.EASY, BotType.EASY, BotType.EASY), seed, MID_GAME_TURNS);
+  }
+
+  /**
+   * Plays a game between a HardBot and two EasyBots until it is the turn of the HardBot after at
+   * least the given amount of turns.
+   *
+   * @param seed  The seed of the game.
+   * @param turns The minimum amount of turns played.
+   * @return The game state, the HardBot is about to reinforce.
+   */
+  public static GameState createHardBotGame(long seed, int turns) {
+    for (int played = turns; ; played++) {
+      GameState gameState = playGame(List.of(BotType.HARD, BotType.EASY, BotType.EASY), seed,
+          played);
+      if (gameState.isGameOver()) {
+        throw new IllegalStateException("Game with seed " + seed + " ended after " + played
+            + " turns");
+      }
+      if (gameState.getCurrentPlayer().getUser().startsWith(BotType.HARD.name())) {
+        return gameState;
+      }
+    }
+  }
+
+  /**
+   * Plays a headless game between bots of the given types for the given amount of turns.
+   *
+   * @param types The types of the bots.
+   * @param seed  The seed of the game.
+   * @param turns The amount of turns played.
+   * @return The game state after the last turn.
+   */
+  public static GameState playGame(List<BotType> types, long seed, int turns) {
+    Probabilities.init();
+    List<AiBot> bots = new ArrayList<>();
+    for (int i = 0; i < types.size(); i++) {
+      bots.add(types.get(i).create(types.get(i) + " " + (i + 1)));
+    }
+    HeadlessGame game = new HeadlessGame(bots, seed, turns);
+    game.play();
+    return game.getGameState();
+  }
+
+  /**
+   * Finds a country of the given player which borders a country of another player.
+   *
+   * @param gameState The game state to search.
+   * @param player    The attacking player.
+   * @return The attacking country at index 0 and the defending country at index 1.
+   */
+  public static Country[] findBorder(GameState gameState, Player player) {
+    for (Country country : gameState.getCountries()) {
+      if (!player.equals(country.getPlayer())) {
+        continue;
+      }
+      for (Country adjacent : country.getAdjacentCountries()) {
+        if (!player.equals(adjacent.getPlayer())) {
+          return new Country[]{country, adjacent};
+        }
+      }
+    }
+    throw new IllegalStateException(player.getUser() + " has no border to another player");
+  }
+}
@@ -0,0 +1,108 @@
+package com.unima.risk6.benchmark;
+
+import com.unima.risk6.game.ai.models.CountryPair;
+import com.unima.risk6.game.logic.Attack;
+import com.unima.risk6.game.logic.DiceKernel;
+import com.unima.risk6.game.logic.controllers.DeckController;
+import com.unima.risk6.game.logic.controllers.GameController;
+import com.unima.risk6.game.logic.controllers.PlayerController;
+import com.unima.risk6.game.models.Continent;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.enums.GamePhase;
+import com.unima.risk6.network.server.MoveProcessor;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the moves processed by the server and the queries of the bots on a mid-game
+ * board.
+ *
+ * @author eameri
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEngineBenchmark {
+
+  private static final int BATTLE_TROOPS = Integer.MAX_VALUE / 2;
+  private static final int BLITZ_TROOPS = 30;
+
+  private GameState gameState;
+  private MoveProcessor moveProcessor;
+  private PlayerController playerController;
+  private Country attacking;
+  private Country defending;
+  private SplittableRandom random;
+
+  /**
+   * Plays the mid-game fixture and lets the current player start its attack phase. Both countries
+   * of the benchmarked attack get so many troops that neither side runs out during a run.
+   */
+  @Setup
+  public void setUp() {
+    gameState = BenchmarkFixtures.createMidGame(BenchmarkFixtures.SEED);
+    GameController gameController = new GameController(gameState);
+    playerController = new PlayerController();
+    moveProcessor = new MoveProcessor(playerController, gameController,
+        new DeckController(gameState.getDeck(), gameState.getRandom()));
+    Player current = gameState.getCurrentPlayer();
+    current.setDeployableTroops(0);
+    current.setCurrentPhase(GamePhase.ATTACK_PHASE);
+    playerController.setPlayer(current);
+    Country[] border = BenchmarkFixtures.findBorder(gameState, current);
+    attacking = border[0];
+    defending = border[1];
+    attacking.setTroops(BATTLE_TROOPS);
+    defending.setTroops(BATTLE_TROOPS);
+    random = new SplittableRandom(BenchmarkFixtures.SEED);
+  }
+
+  @Benchmark
+  public Attack calculateLosses() {
+    Attack attack = new Attack(attacking, defending, 3);
+    attack.calculateLosses(random);
+    return attack;
+  }
+
+  @Benchmark
+  public int rollDice() {
+    return DiceKernel.roll(random, 3, 2);
+  }
+
+  @Benchmark
+  public int blitz() {
+    return DiceKernel.blitz(random, BLITZ_TROOPS, BLITZ_TROOPS);
+  }
+
+  @Benchmark
+  public boolean processAttack() {
+    boolean gameOver = moveProcessor.processAttack(new Attack(attacking, defending, 3));
+    moveProcessor.clearLastMoves();
+    return gameOver;
+  }
+
+  @Benchmark
+  public void getAllValidCountryPairs(Blackhole blackhole) {
+    for (Continent continent : gameState.getContinents()) {
+      List<CountryPair> pairs = playerController.getAllValidCountryPairs(continent);
+      blackhole.consume(pairs);
+    }
+  }
+}
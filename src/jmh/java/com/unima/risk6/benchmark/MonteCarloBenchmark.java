@@ -0,0 +1,86 @@
+package com.unima.risk6.benchmark;
+
+import com.unima.risk6.game.ai.bots.HardBot;
+import com.unima.risk6.game.ai.models.MoveTriplet;
+import com.unima.risk6.game.ai.montecarlo.MonteCarloTreeSearch;
+import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.network.message.StandardMessage;
+import com.unima.risk6.network.serialization.Deserializer;
+import com.unima.risk6.network.serialization.Serializer;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the Monte Carlo Tree Search of the HardBot, on a game in which the HardBot is
+ * about to reinforce.
+ *
+ * @author eameri
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonteCarloBenchmark {
+
+  @Param({"50"})
+  private int iterations;
+
+  private GameState gameState;
+  private HardBot hardBot;
+  private MonteCarloTreeSearch copier;
+
+  @Setup
+  public void setUp() {
+    gameState = BenchmarkFixtures.createHardBotGame(BenchmarkFixtures.SEED, 6);
+    hardBot = (HardBot) gameState.getCurrentPlayer();
+    hardBot.setGameState(gameState);
+    copier = new MonteCarloTreeSearch(hardBot);
+  }
+
+  @Benchmark
+  public GameState copyGameState() {
+    return copier.copyGameState(gameState);
+  }
+
+  /**
+   * Copies the game state by a JSON round trip, the way the search copied it before it used the
+   * GameStateCopier, as a reference for copyGameState.
+   *
+   * @return The copy of the game state.
+   */
+  @Benchmark
+  public GameState copyGameStateViaJson() {
+    GameState empty = GameConfiguration.configureGame(new ArrayList<>(), new ArrayList<>());
+    return (GameState) Deserializer.deserialize(
+        Serializer.serialize(new StandardMessage<>(gameState)), empty).getContent();
+  }
+
+  /**
+   * Searches with a new tree on every invocation, so the tree of the previous invocation is not
+   * continued. The search runs on the calling thread with a fixed seed.
+   *
+   * @return The best move found.
+   */
+  @Benchmark
+  public MoveTriplet getBestMove() {
+    MonteCarloTreeSearch search = new MonteCarloTreeSearch(hardBot);
+    search.setThreadCount(1);
+    search.setSeed(BenchmarkFixtures.SEED);
+    search.setIterations(iterations);
+    return search.getBestMove(gameState);
+  }
+}
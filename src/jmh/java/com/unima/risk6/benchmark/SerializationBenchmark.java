@@ -0,0 +1,150 @@
+package com.unima.risk6.benchmark;
+
+import com.google.gson.GsonBuilder;
+import com.unima.risk6.game.ai.bots.EasyBot;
+import com.unima.risk6.game.ai.bots.HardBot;
+import com.unima.risk6.game.ai.bots.MediumBot;
+import com.unima.risk6.game.ai.tutorial.TutorialBot;
+import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.logic.Attack;
+import com.unima.risk6.game.logic.EndPhase;
+import com.unima.risk6.game.logic.Fortify;
+import com.unima.risk6.game.logic.HandIn;
+import com.unima.risk6.game.logic.Reinforce;
+import com.unima.risk6.game.models.Card;
+import com.unima.risk6.game.models.Continent;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Hand;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.network.message.Message;
+import com.unima.risk6.network.message.StandardMessage;
+import com.unima.risk6.network.serialization.AttackTypeAdapter;
+import com.unima.risk6.network.serialization.CardTypeAdapter;
+import com.unima.risk6.network.serialization.ContinentTypeAdapter;
+import com.unima.risk6.network.serialization.CountryTypeAdapter;
+import com.unima.risk6.network.serialization.Deserializer;
+import com.unima.risk6.network.serialization.EasyBotTypeAdapter;
+import com.unima.risk6.network.serialization.EndPhaseTypeAdapter;
+import com.unima.risk6.network.serialization.FortifyTypeAdapter;
+import com.unima.risk6.network.serialization.GameStateTypeAdapter;
+import com.unima.risk6.network.serialization.HandInTypeAdapter;
+import com.unima.risk6.network.serialization.HandTypeAdapter;
+import com.unima.risk6.network.serialization.HardBotTypeAdapter;
+import com.unima.risk6.network.serialization.MediumBotTypeAdapter;
+import com.unima.risk6.network.serialization.PlayerTypeAdapter;
+import com.unima.risk6.network.serialization.ReinforceTypeAdapter;
+import com.unima.risk6.network.serialization.Serializer;
+import com.unima.risk6.network.serialization.StandardMessageAdapter;
+import com.unima.risk6.network.serialization.TutorialBotTypeAdapter;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the game state messages the server broadcasts after every move, in messages per
+ * second. The legacy benchmarks build a new Gson instance for every message, as the Serializer and
+ * Deserializer did before their Gson instances were cached, and serve as baseline.
+ *
+ * @author eameri
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+  private GameState gameState;
+  private String json;
+
+  @Setup
+  public void setUp() {
+    gameState = BenchmarkFixtures.createMidGame(BenchmarkFixtures.SEED);
+    json = Serializer.serialize(new StandardMessage<>(gameState));
+  }
+
+  @Benchmark
+  public String serialize() {
+    return Serializer.serialize(new StandardMessage<>(gameState));
+  }
+
+  /**
+   * Deserializes the game state into a newly configured game, as the client does. The game is
+   * configured before the invocation, so only the deserialization is measured.
+   *
+   * @param context The newly configured game.
+   * @return The deserialized message.
+   */
+  @Benchmark
+  public Message deserialize(DeserializationContext context) {
+    return Deserializer.deserialize(json, context.gameState);
+  }
+
+  @Benchmark
+  public String legacySerialize() {
+    return new GsonBuilder()
+        .registerTypeAdapter(GameState.class, new GameStateTypeAdapter())
+        .registerTypeAdapter(Country.class, new CountryTypeAdapter())
+        .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
+        .registerTypeAdapter(Card.class, new CardTypeAdapter())
+        .registerTypeAdapter(Hand.class, new HandTypeAdapter())
+        .registerTypeAdapter(Player.class, new PlayerTypeAdapter())
+        .registerTypeAdapter(EasyBot.class, new EasyBotTypeAdapter())
+        .registerTypeAdapter(MediumBot.class, new MediumBotTypeAdapter())
+        .registerTypeAdapter(HardBot.class, new HardBotTypeAdapter())
+        .registerTypeAdapter(TutorialBot.class, new TutorialBotTypeAdapter())
+        .registerTypeAdapter(Attack.class, new AttackTypeAdapter())
+        .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter())
+        .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter())
+        .registerTypeAdapter(HandIn.class, new HandInTypeAdapter())
+        .registerTypeAdapter(EndPhase.class, new EndPhaseTypeAdapter())
+        .create()
+        .toJson(new StandardMessage<>(gameState));
+  }
+
+  @Benchmark
+  public Message legacyDeserialize(DeserializationContext deserializationContext) {
+    GameState context = deserializationContext.gameState;
+    return new GsonBuilder()
+        .registerTypeAdapter(StandardMessage.class, new StandardMessageAdapter())
+        .registerTypeAdapter(GameState.class, new GameStateTypeAdapter(context))
+        .registerTypeAdapter(Country.class, new CountryTypeAdapter(context))
+        .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
+        .registerTypeAdapter(Card.class, new CardTypeAdapter())
+        .registerTypeAdapter(Hand.class, new HandTypeAdapter())
+        .registerTypeAdapter(Player.class, new PlayerTypeAdapter(context))
+        .registerTypeAdapter(Attack.class, new AttackTypeAdapter(context))
+        .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter(context))
+        .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter(context))
+        .registerTypeAdapter(HandIn.class, new HandInTypeAdapter())
+        .registerTypeAdapter(EndPhase.class, new EndPhaseTypeAdapter())
+        .create()
+        .fromJson(json, StandardMessage.class);
+  }
+
+  /**
+   * The game every message is deserialized into, configured anew before every invocation.
+   */
+  @State(Scope.Thread)
+  public static class DeserializationContext {
+
+    private GameState gameState;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+      gameState = GameConfiguration.configureGame(new ArrayList<>(), new ArrayList<>());
+    }
+  }
+}
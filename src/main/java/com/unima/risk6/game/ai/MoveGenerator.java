@@ -0,0 +1,318 @@
+package com.unima.risk6.game.ai;
+
+import com.unima.risk6.game.ai.models.CountryPair;
+import com.unima.risk6.game.ai.models.Probabilities;
+import com.unima.risk6.game.models.Continent;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.enums.GamePhase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generates the legal attack and fortify moves of a player lazily. Instead of collecting the moves
+ * into lists, every move is handed to a visitor as its two countries, and the visitor decides
+ * whether the generation goes on. Attacks can be pruned by the probability of winning the whole
+ * battle, so only promising attacks reach the visitor. Countries of the player which are not on its
+ * frontier are skipped without looking at their neighbours. Moves are always generated in the same
+ * order, so a bot choosing the n-th move stays deterministic for a given game state.
+ *
+ * <p>A player owns a country if the owner of the country equals the player, i.e. has the same
+ * user. The frontier is only read from such an owner, which is the single instance of its user in
+ * a game state, so it agrees with this rule.
+ *
+ * @author eameri
+ */
+public final class MoveGenerator {
+
+  /**
+   * The threshold which lets every attack through, without calculating any probability.
+   */
+  public static final int NO_PRUNING = -1;
+
+  private MoveGenerator() {
+  }
+
+  /**
+   * Receives the moves of a MoveGenerator one at a time.
+   */
+  @FunctionalInterface
+  public interface MoveVisitor {
+
+    /**
+     * Visits a single move.
+     *
+     * @param outgoing The country attacking or sending troops.
+     * @param incoming The country attacked or receiving troops.
+     * @return true to stop the generation, false to receive the next move.
+     */
+    boolean visit(Country outgoing, Country incoming);
+  }
+
+  /**
+   * Generates the attacks of a player from a single country.
+   *
+   * @param player    The player the moves are generated for.
+   * @param country   The country the attacks start from.
+   * @param threshold Only attacks whose probability of winning the battle in percent is above the
+   *                  threshold are generated, or NO_PRUNING.
+   * @param visitor   The visitor receiving the attacks.
+   * @return true if the visitor stopped the generation.
+   */
+  public static boolean forEachAttackFrom(Player player, Country country, int threshold,
+      MoveVisitor visitor) {
+    boolean interior = owns(player, country) && !country.isBorderCountry();
+    if (interior || country.getTroops() < getTroopLimit(player)) {
+      return false;
+    }
+    for (Country adjacentCountry : country.getAdjacentCountries()) {
+      if (!owns(player, adjacentCountry) && adjacentCountry.hasPlayer()
+          && adjacentCountry.getTroops() >= 1
+          && isPromising(country, adjacentCountry, threshold)
+          && visitor.visit(country, adjacentCountry)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Generates the attacks of a player from its countries in a continent.
+   *
+   * @param player    The player the moves are generated for.
+   * @param continent The continent whose countries attack.
+   * @param threshold Only attacks whose probability of winning the battle in percent is above the
+   *                  threshold are generated, or NO_PRUNING.
+   * @param visitor   The visitor receiving the attacks.
+   * @return true if the visitor stopped the generation.
+   */
+  public static boolean forEachAttack(Player player, Continent continent, int threshold,
+      MoveVisitor visitor) {
+    for (Country country : continent.getCountries()) {
+      if (owns(player, country) && forEachAttackFrom(player, country, threshold, visitor)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Generates the attacks of a player from its countries in several continents, one continent
+   * after the other.
+   *
+   * @param player     The player the moves are generated for.
+   * @param continents The continents in the order their attacks are generated.
+   * @param threshold  Only attacks whose probability of winning the battle in percent is above the
+   *                   threshold are generated, or NO_PRUNING.
+   * @param visitor    The visitor receiving the attacks.
+   * @return true if the visitor stopped the generation.
+   */
+  public static boolean forEachAttack(Player player, Iterable<Continent> continents,
+      int threshold, MoveVisitor visitor) {
+    for (Continent continent : continents) {
+      if (forEachAttack(player, continent, threshold, visitor)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Generates the fortify moves of a player from a single country.
+   *
+   * @param player  The player the moves are generated for.
+   * @param country The country the troops are sent from.
+   * @param visitor The visitor receiving the fortify moves.
+   * @return true if the visitor stopped the generation.
+   */
+  public static boolean forEachFortifyFrom(Player player, Country country, MoveVisitor visitor) {
+    if (country.getTroops() <= 1 || !hasOwnNeighbour(player, country)) {
+      return false;
+    }
+    for (Country adjacentCountry : country.getAdjacentCountries()) {
+      if (owns(player, adjacentCountry) && visitor.visit(country, adjacentCountry)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Generates all fortify moves of a player.
+   *
+   * @param player  The player the moves are generated for.
+   * @param visitor The visitor receiving the fortify moves.
+   * @return true if the visitor stopped the generation.
+   */
+  public static boolean forEachFortify(Player player, MoveVisitor visitor) {
+    for (Country country : player.getCountries()) {
+      if (forEachFortifyFrom(player, country, visitor)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Collects the attacks of a player from its countries in a continent.
+   *
+   * @param player    The player the moves are generated for.
+   * @param continent The continent whose countries attack.
+   * @param threshold Only attacks whose probability of winning the battle in percent is above the
+   *                  threshold are collected, or NO_PRUNING.
+   * @return The attacks in the order they were generated.
+   */
+  public static List<CountryPair> collectAttacks(Player player, Continent continent,
+      int threshold) {
+    List<CountryPair> attacks = new ArrayList<>();
+    forEachAttack(player, continent, threshold, (outgoing, incoming) -> {
+      attacks.add(new CountryPair(outgoing, incoming));
+      return false;
+    });
+    return attacks;
+  }
+
+  /**
+   * Collects all fortify moves of a player.
+   *
+   * @param player The player the moves are generated for.
+   * @return The fortify moves in the order they were generated.
+   */
+  public static List<CountryPair> collectFortifies(Player player) {
+    List<CountryPair> fortifies = new ArrayList<>();
+    forEachFortify(player, (outgoing, incoming) -> {
+      fortifies.add(new CountryPair(outgoing, incoming));
+      return false;
+    });
+    return fortifies;
+  }
+
+  /**
+   * Finds the first attack of a player from its countries in several continents.
+   *
+   * @param player     The player the moves are generated for.
+   * @param continents The continents in the order their attacks are generated.
+   * @param threshold  Only attacks whose probability of winning the battle in percent is above the
+   *                   threshold are considered, or NO_PRUNING.
+   * @return The first attack generated, or null if there is none.
+   */
+  public static CountryPair findAttack(Player player, Iterable<Continent> continents,
+      int threshold) {
+    MoveSelector selector = new MoveSelector(0);
+    forEachAttack(player, continents, threshold, selector);
+    return selector.getSelected();
+  }
+
+  /**
+   * Picks a random attack of a player from its countries in several continents. Every attack is
+   * equally likely, and only a single random number is drawn if there is an attack at all.
+   *
+   * @param player     The player the moves are generated for.
+   * @param continents The continents whose countries attack.
+   * @param threshold  Only attacks whose probability of winning the battle in percent is above the
+   *                   threshold are considered, or NO_PRUNING.
+   * @param rng        The random number generator used to pick the attack.
+   * @return The attack picked, or null if there is none.
+   */
+  public static CountryPair pickAttack(Player player, Iterable<Continent> continents,
+      int threshold, RandomGenerator rng) {
+    MoveCounter counter = new MoveCounter();
+    forEachAttack(player, continents, threshold, counter);
+    if (counter.count == 0) {
+      return null;
+    }
+    MoveSelector selector = new MoveSelector(rng.nextInt(counter.count));
+    forEachAttack(player, continents, threshold, selector);
+    return selector.getSelected();
+  }
+
+  /**
+   * Picks a random fortify move of a player. Every fortify move is equally likely, and only a
+   * single random number is drawn if there is a fortify move at all.
+   *
+   * @param player The player the moves are generated for.
+   * @param rng    The random number generator used to pick the fortify move.
+   * @return The fortify move picked, or null if there is none.
+   */
+  public static CountryPair pickFortify(Player player, RandomGenerator rng) {
+    MoveCounter counter = new MoveCounter();
+    forEachFortify(player, counter);
+    if (counter.count == 0) {
+      return null;
+    }
+    MoveSelector selector = new MoveSelector(rng.nextInt(counter.count));
+    forEachFortify(player, selector);
+    return selector.getSelected();
+  }
+
+  /**
+   * Gets the lower limit of troops a country needs to attack from in the current phase of the
+   * player. During the reinforcement and claim phase, the attacks are only looked at to rate the
+   * threats to a country, so countries with a single troop are included as well.
+   */
+  private static int getTroopLimit(Player player) {
+    return player.getCurrentPhase() == GamePhase.REINFORCEMENT_PHASE
+        || player.getCurrentPhase() == GamePhase.CLAIM_PHASE ? 1 : 2;
+  }
+
+  private static boolean isPromising(Country attacker, Country defender, int threshold) {
+    return threshold == NO_PRUNING
+        || Probabilities.getWinProbability(attacker.getTroops(), defender.getTroops()) > threshold;
+  }
+
+  private static boolean owns(Player player, Country country) {
+    return player.equals(country.getPlayer());
+  }
+
+  /**
+   * Checks whether a player may own a neighbour of a country. The frontier only answers this for
+   * countries of the player, all other countries have their neighbours looked at.
+   */
+  private static boolean hasOwnNeighbour(Player player, Country country) {
+    return !owns(player, country)
+        || country.getPlayer().getForeignNeighbours(country) < country.getAdjacentCountries().size();
+  }
+
+  /**
+   * Counts the moves generated.
+   */
+  private static final class MoveCounter implements MoveVisitor {
+
+    private int count;
+
+    @Override
+    public boolean visit(Country outgoing, Country incoming) {
+      count++;
+      return false;
+    }
+  }
+
+  /**
+   * Stops the generation at the move with a given index and remembers it.
+   */
+  private static final class MoveSelector implements MoveVisitor {
+
+    private int remaining;
+    private Country outgoing;
+    private Country incoming;
+
+    private MoveSelector(int index) {
+      this.remaining = index;
+    }
+
+    @Override
+    public boolean visit(Country outgoing, Country incoming) {
+      if (remaining-- > 0) {
+        return false;
+      }
+      this.outgoing = outgoing;
+      this.incoming = incoming;
+      return true;
+    }
+
+    private CountryPair getSelected() {
+      return outgoing != null ? new CountryPair(outgoing, incoming) : null;
+    }
+  }
+}
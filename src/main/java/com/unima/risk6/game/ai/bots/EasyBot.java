@@ -1,18 +1,20 @@
 package com.unima.risk6.game.ai.bots;
 
 import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.MoveGenerator;
 import com.unima.risk6.game.ai.models.CountryPair;
 import com.unima.risk6.game.logic.Fortify;
 import com.unima.risk6.game.logic.Reinforce;
 import com.unima.risk6.game.logic.controllers.PlayerController;
-import com.unima.risk6.game.models.Continent;
 import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.GameState;
 import com.unima.risk6.game.models.Player;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * The easy difficulty bot which makes all of its moves randomly.
@@ -21,8 +23,8 @@ import java.util.Set;
  */
 public class EasyBot extends Player implements AiBot {
 
-  private static final Random RNG = new Random();
   private final PlayerController playerController;
+  private RandomGenerator rng;
   private GameState currentGameState;
   private double attackProbability;
 
@@ -35,6 +37,7 @@ public class EasyBot extends Player implements AiBot {
     super(player);
     playerController = new PlayerController();
     playerController.setPlayer(this);
+    this.rng = new SplittableRandom();
     this.resetAttackProbability();
   }
 
@@ -47,6 +50,7 @@ public class EasyBot extends Player implements AiBot {
     super(username);
     playerController = new PlayerController();
     playerController.setPlayer(this);
+    this.rng = new SplittableRandom();
     this.resetAttackProbability();
   }
 
@@ -54,7 +58,7 @@ public class EasyBot extends Player implements AiBot {
    * Constructs an EasyBot with a default username.
    */
   public EasyBot() {
-    this("EasyBot #" + RNG.nextInt(1000));
+    this("EasyBot #" + ThreadLocalRandom.current().nextInt(1000));
   }
 
   /**
@@ -69,29 +73,26 @@ public class EasyBot extends Player implements AiBot {
     if (unclaimed.isEmpty()) {
       return new Reinforce(this.getRandomCountryFromSet(this.getCountries()), 1);
     } else {
-      return new Reinforce(unclaimed.get(RNG.nextInt(unclaimed.size())), 1);
+      return new Reinforce(unclaimed.get(rng.nextInt(unclaimed.size())), 1);
     }
   }
 
   @Override
   public CountryPair createAttack() {
-    List<CountryPair> decisions = new ArrayList<>();
-    for (Continent continent : this.currentGameState.getContinents()) {
-      decisions.addAll(this.playerController.getAllValidCountryPairs(continent));
-    }
-    return this.getRandomCountryPair(decisions);
+    return MoveGenerator.pickAttack(this, this.currentGameState.getContinents(),
+        MoveGenerator.NO_PRUNING, rng);
   }
 
   @Override
   public boolean attackAgain() {
-    boolean answer = RNG.nextDouble() < this.attackProbability;
+    boolean answer = rng.nextDouble() < this.attackProbability;
     this.attackProbability *= 0.55;
     return answer;
   }
 
   @Override
   public int getAttackTroops(Country attacker) {
-    return RNG.nextInt(1, Math.min(4, attacker.getTroops()));
+    return rng.nextInt(1, Math.min(4, attacker.getTroops()));
   }
 
   @Override
@@ -99,20 +100,19 @@ public class EasyBot extends Player implements AiBot {
     // the automatic move will have already been made
     int maxAvailable = winPair.getOutgoing().getTroops();
     // nextInt automatically chooses any number while always leaving at least one troop behind
-    return winPair.createFortify(RNG.nextInt(maxAvailable));
+    return winPair.createFortify(rng.nextInt(maxAvailable));
   }
 
 
   @Override
   public Fortify createFortify() {
     this.resetAttackProbability();
-    if (RNG.nextDouble() < 0.175) {
+    if (rng.nextDouble() < 0.175) {
       return null;
     }
-    List<CountryPair> decisions = this.playerController.getAllValidFortifies();
-    CountryPair toFortify = this.getRandomCountryPair(decisions);
+    CountryPair toFortify = MoveGenerator.pickFortify(this, rng);
     if (toFortify != null) {
-      int troopsToMove = RNG.nextInt(1, toFortify.getOutgoing().getTroops());
+      int troopsToMove = rng.nextInt(1, toFortify.getOutgoing().getTroops());
       return toFortify.createFortify(troopsToMove);
     }
     return null;
@@ -128,7 +128,7 @@ public class EasyBot extends Player implements AiBot {
     int reinforceTroopsCopy = this.getDeployableTroops();
     while (reinforceTroopsCopy > 0) {
       int troopsSent;
-      troopsSent = reinforceTroopsCopy == 1 ? 1 : RNG.nextInt(1, reinforceTroopsCopy);
+      troopsSent = reinforceTroopsCopy == 1 ? 1 : rng.nextInt(1, reinforceTroopsCopy);
       Reinforce toAdd = this.createRandomReinforce(troopsSent);
       reinforcements.add(toAdd);
       reinforceTroopsCopy -= troopsSent;
@@ -154,7 +154,7 @@ public class EasyBot extends Player implements AiBot {
    * @return A randomly chosen country from the set.
    */
   private Country getRandomCountryFromSet(Set<Country> countrySet) {
-    int stopIndex = RNG.nextInt(this.playerController.getNumberOfCountries());
+    int stopIndex = rng.nextInt(this.playerController.getNumberOfCountries());
     int counter = 0;
     for (Country country : countrySet) {
       if (counter == stopIndex) {
@@ -165,16 +165,6 @@ public class EasyBot extends Player implements AiBot {
     return null; // will never happen, because we are guaranteed to always have at least one country
   }
 
-  /**
-   * Randomly selects a CountryPair from a list of CountryPair objects.
-   *
-   * @param decision A list of CountryPair objects.
-   * @return A randomly chosen CountryPair from the list.
-   */
-  private CountryPair getRandomCountryPair(List<CountryPair> decision) {
-    return !decision.isEmpty() ? decision.get(RNG.nextInt(decision.size())) : null;
-  }
-
   /**
    * Resets the attack probability of the bot to its default value.
    */
@@ -184,13 +174,14 @@ public class EasyBot extends Player implements AiBot {
 
   /**
    * Sets the values relevant to the bots decision-making by copying them from the current game
-   * state.
+   * state, including the random number generator of the game.
    *
    * @param gameState the current state of the game.
    */
   @Override
   public void setGameState(GameState gameState) {
     this.currentGameState = gameState;
+    this.rng = gameState.getRandom();
   }
 
 
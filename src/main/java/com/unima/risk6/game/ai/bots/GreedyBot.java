@@ -1,6 +1,7 @@
 package com.unima.risk6.game.ai.bots;
 
 import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.MoveGenerator;
 import com.unima.risk6.game.ai.models.CountryPair;
 import com.unima.risk6.game.logic.Fortify;
 import com.unima.risk6.game.logic.Reinforce;
@@ -14,10 +15,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * An intermediate class representing a player which only makes greedy moves. Used for Medium- and
@@ -27,7 +30,7 @@ import java.util.Random;
  */
 public abstract class GreedyBot extends Player implements AiBot {
 
-  protected static final Random RNG = new Random();
+  protected RandomGenerator rng;
   protected List<Continent> allContinents;
   protected List<Country> allCountries;
   protected final PlayerController playerController;
@@ -41,8 +44,15 @@ public abstract class GreedyBot extends Player implements AiBot {
     return allContinents;
   }
 
+  /**
+   * Updates the continents and countries known to the bot and makes it draw its random decisions
+   * from the random number generator of the game.
+   *
+   * @param gameState the current state of the game.
+   */
   @Override
   public void setGameState(GameState gameState) {
+    this.rng = gameState.getRandom();
     this.allContinents.clear();
     this.allContinents.addAll(gameState.getContinents());
     this.allCountries.clear();
@@ -60,6 +70,7 @@ public abstract class GreedyBot extends Player implements AiBot {
     playerController.setPlayer(this);
     this.allContinents = new ArrayList<>();
     this.allCountries = new ArrayList<>();
+    this.rng = new SplittableRandom();
   }
 
   /**
@@ -73,6 +84,7 @@ public abstract class GreedyBot extends Player implements AiBot {
     playerController.setPlayer(this);
     this.allContinents = new ArrayList<>();
     this.allCountries = new ArrayList<>();
+    this.rng = new SplittableRandom();
   }
 
   public abstract List<Reinforce> createAllReinforcements();
@@ -82,8 +94,7 @@ public abstract class GreedyBot extends Player implements AiBot {
   @Override
   public Fortify moveAfterAttack(CountryPair winPair) {
     int troopsAffordable = Integer.MIN_VALUE;
-    if (winPair.getOutgoing().getAdjacentCountries().stream()
-        .allMatch(c -> c.getPlayer().equals(winPair.getOutgoing().getPlayer()))) {
+    if (!winPair.getOutgoing().isBorderCountry()) {
       return winPair.createFortify(winPair.getOutgoing().getTroops() - 1);
     } else {
       for (Country adj : winPair.getOutgoing().getAdjacentCountries()) {
@@ -145,7 +156,7 @@ public abstract class GreedyBot extends Player implements AiBot {
     } else {
       List<Continent> priorityList = this.getAllContinents().stream()
           .sorted(Comparator.comparingDouble(this::calculateClaimPhasePower).reversed()).toList();
-      Map<Country, Integer> allDiffs = new HashMap<>();
+      Map<Country, Integer> allDiffs = new LinkedHashMap<>();
       this.getAllContinents()
           .forEach(continent -> allDiffs.putAll(this.getCountryTroopDiffsByContinent(continent)));
       List<Optional<Country>> choices = new ArrayList<>();
@@ -234,27 +245,14 @@ public abstract class GreedyBot extends Player implements AiBot {
    * @return A map of countries to the additionally necessary amount of troops (if the value exists)
    */
   protected Map<Country, Integer> getCountryTroopDiffsByContinent(Continent continent) {
-    Map<Country, Integer> ownedCountryDiffs = new HashMap<>();
-    List<CountryPair> diffInfo = this.playerController.getAllValidCountryPairs(continent);
-    for (CountryPair countryPair : diffInfo) {
-      this.getCountryPairDiff(ownedCountryDiffs, countryPair);
-    }
+    Map<Country, Integer> ownedCountryDiffs = new LinkedHashMap<>();
+    MoveGenerator.forEachAttack(this, continent, MoveGenerator.NO_PRUNING, (country, adj) -> {
+      ownedCountryDiffs.merge(country, calculateTroopWeakness(country, adj), Math::max);
+      return false;
+    });
     return ownedCountryDiffs;
   }
 
-
-  protected void getCountryPairDiff(Map<Country, Integer> ownedCountryDiffs,
-      CountryPair countryPair) {
-    if (ownedCountryDiffs.get(countryPair.getOutgoing()) == null) {
-      ownedCountryDiffs.put(countryPair.getOutgoing(),
-          calculateTroopWeakness(countryPair.getOutgoing(), countryPair.getIncoming()));
-    } else {
-      ownedCountryDiffs.put(countryPair.getOutgoing(),
-          Math.max(calculateTroopWeakness(countryPair.getOutgoing(), countryPair.getIncoming()),
-              ownedCountryDiffs.get(countryPair.getOutgoing())));
-    }
-  }
-
   protected Country findBestAdj(Map<Country, Integer> allOwnedCountryDiffs, Country country) {
     Country bestAdj = null;
     for (Country adj : country.getAdjacentCountries()) {
@@ -9,8 +9,10 @@ import com.unima.risk6.game.logic.Reinforce;
 import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.GameState;
 import com.unima.risk6.game.models.Player;
+import java.time.Duration;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The Hard Bot, which uses the Monte Carlo Tree Search Algorithm to identify its moves during the
@@ -25,6 +27,8 @@ public class HardBot extends GreedyBot implements AiBot {
   private Fortify fortify;
   private GameState gameState;
   private boolean firstAttack = true;
+  private Duration turnBudget;
+  private final MonteCarloTreeSearch searchTree = new MonteCarloTreeSearch(this);
 
   /**
    * Constructs a new HardBot as a copy of a player.
@@ -48,7 +52,7 @@ public class HardBot extends GreedyBot implements AiBot {
    * Constructs a default HardBot with a randomized name.
    */
   public HardBot() {
-    this("HardBot #" + RNG.nextInt(1000));
+    this("HardBot #" + ThreadLocalRandom.current().nextInt(1000));
   }
 
   @Override
@@ -86,11 +90,13 @@ public class HardBot extends GreedyBot implements AiBot {
 
   /**
    * Uses the Monte Carlo Tree Search algorithm to update the variables holding the best moves from
-   * the current state of the game.
+   * the current state of the game. The search tree is kept between phases and turns, so the search
+   * continues from the statistics gathered before whenever the reached state is part of the tree.
    */
   private void updateBestMoves() {
-    MonteCarloTreeSearch mcts = new MonteCarloTreeSearch(this);
-    MoveTriplet results = mcts.getBestMove(this.gameState);
+    MoveTriplet results = this.turnBudget != null
+        ? this.searchTree.getBestMove(this.gameState, turnBudget)
+        : this.searchTree.getBestMove(this.gameState);
     this.reinforces = results.reinforcements();
     this.attacks = results.attacks();
     this.fortify = results.fortify();
@@ -106,13 +112,30 @@ public class HardBot extends GreedyBot implements AiBot {
     this.gameState = gameState;
   }
 
+  public MonteCarloTreeSearch getSearchTree() {
+    return searchTree;
+  }
+
+  public Duration getTurnBudget() {
+    return turnBudget;
+  }
+
+  /**
+   * Sets the time the bot may think about its moves every time it searches for them. Without a
+   * budget, a fixed amount of iterations is used.
+   *
+   * @param turnBudget The time budget of a single search, or null for a fixed amount of iterations.
+   */
+  public void setTurnBudget(Duration turnBudget) {
+    this.turnBudget = turnBudget;
+  }
+
   @Override
   public boolean attackAgain() { // the hard bot will return all attacks at once
     return !this.attacks.isEmpty();
   }
 
   private Country getNewCountryReference(Country country) {
-    return this.gameState.getCountries().stream().filter(c -> c.equals(country)).findFirst()
-        .orElse(null);
+    return this.gameState.getCountry(country.getCountryName());
   }
 }
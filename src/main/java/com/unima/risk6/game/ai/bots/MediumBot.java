@@ -1,6 +1,7 @@
 package com.unima.risk6.game.ai.bots;
 
 import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.MoveGenerator;
 import com.unima.risk6.game.ai.models.CountryPair;
 import com.unima.risk6.game.ai.models.Probabilities;
 import com.unima.risk6.game.logic.Fortify;
@@ -10,9 +11,10 @@ import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.Player;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The medium difficulty bot, which makes only the best move in each round without analyzing
@@ -22,6 +24,8 @@ import java.util.Map;
  */
 public class MediumBot extends GreedyBot implements AiBot {
 
+  private static final int ATTACK_THRESHOLD = 70;
+
   private int reinforceTroopsCopy;
   private int lastAttackSize;
 
@@ -49,7 +53,7 @@ public class MediumBot extends GreedyBot implements AiBot {
    * Constructs a default MediumBot.
    */
   public MediumBot() {
-    this("MediumBot #" + RNG.nextInt(1000));
+    this("MediumBot #" + ThreadLocalRandom.current().nextInt(1000));
   }
 
   @Override
@@ -133,7 +137,7 @@ public class MediumBot extends GreedyBot implements AiBot {
     Map<Country, Integer> ownedCountryDiffs = getCountryTroopDiffsByContinent(continent);
     List<Country> countriesByLowestReinforce = new ArrayList<>(ownedCountryDiffs.keySet());
     sortCountriesByLowestDiffs(ownedCountryDiffs, countriesByLowestReinforce);
-    ownedCountryDiffs.replaceAll((entry, diff) -> diff + RNG.nextInt(1, 3));
+    ownedCountryDiffs.replaceAll((entry, diff) -> diff + rng.nextInt(1, 3));
     return reinforceSortedCountryList(ownedCountryDiffs, countriesByLowestReinforce);
   }
 
@@ -193,22 +197,15 @@ public class MediumBot extends GreedyBot implements AiBot {
   }
 
   /**
-   * Grabs all possible attack moves in the current continent, and performs only those which have a
-   * high probability of victory until one side loses.
+   * Grabs all possible attack moves in the current continent which have a high probability of
+   * victory, sorted by that probability.
    *
    * @param continent The continent in which attacks will be performed.
    */
   private List<CountryPair> makeBestAttackInContinent(Continent continent) {
-    List<CountryPair> attacksToReturn = new ArrayList<>();
-    List<CountryPair> allPossibleAttacks = this.playerController.getAllValidCountryPairs(continent);
-    sortAttacksByProbability(allPossibleAttacks);
-    for (CountryPair attackPair : allPossibleAttacks) {
-      if (attackPair.getWinningProbability() > 70) {
-        attacksToReturn.add(attackPair);
-      } else {
-        break;
-      }
-    }
+    List<CountryPair> attacksToReturn = MoveGenerator.collectAttacks(this, continent,
+        ATTACK_THRESHOLD);
+    sortAttacksByProbability(attacksToReturn);
     return attacksToReturn;
   }
 
@@ -232,7 +229,7 @@ public class MediumBot extends GreedyBot implements AiBot {
   public Fortify createFortify() {
     Fortify fortify = null;
     sortContinentsByHighestRelativePower();
-    Map<Country, Integer> allOwnedCountryDiffs = new HashMap<>();
+    Map<Country, Integer> allOwnedCountryDiffs = new LinkedHashMap<>();
     List<Country> countriesByHighestDiff = getCountriesByHighestDiff(allOwnedCountryDiffs);
 
     for (Country country : countriesByHighestDiff) {
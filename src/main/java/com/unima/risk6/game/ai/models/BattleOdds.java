@@ -0,0 +1,221 @@
+package com.unima.risk6.game.ai.models;
+
+import java.util.Arrays;
+
+/**
+ * Computes the exact odds of battles between two countries. A battle is modelled as a Markov chain
+ * over the remaining troops of both sides, in which every round of dice removes troops according
+ * to the exact outcome probabilities of the dice. The win probabilities are memoized in a table
+ * which grows on demand, larger battles are computed without being cached.
+ *
+ * @author eameri
+ */
+public class BattleOdds {
+
+  private static final int MAX_CACHED_TROOPS = 1024;
+  private static final int MIN_CACHE_SIZE = 32;
+  private static final double[][][] ROUND_LOSSES = calculateRoundLosses();
+  private static volatile double[][] winCache = new double[0][0];
+
+  /**
+   * Enumerates all throws of the dice to calculate the probability of the attacker losing a
+   * certain amount of troops in a single round.
+   *
+   * @return The probabilities indexed by [attacker dice][defender dice][attacker losses].
+   */
+  private static double[][][] calculateRoundLosses() {
+    double[][][] losses = new double[4][3][3];
+    for (int attackDice = 1; attackDice <= 3; attackDice++) {
+      for (int defendDice = 1; defendDice <= 2; defendDice++) {
+        int throwCount = (int) Math.pow(6, attackDice + defendDice);
+        int[] lossCounts = new int[3];
+        for (int roll = 0; roll < throwCount; roll++) {
+          int[] attack = new int[attackDice];
+          int[] defend = new int[defendDice];
+          int rest = roll;
+          for (int i = 0; i < attackDice; i++, rest /= 6) {
+            attack[i] = rest % 6;
+          }
+          for (int i = 0; i < defendDice; i++, rest /= 6) {
+            defend[i] = rest % 6;
+          }
+          Arrays.sort(attack);
+          Arrays.sort(defend);
+          int attackerLosses = 0;
+          for (int i = 0; i < Math.min(attackDice, defendDice); i++) {
+            if (attack[attackDice - 1 - i] <= defend[defendDice - 1 - i]) {
+              attackerLosses++;
+            }
+          }
+          lossCounts[attackerLosses]++;
+        }
+        for (int i = 0; i < 3; i++) {
+          losses[attackDice][defendDice][i] = (double) lossCounts[i] / throwCount;
+        }
+      }
+    }
+    return losses;
+  }
+
+  /**
+   * Returns the probability of the attacker losing the given amount of troops in a single round.
+   *
+   * @param attackDice     The number of dice of the attacker, 1 to 3.
+   * @param defendDice     The number of dice of the defender, 1 or 2.
+   * @param attackerLosses The troops lost by the attacker, the defender loses the remaining
+   *                       compared dice.
+   * @return The probability of the outcome.
+   */
+  public static double getRoundProbability(int attackDice, int defendDice, int attackerLosses) {
+    return ROUND_LOSSES[attackDice][defendDice][attackerLosses];
+  }
+
+  /**
+   * Returns the exact probability of the attacker conquering the defending country, if the
+   * attacker always rolls as many dice as possible and keeps attacking until one side is out of
+   * troops.
+   *
+   * @param attackers The troops available for the attack, without the troop which has to stay.
+   * @param defenders The troops on the defending country.
+   * @return The probability of the attacker winning the battle.
+   */
+  public static double getWinProbability(int attackers, int defenders) {
+    if (defenders <= 0) {
+      return 1;
+    }
+    if (attackers <= 0) {
+      return 0;
+    }
+    double[][] cache = winCache;
+    if (attackers < cache.length && defenders < cache[attackers].length) {
+      return cache[attackers][defenders];
+    }
+    if (attackers > MAX_CACHED_TROOPS || defenders > MAX_CACHED_TROOPS) {
+      return calculateWinProbability(attackers, defenders);
+    }
+    return prepare(attackers, defenders)[attackers][defenders];
+  }
+
+  /**
+   * Makes sure the probabilities of all battles up to the given sizes are cached.
+   *
+   * @param attackers The largest amount of attacking troops.
+   * @param defenders The largest amount of defending troops.
+   * @return The table of cached win probabilities.
+   */
+  public static synchronized double[][] prepare(int attackers, int defenders) {
+    double[][] cache = winCache;
+    if (attackers < cache.length && defenders < cache[0].length) {
+      return cache;
+    }
+    int size = Math.max(MIN_CACHE_SIZE, cache.length);
+    while (size <= Math.max(attackers, defenders)) {
+      size *= 2;
+    }
+    size = Math.min(size, MAX_CACHED_TROOPS + 1);
+    double[][] table = new double[size][size];
+    for (int a = 0; a < size; a++) {
+      table[a][0] = 1;
+      for (int d = 1; d < size; d++) {
+        table[a][d] = a == 0 ? 0 : nextRound(table[a], table[a - 1],
+            a >= 2 ? table[a - 2] : null, a, d);
+      }
+    }
+    winCache = table;
+    return table;
+  }
+
+  /**
+   * Calculates a win probability without the cache, keeping only the last three rows of the
+   * table in memory.
+   *
+   * @param attackers The troops available for the attack.
+   * @param defenders The troops on the defending country.
+   * @return The probability of the attacker winning the battle.
+   */
+  private static double calculateWinProbability(int attackers, int defenders) {
+    double[] twoLess = null;
+    double[] oneLess = null;
+    double[] current = null;
+    for (int a = 0; a <= attackers; a++) {
+      current = new double[defenders + 1];
+      current[0] = 1;
+      for (int d = 1; d <= defenders && a > 0; d++) {
+        current[d] = nextRound(current, oneLess, twoLess, a, d);
+      }
+      twoLess = oneLess;
+      oneLess = current;
+    }
+    return current[defenders];
+  }
+
+  /**
+   * Calculates the win probability of a battle from the win probabilities of the battles reachable
+   * after one round of dice.
+   *
+   * @param sameRow The win probabilities with a attackers.
+   * @param oneLess The win probabilities with a - 1 attackers.
+   * @param twoLess The win probabilities with a - 2 attackers.
+   * @param a       The troops available to the attacker, at least 1.
+   * @param d       The troops of the defender, at least 1.
+   * @return The probability of the attacker winning the battle.
+   */
+  private static double nextRound(double[] sameRow, double[] oneLess, double[] twoLess, int a,
+      int d) {
+    int attackDice = Math.min(3, a);
+    int defendDice = Math.min(2, d);
+    double[] losses = ROUND_LOSSES[attackDice][defendDice];
+    if (Math.min(attackDice, defendDice) == 1) {
+      return losses[0] * sameRow[d - 1] + losses[1] * oneLess[d];
+    }
+    return losses[0] * sameRow[d - 2] + losses[1] * oneLess[d - 1] + losses[2] * twoLess[d];
+  }
+
+  /**
+   * Calculates the distribution of the outcomes of a battle, i.e. how many troops the winning side
+   * has left, by propagating the probability of every intermediate state of the battle.
+   *
+   * @param attackers The troops available for the attack, at least 1.
+   * @param defenders The troops on the defending country, at least 1.
+   * @return The distribution of the outcomes of the battle.
+   */
+  public static BattleOutcome getOutcome(int attackers, int defenders) {
+    double[][] state = new double[attackers + 1][defenders + 1];
+    double[] attackerRemaining = new double[attackers + 1];
+    double[] defenderRemaining = new double[defenders + 1];
+    state[attackers][defenders] = 1;
+    for (int a = attackers; a >= 0; a--) {
+      for (int d = defenders; d >= 0; d--) {
+        double probability = state[a][d];
+        if (probability == 0) {
+          continue;
+        }
+        if (d == 0) {
+          attackerRemaining[a] += probability;
+          continue;
+        }
+        if (a == 0) {
+          defenderRemaining[d] += probability;
+          continue;
+        }
+        int attackDice = Math.min(3, a);
+        int defendDice = Math.min(2, d);
+        int compared = Math.min(attackDice, defendDice);
+        for (int attackerLosses = 0; attackerLosses <= compared; attackerLosses++) {
+          state[a - attackerLosses][d - compared + attackerLosses] +=
+              probability * ROUND_LOSSES[attackDice][defendDice][attackerLosses];
+        }
+      }
+    }
+    return new BattleOutcome(attackerRemaining, defenderRemaining);
+  }
+
+  /**
+   * Return the current table of cached win probabilities, strictly for testing purposes.
+   *
+   * @return the win probabilities indexed by [attackers][defenders]
+   */
+  public static double[][] getWinCache() {
+    return winCache;
+  }
+}
@@ -0,0 +1,67 @@
+package com.unima.risk6.game.ai.models;
+
+/**
+ * A record representing the distribution of the outcomes of a battle between two countries.
+ *
+ * @author eameri
+ */
+public record BattleOutcome(double[] attackerRemaining, double[] defenderRemaining) {
+
+  /**
+   * Creates a new BattleOutcome object.
+   *
+   * @param attackerRemaining the probability of the attacker winning with the given index of troops
+   *                          left, index 0 is never reached.
+   * @param defenderRemaining the probability of the defender winning with the given index of troops
+   *                          left, index 0 is never reached.
+   */
+  public BattleOutcome {
+  }
+
+  /**
+   * Returns the probability of the attacker conquering the defending country.
+   *
+   * @return the probability of the attacker winning.
+   */
+  public double getWinProbability() {
+    double probability = 0;
+    for (double remaining : attackerRemaining) {
+      probability += remaining;
+    }
+    return probability;
+  }
+
+  /**
+   * Returns the amount of troops the attacker is expected to lose in the battle.
+   *
+   * @return the expected losses of the attacker.
+   */
+  public double getExpectedAttackerLosses() {
+    return expectedLosses(attackerRemaining);
+  }
+
+  /**
+   * Returns the amount of troops the defender is expected to lose in the battle.
+   *
+   * @return the expected losses of the defender.
+   */
+  public double getExpectedDefenderLosses() {
+    return expectedLosses(defenderRemaining);
+  }
+
+  /**
+   * Calculates the expected losses of one side, which loses all of its troops if it loses the
+   * battle.
+   *
+   * @param remaining the distribution of the troops left if the side wins.
+   * @return the expected losses.
+   */
+  private static double expectedLosses(double[] remaining) {
+    int troops = remaining.length - 1;
+    double expectedRemaining = 0;
+    for (int i = 1; i < remaining.length; i++) {
+      expectedRemaining += i * remaining[i];
+    }
+    return troops - expectedRemaining;
+  }
+}
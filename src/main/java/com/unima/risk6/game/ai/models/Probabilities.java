@@ -5,9 +5,6 @@ import com.unima.risk6.game.models.Continent;
 import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.GameState;
 import com.unima.risk6.game.models.Player;
-import com.unima.risk6.json.JsonParser;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,27 +17,14 @@ import java.util.Map;
  */
 public class Probabilities {
 
-  /**
-   * Return the initialized probability array object, strictly for testing purposes.
-   *
-   * @return the win probability array
-   */
-  public static Integer[][] getWinProbabilityArray() {
-    return winProbability;
-  }
-
-  private static Integer[][] winProbability;
-  private static final String PROBABILITIES_FILE = "/com/unima/risk6/json/probabilities.json";
+  private static final int PREPARED_TROOPS = 64;
 
   /**
-   * Initialize the Probabilities class by setting the classes static winProbability and
-   * borderCountries attributes.
+   * Initialize the Probabilities class by calculating the win probabilities of all battles common
+   * in a game ahead of time, larger battles are calculated when they are first needed.
    */
   public static void init() {
-    InputStream data = Probabilities.class.getResourceAsStream(PROBABILITIES_FILE);
-    assert data != null;
-    InputStreamReader fileReader = new InputStreamReader(data);
-    winProbability = JsonParser.parseJsonFile(fileReader, Integer[][].class);
+    BattleOdds.prepare(PREPARED_TROOPS, PREPARED_TROOPS);
   }
 
   /**
@@ -69,23 +53,39 @@ public class Probabilities {
 
   /**
    * Gets the probability of a country winning a battle against another country based off of their
-   * amount of troops, see project report for source of data.
+   * amount of troops, as a percentage.
    *
    * @param attackerTotal The total amount of troops the attacking country has.
    * @param defenderTotal The total amount of troops the defending country has.
    * @return The probability of the attacker winning an entire battle, rounded as an Integer.
    */
   public static int getWinProbability(int attackerTotal, int defenderTotal) {
+    return (int) Math.round(100 * getExactWinProbability(attackerTotal, defenderTotal));
+  }
+
+  /**
+   * Gets the exact probability of a country winning a battle against another country based off of
+   * their amount of troops.
+   *
+   * @param attackerTotal The total amount of troops the attacking country has.
+   * @param defenderTotal The total amount of troops the defending country has.
+   * @return The probability of the attacker winning an entire battle, between 0 and 1.
+   */
+  public static double getExactWinProbability(int attackerTotal, int defenderTotal) {
     // attacker always needs to have at least 1 troop
-    int attackerAvailable = attackerTotal - 1;
-    while (attackerAvailable > 20 && defenderTotal > 20) {
-      attackerAvailable -= 20;
-      defenderTotal -= 20;
-    }
-    int attackerIndex = Math.min(attackerAvailable - 1, 19);
-    int defenderIndex = Math.min(defenderTotal - 1, 19);
+    return BattleOdds.getWinProbability(attackerTotal - 1, defenderTotal);
+  }
 
-    return winProbability[attackerIndex][defenderIndex];
+  /**
+   * Gets the distribution of the outcomes of a battle between two countries, from which the
+   * expected losses of both sides can be read.
+   *
+   * @param attackerTotal The total amount of troops the attacking country has, at least 2.
+   * @param defenderTotal The total amount of troops the defending country has, at least 1.
+   * @return The distribution of the outcomes of the battle.
+   */
+  public static BattleOutcome getBattleOutcome(int attackerTotal, int defenderTotal) {
+    return BattleOdds.getOutcome(attackerTotal - 1, defenderTotal);
   }
 
   /**
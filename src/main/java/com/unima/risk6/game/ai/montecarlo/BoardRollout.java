@@ -0,0 +1,221 @@
+package com.unima.risk6.game.ai.montecarlo;
+
+import com.unima.risk6.game.ai.models.Probabilities;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays out a game on a SimulationBoard with a greedy policy modelled after the MonteCarloBot:
+ * troops are placed on countries bordering enemies, attacks are only made if they are likely to be
+ * won and troops are moved from safe countries to the front. All work is done on the primitive
+ * arrays of the board, so a rollout allocates no memory per move.
+ *
+ * @author eameri
+ */
+public class BoardRollout {
+
+  private static final int ATTACK_THRESHOLD = 65;
+  private static final double ATTACK_DECAY = 0.95;
+  private static final int NO_ATTACK = -1;
+  private final SimulationBoard board;
+  private final RandomGenerator rng;
+  private final int[] candidates;
+
+  /**
+   * Constructs a new rollout on the given board.
+   *
+   * @param board The board on which the moves are played, it is modified by the rollout.
+   * @param rng   The random number generator used for dice and decisions.
+   */
+  public BoardRollout(SimulationBoard board, RandomGenerator rng) {
+    this.board = board;
+    this.rng = rng;
+    this.candidates = new int[SimulationBoard.COUNTRY_COUNT];
+  }
+
+  /**
+   * Plays turns until the game is over or the given amount of turns has been played.
+   *
+   * @param maxTurns The maximum amount of turns to be played.
+   */
+  public void run(int maxTurns) {
+    for (int turn = 0; turn < maxTurns && !board.isGameOver(); turn++) {
+      this.playTurn();
+    }
+  }
+
+  /**
+   * Plays one entire turn (hand in, reinforce, attack, fortify) of the current player.
+   */
+  public void playTurn() {
+    int player = board.getCurrentPlayer();
+    int deployable = board.calculateDeployableTroops(player) + board.handIn(player);
+    this.reinforce(player, deployable);
+    boolean conquered = this.attack(player);
+    if (!board.isGameOver()) {
+      this.fortify(player);
+    }
+    if (conquered) {
+      board.drawCard(player);
+    }
+    board.nextPlayer();
+  }
+
+  /**
+   * Places the deployable troops on countries bordering enemy countries, preferring to even out
+   * the difference to the strongest adjacent enemy.
+   *
+   * @param player     The index of the current player.
+   * @param deployable The amount of troops to be placed.
+   */
+  private void reinforce(int player, int deployable) {
+    int borderCount = 0;
+    long owned = board.getOwnedMask(player);
+    while (owned != 0) {
+      int country = Long.numberOfTrailingZeros(owned);
+      owned &= owned - 1;
+      if (board.getEnemyNeighbours(country, player) != 0) {
+        candidates[borderCount++] = country;
+      }
+    }
+    if (borderCount == 0) {
+      return;
+    }
+    while (deployable > 0) {
+      int country = candidates[rng.nextInt(borderCount)];
+      int diff = this.strongestEnemyNeighbour(country, player) - board.getTroops(country);
+      int troops = Math.min(deployable, Math.max(1, Math.abs(diff)));
+      board.addTroops(country, troops);
+      deployable -= troops;
+    }
+  }
+
+  /**
+   * Attacks as long as a promising attack exists, with a decreasing chance of continuing after
+   * every battle. Every battle is fought until conquest or until the attacker runs out of troops.
+   *
+   * @param player The index of the current player.
+   * @return Whether the player conquered at least one country.
+   */
+  private boolean attack(int player) {
+    boolean conquered = false;
+    double attackProbability = 1.;
+    int pair = this.findAttack(player);
+    while (pair != NO_ATTACK) {
+      int attacker = pair >> 6;
+      int defender = pair & 63;
+      int dice = board.blitz(attacker, defender, rng);
+      if (board.getTroops(defender) == 0) {
+        board.addTroops(attacker, -dice);
+        board.setOwner(defender, player, dice);
+        conquered = true;
+        if (board.isGameOver()) {
+          return true;
+        }
+        this.moveAfterAttack(attacker, defender, player);
+      }
+      attackProbability *= ATTACK_DECAY;
+      if (rng.nextDouble() >= attackProbability) {
+        break;
+      }
+      pair = this.findAttack(player);
+    }
+    return conquered;
+  }
+
+  /**
+   * Searches for an attack with a high probability of winning, starting at a random country.
+   *
+   * @param player The index of the current player.
+   * @return The attacking and defending country packed as (attacker << 6 | defender), or NO_ATTACK.
+   */
+  private int findAttack(int player) {
+    int start = rng.nextInt(SimulationBoard.COUNTRY_COUNT);
+    for (int i = 0; i < SimulationBoard.COUNTRY_COUNT; i++) {
+      int country = (start + i) % SimulationBoard.COUNTRY_COUNT;
+      int troops = board.getTroops(country);
+      if (board.getOwner(country) != player || troops < 2) {
+        continue;
+      }
+      long enemies = board.getEnemyNeighbours(country, player);
+      while (enemies != 0) {
+        int enemy = Long.numberOfTrailingZeros(enemies);
+        enemies &= enemies - 1;
+        if (Probabilities.getWinProbability(troops, board.getTroops(enemy)) > ATTACK_THRESHOLD) {
+          return country << 6 | enemy;
+        }
+      }
+    }
+    return NO_ATTACK;
+  }
+
+  /**
+   * Moves additional troops into a conquered country, all of them if the attacking country is no
+   * longer bordering an enemy, otherwise half of the difference between both countries.
+   *
+   * @param attacker The ordinal of the attacking country.
+   * @param defender The ordinal of the conquered country.
+   * @param player   The index of the current player.
+   */
+  private void moveAfterAttack(int attacker, int defender, int player) {
+    int toMove;
+    if (board.getEnemyNeighbours(attacker, player) == 0) {
+      toMove = board.getTroops(attacker) - 1;
+    } else {
+      toMove = Math.max(0, (board.getTroops(attacker) - board.getTroops(defender)) / 2);
+    }
+    board.addTroops(attacker, -toMove);
+    board.addTroops(defender, toMove);
+  }
+
+  /**
+   * Moves all spare troops of the strongest country without enemy neighbours to an adjacent
+   * country which borders an enemy.
+   *
+   * @param player The index of the current player.
+   */
+  private void fortify(int player) {
+    int source = SimulationBoard.NO_OWNER;
+    long owned = board.getOwnedMask(player);
+    while (owned != 0) {
+      int country = Long.numberOfTrailingZeros(owned);
+      owned &= owned - 1;
+      if (board.getTroops(country) > 1 && board.getEnemyNeighbours(country, player) == 0
+          && (source == SimulationBoard.NO_OWNER
+          || board.getTroops(country) > board.getTroops(source))) {
+        source = country;
+      }
+    }
+    if (source == SimulationBoard.NO_OWNER) {
+      return;
+    }
+    long neighbours = SimulationBoard.getAdjacency(source);
+    while (neighbours != 0) {
+      int target = Long.numberOfTrailingZeros(neighbours);
+      neighbours &= neighbours - 1;
+      if (board.getEnemyNeighbours(target, player) != 0) {
+        int toMove = board.getTroops(source) - 1;
+        board.addTroops(source, -toMove);
+        board.addTroops(target, toMove);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Returns the troops of the strongest enemy country adjacent to the given country.
+   *
+   * @param country The ordinal of the country.
+   * @param player  The index of the owner of the country.
+   * @return The highest amount of troops on an adjacent enemy country.
+   */
+  private int strongestEnemyNeighbour(int country, int player) {
+    int strongest = 0;
+    long enemies = board.getEnemyNeighbours(country, player);
+    while (enemies != 0) {
+      int enemy = Long.numberOfTrailingZeros(enemies);
+      enemies &= enemies - 1;
+      strongest = Math.max(strongest, board.getTroops(enemy));
+    }
+    return strongest;
+  }
+}
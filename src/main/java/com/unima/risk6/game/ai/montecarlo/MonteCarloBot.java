@@ -1,6 +1,7 @@
 package com.unima.risk6.game.ai.montecarlo;
 
 import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.MoveGenerator;
 import com.unima.risk6.game.ai.bots.GreedyBot;
 import com.unima.risk6.game.ai.models.CountryPair;
 import com.unima.risk6.game.ai.models.Probabilities;
@@ -11,11 +12,10 @@ import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.Player;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 
 /**
@@ -27,7 +27,7 @@ import java.util.Set;
  */
 public class MonteCarloBot extends GreedyBot implements AiBot {
 
-  private static final Random RNG = new Random();
+  private static final int ATTACK_THRESHOLD = 65;
   private double attackProbability = 1.;
 
 
@@ -52,17 +52,17 @@ public class MonteCarloBot extends GreedyBot implements AiBot {
   }
 
   /**
-   * Creates a map of reinforce moves for every country owned based off of the troop numbers in
-   * adjacent countries with the number of troops to add slightly randomized.
+   * Creates a map of reinforce moves for every border country owned based off of the troop numbers
+   * in adjacent enemy countries.
    *
    * @return A map of countries to an amount of troops which would be good for a reinforce.
    */
   public Map<Country, Integer> getReinforceMoves() { //recreate defendable -> aggressive
-    Map<Country, Integer> diffMap = new HashMap<>();
-    for (Country reinforcable : this.getCountries()) {
+    Map<Country, Integer> diffMap = new LinkedHashMap<>();
+    for (Country reinforcable : this.getBorderCountries()) {
       for (Country adj : reinforcable.getAdjacentCountries()) {
         if (!this.equals(adj.getPlayer())) {
-          this.getCountryPairDiff(diffMap, new CountryPair(reinforcable, adj));
+          diffMap.merge(reinforcable, calculateTroopWeakness(reinforcable, adj), Math::max);
         }
       }
     }
@@ -76,10 +76,22 @@ public class MonteCarloBot extends GreedyBot implements AiBot {
    */
   public List<CountryPair> getAttackMoves() {
     List<CountryPair> attackPairs = new ArrayList<>();
-    for (Continent continent : this.getAllContinents()) {
-      attackPairs.addAll(this.playerController.getAllValidCountryPairs(continent));
-    }
-    return attackPairs.stream().filter(pair -> pair.getWinningProbability() > 65).toList();
+    MoveGenerator.forEachAttack(this, this.getAllContinents(), ATTACK_THRESHOLD,
+        (outgoing, incoming) -> {
+          attackPairs.add(new CountryPair(outgoing, incoming));
+          return false;
+        });
+    return attackPairs;
+  }
+
+  /**
+   * Checks whether any attack move is likely to win, stopping at the first one found.
+   *
+   * @return true if the bot has an attack move with a high probability of victory.
+   */
+  public boolean hasAttackMove() {
+    return MoveGenerator.forEachAttack(this, this.getAllContinents(), ATTACK_THRESHOLD,
+        (outgoing, incoming) -> true);
   }
 
   /**
@@ -91,13 +103,13 @@ public class MonteCarloBot extends GreedyBot implements AiBot {
   public List<Fortify> getFortifyMoves() {
     List<Fortify> fortifyList = new LinkedList<>();
     this.sortContinentsByHighestRelativePower();
-    Map<Country, Integer> allOwnedCountryDiffs = new HashMap<>();
+    Map<Country, Integer> allOwnedCountryDiffs = new LinkedHashMap<>();
     List<Country> countriesByHighestDiff = getCountriesByHighestDiff(allOwnedCountryDiffs);
     for (Country country : countriesByHighestDiff) {
       Country bestAdj = this.findBestAdj(allOwnedCountryDiffs, country);
       if (bestAdj != null) {
         int diff = allOwnedCountryDiffs.get(bestAdj);
-        int surrounding = diff < 0 ? -diff / 2 : new Random().nextInt(0, 2);
+        int surrounding = diff < 0 ? -diff / 2 : rng.nextInt(0, 2);
         fortifyList.add(new Fortify(bestAdj, country,
             Math.min((bestAdj.getTroops() - country.getTroops()) / 2, surrounding)));
       }
@@ -121,7 +133,7 @@ public class MonteCarloBot extends GreedyBot implements AiBot {
    * @return a random country from the set.
    */
   private Country pickRandomCountryFromSet(Set<Country> countrySet) {
-    int position = RNG.nextInt(countrySet.size());
+    int position = rng.nextInt(countrySet.size());
     int counter = 0;
     for (Country country : countrySet) {
       if (position == counter) {
@@ -137,7 +149,7 @@ public class MonteCarloBot extends GreedyBot implements AiBot {
     List<Reinforce> answer = new ArrayList<>();
     int reinforceTroopsCopy = this.getDeployableTroops();
     Map<Country, Integer> allPossibilities = this.getReinforceMoves();
-    Map<Country, Integer> allPossibilitiesCopy = new HashMap<>(allPossibilities);
+    Map<Country, Integer> allPossibilitiesCopy = new LinkedHashMap<>(allPossibilities);
     while (reinforceTroopsCopy > 0 && !allPossibilitiesCopy.isEmpty()) {
       // create reinforcements here with troopnumber check
       Country choice = this.pickRandomCountryFromSet(allPossibilitiesCopy.keySet());
@@ -150,7 +162,7 @@ public class MonteCarloBot extends GreedyBot implements AiBot {
 
     while (reinforceTroopsCopy > 0) {
       Country randomCountry = this.pickRandomCountryFromSet(allPossibilities.keySet());
-      int toReinforce = reinforceTroopsCopy > 1 ? RNG.nextInt(1, reinforceTroopsCopy) : 1;
+      int toReinforce = reinforceTroopsCopy > 1 ? rng.nextInt(1, reinforceTroopsCopy) : 1;
       Reinforce extra = new Reinforce(randomCountry, toReinforce);
       answer.add(extra);
       reinforceTroopsCopy -= extra.getToAdd();
@@ -167,20 +179,20 @@ public class MonteCarloBot extends GreedyBot implements AiBot {
    */
   @Override
   public CountryPair createAttack() {
-    return !this.getAttackMoves().isEmpty() ? this.getAttackMoves().get(0) : null;
+    return MoveGenerator.findAttack(this, this.getAllContinents(), ATTACK_THRESHOLD);
   }
 
   @Override
   public Fortify createFortify() {
     List<Fortify> fortifies = this.getFortifyMoves();
-    return !fortifies.isEmpty() ? fortifies.get(RNG.nextInt(fortifies.size())) : null;
+    return !fortifies.isEmpty() ? fortifies.get(rng.nextInt(fortifies.size())) : null;
   }
 
 
   @Override
   public boolean attackAgain() {
     this.attackProbability *= 0.95;
-    return !this.getAttackMoves().isEmpty() && RNG.nextDouble() < this.attackProbability;
+    return this.hasAttackMove() && rng.nextDouble() < this.attackProbability;
   }
 
 }
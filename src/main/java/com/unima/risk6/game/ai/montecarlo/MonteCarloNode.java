@@ -18,8 +18,8 @@ public class MonteCarloNode {
   private static final double EXPLORATION_PARAMETER = Math.sqrt(2);
   private static final int EXPANSION_AMOUNT = 15;
   private final GameState gameState;
-  private int wins;
-  private int visits;
+  private final long hash;
+  private final NodeStatistics statistics;
   private final MoveTriplet move;
   private final List<MonteCarloNode> children;
   private MonteCarloNode parent;
@@ -27,16 +27,31 @@ public class MonteCarloNode {
 
 
   /**
-   * Constructs a new node in the MonteCarlo Tree.
+   * Constructs a new node in the MonteCarlo Tree with statistics of its own.
    *
    * @param gameState The GameState during creation of the node.
    * @param move      The move used to get to this point.
    */
   public MonteCarloNode(GameState gameState, MoveTriplet move) {
+    this(gameState, move, SimulationBoard.fromGameState(gameState).getHash(),
+        new NodeStatistics());
+  }
+
+  /**
+   * Constructs a new node in the MonteCarlo Tree with the given statistics, which may be shared
+   * with other nodes of the same state.
+   *
+   * @param gameState  The GameState during creation of the node.
+   * @param move       The move used to get to this point.
+   * @param hash       The Zobrist hash of the GameState.
+   * @param statistics The statistics of the node.
+   */
+  public MonteCarloNode(GameState gameState, MoveTriplet move, long hash,
+      NodeStatistics statistics) {
     this.gameState = gameState;
     this.move = move;
-    this.wins = 0;
-    this.visits = 0;
+    this.hash = hash;
+    this.statistics = statistics;
     this.children = new ArrayList<>();
     this.parent = null;
     this.testedMoves = new HashSet<>();
@@ -45,12 +60,15 @@ public class MonteCarloNode {
   /**
    * Constructs a new node in the MonteCarlo Tree and links it to its parent node.
    *
-   * @param gameState The GameState during creation of the node.
-   * @param move      The move used to get to this point.
-   * @param parent    The parent of this node.
+   * @param gameState  The GameState during creation of the node.
+   * @param move       The move used to get to this point.
+   * @param hash       The Zobrist hash of the GameState.
+   * @param statistics The statistics of the node, which may be shared with other nodes.
+   * @param parent     The parent of this node.
    */
-  public MonteCarloNode(GameState gameState, MoveTriplet move, MonteCarloNode parent) {
-    this(gameState, move);
+  public MonteCarloNode(GameState gameState, MoveTriplet move, long hash,
+      NodeStatistics statistics, MonteCarloNode parent) {
+    this(gameState, move, hash, statistics);
     this.parent = parent;
     this.parent.addChild(this);
   }
@@ -66,6 +84,25 @@ public class MonteCarloNode {
     this.testedMoves.add(child.getMove());
   }
 
+  /**
+   * Moves the given node of another tree below this node, keeping its statistics. The visits and
+   * wins of the child are added to this node, as they were made through it.
+   *
+   * @param child The node to be adopted.
+   */
+  public void adoptChild(MonteCarloNode child) {
+    child.parent = this;
+    this.addChild(child);
+    this.statistics.add(child.getWins(), child.getVisits());
+  }
+
+  /**
+   * Detaches this node from its parent, making it the root of its own tree.
+   */
+  public void detach() {
+    this.parent = null;
+  }
+
   /**
    * Returns the list of child nodes for this node.
    *
@@ -84,6 +121,15 @@ public class MonteCarloNode {
     return gameState;
   }
 
+  /**
+   * Returns the Zobrist hash of the GameState of this node.
+   *
+   * @return The hash of the GameState.
+   */
+  public long getHash() {
+    return hash;
+  }
+
   /**
    * Returns the MoveTriplet associated with this node.
    *
@@ -99,14 +145,14 @@ public class MonteCarloNode {
    * @return The number of wins.
    */
   public int getWins() {
-    return wins;
+    return statistics.getWins();
   }
 
   /**
    * Increments the number of wins for this node.
    */
   public void incrementWins() {
-    this.wins++;
+    this.statistics.incrementWins();
   }
 
   /**
@@ -115,14 +161,14 @@ public class MonteCarloNode {
    * @return The number of visits.
    */
   public int getVisits() {
-    return visits;
+    return statistics.getVisits();
   }
 
   /**
    * Increments the number of visits to this node.
    */
   public void incrementVisits() {
-    this.visits++;
+    this.statistics.incrementVisits();
   }
 
   /**
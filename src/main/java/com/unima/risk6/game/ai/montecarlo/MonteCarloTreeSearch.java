@@ -1,15 +1,12 @@
 package com.unima.risk6.game.ai.montecarlo;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.unima.risk6.game.ai.AiBot;
 import com.unima.risk6.game.ai.bots.EasyBot;
 import com.unima.risk6.game.ai.bots.HardBot;
 import com.unima.risk6.game.ai.bots.MediumBot;
 import com.unima.risk6.game.ai.models.CountryPair;
 import com.unima.risk6.game.ai.models.MoveTriplet;
-import com.unima.risk6.game.ai.models.Probabilities;
-import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.configurations.GameStateCopier;
 import com.unima.risk6.game.logic.Attack;
 import com.unima.risk6.game.logic.EndPhase;
 import com.unima.risk6.game.logic.Fortify;
@@ -19,35 +16,28 @@ import com.unima.risk6.game.logic.controllers.DeckController;
 import com.unima.risk6.game.logic.controllers.GameController;
 import com.unima.risk6.game.logic.controllers.HandController;
 import com.unima.risk6.game.logic.controllers.PlayerController;
-import com.unima.risk6.game.models.Card;
-import com.unima.risk6.game.models.Continent;
-import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.GameState;
-import com.unima.risk6.game.models.Hand;
 import com.unima.risk6.game.models.Player;
 import com.unima.risk6.game.models.enums.GamePhase;
-import com.unima.risk6.network.message.Message;
-import com.unima.risk6.network.message.StandardMessage;
-import com.unima.risk6.network.serialization.AttackTypeAdapter;
-import com.unima.risk6.network.serialization.CardTypeAdapter;
-import com.unima.risk6.network.serialization.ContinentTypeAdapter;
-import com.unima.risk6.network.serialization.CountryTypeAdapter;
-import com.unima.risk6.network.serialization.Deserializer;
-import com.unima.risk6.network.serialization.EasyBotTypeAdapter;
-import com.unima.risk6.network.serialization.EndPhaseTypeAdapter;
-import com.unima.risk6.network.serialization.FortifyTypeAdapter;
-import com.unima.risk6.network.serialization.GameStateTypeAdapter;
-import com.unima.risk6.network.serialization.HandTypeAdapter;
-import com.unima.risk6.network.serialization.HardBotTypeAdapter;
-import com.unima.risk6.network.serialization.MediumBotTypeAdapter;
-import com.unima.risk6.network.serialization.MonteCarloBotTypeAdapter;
-import com.unima.risk6.network.serialization.PlayerTypeAdapter;
-import com.unima.risk6.network.serialization.ReinforceTypeAdapter;
 import com.unima.risk6.network.server.MoveProcessor;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * An implementation of the MCTS Algorithm to be used by the Hard Bot for decision-making. The four
@@ -59,60 +49,354 @@ import java.util.Queue;
  */
 public class MonteCarloTreeSearch {
 
-  private static int simulationCount = 150; // best choice is more, but shorter simulations
-  private static final int SIMULATION_TIME_LIMIT = 100;
+  private static final Logger LOGGER = LoggerFactory.getLogger(MonteCarloTreeSearch.class);
+  private static final int DEFAULT_ITERATIONS = 150; // best choice is more, but shorter simulations
+  private static final int ROLLOUT_ROUNDS = 8;
   private static final double STRENGTH_WEIGHT = 0.5;
   private static final double COUNTRY_WEIGHT = 0.2;
   private static final double CONTINENT_WEIGHT = 0.3;
+  private static final int SEARCH_THREADS = Runtime.getRuntime().availableProcessors();
+  private static final int SEARCH_QUEUE_CAPACITY = 64;
+  private static final int TRANSPOSITION_TABLE_SIZE = 4096;
+  private static final ExecutorService SEARCH_EXECUTOR = createSearchExecutor();
 
-  private static final Gson gson = new GsonBuilder().registerTypeAdapter(GameState.class,
-          new GameStateTypeAdapter()).registerTypeAdapter(Country.class, new CountryTypeAdapter())
-      .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
-      .registerTypeAdapter(Hand.class, new HandTypeAdapter())
-      .registerTypeAdapter(Player.class, new PlayerTypeAdapter())
-      .registerTypeAdapter(EasyBot.class, new EasyBotTypeAdapter())
-      .registerTypeAdapter(MediumBot.class, new MediumBotTypeAdapter())
-      .registerTypeAdapter(HardBot.class, new HardBotTypeAdapter())
-      .registerTypeAdapter(MonteCarloBot.class, new MonteCarloBotTypeAdapter())
-      .registerTypeAdapter(Attack.class, new AttackTypeAdapter())
-      .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter())
-      .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter())
-      .registerTypeAdapter(Card.class, new CardTypeAdapter())
-      .registerTypeAdapter(EndPhase.class, new EndPhaseTypeAdapter()).create();
   private final HardBot player;
+  private int iterations;
+  private int threadCount;
+  private Long seed;
+  private long lastIterationCount;
+  private long lastSearchNanos;
+  private long lastReusedIterationCount;
+  private List<MonteCarloNode> lastRoots;
+  private MoveTriplet lastBestMove;
+  private final List<TranspositionTable> transpositionTables;
 
   /**
-   * Constructor for MonteCarloTreeSearch.
+   * Constructor for MonteCarloTreeSearch, which searches with one tree per available core.
    *
    * @param player The HardBot player that will use this Monte Carlo Tree Search algorithm.
    */
   public MonteCarloTreeSearch(HardBot player) {
     this.player = player;
+    this.iterations = DEFAULT_ITERATIONS;
+    this.threadCount = SEARCH_THREADS;
+    this.seed = null;
+    this.lastRoots = List.of();
+    this.transpositionTables = new ArrayList<>();
   }
 
   /**
    * Returns the best move for the given game state based on Monte Carlo Tree Search algorithm.
+   * Every search thread builds its own tree from the given state with the configured amount of
+   * iterations, which is halved for games with more than three players. Within a tree, nodes of
+   * equal states share their statistics through the transposition table of the thread. The trees
+   * are merged by the visits of the moves at their roots.
    *
    * @param game The current game state.
    * @return The best move for the current game state.
    */
   public MoveTriplet getBestMove(GameState game) {
-    MonteCarloNode root = new MonteCarloNode(game, null);
+    int count = this.iterations;
     if (game.getActivePlayers().size() + game.getLostPlayers().size() > 3) {
-      simulationCount = simulationCount / 2;
+      count = Math.max(1, count / 2);
     }
-    for (int i = 0; i < simulationCount; i++) {
+    return chooseBestMove(this.runSearch(game, count, 0));
+  }
+
+  /**
+   * Returns the best move for the given game state, iterating until the given time budget has
+   * expired. The search can be stopped at any time and returns the best move found so far, so
+   * the budget bounds the time taken independent of the size of the game.
+   *
+   * @param game   The current game state.
+   * @param budget The time the search may take.
+   * @return The best move found within the budget.
+   */
+  public MoveTriplet getBestMove(GameState game, Duration budget) {
+    long deadline = System.nanoTime() + Math.max(1, budget.toNanos());
+    return chooseBestMove(this.runSearch(game, Integer.MAX_VALUE, deadline));
+  }
+
+  /**
+   * Runs one search per thread on the search executor and waits for all of them to finish. With a
+   * single thread the search is run on the calling thread. The trees of the previous search are
+   * continued if the given state was reached from them.
+   *
+   * @param game       The game state at the root of every tree.
+   * @param iterations The maximum amount of iterations per tree.
+   * @param deadline   The value of System.nanoTime() at which the search stops, 0 for no limit.
+   * @return The roots of all trees, ordered by the index of their thread.
+   */
+  private List<MonteCarloNode> runSearch(GameState game, int iterations, long deadline) {
+    long start = System.nanoTime();
+    List<MonteCarloNode> roots = this.prepareRoots(game);
+    long previousIterations = roots.stream().mapToLong(MonteCarloNode::getVisits).sum();
+    if (roots.size() == 1) {
+      this.search(roots.get(0), iterations, deadline, this.createRandom(game, 0),
+          transpositionTables.get(0));
+    } else {
+      this.runParallelSearch(game, roots, iterations, deadline);
+    }
+    this.lastRoots = roots;
+    this.lastReusedIterationCount = previousIterations;
+    this.lastSearchNanos = System.nanoTime() - start;
+    this.lastIterationCount =
+        roots.stream().mapToLong(MonteCarloNode::getVisits).sum() - previousIterations;
+    LOGGER.debug("MCTS for {} ran {} iterations on {} threads in {} ms ({} iterations/s), "
+            + "reusing {} iterations", this.player.getUser(), this.lastIterationCount,
+        roots.size(), this.lastSearchNanos / 1_000_000,
+        Math.round(this.getIterationsPerSecond()), previousIterations);
+    return roots;
+  }
+
+  /**
+   * Submits one search per tree to the search executor and waits for all of them to finish.
+   *
+   * @param game       The game state from whose random number generator the searches are seeded.
+   * @param roots      The roots of the trees to be searched, one per thread.
+   * @param iterations The maximum amount of iterations per tree.
+   * @param deadline   The value of System.nanoTime() at which the search stops, 0 for no limit.
+   */
+  private void runParallelSearch(GameState game, List<MonteCarloNode> roots, int iterations,
+      long deadline) {
+    List<Future<?>> searches = new ArrayList<>();
+    for (int i = 0; i < roots.size(); i++) {
+      SplittableRandom rng = this.createRandom(game, i);
+      MonteCarloNode root = roots.get(i);
+      TranspositionTable table = transpositionTables.get(i);
+      searches.add(SEARCH_EXECUTOR.submit(
+          () -> this.search(root, iterations, deadline, rng, table)));
+    }
+    try {
+      for (Future<?> search : searches) {
+        search.get();
+      }
+    } catch (InterruptedException e) {
+      searches.forEach(search -> search.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while searching for the best move", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Search for the best move failed", e.getCause());
+    }
+  }
+
+  /**
+   * Creates the roots for the next search, one per thread. If the given state was reached from
+   * the tree of the previous search, that tree is re-rooted and continued, otherwise a new tree is
+   * started from a copy of the given state. Every thread keeps its transposition table between
+   * searches.
+   *
+   * @param game The game state at which the search starts.
+   * @return The roots of all trees, ordered by the index of their thread.
+   */
+  private List<MonteCarloNode> prepareRoots(GameState game) {
+    SimulationBoard reached = SimulationBoard.fromGameState(game);
+    List<MonteCarloNode> roots = new ArrayList<>();
+    GameState rootState = null;
+    while (transpositionTables.size() < threadCount) {
+      transpositionTables.add(new TranspositionTable(TRANSPOSITION_TABLE_SIZE));
+    }
+    for (int i = 0; i < threadCount; i++) {
+      MonteCarloNode root = null;
+      if (i < lastRoots.size()) {
+        root = this.reuseTree(lastRoots.get(i), game, reached);
+      }
+      if (root == null) {
+        if (rootState == null) {
+          rootState = this.copyGameState(game); // the live state changes after the search
+        }
+        root = new MonteCarloNode(rootState, null);
+      }
+      roots.add(root);
+    }
+    return roots;
+  }
+
+  /**
+   * Searches the tree of a previous search for the given state. Either a child of the old root
+   * matches the state, which then becomes the new root, or the state was reached by making the
+   * reinforcements of the last best move, in which case all children starting with these
+   * reinforcements are moved below a new root.
+   *
+   * @param previous The root of the previous search.
+   * @param game     The game state at which the search starts.
+   * @param reached  The board of the given game state.
+   * @return The root from which the search continues, or null if the tree cannot be reused.
+   */
+  private MonteCarloNode reuseTree(MonteCarloNode previous, GameState game,
+      SimulationBoard reached) {
+    for (MonteCarloNode child : previous.getChildren()) {
+      if (isSameState(child, game, reached)) {
+        child.detach();
+        return child;
+      }
+    }
+    GameState before = previous.getGameState();
+    if (lastBestMove == null || !game.getCurrentPlayer().equals(before.getCurrentPlayer())
+        || before.getCurrentPlayer().getCurrentPhase() != GamePhase.REINFORCEMENT_PHASE
+        || game.getCurrentPlayer().getCurrentPhase() != GamePhase.ATTACK_PHASE) {
+      return null;
+    }
+    SimulationBoard expected = SimulationBoard.fromGameState(before);
+    for (Reinforce reinforce : lastBestMove.reinforcements()) {
+      expected.addTroops(reinforce.getCountry().getCountryName().ordinal(), reinforce.getToAdd());
+    }
+    if (!expected.hasSameBoard(reached)) {
+      return null;
+    }
+    String reinforcements = describeReinforcements(lastBestMove.reinforcements());
+    MonteCarloNode root = new MonteCarloNode(this.copyGameState(game), null);
+    for (MonteCarloNode child : previous.getChildren()) {
+      if (describeReinforcements(child.getMove().reinforcements()).equals(reinforcements)) {
+        root.adoptChild(child);
+      }
+    }
+    return root;
+  }
+
+  /**
+   * Checks whether the state of a node is the same as the given game state. States with
+   * different hashes are rejected without comparing their boards.
+   *
+   * @param node    The node whose state is compared.
+   * @param game    The game state which was reached.
+   * @param reached The board of the reached game state.
+   * @return Whether board, current player, phase and deployable troops are equal.
+   */
+  private static boolean isSameState(MonteCarloNode node, GameState game,
+      SimulationBoard reached) {
+    GameState stored = node.getGameState();
+    Player storedPlayer = stored.getCurrentPlayer();
+    Player currentPlayer = game.getCurrentPlayer();
+    return node.getHash() == reached.getHash() && storedPlayer.equals(currentPlayer)
+        && storedPlayer.getCurrentPhase() == currentPlayer.getCurrentPhase()
+        && storedPlayer.getDeployableTroops() == currentPlayer.getDeployableTroops()
+        && SimulationBoard.fromGameState(stored).hasSameBoard(reached);
+  }
+
+  /**
+   * Builds a single Monte Carlo Tree from the given root. At least one iteration is always
+   * performed, so that the tree has a move to return.
+   *
+   * @param root       The root of the tree.
+   * @param iterations The maximum amount of iterations.
+   * @param deadline   The value of System.nanoTime() at which the search stops, 0 for no limit.
+   * @param rng        The random number generator of this tree, used for the rollouts and split
+   *                   off for the game states of expanded nodes.
+   * @param table      The transposition table of this tree.
+   */
+  private void search(MonteCarloNode root, int iterations, long deadline, SplittableRandom rng,
+      TranspositionTable table) {
+    for (int i = 0; i < iterations; i++) {
+      if (i > 0 && deadline != 0 && System.nanoTime() - deadline >= 0) {
+        break;
+      }
       MonteCarloNode node = select(root);
-      double oldStrength = this.calculateGameStateScore(node.getGameState());
+      double oldStrength = this.calculateBoardScore(
+          SimulationBoard.fromGameState(node.getGameState()), this.player);
       double newStrength = 0;
       if (!node.getGameState().isGameOver() && node.getGameState().getActivePlayers()
           .contains(this.player)) {
-        node = expand(node);
-        newStrength = simulate(node.getGameState());
+        node = expand(node, table, rng);
+        newStrength = simulate(node.getGameState(), rng);
       }
       backpropagate(node, newStrength > oldStrength);
     }
-    return chooseBestMove(root);
+  }
+
+  /**
+   * Creates the random number generator of a search thread, derived from the seed of the search if
+   * one is set and split off the random number generator of the game otherwise. Either way, a
+   * search is reproducible if the seed of the game is fixed.
+   *
+   * @param game   The game state at which the search starts.
+   * @param thread The index of the search thread.
+   * @return The random number generator for the thread.
+   */
+  private SplittableRandom createRandom(GameState game, int thread) {
+    return seed != null ? new SplittableRandom(seed * 31 + thread) : game.getRandom().split();
+  }
+
+  /**
+   * Creates the bounded executor shared by all searches. Its daemon threads never block the
+   * shutdown of the application, and a full queue makes the submitting thread run the search.
+   *
+   * @return The executor used for the search threads.
+   */
+  private static ExecutorService createSearchExecutor() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "mcts-worker-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    return new ThreadPoolExecutor(SEARCH_THREADS, SEARCH_THREADS, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(SEARCH_QUEUE_CAPACITY), threadFactory,
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  public int getThreadCount() {
+    return threadCount;
+  }
+
+  /**
+   * Sets the amount of trees which are searched in parallel.
+   *
+   * @param threadCount The amount of search threads, at least 1.
+   */
+  public void setThreadCount(int threadCount) {
+    this.threadCount = Math.max(1, threadCount);
+  }
+
+  /**
+   * Fixes the seed of all random decisions made by the search itself, so that two searches with
+   * the same seed and the same iteration count explore the same trees.
+   *
+   * @param seed The seed to be used.
+   */
+  public void setSeed(long seed) {
+    this.seed = seed;
+  }
+
+  public int getIterations() {
+    return iterations;
+  }
+
+  /**
+   * Sets the amount of iterations per tree of a search without a time budget.
+   *
+   * @param iterations The amount of iterations, at least 1.
+   */
+  public void setIterations(int iterations) {
+    this.iterations = Math.max(1, iterations);
+  }
+
+  /**
+   * Returns the amount of iterations of the last search, summed up over all trees.
+   *
+   * @return The amount of iterations of the last search.
+   */
+  public long getLastIterationCount() {
+    return lastIterationCount;
+  }
+
+  /**
+   * Returns the amount of iterations of earlier searches the last search could build on, because
+   * their trees were re-rooted at the state the search started from.
+   *
+   * @return The amount of reused iterations, summed up over all trees.
+   */
+  public long getLastReusedIterationCount() {
+    return lastReusedIterationCount;
+  }
+
+  /**
+   * Returns the throughput of the last search, summed up over all trees.
+   *
+   * @return The iterations per second achieved by the last search, 0 if there was none.
+   */
+  public double getIterationsPerSecond() {
+    return lastSearchNanos > 0 ? lastIterationCount * 1e9 / lastSearchNanos : 0;
   }
 
   /**
@@ -130,18 +414,24 @@ public class MonteCarloTreeSearch {
   }
 
   /**
-   * Expands the given node by creating a child node with one turn's worth of moves.
+   * Expands the given node by creating a child node with one turn's worth of moves. The hash of
+   * the child is derived from the hash of the node by exchanging the keys of the changed parts of
+   * the board. If the resulting state has been reached before, the child shares the statistics of
+   * that state.
    *
-   * @param node The node in the Monte Carlo Tree whose child is to be created.
+   * @param node  The node in the Monte Carlo Tree whose child is to be created.
+   * @param table The transposition table of the tree.
+   * @param rng   The random number generator of the tree.
    * @return The created child node.
    */
-  private MonteCarloNode expand(MonteCarloNode node) { // choose only best moves
-    GameState oneTurn = this.copyGameState(node.getGameState());
+  private MonteCarloNode expand(MonteCarloNode node, TranspositionTable table,
+      SplittableRandom rng) {
+    GameState oneTurn = this.copyGameState(node.getGameState(), rng.split());
     GameController simulationController = new GameController(oneTurn);
     PlayerController playerController = new PlayerController();
     playerController.setPlayer(simulationController.getCurrentPlayer());
     AiBot hardBot = (AiBot) simulationController.getCurrentPlayer();
-    DeckController deckController = new DeckController(oneTurn.getDeck());
+    DeckController deckController = new DeckController(oneTurn.getDeck(), oneTurn.getRandom());
     MoveProcessor moveProcessor = new MoveProcessor(playerController, simulationController,
         deckController);
     List<Reinforce> reinforcements = new ArrayList<>();
@@ -161,30 +451,23 @@ public class MonteCarloTreeSearch {
     for (int i = 0; i < playerCount - 1; i++) {
       this.playTurn(simulationController, playerController, moveProcessor);
     }
-    return new MonteCarloNode(oneTurn, decision, node);
+    long hash = SimulationBoard.updateHash(node.getHash(), node.getGameState(), oneTurn);
+    return new MonteCarloNode(oneTurn, decision, hash, table.lookup(hash), node);
   }
 
 
   /**
-   * Simulates the game from the given game state, with all players making moves akin to their skill
-   * until a certain stop condition is met.
+   * Simulates the game from the given game state on a SimulationBoard, with all players making
+   * greedy moves until the game is over or a fixed amount of rounds has been played.
    *
    * @param game The GameState from which the simulation will begin.
-   * @return The strength of the current player once the simulation has ended.
+   * @param rng  The random number generator used for the rollout.
+   * @return The strength of the HardBot once the simulation has ended.
    */
-  private double simulate(GameState game) {
-    GameState simulation = this.copyGameState(game);
-    GameController simulationController = new GameController(simulation);
-    PlayerController playerController = new PlayerController();
-    playerController.setPlayer(simulationController.getCurrentPlayer());
-    DeckController deckController = new DeckController(simulation.getDeck());
-    MoveProcessor moveProcessor = new MoveProcessor(playerController, simulationController,
-        deckController);
-    long endTime = System.currentTimeMillis() + SIMULATION_TIME_LIMIT;
-    while (System.currentTimeMillis() < endTime && !simulation.isGameOver()) {
-      this.playTurn(simulationController, playerController, moveProcessor);
-    }
-    return this.calculateGameStateScore(simulation);
+  private double simulate(GameState game, SplittableRandom rng) {
+    SimulationBoard board = SimulationBoard.fromGameState(game);
+    new BoardRollout(board, rng).run(ROLLOUT_ROUNDS * board.getPlayerCount());
+    return this.calculateBoardScore(board, this.player);
   }
 
   /**
@@ -205,22 +488,67 @@ public class MonteCarloTreeSearch {
   }
 
   /**
-   * Chooses the best move from the children of the given node based on the maximum number of
-   * visits.
+   * Chooses the best move from the children of the given roots based on the maximum number of
+   * visits. Equal moves of different trees are merged by adding up their visits.
    *
-   * @param node The root node of the Monte Carlo Tree.
+   * @param roots The root nodes of all Monte Carlo Trees, which share the same game state.
    * @return The best move to make for the current game state.
    */
-  private MoveTriplet chooseBestMove(MonteCarloNode node) {
-    MonteCarloNode bestChild = null;
+  private MoveTriplet chooseBestMove(List<MonteCarloNode> roots) {
+    Map<String, Integer> visitsByMove = new HashMap<>();
+    MoveTriplet bestMove = null;
     int maxVisits = Integer.MIN_VALUE;
-    for (MonteCarloNode child : node.getChildren()) { // all children are moves made by the HardBot
-      if (child.getVisits() > maxVisits) {
-        maxVisits = child.getVisits();
-        bestChild = child;
+    for (MonteCarloNode root : roots) {
+      for (MonteCarloNode child : root.getChildren()) { // all children are moves by the HardBot
+        int visits = visitsByMove.merge(describeMove(child.getMove()), child.getVisits(),
+            Integer::sum);
+        if (visits > maxVisits) {
+          maxVisits = visits;
+          bestMove = child.getMove();
+        }
       }
     }
-    return bestChild.getMove();
+    this.lastBestMove = bestMove;
+    return bestMove;
+  }
+
+  /**
+   * Describes a list of reinforcements by the names of the countries and the amount of troops.
+   *
+   * @param reinforcements The reinforcements to be described.
+   * @return The description of the reinforcements.
+   */
+  private static String describeReinforcements(List<Reinforce> reinforcements) {
+    StringBuilder description = new StringBuilder();
+    for (Reinforce reinforce : reinforcements) {
+      description.append(reinforce.getCountry().getCountryName()).append('+')
+          .append(reinforce.getToAdd()).append(',');
+    }
+    return description.toString();
+  }
+
+  /**
+   * Describes a move by the names of the countries involved and the amount of troops, so that
+   * equal moves of different trees can be recognized.
+   *
+   * @param move The move to be described.
+   * @return The description of the move.
+   */
+  private static String describeMove(MoveTriplet move) {
+    StringBuilder description = new StringBuilder(describeReinforcements(move.reinforcements()));
+    description.append('|');
+    for (CountryPair attack : move.attacks()) {
+      description.append(attack.getOutgoing().getCountryName()).append('>')
+          .append(attack.getIncoming().getCountryName()).append(',');
+    }
+    description.append('|');
+    Fortify fortify = move.fortify();
+    if (fortify != null) {
+      description.append(fortify.getOutgoing().getCountryName()).append('>')
+          .append(fortify.getIncoming().getCountryName()).append(':')
+          .append(fortify.getTroopsToMove());
+    }
+    return description.toString();
   }
 
   /**
@@ -230,25 +558,29 @@ public class MonteCarloTreeSearch {
    * @return A deep copy of the given game state with all human players replaced by MonteCarloBots.
    */
   public GameState copyGameState(GameState gameState) {
-    GameState empty = GameConfiguration.configureGame(new ArrayList<>(), new ArrayList<>());
-    Message copy = Deserializer.deserialize(gson.toJson(new StandardMessage<>(gameState)), empty);
-    GameState deepCopy = (GameState) copy.getContent();
-    int queueSize = deepCopy.getActivePlayers().size();
-    for (int i = 0; i < queueSize; i++) {
-      Player toSwap = deepCopy.getActivePlayers().poll();
-      AiBot replacement;
-      if (!(toSwap instanceof EasyBot || toSwap instanceof MediumBot
-          || toSwap instanceof MonteCarloBot)) {
-        replacement = new MonteCarloBot(toSwap);
-        for (Country c : toSwap.getCountries()) {
-          c.setPlayer((Player) replacement);
-        }
-      } else {
-        replacement = (AiBot) toSwap;
-      }
-      replacement.setGameState(deepCopy);
-      deepCopy.getActivePlayers().add((Player) replacement);
+    return this.copyGameState(gameState, new SplittableRandom(gameState.getSeed()));
+  }
 
+  /**
+   * Creates a deep copy of the given game state with all human players replaced by MonteCarloBots,
+   * in which all random decisions are drawn from the given random number generator.
+   *
+   * @param gameState The game state to be copied.
+   * @param random    The random number generator of the copy.
+   * @return A deep copy of the given game state with all human players replaced by MonteCarloBots.
+   */
+  public GameState copyGameState(GameState gameState, SplittableRandom random) {
+    GameState deepCopy = GameStateCopier.copy(gameState, toCopy -> {
+      if (toCopy instanceof EasyBot) {
+        return new EasyBot(toCopy.getUser());
+      } else if (toCopy instanceof MediumBot) {
+        return new MediumBot(toCopy.getUser());
+      }
+      return new MonteCarloBot(toCopy.getUser());
+    });
+    deepCopy.setRandom(random);
+    for (Player player : deepCopy.getActivePlayers()) {
+      ((AiBot) player).setGameState(deepCopy);
     }
     deepCopy.setCurrentPlayer(deepCopy.getActivePlayers().peek());
     return deepCopy;
@@ -370,10 +702,30 @@ public class MonteCarloTreeSearch {
    * @return The result of the weighted sum.
    */
   public double calculateGameStateScore(GameState simulation) {
-    Player currentPlayer = simulation.getCurrentPlayer();
-    double strength = Probabilities.getPlayerStrength(simulation, currentPlayer);
-    double countryPercentage = currentPlayer.getCountries().size() / 42.;
-    double continentPercentage = currentPlayer.getContinents().size() / 6.;
+    return this.calculateBoardScore(SimulationBoard.fromGameState(simulation),
+        simulation.getCurrentPlayer());
+  }
+
+  /**
+   * Calculates a strength score for the given player on a board based off of a weighted sum of the
+   * normalized values of their share of troops and their amount of countries and continents.
+   *
+   * @param board  The board in which the calculation is being done.
+   * @param player The player whose strength is calculated.
+   * @return The result of the weighted sum, or 0 if the player is not part of the board.
+   */
+  private double calculateBoardScore(SimulationBoard board, Player player) {
+    int index = board.indexOf(player);
+    if (index == SimulationBoard.NO_OWNER) {
+      return 0;
+    }
+    double totalTroops = 0;
+    for (int i = 0; i < board.getPlayerCount(); i++) {
+      totalTroops += board.getTroopTotal(i);
+    }
+    double strength = totalTroops > 0 ? board.getTroopTotal(index) / totalTroops : 0;
+    double countryPercentage = board.getCountryCount(index) / 42.;
+    double continentPercentage = board.getContinentCount(index) / 6.;
     return STRENGTH_WEIGHT * strength + COUNTRY_WEIGHT * countryPercentage
         + CONTINENT_WEIGHT * continentPercentage;
   }
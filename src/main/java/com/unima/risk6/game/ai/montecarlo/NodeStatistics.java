@@ -0,0 +1,49 @@
+package com.unima.risk6.game.ai.montecarlo;
+
+/**
+ * The wins and visits collected for a state of the game. Nodes of a Monte Carlo Tree which reach
+ * the same state through different moves share one instance, so that every visit of one of them
+ * improves the estimate of all of them.
+ *
+ * @author eameri
+ */
+public class NodeStatistics {
+
+  private int wins;
+  private int visits;
+
+  /**
+   * Constructs new statistics without any wins or visits.
+   */
+  public NodeStatistics() {
+    this.wins = 0;
+    this.visits = 0;
+  }
+
+  /**
+   * Adds the given wins and visits to these statistics.
+   *
+   * @param wins   The wins to be added.
+   * @param visits The visits to be added.
+   */
+  public void add(int wins, int visits) {
+    this.wins += wins;
+    this.visits += visits;
+  }
+
+  public int getWins() {
+    return wins;
+  }
+
+  public void incrementWins() {
+    this.wins++;
+  }
+
+  public int getVisits() {
+    return visits;
+  }
+
+  public void incrementVisits() {
+    this.visits++;
+  }
+}
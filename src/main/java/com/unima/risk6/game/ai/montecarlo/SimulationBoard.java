@@ -0,0 +1,603 @@
+package com.unima.risk6.game.ai.montecarlo;
+
+import com.unima.risk6.game.configurations.CountriesConfiguration;
+import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.logic.DiceKernel;
+import com.unima.risk6.game.models.Continent;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.enums.ContinentName;
+import com.unima.risk6.game.models.enums.CountryName;
+import com.unima.risk6.game.models.enums.GamePhase;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * A flat representation of a game of Risk used for the rollouts of the Monte Carlo Tree Search.
+ * Owners and troops are stored in primitive arrays indexed by the ordinal of a CountryName, the
+ * adjacency of every country and the countries of every continent are stored as bitsets, so that
+ * moves can be applied without touching the object model or allocating memory. Every change of the
+ * board also updates its Zobrist hash, so equal states can be recognized in constant time.
+ *
+ * @author eameri
+ */
+public class SimulationBoard {
+
+  public static final int COUNTRY_COUNT = CountryName.values().length;
+  public static final int CONTINENT_COUNT = ContinentName.values().length;
+  public static final int NO_OWNER = -1;
+  private static final long[] ADJACENCY = new long[COUNTRY_COUNT];
+  private static final long[] CONTINENT_MASKS = new long[CONTINENT_COUNT];
+  private static final int[] CONTINENT_BONUS = new int[CONTINENT_COUNT];
+
+  static {
+    CountriesConfiguration configuration = new CountriesConfiguration(
+        GameConfiguration.COUNTRIES_JSON_PATH);
+    configuration.configureCountriesAndContinents();
+    for (Country country : configuration.getCountries()) {
+      int index = country.getCountryName().ordinal();
+      for (Country adj : country.getAdjacentCountries()) {
+        ADJACENCY[index] |= 1L << adj.getCountryName().ordinal();
+      }
+    }
+    for (Continent continent : configuration.getContinents()) {
+      int index = continent.getContinentName().ordinal();
+      for (Country country : continent.getCountries()) {
+        CONTINENT_MASKS[index] |= 1L << country.getCountryName().ordinal();
+      }
+      CONTINENT_BONUS[index] = continent.getBonusTroops();
+    }
+  }
+
+  private final Player[] players;
+  private final int[] slots;
+  private final int[] owners;
+  private final int[] troops;
+  private final long[] ownedMasks;
+  private final int[] cards;
+  private int currentPlayer;
+  private int numberOfHandIns;
+  private int activePlayerCount;
+  private GamePhase phase;
+  private long hash;
+
+  /**
+   * Constructs a new empty board for the given players, in which no country is owned.
+   *
+   * @param players The players taking part in the game, in turn order.
+   */
+  public SimulationBoard(Player[] players) {
+    this.players = players;
+    this.slots = ZobristHash.playerSlots(players);
+    this.owners = new int[COUNTRY_COUNT];
+    this.troops = new int[COUNTRY_COUNT];
+    this.ownedMasks = new long[players.length];
+    this.cards = new int[players.length];
+    this.currentPlayer = 0;
+    this.numberOfHandIns = 0;
+    this.activePlayerCount = 0;
+    this.phase = GamePhase.REINFORCEMENT_PHASE;
+    Arrays.fill(this.owners, NO_OWNER);
+    this.hash = this.computeHash();
+  }
+
+  /**
+   * Constructs a new board as a copy of the given board. The player references are shared.
+   *
+   * @param toCopy The board which is to be copied.
+   */
+  public SimulationBoard(SimulationBoard toCopy) {
+    this.players = toCopy.players;
+    this.slots = toCopy.slots;
+    this.owners = toCopy.owners.clone();
+    this.troops = toCopy.troops.clone();
+    this.ownedMasks = toCopy.ownedMasks.clone();
+    this.cards = toCopy.cards.clone();
+    this.currentPlayer = toCopy.currentPlayer;
+    this.numberOfHandIns = toCopy.numberOfHandIns;
+    this.activePlayerCount = toCopy.activePlayerCount;
+    this.phase = toCopy.phase;
+    this.hash = toCopy.hash;
+  }
+
+  /**
+   * Creates a board from the given game state. The active players are indexed in turn order,
+   * starting with the first player of the active player queue.
+   *
+   * @param gameState The game state which is to be converted.
+   * @return The board representing the given game state.
+   */
+  public static SimulationBoard fromGameState(GameState gameState) {
+    List<Player> activePlayers = new ArrayList<>(gameState.getActivePlayers());
+    SimulationBoard board = new SimulationBoard(activePlayers.toArray(new Player[0]));
+    for (int i = 0; i < board.players.length; i++) {
+      Player player = board.players[i];
+      board.cards[i] = player.getHand().getCards().size();
+      if (player.equals(gameState.getCurrentPlayer())) {
+        board.currentPlayer = i;
+      }
+    }
+    for (Country country : gameState.getCountries()) {
+      int index = country.getCountryName().ordinal();
+      board.troops[index] = country.getTroops();
+      int owner = board.indexOf(country.getPlayer());
+      if (owner != NO_OWNER) {
+        board.owners[index] = owner;
+        board.ownedMasks[owner] |= 1L << index;
+      }
+    }
+    for (long mask : board.ownedMasks) {
+      if (mask != 0) {
+        board.activePlayerCount++;
+      }
+    }
+    board.numberOfHandIns = gameState.getNumberOfHandIns();
+    if (gameState.getCurrentPlayer() != null) {
+      board.phase = gameState.getCurrentPlayer().getCurrentPhase();
+    }
+    board.hash = board.computeHash();
+    return board;
+  }
+
+  /**
+   * Writes the owners and troops of this board back into the given game state, which has to
+   * contain the players of this board. Countries and continents of the players are updated
+   * accordingly.
+   *
+   * @param gameState The game state which is to be updated.
+   */
+  public void applyTo(GameState gameState) {
+    Player[] targets = new Player[this.players.length];
+    for (Player player : gameState.getActivePlayers()) {
+      int index = this.indexOf(player);
+      if (index != NO_OWNER) {
+        targets[index] = player;
+      }
+    }
+    for (Country country : gameState.getCountries()) {
+      int index = country.getCountryName().ordinal();
+      country.setTroops(this.troops[index]);
+      int owner = this.owners[index];
+      Player newOwner = owner != NO_OWNER ? targets[owner] : null;
+      if (newOwner != null && newOwner != country.getPlayer()) {
+        if (country.getPlayer() != null) {
+          country.getPlayer().getCountries().remove(country);
+        }
+        country.setPlayer(newOwner);
+        newOwner.getCountries().add(country);
+      }
+    }
+    for (Player player : targets) {
+      if (player != null) {
+        player.getContinents().clear();
+      }
+    }
+    for (Continent continent : gameState.getContinents()) {
+      int owner = this.getContinentOwner(continent.getContinentName().ordinal());
+      if (owner != NO_OWNER && targets[owner] != null) {
+        targets[owner].getContinents().add(continent);
+      }
+    }
+    gameState.setNumberOfHandIns(this.numberOfHandIns);
+  }
+
+  /**
+   * Returns the index of the given player on this board.
+   *
+   * @param player The player to be searched for.
+   * @return The index of the player, or NO_OWNER if the player is not part of this board.
+   */
+  public int indexOf(Player player) {
+    if (player == null) {
+      return NO_OWNER;
+    }
+    for (int i = 0; i < this.players.length; i++) {
+      if (this.players[i] == player) {
+        return i;
+      }
+    }
+    for (int i = 0; i < this.players.length; i++) {
+      if (this.players[i].equals(player)) {
+        return i;
+      }
+    }
+    return NO_OWNER;
+  }
+
+  /**
+   * Calculates the Zobrist hash of this board from scratch. The hash kept by the board is updated
+   * incrementally with every change and always equals the result of this method.
+   *
+   * @return The hash of the owners and troop buckets of all countries, the phase and the current
+   *     player.
+   */
+  public long computeHash() {
+    long result = ZobristHash.phaseKey(this.phase);
+    if (this.players.length > 0) {
+      result ^= ZobristHash.currentPlayerKey(this.slots[this.currentPlayer]);
+    }
+    for (int country = 0; country < COUNTRY_COUNT; country++) {
+      result ^= this.countryKey(country);
+    }
+    return result;
+  }
+
+  /**
+   * Updates the hash of a game state after moves have been made on a copy of it. Only the keys of
+   * the countries whose owner or troops differ between both states are exchanged, together with
+   * the keys of the current player and the phase. If a player was eliminated, the slots of the
+   * remaining players change, so the hash is calculated from scratch instead.
+   *
+   * @param hash   The hash of the game state before the moves.
+   * @param before The game state before the moves.
+   * @param after  The game state after the moves.
+   * @return The hash of the game state after the moves, equal to the hash of its board.
+   */
+  public static long updateHash(long hash, GameState before, GameState after) {
+    Player[] players = after.getActivePlayers().toArray(new Player[0]);
+    if (players.length != before.getActivePlayers().size()
+        || !after.getActivePlayers().containsAll(before.getActivePlayers())) {
+      return fromGameState(after).getHash();
+    }
+    Player[] previousPlayers = before.getActivePlayers().toArray(new Player[0]);
+    int[] previousSlots = ZobristHash.playerSlots(previousPlayers);
+    int[] slots = ZobristHash.playerSlots(players);
+    Country[] previous = new Country[COUNTRY_COUNT];
+    for (Country country : before.getCountries()) {
+      previous[country.getCountryName().ordinal()] = country;
+    }
+    for (Country country : after.getCountries()) {
+      int index = country.getCountryName().ordinal();
+      Country old = previous[index];
+      if (old.getTroops() != country.getTroops()
+          || !Objects.equals(old.getPlayer(), country.getPlayer())) {
+        hash ^= ZobristHash.countryKey(index,
+            slotOf(old.getPlayer(), previousPlayers, previousSlots), old.getTroops());
+        hash ^= ZobristHash.countryKey(index, slotOf(country.getPlayer(), players, slots),
+            country.getTroops());
+      }
+    }
+    return hash ^ turnKey(before, previousPlayers, previousSlots)
+        ^ turnKey(after, players, slots);
+  }
+
+  /**
+   * Returns the slot of a player among the given players, the way a board built from them would
+   * assign it.
+   *
+   * @param player  The player, may be null.
+   * @param players The players of the board.
+   * @param slots   The slots of the players.
+   * @return The slot of the player, or NO_OWNER if the player is not one of the given players.
+   */
+  private static int slotOf(Player player, Player[] players, int[] slots) {
+    if (player != null) {
+      for (int i = 0; i < players.length; i++) {
+        if (players[i].equals(player)) {
+          return slots[i];
+        }
+      }
+    }
+    return NO_OWNER;
+  }
+
+  /**
+   * Returns the part of the hash of a game state which belongs to its current player and phase,
+   * the way computeHash includes them for a board built from the game state.
+   *
+   * @param gameState The game state.
+   * @param players   The active players of the game state.
+   * @param slots     The slots of the active players.
+   * @return The combined key of the current player and the phase.
+   */
+  private static long turnKey(GameState gameState, Player[] players, int[] slots) {
+    Player current = gameState.getCurrentPlayer();
+    long key = ZobristHash.phaseKey(current != null ? current.getCurrentPhase() : null);
+    if (players.length > 0) {
+      int slot = slotOf(current, players, slots);
+      key ^= ZobristHash.currentPlayerKey(slot != NO_OWNER ? slot : slots[0]);
+    }
+    return key;
+  }
+
+  /**
+   * Returns the Zobrist key of the current owner and troops of a country.
+   *
+   * @param country The ordinal of the country.
+   * @return The key of the country.
+   */
+  private long countryKey(int country) {
+    int owner = this.owners[country];
+    return ZobristHash.countryKey(country, owner != NO_OWNER ? this.slots[owner] : NO_OWNER,
+        this.troops[country]);
+  }
+
+  /**
+   * Sets the troops of a country and updates the hash.
+   *
+   * @param country The ordinal of the country.
+   * @param amount  The new amount of troops.
+   */
+  private void setTroops(int country, int amount) {
+    this.hash ^= this.countryKey(country);
+    this.troops[country] = amount;
+    this.hash ^= this.countryKey(country);
+  }
+
+  /**
+   * Checks whether both boards have the same troops on every country and every country is owned
+   * by the same user. The indices of the players may differ between both boards.
+   *
+   * @param other The board to be compared with.
+   * @return Whether owners and troops of both boards are equal.
+   */
+  public boolean hasSameBoard(SimulationBoard other) {
+    if (!Arrays.equals(this.troops, other.troops)) {
+      return false;
+    }
+    for (int country = 0; country < COUNTRY_COUNT; country++) {
+      int owner = this.owners[country];
+      int otherOwner = other.owners[country];
+      if (owner == NO_OWNER || otherOwner == NO_OWNER) {
+        if (owner != otherOwner) {
+          return false;
+        }
+      } else if (!Objects.equals(this.players[owner].getUser(),
+          other.players[otherOwner].getUser())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gives the given player ownership of a country and places the given troops on it.
+   *
+   * @param country The ordinal of the country.
+   * @param player  The index of the new owner.
+   * @param amount  The troops now placed on the country.
+   */
+  public void setOwner(int country, int player, int amount) {
+    int previous = this.owners[country];
+    long bit = 1L << country;
+    if (previous != NO_OWNER) {
+      this.ownedMasks[previous] &= ~bit;
+      if (this.ownedMasks[previous] == 0) {
+        this.activePlayerCount--;
+        this.cards[player] += this.cards[previous];
+        this.cards[previous] = 0;
+      }
+    }
+    if (this.ownedMasks[player] == 0) {
+      this.activePlayerCount++;
+    }
+    this.ownedMasks[player] |= bit;
+    this.hash ^= this.countryKey(country);
+    this.owners[country] = player;
+    this.troops[country] = amount;
+    this.hash ^= this.countryKey(country);
+  }
+
+  /**
+   * Changes the amount of troops on a country.
+   *
+   * @param country The ordinal of the country.
+   * @param diff    The amount the troops should be changed by.
+   */
+  public void addTroops(int country, int diff) {
+    this.setTroops(country, this.troops[country] + diff);
+  }
+
+  /**
+   * Resolves a single round of dice between two countries and applies the losses.
+   *
+   * @param attacker The ordinal of the attacking country, which needs at least two troops.
+   * @param defender The ordinal of the defending country.
+   * @param rng      The random number generator used to roll the dice.
+   * @return The number of dice used by the attacker.
+   */
+  public int attackRound(int attacker, int defender, RandomGenerator rng) {
+    int attackDice = Math.min(3, this.troops[attacker] - 1);
+    int outcome = DiceKernel.roll(rng, attackDice, Math.min(2, this.troops[defender]));
+    this.setTroops(attacker, this.troops[attacker] - DiceKernel.attackerLosses(outcome));
+    this.setTroops(defender, this.troops[defender] - DiceKernel.defenderLosses(outcome));
+    return attackDice;
+  }
+
+  /**
+   * Fights a whole battle between two countries, until the defender has no troops left or the
+   * attacker a single one, and applies the losses.
+   *
+   * @param attacker The ordinal of the attacking country, which needs at least two troops.
+   * @param defender The ordinal of the defending country.
+   * @param rng      The random number generator used to roll the dice.
+   * @return The number of dice used by the attacker in the last round.
+   */
+  public int blitz(int attacker, int defender, RandomGenerator rng) {
+    int outcome = DiceKernel.blitz(rng, this.troops[attacker], this.troops[defender]);
+    this.setTroops(attacker, this.troops[attacker] - DiceKernel.blitzAttackerLosses(outcome));
+    this.setTroops(defender, this.troops[defender] - DiceKernel.blitzDefenderLosses(outcome));
+    return DiceKernel.blitzLastAttackDice(outcome);
+  }
+
+  /**
+   * Calculates the troops a player receives at the start of their turn, following the rules of
+   * GameController.calculateDeployableTroops.
+   *
+   * @param player The index of the player.
+   * @return The number of troops the player may deploy.
+   */
+  public int calculateDeployableTroops(int player) {
+    int deployable = Math.max(3, Long.bitCount(this.ownedMasks[player]) / 3);
+    for (int i = 0; i < CONTINENT_COUNT; i++) {
+      if ((this.ownedMasks[player] & CONTINENT_MASKS[i]) == CONTINENT_MASKS[i]) {
+        deployable += CONTINENT_BONUS[i];
+      }
+    }
+    return deployable;
+  }
+
+  /**
+   * Hands in three cards of the given player if possible, following the bonus rules of
+   * MoveProcessor.processHandIn.
+   *
+   * @param player The index of the player.
+   * @return The bonus troops received, or 0 if the player holds less than three cards.
+   */
+  public int handIn(int player) {
+    if (this.cards[player] < 3) {
+      return 0;
+    }
+    this.cards[player] -= 3;
+    int bonus = this.numberOfHandIns > 5 ? 15 + 5 * (this.numberOfHandIns - 6)
+        : 2 + 2 * this.numberOfHandIns;
+    this.numberOfHandIns++;
+    return bonus;
+  }
+
+  /**
+   * Gives the given player a card, as after a turn in which a country was conquered.
+   *
+   * @param player The index of the player.
+   */
+  public void drawCard(int player) {
+    this.cards[player]++;
+  }
+
+  /**
+   * Passes the turn to the next player which still owns countries, who starts with the
+   * reinforcement phase.
+   */
+  public void nextPlayer() {
+    if (this.activePlayerCount == 0) {
+      return;
+    }
+    this.hash ^= ZobristHash.currentPlayerKey(this.slots[this.currentPlayer])
+        ^ ZobristHash.phaseKey(this.phase);
+    do {
+      this.currentPlayer = (this.currentPlayer + 1) % this.players.length;
+    } while (this.ownedMasks[this.currentPlayer] == 0);
+    this.phase = GamePhase.REINFORCEMENT_PHASE;
+    this.hash ^= ZobristHash.currentPlayerKey(this.slots[this.currentPlayer])
+        ^ ZobristHash.phaseKey(this.phase);
+  }
+
+  /**
+   * Returns the index of the player owning an entire continent.
+   *
+   * @param continent The ordinal of the continent.
+   * @return The index of the owner, or NO_OWNER if the continent is split.
+   */
+  public int getContinentOwner(int continent) {
+    int owner = this.owners[Long.numberOfTrailingZeros(CONTINENT_MASKS[continent])];
+    if (owner != NO_OWNER
+        && (this.ownedMasks[owner] & CONTINENT_MASKS[continent]) == CONTINENT_MASKS[continent]) {
+      return owner;
+    }
+    return NO_OWNER;
+  }
+
+  /**
+   * Returns the bitset of countries which are owned by a different player than the given one and
+   * adjacent to the given country.
+   *
+   * @param country The ordinal of the country.
+   * @param player  The index of the player.
+   * @return The bitset of enemy neighbours.
+   */
+  public long getEnemyNeighbours(int country, int player) {
+    return ADJACENCY[country] & ~this.ownedMasks[player];
+  }
+
+  /**
+   * Counts the troops of a player over all of their countries.
+   *
+   * @param player The index of the player.
+   * @return The total number of troops of the player.
+   */
+  public int getTroopTotal(int player) {
+    int total = 0;
+    long mask = this.ownedMasks[player];
+    while (mask != 0) {
+      total += this.troops[Long.numberOfTrailingZeros(mask)];
+      mask &= mask - 1;
+    }
+    return total;
+  }
+
+  /**
+   * Counts the continents owned entirely by a player.
+   *
+   * @param player The index of the player.
+   * @return The number of continents owned by the player.
+   */
+  public int getContinentCount(int player) {
+    int count = 0;
+    for (long continentMask : CONTINENT_MASKS) {
+      if ((this.ownedMasks[player] & continentMask) == continentMask) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  public static long getAdjacency(int country) {
+    return ADJACENCY[country];
+  }
+
+  public static long getContinentMask(int continent) {
+    return CONTINENT_MASKS[continent];
+  }
+
+  public Player getPlayer(int player) {
+    return players[player];
+  }
+
+  public int getPlayerCount() {
+    return players.length;
+  }
+
+  public int getOwner(int country) {
+    return owners[country];
+  }
+
+  public int getTroops(int country) {
+    return troops[country];
+  }
+
+  public long getOwnedMask(int player) {
+    return ownedMasks[player];
+  }
+
+  public int getCountryCount(int player) {
+    return Long.bitCount(ownedMasks[player]);
+  }
+
+  public int getCards(int player) {
+    return cards[player];
+  }
+
+  public int getCurrentPlayer() {
+    return currentPlayer;
+  }
+
+  public int getNumberOfHandIns() {
+    return numberOfHandIns;
+  }
+
+  public GamePhase getPhase() {
+    return phase;
+  }
+
+  public long getHash() {
+    return hash;
+  }
+
+  public boolean isGameOver() {
+    return activePlayerCount <= 1;
+  }
+}
@@ -0,0 +1,66 @@
+package com.unima.risk6.game.ai.montecarlo;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded table mapping the Zobrist hash of a state to the statistics collected for it. Once
+ * the table is full, the least recently used entry is replaced. Nodes keep their statistics after
+ * an entry has been replaced, they are only no longer shared with nodes created afterwards. A
+ * table is used by a single search thread and is therefore not synchronized.
+ *
+ * @author eameri
+ */
+public class TranspositionTable {
+
+  private final Map<Long, NodeStatistics> entries;
+  private long lookups;
+  private long hits;
+
+  /**
+   * Constructs a new empty table holding at most the given amount of entries.
+   *
+   * @param capacity The maximum amount of entries.
+   */
+  public TranspositionTable(int capacity) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, NodeStatistics> eldest) {
+        return size() > capacity;
+      }
+    };
+    this.lookups = 0;
+    this.hits = 0;
+  }
+
+  /**
+   * Returns the statistics of the state with the given hash, creating them if the state has not
+   * been seen before.
+   *
+   * @param hash The Zobrist hash of the state.
+   * @return The statistics shared by all nodes of the state.
+   */
+  public NodeStatistics lookup(long hash) {
+    this.lookups++;
+    NodeStatistics statistics = this.entries.get(hash);
+    if (statistics != null) {
+      this.hits++;
+      return statistics;
+    }
+    statistics = new NodeStatistics();
+    this.entries.put(hash, statistics);
+    return statistics;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public long getLookups() {
+    return lookups;
+  }
+
+  public long getHits() {
+    return hits;
+  }
+}
@@ -0,0 +1,120 @@
+package com.unima.risk6.game.ai.montecarlo;
+
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.enums.GamePhase;
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist hashing of the states of a SimulationBoard. Every combination of country, owner and
+ * troop bucket, every phase and every current player is assigned a random 64-bit key, and the hash
+ * of a board is the XOR of the keys of its parts. Changing a single part of the board therefore
+ * only needs two XOR operations to update the hash.
+ *
+ * @author eameri
+ */
+public class ZobristHash {
+
+  public static final int MAX_PLAYERS = 8;
+  public static final int TROOP_BUCKETS = 16;
+  private static final long KEY_SEED = 0x5EED_0F_215CL;
+  private static final long[][][] COUNTRY_KEYS =
+      new long[SimulationBoard.COUNTRY_COUNT][MAX_PLAYERS + 1][TROOP_BUCKETS];
+  private static final long[] PHASE_KEYS = new long[GamePhase.values().length];
+  private static final long[] CURRENT_PLAYER_KEYS = new long[MAX_PLAYERS];
+
+  static {
+    SplittableRandom rng = new SplittableRandom(KEY_SEED);
+    for (long[][] country : COUNTRY_KEYS) {
+      for (long[] owner : country) {
+        for (int bucket = 0; bucket < TROOP_BUCKETS; bucket++) {
+          owner[bucket] = rng.nextLong();
+        }
+      }
+    }
+    for (int i = 0; i < PHASE_KEYS.length; i++) {
+      PHASE_KEYS[i] = rng.nextLong();
+    }
+    for (int i = 0; i < CURRENT_PLAYER_KEYS.length; i++) {
+      CURRENT_PLAYER_KEYS[i] = rng.nextLong();
+    }
+  }
+
+  /**
+   * Maps an amount of troops to its bucket. Small amounts have their own bucket, larger amounts
+   * share buckets of growing size, as their exact value matters less for the course of the game.
+   *
+   * @param troops The amount of troops on a country.
+   * @return The bucket of the amount of troops.
+   */
+  public static int troopBucket(int troops) {
+    if (troops < 10) {
+      return Math.max(0, troops);
+    } else if (troops < 15) {
+      return 10;
+    } else if (troops < 20) {
+      return 11;
+    } else if (troops < 30) {
+      return 12;
+    } else if (troops < 50) {
+      return 13;
+    } else if (troops < 100) {
+      return 14;
+    }
+    return 15;
+  }
+
+  /**
+   * Returns the key of a country owned by a player with the given amount of troops.
+   *
+   * @param country The ordinal of the country.
+   * @param slot    The slot of the owner, or SimulationBoard.NO_OWNER.
+   * @param troops  The amount of troops on the country.
+   * @return The key of the country.
+   */
+  public static long countryKey(int country, int slot, int troops) {
+    return COUNTRY_KEYS[country][slot + 1][troopBucket(troops)];
+  }
+
+  /**
+   * Returns the key of the given phase of the current player.
+   *
+   * @param phase The phase, may be null.
+   * @return The key of the phase, 0 if there is none.
+   */
+  public static long phaseKey(GamePhase phase) {
+    return phase != null ? PHASE_KEYS[phase.ordinal()] : 0;
+  }
+
+  /**
+   * Returns the key of the current player.
+   *
+   * @param slot The slot of the current player.
+   * @return The key of the current player.
+   */
+  public static long currentPlayerKey(int slot) {
+    return CURRENT_PLAYER_KEYS[slot];
+  }
+
+  /**
+   * Assigns every player a slot independent of the order of the players, by ranking them by their
+   * username. Equal states therefore get equal hashes even if the turn order was rotated.
+   *
+   * @param players The players of a board.
+   * @return The slot of every player, by the index of the player.
+   */
+  public static int[] playerSlots(Player[] players) {
+    int[] slots = new int[players.length];
+    for (int i = 0; i < players.length; i++) {
+      String user = String.valueOf(players[i].getUser());
+      int rank = 0;
+      for (int j = 0; j < players.length; j++) {
+        int order = String.valueOf(players[j].getUser()).compareTo(user);
+        if (order < 0 || order == 0 && j < i) {
+          rank++;
+        }
+      }
+      slots[i] = rank % MAX_PLAYERS;
+    }
+    return slots;
+  }
+}
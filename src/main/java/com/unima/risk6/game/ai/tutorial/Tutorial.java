@@ -22,11 +22,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Queue;
-import java.util.Random;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,14 +34,12 @@ import java.util.stream.Collectors;
  */
 public class Tutorial {
 
-  private static final Random RNG = new Random();
   private final Queue<String> messages;
   private final GameState tutorialState;
   private Reinforce currentClaim;
   private final Queue<Reinforce> humanClaims;
   private final Set<CountryName> humanCountries;
   private final Set<CountryName> botCountries;
-  private final Map<CountryName, Country> countryMap;
   private final List<String> human;
   private boolean handInEnabled;
   private final List<AiBot> bot;
@@ -61,7 +56,6 @@ public class Tutorial {
     this.humanCountries = this.initializeHumanCountries();
     this.botCountries = this.initializeBotCountries();
     this.tutorialState = this.createTutorial();
-    this.countryMap = this.initializeMap();
     this.humanClaims = this.createClaims();
     this.messages = this.createMessages();
     this.handInEnabled = false;
@@ -92,7 +86,7 @@ public class Tutorial {
           humanController.addCountry(country);
         } else if (this.botCountries.contains(country.getCountryName())) {
           botController.addCountry(country);
-        } else if (RNG.nextDouble() < 0.5) {
+        } else if (tutorial.getRandom().nextDouble() < 0.5) {
           humanController.addCountry(country);
         } else {
           botController.addCountry(country);
@@ -174,26 +168,16 @@ public class Tutorial {
    */
   private Queue<Reinforce> createClaims() {
     Queue<Reinforce> claims = new LinkedList<>();
-    claims.add(new Reinforce(this.countryMap.get(CountryName.NEW_GUINEA), 1));
+    claims.add(new Reinforce(this.tutorialState.getCountry(CountryName.NEW_GUINEA), 1));
     for (int i = 0; i < 3; i++) {
-      claims.add(new Reinforce(this.countryMap.get(CountryName.NEW_GUINEA), 1));
+      claims.add(new Reinforce(this.tutorialState.getCountry(CountryName.NEW_GUINEA), 1));
     }
     for (int i = 0; i < 5; i++) {
-      claims.add(new Reinforce(this.countryMap.get(CountryName.VENEZUELA), 1));
+      claims.add(new Reinforce(this.tutorialState.getCountry(CountryName.VENEZUELA), 1));
     }
     return claims;
   }
 
-  /**
-   * Initializes the map of countries.
-   *
-   * @return A map of CountryName to Country objects.
-   */
-  private Map<CountryName, Country> initializeMap() {
-    return tutorialState.getCountries().stream()
-        .collect(Collectors.toMap(Country::getCountryName, Function.identity()));
-  }
-
   public GameState getTutorialState() {
     return this.tutorialState;
   }
@@ -220,7 +204,7 @@ public class Tutorial {
    * @return A reinforcement of New Guinea.
    */
   public Reinforce getCurrentReinforce() {
-    return new Reinforce(this.countryMap.get(CountryName.NEW_GUINEA), 3);
+    return new Reinforce(this.tutorialState.getCountry(CountryName.NEW_GUINEA), 3);
   }
 
   /**
@@ -229,8 +213,8 @@ public class Tutorial {
    * @return The attack from New Guinea to Indonesia.
    */
   public Attack getCurrentAttack() {
-    return new Attack(this.countryMap.get(CountryName.NEW_GUINEA),
-        this.countryMap.get(CountryName.INDONESIA), 3);
+    return new Attack(this.tutorialState.getCountry(CountryName.NEW_GUINEA),
+        this.tutorialState.getCountry(CountryName.INDONESIA), 3);
   }
 
   /**
@@ -241,8 +225,8 @@ public class Tutorial {
    */
   public Fortify getCurrentFortify() {
     this.setHandInEnabled(true);
-    return new Fortify(this.countryMap.get(CountryName.VENEZUELA),
-        this.countryMap.get(CountryName.CENTRAL_AMERICA), 6);
+    return new Fortify(this.tutorialState.getCountry(CountryName.VENEZUELA),
+        this.tutorialState.getCountry(CountryName.CENTRAL_AMERICA), 6);
   }
 
   public boolean isHandInEnabled() {
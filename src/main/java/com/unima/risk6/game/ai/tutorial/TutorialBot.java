@@ -11,10 +11,7 @@ import com.unima.risk6.game.models.Player;
 import com.unima.risk6.game.models.enums.CountryName;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Queue;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * The TutorialBot class represents an AI bot specifically designed for the game tutorial mode by
@@ -25,7 +22,7 @@ import java.util.stream.Collectors;
 public class TutorialBot extends Player implements AiBot {
 
   private Queue<Reinforce> deterministicClaims;
-  private Map<CountryName, Country> countryMap;
+  private GameState gameState;
 
   /**
    * Constructs a TutorialBot instance with a specified username.
@@ -34,7 +31,7 @@ public class TutorialBot extends Player implements AiBot {
    */
   public TutorialBot(String username) {
     super(username);
-    this.countryMap = this.initalizeMap();
+    this.gameState = GameConfiguration.configureGame(new LinkedList<>(), new LinkedList<>());
     this.deterministicClaims = this.createDeterministicClaims();
   }
 
@@ -45,40 +42,29 @@ public class TutorialBot extends Player implements AiBot {
     this("Johnny Test");
   }
 
-  /**
-   * Initializes the map for the TutorialBot by creating a mapping between CountryName and Country
-   * objects.
-   *
-   * @return A mapping of CountryNames to their countries.
-   */
-  private Map<CountryName, Country> initalizeMap() {
-    return GameConfiguration.configureGame(new LinkedList<>(), new LinkedList<>()).getCountries()
-        .stream().collect(Collectors.toMap(Country::getCountryName, Function.identity()));
-  }
-
 
   @Override
   public List<Reinforce> createAllReinforcements() {
     return List.of(
-        new Reinforce(this.countryMap.get(CountryName.BRAZIL), this.getDeployableTroops()));
+        new Reinforce(this.gameState.getCountry(CountryName.BRAZIL), this.getDeployableTroops()));
   }
 
   @Override
   public CountryPair createAttack() {
-    return new CountryPair(this.countryMap.get(CountryName.BRAZIL),
-        this.countryMap.get(CountryName.VENEZUELA));
+    return new CountryPair(this.gameState.getCountry(CountryName.BRAZIL),
+        this.gameState.getCountry(CountryName.VENEZUELA));
   }
 
   @Override
   public Fortify moveAfterAttack(CountryPair winPair) {
-    return new Fortify(this.countryMap.get(CountryName.BRAZIL),
-        this.countryMap.get(CountryName.VENEZUELA), 1);
+    return new Fortify(this.gameState.getCountry(CountryName.BRAZIL),
+        this.gameState.getCountry(CountryName.VENEZUELA), 1);
   }
 
   @Override
   public Fortify createFortify() {
-    Country outgoing = this.countryMap.get(CountryName.BRAZIL);
-    Country incoming = this.countryMap.get(CountryName.VENEZUELA);
+    Country outgoing = this.gameState.getCountry(CountryName.BRAZIL);
+    Country incoming = this.gameState.getCountry(CountryName.VENEZUELA);
     return new Fortify(outgoing, incoming, (outgoing.getTroops() - incoming.getTroops()) / 2);
   }
 
@@ -97,9 +83,9 @@ public class TutorialBot extends Player implements AiBot {
    */
   private Queue<Reinforce> createDeterministicClaims() {
     Queue<Reinforce> claims = new LinkedList<>();
-    claims.add(new Reinforce(this.countryMap.get(CountryName.INDONESIA), 1));
+    claims.add(new Reinforce(this.gameState.getCountry(CountryName.INDONESIA), 1));
     for (int i = 0; i < 8; i++) {
-      claims.add(new Reinforce(this.countryMap.get(CountryName.BRAZIL), 1));
+      claims.add(new Reinforce(this.gameState.getCountry(CountryName.BRAZIL), 1));
     }
     return claims;
   }
@@ -116,8 +102,7 @@ public class TutorialBot extends Player implements AiBot {
 
   @Override
   public void setGameState(GameState gameState) {
-    this.countryMap = gameState.getCountries().stream()
-        .collect(Collectors.toMap(Country::getCountryName, Function.identity()));
+    this.gameState = gameState;
   }
 
   public Queue<Reinforce> getDeterministicClaims() {
@@ -9,7 +9,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -45,8 +45,8 @@ public class CountriesConfiguration {
       throw new RuntimeException(e);
     }
 
-    countries = new HashSet<>();
-    continents = new HashSet<>();
+    countries = new LinkedHashSet<>();
+    continents = new LinkedHashSet<>();
   }
 
   /**
@@ -90,7 +90,8 @@ public class CountriesConfiguration {
           .findFirst().get();
       c.setAdjacentCountries(countries.stream().filter(
           x -> Arrays.stream(countryJsonObject.getAdjacentCountries()).toList()
-              .contains(x.getCountryName())).collect(Collectors.toSet()));
+              .contains(x.getCountryName()))
+          .collect(Collectors.toCollection(LinkedHashSet::new)));
     });
   }
 
@@ -102,7 +103,7 @@ public class CountriesConfiguration {
   private void setCountriesForContinents() {
     continents.forEach(continent -> continent.setCountries(
         countries.stream().filter(c -> c.getContinent().equals(continent))
-            .collect(Collectors.toSet())));
+            .collect(Collectors.toCollection(LinkedHashSet::new))));
   }
 
   public Set<Country> getCountries() {
@@ -25,7 +25,7 @@ public class GameConfiguration {
 
   private static GameState gameState;
 
-  private static final String COUNTRIES_JSON_PATH = "/com/unima/risk6/json/countries.json";
+  public static final String COUNTRIES_JSON_PATH = "/com/unima/risk6/json/countries.json";
 
   private static final List<GameStateObserver> observers = new ArrayList<>();
   private static UserDto myGameUser;
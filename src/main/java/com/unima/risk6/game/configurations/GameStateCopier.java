@@ -0,0 +1,243 @@
+package com.unima.risk6.game.configurations;
+
+import com.unima.risk6.game.ai.bots.EasyBot;
+import com.unima.risk6.game.ai.bots.HardBot;
+import com.unima.risk6.game.ai.bots.MediumBot;
+import com.unima.risk6.game.ai.montecarlo.MonteCarloBot;
+import com.unima.risk6.game.ai.tutorial.TutorialBot;
+import com.unima.risk6.game.logic.Attack;
+import com.unima.risk6.game.logic.Fortify;
+import com.unima.risk6.game.logic.HandIn;
+import com.unima.risk6.game.logic.Move;
+import com.unima.risk6.game.logic.Reinforce;
+import com.unima.risk6.game.models.Continent;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Hand;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.Statistic;
+import com.unima.risk6.game.models.enums.ContinentName;
+import com.unima.risk6.game.models.enums.CountryName;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * GameStateCopier is a utility class which creates structural deep copies of a GameState in a
+ * single pass. Countries, continents, players, hands and the deck are duplicated and all references
+ * between them are remapped onto the copy, so no mutable object is shared with the original. Cards
+ * are immutable and are therefore shared between both states. The copy records the seed of the
+ * original and starts a new random number generator from it.
+ *
+ * @author eameri
+ */
+public class GameStateCopier {
+
+  private static final int COUNTRY_COUNT = CountryName.values().length;
+  private static final int CONTINENT_COUNT = ContinentName.values().length;
+
+  /**
+   * Creates a deep copy of the given game state in which every player keeps its concrete type.
+   *
+   * @param source The game state to be copied.
+   * @return A deep copy of the given game state.
+   */
+  public static GameState copy(GameState source) {
+    return copy(source, GameStateCopier::createPlayerOfSameType);
+  }
+
+  /**
+   * Creates a deep copy of the given game state. The player factory is called once per player and
+   * has to return an empty player with the same username, whose hand, countries, continents and
+   * statistics are then filled in by the copier.
+   *
+   * @param source        The game state to be copied.
+   * @param playerFactory Creates the empty copy of a player of the original game state.
+   * @return A deep copy of the given game state.
+   */
+  public static GameState copy(GameState source, Function<Player, Player> playerFactory) {
+    Country[] countries = new Country[COUNTRY_COUNT];
+    Continent[] continents = new Continent[CONTINENT_COUNT];
+    for (Country original : source.getCountries()) {
+      Country country = new Country(original.getCountryName());
+      country.setTroops(original.getTroops());
+      countries[original.getCountryName().ordinal()] = country;
+    }
+    Set<Continent> continentSet = new LinkedHashSet<>();
+    for (Continent original : source.getContinents()) {
+      Continent continent = new Continent(original.getContinentName());
+      Set<Country> members = new LinkedHashSet<>();
+      for (Country member : original.getCountries()) {
+        Country copy = countries[member.getCountryName().ordinal()];
+        members.add(copy);
+        copy.setContinent(continent);
+      }
+      continent.setCountries(members);
+      continents[original.getContinentName().ordinal()] = continent;
+      continentSet.add(continent);
+    }
+    Set<Country> countrySet = new LinkedHashSet<>();
+    for (Country original : source.getCountries()) {
+      Country copy = countries[original.getCountryName().ordinal()];
+      Set<Country> adjacent = new LinkedHashSet<>();
+      for (Country neighbour : original.getAdjacentCountries()) {
+        adjacent.add(countries[neighbour.getCountryName().ordinal()]);
+      }
+      copy.setAdjacentCountries(adjacent);
+      countrySet.add(copy);
+    }
+
+    Map<Player, Player> playerMapping = new IdentityHashMap<>();
+    Queue<Player> activePlayers = new ConcurrentLinkedQueue<>();
+    for (Player original : source.getActivePlayers()) {
+      activePlayers.add(copyPlayer(original, playerFactory, countries, continents, playerMapping));
+    }
+    GameState copy = new GameState(countrySet, continentSet, activePlayers);
+    for (Player original : source.getLostPlayers()) {
+      copy.getLostPlayers()
+          .add(copyPlayer(original, playerFactory, countries, continents, playerMapping));
+    }
+    // countries are only owned through players, this mirrors the ownership of unlisted players
+    for (Country original : source.getCountries()) {
+      Country country = countries[original.getCountryName().ordinal()];
+      if (original.getPlayer() != null) {
+        Player owner = playerMapping.get(original.getPlayer());
+        if (owner == null) {
+          owner = copyPlayer(original.getPlayer(), playerFactory, countries, continents,
+              playerMapping);
+        }
+        country.setPlayer(owner);
+      }
+      country.setHasPlayer(original.hasPlayer());
+    }
+    Player currentPlayer = source.getCurrentPlayer();
+    if (currentPlayer != null) {
+      Player mapped = playerMapping.get(currentPlayer);
+      copy.setCurrentPlayer(mapped != null ? mapped
+          : copyPlayer(currentPlayer, playerFactory, countries, continents, playerMapping));
+    } else {
+      copy.setCurrentPlayer(null);
+    }
+    copy.setNumberOfHandIns(source.getNumberOfHandIns());
+    copy.setGameOver(source.isGameOver());
+    copy.setChatEnabled(source.isChatEnabled());
+    copy.setSeed(source.getSeed());
+    copy.setVersion(source.getVersion());
+    copy.getDeck().getDeckCards().addAll(source.getDeck().getDeckCards());
+    for (Move move : source.getLastMoves()) {
+      copy.getLastMoves().add(copyMove(move, countries));
+    }
+    return copy;
+  }
+
+  /**
+   * Creates a copy of a player and remaps its countries and continents onto the copied ones.
+   *
+   * @param original      The player to be copied.
+   * @param playerFactory Creates the empty copy of the player.
+   * @param countries     The copied countries indexed by the ordinal of their name.
+   * @param continents    The copied continents indexed by the ordinal of their name.
+   * @param playerMapping The mapping of already copied players, which is updated by this method.
+   * @return The copy of the player.
+   */
+  private static Player copyPlayer(Player original, Function<Player, Player> playerFactory,
+      Country[] countries, Continent[] continents, Map<Player, Player> playerMapping) {
+    Player copy = playerFactory.apply(original);
+    playerMapping.put(original, copy);
+    Hand hand = new Hand();
+    hand.getCards().addAll(original.getHand().getCards());
+    hand.getSelectedCards().addAll(original.getHand().getSelectedCards());
+    copy.setHand(hand);
+    for (Country country : original.getCountries()) {
+      copy.getCountries().add(countries[country.getCountryName().ordinal()]);
+    }
+    for (Continent continent : original.getContinents()) {
+      copy.getContinents().add(continents[continent.getContinentName().ordinal()]);
+    }
+    copy.setDeployableTroops(original.getDeployableTroops());
+    copy.setInitialTroops(original.getInitialTroops());
+    copy.setCurrentPhase(original.getCurrentPhase());
+    copy.setHasConquered(original.getHasConquered());
+    copy.setStatistic(copyStatistic(original.getStatistic()));
+    return copy;
+  }
+
+  /**
+   * Creates a copy of the statistics of a player.
+   *
+   * @param original The statistic to be copied.
+   * @return The copy of the statistic.
+   */
+  private static Statistic copyStatistic(Statistic original) {
+    Statistic copy = new Statistic();
+    if (original != null) {
+      copy.setTroopsLost(original.getTroopsLost());
+      copy.setTroopsGained(original.getTroopsGained());
+      copy.setCountriesWon(original.getCountriesWon());
+      copy.setCountriesLost(original.getCountriesLost());
+      copy.setNumberOfOwnedCountries(original.getNumberOfOwnedCountries());
+      copy.setNumberOfTroops(original.getNumberOfTroops());
+    }
+    return copy;
+  }
+
+  /**
+   * Creates a copy of a move which references the copied countries. Moves without country
+   * references are immutable and are therefore shared.
+   *
+   * @param move      The move to be copied.
+   * @param countries The copied countries indexed by the ordinal of their name.
+   * @return The copy of the move.
+   */
+  private static Move copyMove(Move move, Country[] countries) {
+    if (move instanceof Reinforce reinforce) {
+      return new Reinforce(countries[reinforce.getCountry().getCountryName().ordinal()],
+          reinforce.getToAdd());
+    } else if (move instanceof Fortify fortify) {
+      return new Fortify(countries[fortify.getOutgoing().getCountryName().ordinal()],
+          countries[fortify.getIncoming().getCountryName().ordinal()],
+          fortify.getTroopsToMove());
+    } else if (move instanceof Attack attack) {
+      Attack copy = new Attack(
+          countries[attack.getAttackingCountry().getCountryName().ordinal()],
+          countries[attack.getDefendingCountry().getCountryName().ordinal()],
+          attack.getTroopNumber());
+      copy.setAttackerLosses(attack.getAttackerLosses());
+      copy.setDefenderLosses(attack.getDefenderLosses());
+      copy.setHasConquered(attack.getHasConquered());
+      copy.getAttackDiceResult().addAll(attack.getAttackDiceResult());
+      copy.getDefendDiceResult().addAll(attack.getDefendDiceResult());
+      return copy;
+    } else if (move instanceof HandIn handIn) {
+      return new HandIn(new ArrayList<>(handIn.getCards()));
+    }
+    return move;
+  }
+
+  /**
+   * Creates an empty player of the same concrete type as the given player.
+   *
+   * @param original The player whose type and username should be used.
+   * @return An empty player of the same type with the same username.
+   */
+  private static Player createPlayerOfSameType(Player original) {
+    String user = original.getUser();
+    if (original instanceof TutorialBot) {
+      return new TutorialBot(user);
+    } else if (original instanceof MonteCarloBot) {
+      return new MonteCarloBot(user);
+    } else if (original instanceof HardBot) {
+      return new HardBot(user);
+    } else if (original instanceof MediumBot) {
+      return new MediumBot(user);
+    } else if (original instanceof EasyBot) {
+      return new EasyBot(user);
+    }
+    return new Player(user);
+  }
+}
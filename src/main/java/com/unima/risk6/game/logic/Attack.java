@@ -2,6 +2,8 @@ package com.unima.risk6.game.logic;
 
 import com.unima.risk6.game.models.Country;
 import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * The Attack class represents an attack move in the Risk game. It stores the attacking and
@@ -43,66 +45,37 @@ public class Attack extends Move {
   }
 
   /**
-   * Calculates the number of troops lost by the attacker and the defender based on the dice rolls.
+   * Calculates the number of troops lost by the attacker and the defender based on the dice rolls,
+   * using the random number generator of the calling thread.
    */
   public void calculateLosses() {
-
-    switch (troopNumber) {
-      case 1 -> {
-        attackDiceResult.add(Dice.rollDice());
-        defendDiceResult.add(Dice.rollDice());
-        if (defendingCountry.getTroops() > 1) {
-          defendDiceResult.add(Dice.rollDice());
-          sortDicelist();
-        }
-        sortDicelist();
-        compareDice(0);
-      }
-      case 2 -> {
-        for (int i = 0; i < 2; i++) {
-          attackDiceResult.add(Dice.rollDice());
-        }
-        addDefenderDiceRolls();
-      }
-      case 3 -> {
-        for (int i = 0; i < 3; i++) {
-          attackDiceResult.add(Dice.rollDice());
-        }
-        addDefenderDiceRolls();
-      }
-      default -> {
-      }
-    }
-    if (defenderLosses >= defendingCountry.getTroops()) {
-      hasConquered = true;
-    }
-
-
+    calculateLosses(ThreadLocalRandom.current());
   }
 
   /**
-   * Adds the DiceResults for the defending player depending on the number of troops on the
-   * defending country.
+   * Calculates the number of troops lost by the attacker and the defender based on the dice rolls.
+   * The round is resolved by the {@link DiceKernel}, the lists of dice are only filled with its
+   * result.
+   *
+   * @param random the random number generator used to roll the dice
    */
-
-  private void addDefenderDiceRolls() {
-    defendDiceResult.add(Dice.rollDice());
-    if (defendingCountry.getTroops() > 1) {
-      defendDiceResult.add(Dice.rollDice());
+  public void calculateLosses(RandomGenerator random) {
+    if (troopNumber < 1 || troopNumber > 3) {
+      return;
     }
-    sortDicelist();
-    if (defendingCountry.getTroops() > 1) {
-      for (int i = 0; i < 2; i++) {
-        compareDice(i);
-      }
-    } else {
-      compareDice(0);
+    int defendDice = defendingCountry.getTroops() > 1 ? 2 : 1;
+    int outcome = DiceKernel.roll(random, troopNumber, defendDice);
+    for (int i = 0; i < troopNumber; i++) {
+      attackDiceResult.add(DiceKernel.attackDie(outcome, i));
     }
+    for (int i = 0; i < defendDice; i++) {
+      defendDiceResult.add(DiceKernel.defendDie(outcome, i));
+    }
+    attackerLosses += DiceKernel.attackerLosses(outcome);
+    defenderLosses += DiceKernel.defenderLosses(outcome);
     if (defenderLosses >= defendingCountry.getTroops()) {
       hasConquered = true;
     }
-
-
   }
 
   /**
@@ -1,6 +1,7 @@
 package com.unima.risk6.game.logic;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a die used in the game of Risk.
@@ -10,16 +11,23 @@ import java.util.Random;
 public class Dice {
 
   /**
-   * The random number generator used to roll the dice.
+   * Rolls the dice with the random number generator of the calling thread and returns a random
+   * integer between 1 and 6.
+   *
+   * @return a random integer between 1 and 6
    */
-  private static final Random random = new Random();
+  public static int rollDice() {
+    return rollDice(ThreadLocalRandom.current());
+  }
 
   /**
-   * Rolls the dice and returns a random integer between 1 and 6.
+   * Rolls the dice with the given random number generator and returns a random integer between 1
+   * and 6.
    *
+   * @param random the random number generator used to roll the dice, usually the one of the game
    * @return a random integer between 1 and 6
    */
-  public static int rollDice() {
+  public static int rollDice(RandomGenerator random) {
     return 1 + random.nextInt(6);
   }
 
@@ -0,0 +1,198 @@
+package com.unima.risk6.game.logic;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Resolves the dice of attacks with primitives only. Every throw of up to three attacker and two
+ * defender dice is precomputed into a table of packed outcomes, so a round of dice costs a single
+ * random number and a table lookup. A packed round outcome holds the losses of both sides and the
+ * dice of both sides in descending order, see the accessors of this class. The blitz mode resolves
+ * a whole battle until the defending country is conquered or the attacker cannot attack anymore.
+ *
+ * @author wphung
+ */
+public final class DiceKernel {
+
+  private static final int LOSS_BITS = 2;
+  private static final int DIE_BITS = 3;
+  private static final int LOSS_MASK = (1 << LOSS_BITS) - 1;
+  private static final int DIE_MASK = (1 << DIE_BITS) - 1;
+  private static final int ATTACK_DICE_SHIFT = 2 * LOSS_BITS;
+  private static final int DEFEND_DICE_SHIFT = ATTACK_DICE_SHIFT + 3 * DIE_BITS;
+  private static final int BLITZ_LOSS_BITS = 15;
+  private static final int BLITZ_LOSS_MASK = (1 << BLITZ_LOSS_BITS) - 1;
+  private static final int[] THROW_COUNTS = {1, 6, 36, 216, 1296, 7776};
+  private static final int[][][] OUTCOMES = calculateOutcomes();
+
+  private DiceKernel() {
+  }
+
+  /**
+   * Enumerates every throw of the dice for every number of attacker and defender dice.
+   *
+   * @return The packed outcomes indexed by [attacker dice][defender dice][throw].
+   */
+  private static int[][][] calculateOutcomes() {
+    int[][][] outcomes = new int[4][3][];
+    int[] attack = new int[3];
+    int[] defend = new int[2];
+    for (int attackDice = 1; attackDice <= 3; attackDice++) {
+      for (int defendDice = 1; defendDice <= 2; defendDice++) {
+        int[] table = new int[THROW_COUNTS[attackDice + defendDice]];
+        for (int roll = 0; roll < table.length; roll++) {
+          int rest = roll;
+          for (int i = 0; i < attackDice; i++, rest /= 6) {
+            attack[i] = 1 + rest % 6;
+          }
+          for (int i = 0; i < defendDice; i++, rest /= 6) {
+            defend[i] = 1 + rest % 6;
+          }
+          table[roll] = pack(sortDescending(attack, attackDice),
+              sortDescending(defend, defendDice), attackDice, defendDice);
+        }
+        outcomes[attackDice][defendDice] = table;
+      }
+    }
+    return outcomes;
+  }
+
+  private static int[] sortDescending(int[] dice, int count) {
+    for (int i = 1; i < count; i++) {
+      for (int j = i; j > 0 && dice[j] > dice[j - 1]; j--) {
+        int swap = dice[j];
+        dice[j] = dice[j - 1];
+        dice[j - 1] = swap;
+      }
+    }
+    return dice;
+  }
+
+  private static int pack(int[] attack, int[] defend, int attackDice, int defendDice) {
+    int attackerLosses = 0;
+    int defenderLosses = 0;
+    for (int i = 0; i < Math.min(attackDice, defendDice); i++) {
+      if (attack[i] > defend[i]) {
+        defenderLosses++;
+      } else {
+        attackerLosses++;
+      }
+    }
+    int outcome = attackerLosses | defenderLosses << LOSS_BITS;
+    for (int i = 0; i < attackDice; i++) {
+      outcome |= attack[i] << ATTACK_DICE_SHIFT + i * DIE_BITS;
+    }
+    for (int i = 0; i < defendDice; i++) {
+      outcome |= defend[i] << DEFEND_DICE_SHIFT + i * DIE_BITS;
+    }
+    return outcome;
+  }
+
+  /**
+   * Rolls one round of dice.
+   *
+   * @param random     The random number generator used to roll the dice.
+   * @param attackDice The number of dice of the attacker, 1 to 3.
+   * @param defendDice The number of dice of the defender, 1 or 2.
+   * @return The packed outcome of the round.
+   */
+  public static int roll(RandomGenerator random, int attackDice, int defendDice) {
+    int[] table = OUTCOMES[attackDice][defendDice];
+    return table[random.nextInt(table.length)];
+  }
+
+  /**
+   * Returns the troops lost by the attacker in a round.
+   *
+   * @param outcome The packed outcome of the round.
+   * @return The losses of the attacker.
+   */
+  public static int attackerLosses(int outcome) {
+    return outcome & LOSS_MASK;
+  }
+
+  /**
+   * Returns the troops lost by the defender in a round.
+   *
+   * @param outcome The packed outcome of the round.
+   * @return The losses of the defender.
+   */
+  public static int defenderLosses(int outcome) {
+    return outcome >>> LOSS_BITS & LOSS_MASK;
+  }
+
+  /**
+   * Returns a die of the attacker in a round, the dice are in descending order.
+   *
+   * @param outcome The packed outcome of the round.
+   * @param index   The index of the die, 0 to 2.
+   * @return The eyes of the die, or 0 if the attacker rolled fewer dice.
+   */
+  public static int attackDie(int outcome, int index) {
+    return outcome >>> ATTACK_DICE_SHIFT + index * DIE_BITS & DIE_MASK;
+  }
+
+  /**
+   * Returns a die of the defender in a round, the dice are in descending order.
+   *
+   * @param outcome The packed outcome of the round.
+   * @param index   The index of the die, 0 or 1.
+   * @return The eyes of the die, or 0 if the defender rolled fewer dice.
+   */
+  public static int defendDie(int outcome, int index) {
+    return outcome >>> DEFEND_DICE_SHIFT + index * DIE_BITS & DIE_MASK;
+  }
+
+  /**
+   * Fights a whole battle with as many dice as possible, until the defender has no troops left or
+   * the attacker has a single troop left.
+   *
+   * @param random    The random number generator used to roll the dice.
+   * @param attackers The troops on the attacking country, of which one has to stay behind.
+   * @param defenders The troops on the defending country.
+   * @return The packed outcome of the battle.
+   */
+  public static int blitz(RandomGenerator random, int attackers, int defenders) {
+    int attackersLeft = attackers;
+    int defendersLeft = defenders;
+    int attackDice = 0;
+    while (defendersLeft > 0 && attackersLeft >= 2) {
+      attackDice = Math.min(3, attackersLeft - 1);
+      int outcome = roll(random, attackDice, Math.min(2, defendersLeft));
+      attackersLeft -= attackerLosses(outcome);
+      defendersLeft -= defenderLosses(outcome);
+    }
+    return attackers - attackersLeft << BLITZ_LOSS_BITS | defenders - defendersLeft
+        | attackDice << 2 * BLITZ_LOSS_BITS;
+  }
+
+  /**
+   * Returns the troops lost by the attacker in a battle.
+   *
+   * @param outcome The packed outcome of the battle.
+   * @return The losses of the attacker.
+   */
+  public static int blitzAttackerLosses(int outcome) {
+    return outcome >>> BLITZ_LOSS_BITS & BLITZ_LOSS_MASK;
+  }
+
+  /**
+   * Returns the troops lost by the defender in a battle.
+   *
+   * @param outcome The packed outcome of the battle.
+   * @return The losses of the defender.
+   */
+  public static int blitzDefenderLosses(int outcome) {
+    return outcome & BLITZ_LOSS_MASK;
+  }
+
+  /**
+   * Returns the number of dice the attacker rolled in the last round of a battle, which is the
+   * minimum number of troops to move into a conquered country.
+   *
+   * @param outcome The packed outcome of the battle.
+   * @return The dice of the last round, 0 if no round was fought.
+   */
+  public static int blitzLastAttackDice(int outcome) {
+    return outcome >>> 2 * BLITZ_LOSS_BITS;
+  }
+}
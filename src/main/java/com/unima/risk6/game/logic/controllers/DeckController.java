@@ -4,8 +4,9 @@ import com.unima.risk6.game.models.Card;
 import com.unima.risk6.game.models.Deck;
 import com.unima.risk6.game.models.enums.CardSymbol;
 import com.unima.risk6.game.models.enums.CountryName;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class represents the deck controller for the Risk game. It manages and performs operations
@@ -17,16 +18,31 @@ public class DeckController {
 
   private final Deck deck;
   private final Deck handedIn;
+  private final RandomGenerator random;
   private int nextId = 1;
 
   /**
-   * Constructs a new DeckController with the given deck.
+   * Constructs a new DeckController with the given deck, which is shuffled with the random number
+   * generator of the calling thread.
    *
    * @param deck The deck to be managed by this controller.
    */
   public DeckController(Deck deck) {
+    this(deck, null);
+  }
+
+  /**
+   * Constructs a new DeckController with the given deck, which is shuffled with the given random
+   * number generator.
+   *
+   * @param deck   The deck to be managed by this controller.
+   * @param random The random number generator of the game, or null to use the one of the calling
+   *               thread.
+   */
+  public DeckController(Deck deck, RandomGenerator random) {
     this.deck = deck;
     this.handedIn = new Deck();
+    this.random = random;
   }
 
   /**
@@ -74,11 +90,16 @@ public class DeckController {
   }
 
   /**
-   * Shuffles the deck cards.
+   * Shuffles the deck cards with the Fisher-Yates algorithm.
    */
 
   public void shuffleDeck() {
-    Collections.shuffle(deck.getDeckCards());
+    RandomGenerator rng = random != null ? random : ThreadLocalRandom.current();
+    List<Card> cards = deck.getDeckCards();
+    for (int i = cards.size() - 1; i > 0; i--) {
+      int j = rng.nextInt(i + 1);
+      cards.set(i, cards.set(j, cards.get(i)));
+    }
   }
 
   /**
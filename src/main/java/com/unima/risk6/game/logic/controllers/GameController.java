@@ -7,7 +7,7 @@ import static com.unima.risk6.game.models.enums.GamePhase.NOT_ACTIVE;
 import static com.unima.risk6.game.models.enums.GamePhase.REINFORCEMENT_PHASE;
 
 import com.unima.risk6.game.logic.Move;
-import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.Continent;
 import com.unima.risk6.game.models.GameState;
 import com.unima.risk6.game.models.Player;
 import com.unima.risk6.game.models.Statistic;
@@ -183,19 +183,18 @@ public class GameController {
   }
 
   /**
-   * Updates the Set of Continents which is fully occupied by the given player.
+   * Updates the Set of Continents which is fully occupied by the given player. The countries the
+   * player owns per continent are counted by the player, so no continent has to be searched.
    *
    * @param player the player whose continents should be updated
    */
   public void updateContinentsOfPlayer(Player player) {
     player.getContinents().clear();
-    gameState.getContinents().forEach((n) -> {
-      Set<Country> countries = player.getCountries();
-      if (countries.containsAll(n.getCountries())) {
-        player.getContinents().add(n);
+    for (Continent continent : gameState.getContinents()) {
+      if (player.ownsContinent(continent)) {
+        player.getContinents().add(continent);
       }
-    });
-
+    }
   }
 
   /**
@@ -214,11 +213,7 @@ public class GameController {
   public HashMap<Player, Integer> countTroops() {
     HashMap<Player, Integer> totalTroopsOfPlayers = new HashMap<>();
     for (Player player : players) {
-      int troopNumber = 0;
-      for (Country country : player.getCountries()) {
-        troopNumber += country.getTroops();
-      }
-      totalTroopsOfPlayers.put(player, troopNumber);
+      totalTroopsOfPlayers.put(player, player.getNumberOfTroops());
     }
     return totalTroopsOfPlayers;
   }
@@ -231,8 +226,7 @@ public class GameController {
   public HashMap<Player, Integer> countCountries() {
     HashMap<Player, Integer> numberOfCountries = new HashMap<>();
     for (Player player : players) {
-      numberOfCountries.put(player, player.getCountries().size());
-
+      numberOfCountries.put(player, player.getNumberOfCountries());
     }
     return numberOfCountries;
   }
@@ -1,5 +1,6 @@
 package com.unima.risk6.game.logic.controllers;
 
+import com.unima.risk6.game.ai.MoveGenerator;
 import com.unima.risk6.game.ai.models.CountryPair;
 import com.unima.risk6.game.configurations.LobbyConfiguration;
 import com.unima.risk6.game.logic.Attack;
@@ -112,13 +113,10 @@ public class PlayerController {
    */
   public List<CountryPair> getValidFortifiesFromCountry(Country country) {
     List<CountryPair> fortifiable = new ArrayList<>();
-    if (country.getTroops() > 1) {
-      country.getAdjacentCountries().forEach((adj) -> {
-        if (this.player.equals(adj.getPlayer())) {
-          fortifiable.add(new CountryPair(country, adj));
-        }
-      });
-    }
+    MoveGenerator.forEachFortifyFrom(player, country, (outgoing, incoming) -> {
+      fortifiable.add(new CountryPair(outgoing, incoming));
+      return false;
+    });
     return fortifiable;
   }
 
@@ -130,39 +128,21 @@ public class PlayerController {
    */
   public List<CountryPair> getValidCountryPairsFromCountry(Country country) {
     List<CountryPair> attackable = new ArrayList<>();
-    if (country.getTroops() >= troopLimitPerPhase()) {
-      for (Country adjacentCountry : country.getAdjacentCountries()) {
-        if (!this.player.equals(adjacentCountry.getPlayer()) && adjacentCountry.hasPlayer()
-            && adjacentCountry.getTroops() >= 1) {
-          attackable.add(new CountryPair(country, adjacentCountry));
-        }
-      }
-    }
+    MoveGenerator.forEachAttackFrom(player, country, MoveGenerator.NO_PRUNING,
+        (outgoing, incoming) -> {
+          attackable.add(new CountryPair(outgoing, incoming));
+          return false;
+        });
     return attackable;
   }
 
-  /**
-   * Gets a lower limit of troops that one needs to perform moves such as Attack and Fortify.
-   */
-  private int troopLimitPerPhase() {
-    return this.player.getCurrentPhase() == GamePhase.REINFORCEMENT_PHASE
-        || this.player.getCurrentPhase() == GamePhase.CLAIM_PHASE ? 1 : 2;
-  }
-
   /**
    * Returns a List of CountryPairs that are countries one can use to make Fortify move.
    *
    * @return a List of CountryPairs that are countries one can use to make a Fortify move.
    */
   public List<CountryPair> getAllValidFortifies() {
-    List<CountryPair> countriesFortifiable = new ArrayList<>();
-    for (Country country : this.player.getCountries()) {
-      List<CountryPair> fortifiable = getValidFortifiesFromCountry(country);
-      if (fortifiable.size() > 0) {
-        countriesFortifiable.addAll(fortifiable);
-      }
-    }
-    return countriesFortifiable;
+    return MoveGenerator.collectFortifies(player);
   }
 
   /**
@@ -172,17 +152,7 @@ public class PlayerController {
    * @return a List of CountryPairs that one can make valid moves from.
    */
   public List<CountryPair> getAllValidCountryPairs(Continent continent) {
-    List<CountryPair> countriesAttackable = new ArrayList<>();
-    for (Country country : continent.getCountries()) {
-      List<CountryPair> attackable = new ArrayList<>();
-      if (this.player.equals(country.getPlayer())) {
-        attackable = getValidCountryPairsFromCountry(country);
-      }
-      if (attackable.size() > 0) {
-        countriesAttackable.addAll(attackable);
-      }
-    }
-    return countriesAttackable;
+    return MoveGenerator.collectAttacks(player, continent, MoveGenerator.NO_PRUNING);
   }
 
   /**
@@ -34,8 +34,22 @@ public class Country {
   }
 
 
+  /**
+   * Sets the owner of the country and moves the country from the aggregates of the previous owner
+   * to those of the new owner.
+   *
+   * @param player the new owner of the country.
+   */
   public void setPlayer(Player player) {
-    this.player = player;
+    if (this.player != player) {
+      if (this.player != null) {
+        this.player.countryLost(this);
+      }
+      if (player != null) {
+        player.countryGained(this);
+      }
+      this.player = player;
+    }
     hasPlayer = true;
   }
 
@@ -47,8 +61,13 @@ public class Country {
     return hasPlayer;
   }
 
+  /**
+   * Sets the amount of troops on the country and updates the troops of its owner.
+   *
+   * @param troopNumber the new amount of troops.
+   */
   public void setTroops(int troopNumber) {
-    troops = troopNumber;
+    changeTroops(troopNumber - troops);
   }
 
   public Integer getTroops() {
@@ -62,25 +81,59 @@ public class Country {
    */
   public void changeTroops(int diff) {
     troops = troops + diff;
+    if (player != null) {
+      player.troopsChanged(diff);
+    }
   }
 
 
+  /**
+   * Sets the adjacent countries of the country and keeps the frontier of its owner up to date.
+   *
+   * @param adjacentCountries the countries adjacent to the country.
+   */
   public void setAdjacentCountries(Set<Country> adjacentCountries) {
-    this.adjacentCountries = adjacentCountries;
+    if (player != null) {
+      player.countryLost(this);
+      this.adjacentCountries = adjacentCountries;
+      player.countryGained(this);
+    } else {
+      this.adjacentCountries = adjacentCountries;
+    }
   }
 
   public Set<Country> getAdjacentCountries() {
     return adjacentCountries;
   }
 
+  /**
+   * Sets the continent of the country and keeps the continent aggregates of its owner up to date.
+   *
+   * @param continent the continent the country belongs to.
+   */
   public void setContinent(Continent continent) {
-    this.continent = continent;
+    if (player != null) {
+      player.countryLost(this);
+      this.continent = continent;
+      player.countryGained(this);
+    } else {
+      this.continent = continent;
+    }
   }
 
   public Continent getContinent() {
     return continent;
   }
 
+  /**
+   * Checks whether the country is adjacent to a country its owner does not own.
+   *
+   * @return true if the country has an owner and lies on the frontier of its owner.
+   */
+  public boolean isBorderCountry() {
+    return player != null && player.getForeignNeighbours(this) > 0;
+  }
+
 
   @Override
   public String toString() {
@@ -1,14 +1,22 @@
 package com.unima.risk6.game.models;
 
 import com.unima.risk6.game.logic.Move;
+import com.unima.risk6.game.models.enums.ContinentName;
+import com.unima.risk6.game.models.enums.CountryName;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Represents the state of a game of Risk, including the current players, countries, continents, and
- * game phase.
+ * game phase. Every game has a seed from which all random decisions of the game (dice, deck and
+ * bots) are derived, so that a game can be replayed by fixing its seed. The countries and continents
+ * are indexed by the ordinal of their name, so they can be looked up without searching the sets.
  *
  * @author wphung
  */
@@ -18,12 +26,17 @@ public class GameState {
   private final ArrayList<Player> lostPlayers;
   private final Set<Country> countries;
   private final Set<Continent> continents;
+  private final Country[] countriesByName = new Country[CountryName.values().length];
+  private final Continent[] continentsByName = new Continent[ContinentName.values().length];
   private Player currentPlayer;
   private int numberOfHandIns;
   private Queue<Move> lastMoves;
   private final Deck deck;
   private boolean isGameOver;
   private boolean chatEnabled;
+  private long seed;
+  private SplittableRandom random;
+  private long version;
 
 
   /**
@@ -36,6 +49,8 @@ public class GameState {
   public GameState(Set<Country> countries, Set<Continent> continents, Queue<Player> activePlayers) {
     this.countries = countries;
     this.continents = continents;
+    countries.forEach(x -> countriesByName[x.getCountryName().ordinal()] = x);
+    continents.forEach(x -> continentsByName[x.getContinentName().ordinal()] = x);
     this.activePlayers = activePlayers;
     this.numberOfHandIns = 0;
     this.currentPlayer = activePlayers.peek();
@@ -43,7 +58,7 @@ public class GameState {
     this.deck = new Deck();
     this.isGameOver = false;
     this.lastMoves = new ConcurrentLinkedQueue<>();
-
+    this.setSeed(ThreadLocalRandom.current().nextLong());
 
   }
 
@@ -56,6 +71,25 @@ public class GameState {
     return countries;
   }
 
+  /**
+   * Returns the country of the game with the given name.
+   *
+   * @param countryName the name of the country
+   * @return the country with the given name, or null if the game has no such country
+   */
+  public Country getCountry(CountryName countryName) {
+    return countriesByName[countryName.ordinal()];
+  }
+
+  /**
+   * Returns the continent of the game with the given name.
+   *
+   * @param continentName the name of the continent
+   * @return the continent with the given name, or null if the game has no such continent
+   */
+  public Continent getContinent(ContinentName continentName) {
+    return continentsByName[continentName.ordinal()];
+  }
 
   /**
    * Returns the current player.
@@ -87,6 +121,30 @@ public class GameState {
     this.currentPlayer = currentPlayer;
   }
 
+  /**
+   * Links the current player and the owners of all countries to the instances of the active and
+   * lost players with the same user. Deserializing a game state or its moves creates separate
+   * instances of a player, which take the countries away from the instance in the player queues.
+   * Afterwards the troops, countries and frontier of every player are counted again, so they agree
+   * with the owners of the countries whatever instances the countries were handed around between.
+   */
+  public void linkPlayers() {
+    Map<String, Player> players = new HashMap<>();
+    activePlayers.forEach(x -> players.putIfAbsent(x.getUser(), x));
+    lostPlayers.forEach(x -> players.putIfAbsent(x.getUser(), x));
+    for (Country country : countries) {
+      Player owner = country.getPlayer() == null ? null : players.get(country.getPlayer().getUser());
+      if (owner != null) {
+        country.setPlayer(owner);
+        owner.getCountries().add(country);
+      }
+    }
+    players.values().forEach(x -> x.recountCountries(countries));
+    if (currentPlayer != null) {
+      currentPlayer = players.getOrDefault(currentPlayer.getUser(), currentPlayer);
+    }
+  }
+
   public Queue<Move> getLastMoves() {
     return lastMoves;
   }
@@ -116,6 +174,54 @@ public class GameState {
   public void setChatEnabled(boolean chatEnabled) {
     this.chatEnabled = chatEnabled;
   }
+
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Sets the version of the game state, which the server increases with every update it sends to
+   * the clients.
+   *
+   * @param version the version of the game state
+   */
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Sets the seed of the game and restarts the random number generator of the game from it.
+   *
+   * @param seed the seed of the game
+   */
+  public void setSeed(long seed) {
+    this.seed = seed;
+    this.random = new SplittableRandom(seed);
+  }
+
+  /**
+   * Returns the random number generator of the game. It is not synchronized and must only be used
+   * by the thread processing the moves of this game.
+   *
+   * @return the random number generator of the game
+   */
+  public SplittableRandom getRandom() {
+    return random;
+  }
+
+  /**
+   * Replaces the random number generator of the game without changing the recorded seed, e.g. by a
+   * generator split off for a simulation thread.
+   *
+   * @param random the new random number generator
+   */
+  public void setRandom(SplittableRandom random) {
+    this.random = random;
+  }
 }
 
 
@@ -1,7 +1,12 @@
 package com.unima.risk6.game.models;
 
+import com.unima.risk6.game.models.enums.ContinentName;
+import com.unima.risk6.game.models.enums.CountryName;
 import com.unima.risk6.game.models.enums.GamePhase;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -9,6 +14,10 @@ import java.util.Set;
  * Represents a player in the game with its troops it can place, its username, its hand, its
  * statistic, the currentPhase the player is in and whether it has conquered something in its attack
  * phase. It also contains references to the countries and continents that are owned by the player.
+ * The number of troops and countries of the player, in total and per continent, are kept up to date
+ * by the countries whenever their owner or troops change, so they never have to be counted. In the
+ * same way the player keeps its frontier: the number of adjacent countries it does not own for each
+ * of its countries, and the set of border countries which have at least one of them.
  *
  * @author wphung
  */
@@ -23,14 +32,20 @@ public class Player {
   private Statistic statistic;
   private GamePhase currentPhase;
   private boolean hasConquered;
+  private int numberOfTroops;
+  private int numberOfCountries;
+  private final int[] countriesPerContinent = new int[ContinentName.values().length];
+  private final int[] foreignNeighbours = new int[CountryName.values().length];
+  private final Set<Country> borderCountries = new LinkedHashSet<>();
+  private final Set<Country> borderCountriesView = Collections.unmodifiableSet(borderCountries);
 
   /**
    * Constructs a new player without username.
    */
   public Player() {
     this.hand = new Hand();
-    countries = new HashSet<>();
-    continents = new HashSet<>();
+    countries = new LinkedHashSet<>();
+    continents = new LinkedHashSet<>();
     this.user = null;
     this.statistic = new Statistic();
     this.currentPhase = GamePhase.ORDER_PHASE;
@@ -43,8 +58,8 @@ public class Player {
    */
   public Player(String user) {
     this.hand = new Hand();
-    this.countries = new HashSet<>();
-    this.continents = new HashSet<>();
+    this.countries = new LinkedHashSet<>();
+    this.continents = new LinkedHashSet<>();
     this.user = user;
     this.statistic = new Statistic();
     this.currentPhase = GamePhase.ORDER_PHASE;
@@ -154,5 +169,148 @@ public class Player {
   public void setStatistic(Statistic statistic) {
     this.statistic = statistic;
   }
+
+  /**
+   * Returns the number of troops on all countries owned by the player.
+   *
+   * @return the total number of troops of the player.
+   */
+  public int getNumberOfTroops() {
+    return numberOfTroops;
+  }
+
+  /**
+   * Returns the number of countries owned by the player.
+   *
+   * @return the number of countries whose owner is the player.
+   */
+  public int getNumberOfCountries() {
+    return numberOfCountries;
+  }
+
+  /**
+   * Checks whether the player owns every country of the given continent.
+   *
+   * @param continent the continent to check.
+   * @return true if the player owns the whole continent.
+   */
+  public boolean ownsContinent(Continent continent) {
+    return countriesPerContinent[continent.getContinentName().ordinal()]
+        == continent.getCountries().size();
+  }
+
+  /**
+   * Returns the countries of the player which are adjacent to at least one country the player does
+   * not own. These are the only countries the player can attack from or has to defend.
+   *
+   * @return an unmodifiable view of the border countries of the player.
+   */
+  public Set<Country> getBorderCountries() {
+    return borderCountriesView;
+  }
+
+  /**
+   * Returns the number of countries adjacent to a country of the player which the player does not
+   * own, including countries without an owner.
+   *
+   * @param country a country owned by the player.
+   * @return the number of foreign neighbours, or 0 if the player does not own the country.
+   */
+  public int getForeignNeighbours(Country country) {
+    return foreignNeighbours[country.getCountryName().ordinal()];
+  }
+
+  /**
+   * Adds a country which the player now owns to the aggregates and the frontier of the player. Its
+   * neighbours owned by the player lose a foreign neighbour.
+   *
+   * @param country the country gained.
+   */
+  void countryGained(Country country) {
+    numberOfCountries++;
+    numberOfTroops += country.getTroops();
+    if (country.getContinent() != null) {
+      countriesPerContinent[country.getContinent().getContinentName().ordinal()]++;
+    }
+    int foreign = 0;
+    if (country.getAdjacentCountries() != null) {
+      for (Country adj : country.getAdjacentCountries()) {
+        if (adj.getPlayer() == this) {
+          changeForeignNeighbours(adj, -1);
+        } else {
+          foreign++;
+        }
+      }
+    }
+    changeForeignNeighbours(country, foreign);
+  }
+
+  /**
+   * Removes a country which the player no longer owns from the aggregates and the frontier of the
+   * player. Its neighbours owned by the player gain a foreign neighbour.
+   *
+   * @param country the country lost.
+   */
+  void countryLost(Country country) {
+    numberOfCountries--;
+    numberOfTroops -= country.getTroops();
+    if (country.getContinent() != null) {
+      countriesPerContinent[country.getContinent().getContinentName().ordinal()]--;
+    }
+    if (country.getAdjacentCountries() != null) {
+      for (Country adj : country.getAdjacentCountries()) {
+        if (adj.getPlayer() == this) {
+          changeForeignNeighbours(adj, 1);
+        }
+      }
+    }
+    changeForeignNeighbours(country, -getForeignNeighbours(country));
+  }
+
+  /**
+   * Rebuilds the aggregates and the frontier of the player from scratch, counting the countries
+   * whose owner is this instance of the player.
+   *
+   * @param countries all countries of the game.
+   */
+  void recountCountries(Collection<Country> countries) {
+    numberOfCountries = 0;
+    numberOfTroops = 0;
+    Arrays.fill(countriesPerContinent, 0);
+    Arrays.fill(foreignNeighbours, 0);
+    borderCountries.clear();
+    for (Country country : countries) {
+      if (country.getPlayer() != this) {
+        continue;
+      }
+      numberOfCountries++;
+      numberOfTroops += country.getTroops();
+      if (country.getContinent() != null) {
+        countriesPerContinent[country.getContinent().getContinentName().ordinal()]++;
+      }
+      int foreign = 0;
+      if (country.getAdjacentCountries() != null) {
+        for (Country adj : country.getAdjacentCountries()) {
+          if (adj.getPlayer() != this) {
+            foreign++;
+          }
+        }
+      }
+      changeForeignNeighbours(country, foreign);
+    }
+  }
+
+  private void changeForeignNeighbours(Country country, int diff) {
+    int foreign = foreignNeighbours[country.getCountryName().ordinal()] += diff;
+    if (foreign > 0) {
+      borderCountries.add(country);
+    } else {
+      borderCountries.remove(country);
+    }
+  }
+
+  void troopsChanged(int diff) {
+    numberOfTroops += diff;
+  }
 }
 
@@ -116,6 +116,11 @@ public class UserDto {
     return Objects.equals(username, userDto.username);
   }
 
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(username);
+  }
+
   public void setUsername(String username) {
     this.username = username;
   }
@@ -0,0 +1,36 @@
+package com.unima.risk6.game.simulation;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.bots.EasyBot;
+import com.unima.risk6.game.ai.bots.HardBot;
+import com.unima.risk6.game.ai.bots.MediumBot;
+import com.unima.risk6.game.ai.montecarlo.MonteCarloBot;
+
+/**
+ * The kinds of bots which can take part in a headless game.
+ *
+ * @author eameri
+ */
+public enum BotType {
+  EASY, MEDIUM, HARD, MONTE_CARLO;
+
+  /**
+   * Creates a new bot of this type. HardBots search on the calling thread only, since headless
+   * games are already run in parallel.
+   *
+   * @param username The username of the bot.
+   * @return The new bot.
+   */
+  public AiBot create(String username) {
+    return switch (this) {
+      case EASY -> new EasyBot(username);
+      case MEDIUM -> new MediumBot(username);
+      case HARD -> {
+        HardBot hardBot = new HardBot(username);
+        hardBot.getSearchTree().setThreadCount(1);
+        yield hardBot;
+      }
+      case MONTE_CARLO -> new MonteCarloBot(username);
+    };
+  }
+}
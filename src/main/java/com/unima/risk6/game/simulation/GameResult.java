@@ -0,0 +1,28 @@
+package com.unima.risk6.game.simulation;
+
+/**
+ * A record representing the result of a single headless game.
+ *
+ * @author eameri
+ */
+public record GameResult(String winner, int turns, long nanos) {
+
+  /**
+   * Creates a new GameResult object.
+   *
+   * @param winner the username of the winner, or null if the game was stopped at the turn limit.
+   * @param turns  the number of turns played, counting the turn of every player separately.
+   * @param nanos  the time it took to play the game in nanoseconds.
+   */
+  public GameResult {
+  }
+
+  /**
+   * Returns whether the game ended with a winner before reaching the turn limit.
+   *
+   * @return whether the game was finished.
+   */
+  public boolean isFinished() {
+    return winner != null;
+  }
+}
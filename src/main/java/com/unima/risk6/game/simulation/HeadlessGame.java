@@ -0,0 +1,180 @@
+package com.unima.risk6.game.simulation;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.models.CountryPair;
+import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.logic.Attack;
+import com.unima.risk6.game.logic.Dice;
+import com.unima.risk6.game.logic.EndPhase;
+import com.unima.risk6.game.logic.Fortify;
+import com.unima.risk6.game.logic.HandIn;
+import com.unima.risk6.game.logic.Reinforce;
+import com.unima.risk6.game.logic.controllers.DeckController;
+import com.unima.risk6.game.logic.controllers.GameController;
+import com.unima.risk6.game.logic.controllers.HandController;
+import com.unima.risk6.game.logic.controllers.PlayerController;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.network.server.MoveProcessor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * A complete game between bots which is played directly on a MoveProcessor, in the same way the
+ * server plays the turns of its bots, but without any network, user interface or pauses between
+ * the moves. All random decisions are derived from the seed of the game.
+ *
+ * @author eameri
+ */
+public class HeadlessGame {
+
+  private final GameState gameState;
+  private final GameController gameController;
+  private final PlayerController playerController;
+  private final MoveProcessor moveProcessor;
+  private final int maxTurns;
+  private int turns;
+
+  /**
+   * Constructs a new game between the given bots, which have to have distinct usernames.
+   *
+   * @param bots     The bots taking part in the game.
+   * @param seed     The seed of the game.
+   * @param maxTurns The number of turns after which the game is stopped without a winner.
+   */
+  public HeadlessGame(List<AiBot> bots, long seed, int maxTurns) {
+    this.gameState = GameConfiguration.configureGame(new ArrayList<>(), bots);
+    this.gameState.setSeed(seed);
+    this.gameController = new GameController(gameState);
+    this.playerController = new PlayerController();
+    DeckController deckController = new DeckController(gameState.getDeck(),
+        gameState.getRandom());
+    this.moveProcessor = new MoveProcessor(playerController, gameController, deckController);
+    this.maxTurns = maxTurns;
+    this.turns = 0;
+    gameState.getActivePlayers().forEach(player -> ((AiBot) player).setGameState(gameState));
+    deckController.initDeck();
+  }
+
+  /**
+   * Plays the game until one bot has conquered the world or the turn limit is reached.
+   *
+   * @return The result of the game.
+   */
+  public GameResult play() {
+    long start = System.nanoTime();
+    this.determinePlayerOrder();
+    while (!gameState.isGameOver() && turns < maxTurns) {
+      Player player = gameController.getCurrentPlayer();
+      AiBot bot = (AiBot) player;
+      bot.setGameState(gameState);
+      playerController.setPlayer(player);
+      switch (player.getCurrentPhase()) {
+        case CLAIM_PHASE -> this.playClaim(bot, player);
+        case REINFORCEMENT_PHASE -> this.playTurn(bot, player);
+        default -> throw new IllegalStateException(
+            "Unexpected phase " + player.getCurrentPhase() + " of " + player.getUser());
+      }
+    }
+    String winner = gameState.isGameOver() ? gameState.getActivePlayers().peek().getUser() : null;
+    return new GameResult(winner, turns, System.nanoTime() - start);
+  }
+
+  /**
+   * Rolls a die for every player and orders the players by their results, as at the start of a
+   * game on the server.
+   */
+  private void determinePlayerOrder() {
+    HashMap<Player, Integer> diceRolls = new LinkedHashMap<>();
+    for (Player player : gameState.getActivePlayers()) {
+      diceRolls.put(player, Dice.rollDice(gameState.getRandom()));
+    }
+    gameController.setNewPlayerOrder(gameController.getNewPlayerOrder(diceRolls));
+    playerController.setPlayer(gameController.getCurrentPlayer());
+  }
+
+  /**
+   * Lets the bot claim a country or place one of its initial troops.
+   *
+   * @param bot    The bot whose turn it is.
+   * @param player The bot as a player.
+   */
+  private void playClaim(AiBot bot, Player player) {
+    moveProcessor.processReinforce(bot.claimCountry());
+    moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
+    moveProcessor.clearLastMoves();
+  }
+
+  /**
+   * Plays an entire turn (hand in, reinforce, attack, fortify) of the bot.
+   *
+   * @param bot    The bot whose turn it is.
+   * @param player The bot as a player.
+   */
+  private void playTurn(AiBot bot, Player player) {
+    HandController handController = playerController.getHandController();
+    if (handController.holdsExchangeable()) {
+      handController.selectExchangeableCards();
+      moveProcessor.processHandIn(new HandIn(handController.getHand().getSelectedCards()));
+    }
+    for (Reinforce reinforce : bot.createAllReinforcements()) {
+      if (reinforce.getToAdd() > 0) {
+        moveProcessor.processReinforce(reinforce);
+      }
+    }
+    moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
+    this.playAttacks(bot, player);
+    if (!gameState.isGameOver()) {
+      Fortify fortify = bot.createFortify();
+      if (fortify != null && fortify.getTroopsToMove() > 0) {
+        moveProcessor.processFortify(fortify);
+      }
+      moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
+    }
+    moveProcessor.clearLastMoves();
+    turns++;
+  }
+
+  /**
+   * Plays the attack phase of the bot, following the attack phase of BotTurnScheduler.
+   *
+   * @param bot    The bot whose turn it is.
+   * @param player The bot as a player.
+   */
+  private void playAttacks(AiBot bot, Player player) {
+    do {
+      CountryPair pair = bot.createAttack();
+      if (pair == null) {
+        break;
+      }
+      Attack attack;
+      do {
+        attack = pair.createAttack(bot.getAttackTroops(pair.getOutgoing()));
+        moveProcessor.processAttack(attack);
+      } while (!attack.getHasConquered() && attack.getAttackingCountry().getTroops() >= 2);
+      bot.setGameState(gameState);
+      if (gameState.isGameOver()) {
+        return;
+      }
+      if (attack.getHasConquered()) {
+        moveProcessor.processFortify(pair.createFortify(attack.getTroopNumber()));
+        Fortify afterAttack = bot.moveAfterAttack(pair);
+        if (afterAttack != null && afterAttack.getTroopsToMove() > 0) {
+          moveProcessor.processFortify(afterAttack);
+        }
+      }
+      moveProcessor.clearLastMoves();
+    } while (bot.attackAgain());
+    moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
+  }
+
+  public GameState getGameState() {
+    return gameState;
+  }
+
+  public int getTurns() {
+    return turns;
+  }
+}
@@ -0,0 +1,103 @@
+package com.unima.risk6.game.simulation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The summary of a tournament of headless games: the win rate of every bot, the length of the
+ * games and the throughput of the tournament.
+ *
+ * @author eameri
+ */
+public class TournamentResult {
+
+  private final int games;
+  private final int unfinishedGames;
+  private final Map<String, Integer> wins;
+  private final double averageTurns;
+  private final double averageGameMillis;
+  private final long nanos;
+
+  /**
+   * Constructs a new summary from the results of all games of a tournament.
+   *
+   * @param usernames The usernames of the bots, in the order in which they are reported.
+   * @param results   The results of all games.
+   * @param nanos     The time the whole tournament took in nanoseconds.
+   */
+  public TournamentResult(List<String> usernames, List<GameResult> results, long nanos) {
+    this.games = results.size();
+    this.nanos = nanos;
+    Map<String, Integer> winCounts = new LinkedHashMap<>();
+    usernames.forEach(username -> winCounts.put(username, 0));
+    int unfinished = 0;
+    long totalTurns = 0;
+    long totalNanos = 0;
+    for (GameResult result : results) {
+      if (result.isFinished()) {
+        winCounts.merge(result.winner(), 1, Integer::sum);
+      } else {
+        unfinished++;
+      }
+      totalTurns += result.turns();
+      totalNanos += result.nanos();
+    }
+    this.wins = Collections.unmodifiableMap(winCounts);
+    this.unfinishedGames = unfinished;
+    this.averageTurns = games > 0 ? (double) totalTurns / games : 0;
+    this.averageGameMillis = games > 0 ? totalNanos / 1e6 / games : 0;
+  }
+
+  /**
+   * Returns the share of all games which were won by the given bot.
+   *
+   * @param username The username of the bot.
+   * @return The win rate of the bot between 0 and 1.
+   */
+  public double getWinRate(String username) {
+    return games > 0 ? (double) wins.getOrDefault(username, 0) / games : 0;
+  }
+
+  /**
+   * Returns the number of games played per second of wall clock time.
+   *
+   * @return The throughput of the tournament.
+   */
+  public double getGamesPerSecond() {
+    return nanos > 0 ? games * 1e9 / nanos : 0;
+  }
+
+  public int getGames() {
+    return games;
+  }
+
+  public int getUnfinishedGames() {
+    return unfinishedGames;
+  }
+
+  public Map<String, Integer> getWins() {
+    return wins;
+  }
+
+  public double getAverageTurns() {
+    return averageTurns;
+  }
+
+  public double getAverageGameMillis() {
+    return averageGameMillis;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%d games in %.1f s (%.2f games/s), %.1f turns and %.1f ms per game,"
+            + " %d stopped at the turn limit%n", games, nanos / 1e9, getGamesPerSecond(),
+        averageTurns, averageGameMillis, unfinishedGames));
+    wins.forEach((username, count) -> report.append(
+        String.format("  %-16s %6d wins (%5.1f %%)%n", username, count,
+            100 * getWinRate(username))));
+    return report.toString();
+  }
+}
@@ -0,0 +1,140 @@
+package com.unima.risk6.game.simulation;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.models.Probabilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs many headless games between the same set of bots in parallel on a work-stealing pool, to
+ * compare the strength of the bots and to measure the throughput of the game logic. Game i of a
+ * tournament is played with the seed (seed + i), so a tournament can be repeated exactly.
+ *
+ * @author eameri
+ */
+public class TournamentRunner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TournamentRunner.class);
+  private static final int DEFAULT_MAX_TURNS = 1000;
+  private final List<BotType> seats;
+  private final List<String> usernames;
+  private int parallelism;
+  private int maxTurns;
+
+  /**
+   * Constructs a new runner for games between bots of the given types. Every bot is named after
+   * its type and its seat, e.g. "HARD 1".
+   *
+   * @param seats The types of the bots taking part in every game, at least two.
+   */
+  public TournamentRunner(List<BotType> seats) {
+    if (seats.size() < 2) {
+      throw new IllegalArgumentException("A game needs at least two bots");
+    }
+    this.seats = List.copyOf(seats);
+    this.usernames = new ArrayList<>();
+    for (int i = 0; i < seats.size(); i++) {
+      usernames.add(seats.get(i) + " " + (i + 1));
+    }
+    this.parallelism = Runtime.getRuntime().availableProcessors();
+    this.maxTurns = DEFAULT_MAX_TURNS;
+  }
+
+  /**
+   * Plays the given number of games and summarizes their results.
+   *
+   * @param games The number of games to be played.
+   * @param seed  The seed of the first game.
+   * @return The summary of all games.
+   */
+  public TournamentResult run(int games, long seed) {
+    Probabilities.init();
+    long start = System.nanoTime();
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      List<GameResult> results = pool.submit(() -> IntStream.range(0, games).parallel()
+          .mapToObj(game -> this.playGame(seed + game)).toList()).get();
+      return new TournamentResult(usernames, results, System.nanoTime() - start);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while running the tournament", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("A game of the tournament failed", e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  /**
+   * Plays a single game with new bots.
+   *
+   * @param seed The seed of the game.
+   * @return The result of the game.
+   */
+  private GameResult playGame(long seed) {
+    List<AiBot> bots = new ArrayList<>();
+    for (int i = 0; i < seats.size(); i++) {
+      bots.add(seats.get(i).create(usernames.get(i)));
+    }
+    GameResult result = new HeadlessGame(bots, seed, maxTurns).play();
+    LOGGER.debug("Game {} won by {} after {} turns", seed, result.winner(), result.turns());
+    return result;
+  }
+
+  public List<String> getUsernames() {
+    return usernames;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the number of games played at the same time.
+   *
+   * @param parallelism The number of worker threads, at least 1.
+   */
+  public void setParallelism(int parallelism) {
+    this.parallelism = Math.max(1, parallelism);
+  }
+
+  public int getMaxTurns() {
+    return maxTurns;
+  }
+
+  /**
+   * Sets the number of turns after which a game is stopped without a winner.
+   *
+   * @param maxTurns The turn limit of every game, at least 1.
+   */
+  public void setMaxTurns(int maxTurns) {
+    this.maxTurns = Math.max(1, maxTurns);
+  }
+
+  /**
+   * Runs a tournament from the command line, e.g. {@code 1000 42 EASY MEDIUM HARD} plays 1000
+   * games starting with seed 42 between an EasyBot, a MediumBot and a HardBot.
+   *
+   * @param args The number of games, the seed and the types of the bots.
+   */
+  public static void main(String[] args) {
+    if (args.length < 4) {
+      System.err.println("Usage: TournamentRunner <games> <seed> <bot type> <bot type>...");
+      System.err.println("Bot types: EASY, MEDIUM, HARD, MONTE_CARLO");
+      return;
+    }
+    int games = Integer.parseInt(args[0]);
+    long seed = Long.parseLong(args[1]);
+    List<BotType> seats = new ArrayList<>();
+    for (int i = 2; i < args.length; i++) {
+      seats.add(BotType.valueOf(args[i].toUpperCase(Locale.ROOT)));
+    }
+    System.out.print(new TournamentRunner(seats).run(games, seed));
+  }
+}
@@ -2,7 +2,9 @@ package com.unima.risk6.network.client;
 
 import com.unima.risk6.game.configurations.LobbyConfiguration;
 import com.unima.risk6.network.message.Message;
+import com.unima.risk6.network.serialization.BinaryMessageCodec;
 import com.unima.risk6.network.serialization.Serializer;
+import com.unima.risk6.network.serialization.WireFormat;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
@@ -14,6 +16,7 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketClientHandshakerFactory;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
@@ -37,6 +40,7 @@ public final class GameClient implements Runnable {
   private static final Logger LOGGER = LoggerFactory.getLogger(GameClient.class);
 
   private final String url;
+  private final WireFormat wireFormat;
 
   private volatile Channel ch;
   private GameClientHandler handler;
@@ -48,6 +52,9 @@ public final class GameClient implements Runnable {
    */
   public GameClient(String url) {
     this.url = System.getProperty("url", url);
+    //run with -DwireFormat=json to exchange every message as readable JSON
+    this.wireFormat = "json".equalsIgnoreCase(System.getProperty("wireFormat"))
+        ? WireFormat.JSON : WireFormat.BINARY;
   }
 
   /**
@@ -56,6 +63,11 @@ public final class GameClient implements Runnable {
    * @param message The message to send.
    */
   public void sendMessage(Message message) {
+    if (WireFormat.of(ch) == WireFormat.BINARY && BinaryMessageCodec.canEncode(message)) {
+      ch.writeAndFlush(new BinaryWebSocketFrame(BinaryMessageCodec.encode(message, ch.alloc())));
+      LOGGER.debug("Sent binary Message: " + message.getContentType());
+      return;
+    }
     String json = Serializer.serialize(message);
     WebSocketFrame frame = new TextWebSocketFrame(json);
     ch.writeAndFlush(frame);
@@ -81,8 +93,8 @@ public final class GameClient implements Runnable {
       EventLoopGroup group = new NioEventLoopGroup();
       try {
         handler = new GameClientHandler(
-            WebSocketClientHandshakerFactory.newHandshaker(uri, WebSocketVersion.V13, null, true,
-                new DefaultHttpHeaders()));
+            WebSocketClientHandshakerFactory.newHandshaker(uri, WebSocketVersion.V13,
+                WireFormat.getSubprotocols(wireFormat), true, new DefaultHttpHeaders()));
 
         Bootstrap b = new Bootstrap();
         b.group(group).channel(NioSocketChannel.class)
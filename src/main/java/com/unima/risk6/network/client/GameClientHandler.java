@@ -14,13 +14,20 @@ import com.unima.risk6.gui.configurations.SoundConfiguration;
 import com.unima.risk6.gui.configurations.StyleConfiguration;
 import com.unima.risk6.gui.controllers.enums.SceneName;
 import com.unima.risk6.network.configurations.NetworkConfiguration;
+import com.unima.risk6.network.message.GameStateDelta;
+import com.unima.risk6.network.message.StandardMessage;
+import com.unima.risk6.network.message.enums.ContentType;
+import com.unima.risk6.network.serialization.BinaryMessageCodec;
 import com.unima.risk6.network.serialization.Deserializer;
+import com.unima.risk6.network.serialization.Serializer;
+import com.unima.risk6.network.serialization.WireFormat;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
@@ -45,6 +52,7 @@ public class GameClientHandler extends SimpleChannelInboundHandler<Object> {
 
   private final WebSocketClientHandshaker handshaker;
   private ChannelPromise handshakeFuture;
+  private boolean snapshotRequested;
 
 
   /**
@@ -112,7 +120,9 @@ public class GameClientHandler extends SimpleChannelInboundHandler<Object> {
     if (!handshaker.isHandshakeComplete()) {
       try {
         handshaker.finishHandshake(ch, (FullHttpResponse) msg);
-        LOGGER.info("Connected successfully to Server!");
+        ch.attr(WireFormat.WIRE_FORMAT)
+            .set(WireFormat.fromSubprotocol(handshaker.actualSubprotocol()));
+        LOGGER.info("Connected successfully to Server using " + WireFormat.of(ch) + "!");
         handshakeFuture.setSuccess();
       } catch (WebSocketHandshakeException e) {
         LOGGER.error("Failed to connect");
@@ -144,19 +154,11 @@ public class GameClientHandler extends SimpleChannelInboundHandler<Object> {
             LOGGER.debug("Overwrite GameState with new GameState from Server");
             GameState g = (GameState) Deserializer.deserialize(textFrame.text(),
                 GameConfiguration.configureGame(new ArrayList<>(), new ArrayList<>())).getContent();
-            GameConfiguration.setGameState(g);
-            if (g.isGameOver()) {
-              Thread.sleep(3500);
-              LobbyConfiguration.stopGameClient();
-              SoundConfiguration.stopInGameMusic();
-              Thread.sleep(150);
-              if (NetworkConfiguration.getGameServer().getHostIp().equals("127.0.0.1")) {
-                NetworkConfiguration.stopGameServer();
-              }
-              Thread.sleep(150);
-              Platform.runLater(() -> SceneConfiguration.gameOverScene(g));
-            }
+            snapshotRequested = false;
+            updateGameState(g);
           }
+          case "GAME_STATE_DELTA" -> applyDelta(ch,
+              (GameStateDelta) Deserializer.deserialize(textFrame.text()).getContent());
           case "CHAT_MESSAGE" -> {
             String message = (String) Deserializer.deserializeChatMessage(textFrame.text())
                 .getContent();
@@ -262,6 +264,20 @@ public class GameClientHandler extends SimpleChannelInboundHandler<Object> {
         }
       }
 
+    } else if (frame instanceof BinaryWebSocketFrame binaryFrame) {
+      ContentType contentType = BinaryMessageCodec.peekContentType(binaryFrame.content());
+      LOGGER.debug("Client Received binary Message with ContentType: " + contentType);
+      switch (contentType) {
+        case GAME_STATE -> {
+          GameState g = (GameState) BinaryMessageCodec.decode(binaryFrame.content(),
+              GameConfiguration.configureGame(new ArrayList<>(), new ArrayList<>())).getContent();
+          snapshotRequested = false;
+          updateGameState(g);
+        }
+        case GAME_STATE_DELTA -> applyDelta(ch,
+            (GameStateDelta) BinaryMessageCodec.decode(binaryFrame.content(), null).getContent());
+        default -> LOGGER.debug("The binary Message received wasnt a gamestate");
+      }
     } else if (frame instanceof PongWebSocketFrame) {
       LOGGER.debug("Received pong from Server");
     } else if (frame instanceof CloseWebSocketFrame) {
@@ -270,6 +286,53 @@ public class GameClientHandler extends SimpleChannelInboundHandler<Object> {
     }
   }
 
+  /**
+   * Applies a delta of the server to the game state of the client. If the client missed an update,
+   * it requests the whole game state once.
+   *
+   * @param ch    the channel to the server.
+   * @param delta the received delta.
+   * @throws InterruptedException if the thread is interrupted while waiting for the end of the
+   *                              game.
+   */
+  private void applyDelta(Channel ch, GameStateDelta delta) throws InterruptedException {
+    GameState g = GameStateDeltaApplier.apply(GameConfiguration.getGameState(), delta);
+    if (g != null) {
+      LOGGER.debug("Apply GameStateDelta to version " + delta.getBaseVersion());
+      updateGameState(g);
+    } else if (!snapshotRequested) {
+      LOGGER.debug("Missed GameState version " + delta.getBaseVersion()
+          + ", request the whole GameState");
+      snapshotRequested = true;
+      ch.writeAndFlush(new TextWebSocketFrame(Serializer.serialize(
+          new StandardMessage<>(String.valueOf(delta.getVersion()),
+              ContentType.SNAPSHOT_REQUEST))));
+    }
+  }
+
+  /**
+   * Overwrites the game state of the client with a game state received from the server and ends
+   * the game on the client, if the game is over.
+   *
+   * @param g the new game state.
+   * @throws InterruptedException if the thread is interrupted while waiting for the end of the
+   *                              game.
+   */
+  private void updateGameState(GameState g) throws InterruptedException {
+    GameConfiguration.setGameState(g);
+    if (g.isGameOver()) {
+      Thread.sleep(3500);
+      LobbyConfiguration.stopGameClient();
+      SoundConfiguration.stopInGameMusic();
+      Thread.sleep(150);
+      if (NetworkConfiguration.getGameServer().getHostIp().equals("127.0.0.1")) {
+        NetworkConfiguration.stopGameServer();
+      }
+      Thread.sleep(150);
+      Platform.runLater(() -> SceneConfiguration.gameOverScene(g));
+    }
+  }
+
   public WebSocketClientHandshaker getHandshaker() {
     return handshaker;
   }
@@ -0,0 +1,150 @@
+package com.unima.risk6.network.client;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.unima.risk6.game.ai.tutorial.TutorialBot;
+import com.unima.risk6.game.configurations.GameStateCopier;
+import com.unima.risk6.game.logic.Move;
+import com.unima.risk6.game.logic.Reinforce;
+import com.unima.risk6.game.models.Card;
+import com.unima.risk6.game.models.Continent;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Hand;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.Statistic;
+import com.unima.risk6.game.models.enums.GamePhase;
+import com.unima.risk6.network.message.GameStateDelta;
+import com.unima.risk6.network.message.GameStateDelta.CountryUpdate;
+import com.unima.risk6.network.serialization.Deserializer;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Rebuilds the game state of a client from the last game state it received and a
+ * {@link com.unima.risk6.network.message.GameStateDelta} of the server. The delta is applied to a
+ * copy, so the game state the user interface currently shows is never modified.
+ *
+ * @author jferch
+ */
+public class GameStateDeltaApplier {
+
+  /**
+   * Applies a delta to a copy of the given game state.
+   *
+   * @param gameState the game state the client received last.
+   * @param delta     the delta received from the server.
+   * @return the new game state, or null if the delta can not be applied to the given game state, in
+   * which case the client has to request the whole game state.
+   */
+  public static GameState apply(GameState gameState, GameStateDelta delta) {
+    if (gameState == null || gameState.getVersion() != delta.getBaseVersion()) {
+      return null;
+    }
+    GameState copy = GameStateCopier.copy(gameState);
+    Map<String, Player> players = new HashMap<>();
+    copy.getActivePlayers().forEach(x -> players.putIfAbsent(x.getUser(), x));
+    copy.getLostPlayers().forEach(x -> players.putIfAbsent(x.getUser(), x));
+
+    for (CountryUpdate update : delta.getCountries()) {
+      Country country = copy.getCountry(update.country());
+      if (update.owner() != null) {
+        Player owner = players.get(update.owner());
+        if (owner == null) {
+          return null;
+        }
+        Player previousOwner = country.getPlayer();
+        if (previousOwner != owner) {
+          if (previousOwner != null) {
+            players.getOrDefault(previousOwner.getUser(), previousOwner).getCountries()
+                .remove(country);
+          }
+          owner.getCountries().add(country);
+          country.setPlayer(owner);
+        }
+      }
+      country.setTroops(update.troops());
+    }
+
+    for (Map.Entry<String, JsonObject> entry : delta.getPlayers().entrySet()) {
+      Player player = players.get(entry.getKey());
+      JsonObject json = entry.getValue();
+      if (player == null
+          || !player.getClass().getSimpleName().equals(json.get("type").getAsString())) {
+        return null;
+      }
+      applyPlayer(copy, player, json);
+    }
+
+    if (delta.getActivePlayers() != null) {
+      copy.getActivePlayers().clear();
+      for (String user : delta.getActivePlayers()) {
+        copy.getActivePlayers().add(players.get(user));
+      }
+    }
+    if (delta.getLostPlayers() != null) {
+      copy.getLostPlayers().clear();
+      for (String user : delta.getLostPlayers()) {
+        copy.getLostPlayers().add(players.get(user));
+      }
+    }
+    copy.setCurrentPlayer(
+        delta.getCurrentPlayer() == null ? null : players.get(delta.getCurrentPlayer()));
+
+    copy.getLastMoves().clear();
+    for (JsonElement element : delta.getLastMoves()) {
+      Move move = Deserializer.deserializeMove(element, copy);
+      if (move != null) {
+        copy.getLastMoves().add(move);
+      }
+    }
+    //deserializing moves and claims creates new players for the countries they reference
+    copy.linkPlayers();
+
+    if (delta.getDeck() != null) {
+      copy.getDeck().getDeckCards().clear();
+      delta.getDeck().forEach(
+          x -> copy.getDeck().getDeckCards().add(Deserializer.deserialize(x, Card.class, copy)));
+    }
+    copy.setNumberOfHandIns(delta.getNumberOfHandIns());
+    copy.setGameOver(delta.isGameOver());
+    copy.setChatEnabled(delta.isChatEnabled());
+    copy.setVersion(delta.getVersion());
+    return copy;
+  }
+
+  /**
+   * Overwrites a player with the serialized player of a delta, which contains everything but the
+   * countries of the player.
+   *
+   * @param gameState the game state the player belongs to.
+   * @param player    the player to be overwritten.
+   * @param json      the serialized player.
+   */
+  private static void applyPlayer(GameState gameState, Player player, JsonObject json) {
+    player.setHand(Deserializer.deserialize(json.get("hand"), Hand.class, gameState));
+    player.getContinents().clear();
+    json.getAsJsonArray("continents").forEach(x -> {
+      String continentName = x.getAsJsonObject().get("name").getAsString();
+      for (Continent continent : gameState.getContinents()) {
+        if (continent.getContinentName().toString().equals(continentName)) {
+          player.getContinents().add(continent);
+        }
+      }
+    });
+    player.setCurrentPhase(
+        Deserializer.deserialize(json.get("currentPhase"), GamePhase.class, gameState));
+    player.setDeployableTroops(json.get("deployableTroops").getAsInt());
+    player.setInitialTroops(json.get("initialTroops").getAsInt());
+    player.setStatistic(
+        Deserializer.deserialize(json.get("statistic"), Statistic.class, gameState));
+    if (player instanceof TutorialBot tutorialBot && json.has("deterministicClaims")) {
+      Queue<Reinforce> deterministicClaims = new LinkedList<>();
+      json.getAsJsonArray("deterministicClaims").forEach(
+          x -> deterministicClaims.add(Deserializer.deserialize(x, Reinforce.class, gameState)));
+      tutorialBot.setDeterministicClaims(deterministicClaims);
+    }
+  }
+}
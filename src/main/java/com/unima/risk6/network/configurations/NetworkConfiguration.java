@@ -2,6 +2,7 @@ package com.unima.risk6.network.configurations;
 
 import com.unima.risk6.game.models.ServerLobby;
 import com.unima.risk6.network.server.GameServer;
+import com.unima.risk6.network.server.ServerTransportConfiguration;
 
 /**
  * This class is used to configure the network.
@@ -20,7 +21,17 @@ public class NetworkConfiguration {
    * server thread.
    */
   public static void startGameServer() {
-    gameServer = new GameServer();
+    startGameServer(ServerTransportConfiguration.fromSystemProperties());
+  }
+
+  /**
+   * Starts a new GameServer for multiplayer games with the given transport configuration, creates
+   * a new server lobby, and initiates the server thread.
+   *
+   * @param transportConfiguration the configuration of the transport of the server.
+   */
+  public static void startGameServer(ServerTransportConfiguration transportConfiguration) {
+    gameServer = new GameServer("0.0.0.0", transportConfiguration);
     serverLobby = new ServerLobby("Multiplayer server");
     gameServerThread = new Thread(gameServer);
     gameServerThread.start();
@@ -0,0 +1,163 @@
+package com.unima.risk6.network.message;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.unima.risk6.game.models.enums.CountryName;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The changes of a game state between two versions. The server sends a delta instead of the whole
+ * game state after every move, containing only the countries and players which changed since the
+ * previous version, together with the small fields which change with nearly every move. A client
+ * can only apply a delta to the version the delta is based on and requests a full snapshot of the
+ * game state otherwise.
+ *
+ * @author jferch
+ */
+public class GameStateDelta {
+
+  private long baseVersion;
+  private long version;
+  private List<CountryUpdate> countries = new ArrayList<>();
+  private Map<String, JsonObject> players = new LinkedHashMap<>();
+  private List<String> activePlayers;
+  private List<String> lostPlayers;
+  private String currentPlayer;
+  private int numberOfHandIns;
+  private boolean gameOver;
+  private boolean chatEnabled;
+  private JsonArray lastMoves = new JsonArray();
+  private JsonArray deck;
+
+  /**
+   * Constructs a new, empty GameStateDelta.
+   */
+  public GameStateDelta() {
+  }
+
+  /**
+   * Constructs a new GameStateDelta between the given versions.
+   *
+   * @param baseVersion the version of the game state the delta has to be applied to.
+   * @param version     the version of the game state after applying the delta.
+   */
+  public GameStateDelta(long baseVersion, long version) {
+    this.baseVersion = baseVersion;
+    this.version = version;
+  }
+
+  /**
+   * The new owner and troops of a country.
+   *
+   * @param country the name of the country.
+   * @param owner   the username of the owner, null if the country has no owner.
+   * @param troops  the troops on the country.
+   */
+  public record CountryUpdate(CountryName country, String owner, int troops) {
+
+  }
+
+  public long getBaseVersion() {
+    return baseVersion;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public List<CountryUpdate> getCountries() {
+    return countries;
+  }
+
+  /**
+   * Returns the changed players by their username. Every player is serialized like in a full game
+   * state, but without the list of its countries, which are part of the country updates.
+   *
+   * @return the serialized players by their username.
+   */
+  public Map<String, JsonObject> getPlayers() {
+    return players;
+  }
+
+  /**
+   * Returns the usernames of the active players in their order.
+   *
+   * @return the usernames of the active players, null if the active players did not change.
+   */
+  public List<String> getActivePlayers() {
+    return activePlayers;
+  }
+
+  public void setActivePlayers(List<String> activePlayers) {
+    this.activePlayers = activePlayers;
+  }
+
+  /**
+   * Returns the usernames of the players who lost the game.
+   *
+   * @return the usernames of the lost players, null if the lost players did not change.
+   */
+  public List<String> getLostPlayers() {
+    return lostPlayers;
+  }
+
+  public void setLostPlayers(List<String> lostPlayers) {
+    this.lostPlayers = lostPlayers;
+  }
+
+  public String getCurrentPlayer() {
+    return currentPlayer;
+  }
+
+  public void setCurrentPlayer(String currentPlayer) {
+    this.currentPlayer = currentPlayer;
+  }
+
+  public int getNumberOfHandIns() {
+    return numberOfHandIns;
+  }
+
+  public void setNumberOfHandIns(int numberOfHandIns) {
+    this.numberOfHandIns = numberOfHandIns;
+  }
+
+  public boolean isGameOver() {
+    return gameOver;
+  }
+
+  public void setGameOver(boolean gameOver) {
+    this.gameOver = gameOver;
+  }
+
+  public boolean isChatEnabled() {
+    return chatEnabled;
+  }
+
+  public void setChatEnabled(boolean chatEnabled) {
+    this.chatEnabled = chatEnabled;
+  }
+
+  public JsonArray getLastMoves() {
+    return lastMoves;
+  }
+
+  public void setLastMoves(JsonArray lastMoves) {
+    this.lastMoves = lastMoves;
+  }
+
+  /**
+   * Returns the serialized cards of the deck.
+   *
+   * @return the cards of the deck, null if the deck did not change.
+   */
+  public JsonArray getDeck() {
+    return deck;
+  }
+
+  public void setDeck(JsonArray deck) {
+    this.deck = deck;
+  }
+}
@@ -79,6 +79,8 @@ public abstract class Message<T> {
       contentType = ContentType.END_PHASE;
     } else if (content.getClass().equals(HashMap.class)) {
       contentType = ContentType.ORDER;
+    } else if (content.getClass().equals(GameStateDelta.class)) {
+      contentType = ContentType.GAME_STATE_DELTA;
     }
   }
 
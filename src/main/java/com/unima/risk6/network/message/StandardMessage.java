@@ -1,5 +1,7 @@
 package com.unima.risk6.network.message;
 
+import com.unima.risk6.network.message.enums.ContentType;
+
 /**
  * Message wrapper for most objects like: gamestate and move objects.
  *
@@ -28,5 +30,16 @@ public class StandardMessage<T> extends Message<T> {
     super(content);
   }
 
+  /**
+   * Constructs a StandardMessage object with given content and content type, for messages whose
+   * type can not be determined by the class of their content.
+   *
+   * @param content     the content of the message.
+   * @param contentType the type of the content.
+   */
+  public StandardMessage(T content, ContentType contentType) {
+    super(content, contentType);
+  }
+
 
 }
@@ -8,6 +8,6 @@ package com.unima.risk6.network.message.enums;
 public enum ContentType {
 
   DEFAULT, ATTACK, FORTIFY, GAME_STATE, REINFORCE, END_PHASE, HAND_IN, CONNECTION, CHAT_MESSAGE,
-  ORDER
+  ORDER, GAME_STATE_DELTA, SNAPSHOT_REQUEST
 }
 
@@ -12,6 +12,7 @@ import com.google.gson.reflect.TypeToken;
 import com.unima.risk6.game.logic.Attack;
 import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.enums.CountryName;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -90,14 +91,11 @@ public class AttackTypeAdapter implements JsonSerializer<Attack>, JsonDeserializ
   public Attack deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException {
     JsonObject jsonObject = json.getAsJsonObject();
-    Country attackingCountry = gameState.getCountries().stream()
-        .filter(x -> x.getCountryName().toString()
-            .equals(jsonObject.get("attackingCountry").getAsString()))
-        .findFirst().get();
-    Country defendingCountry = gameState.getCountries().stream()
-        .filter(x -> x.getCountryName().toString()
-            .equals(jsonObject.get("defendingCountry").getAsString()))
-        .findFirst().get();
+    GameState gameState = SerializationContext.resolve(this.gameState);
+    Country attackingCountry = gameState.getCountry(
+        CountryName.valueOf(jsonObject.get("attackingCountry").getAsString()));
+    Country defendingCountry = gameState.getCountry(
+        CountryName.valueOf(jsonObject.get("defendingCountry").getAsString()));
     int troopNumber = jsonObject.get("troopNumber").getAsInt();
     Attack attack = new Attack(attackingCountry, defendingCountry, troopNumber);
     attack.setAttackerLosses(jsonObject.get("attackerLosses").getAsInt());
@@ -0,0 +1,570 @@
+package com.unima.risk6.network.serialization;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.unima.risk6.game.ai.bots.EasyBot;
+import com.unima.risk6.game.ai.bots.HardBot;
+import com.unima.risk6.game.ai.bots.MediumBot;
+import com.unima.risk6.game.ai.montecarlo.MonteCarloBot;
+import com.unima.risk6.game.ai.tutorial.TutorialBot;
+import com.unima.risk6.game.logic.Attack;
+import com.unima.risk6.game.logic.EndPhase;
+import com.unima.risk6.game.logic.Fortify;
+import com.unima.risk6.game.logic.HandIn;
+import com.unima.risk6.game.logic.Move;
+import com.unima.risk6.game.logic.Reinforce;
+import com.unima.risk6.game.models.Card;
+import com.unima.risk6.game.models.Continent;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Hand;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.Statistic;
+import com.unima.risk6.game.models.enums.CardSymbol;
+import com.unima.risk6.game.models.enums.CountryName;
+import com.unima.risk6.game.models.enums.GamePhase;
+import com.unima.risk6.network.message.GameStateDelta;
+import com.unima.risk6.network.message.GameStateDelta.CountryUpdate;
+import com.unima.risk6.network.message.Message;
+import com.unima.risk6.network.message.StandardMessage;
+import com.unima.risk6.network.message.enums.ContentType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Encodes moves and game states into a compact binary layout and decodes them again, as an
+ * alternative to their JSON representation for clients which negotiated the
+ * {@link com.unima.risk6.network.serialization.WireFormat#BINARY} format. Every message starts with
+ * the ordinal of its {@link com.unima.risk6.network.message.enums.ContentType} and its status code,
+ * so a receiver can dispatch it without parsing it first. Countries, phases and card symbols are
+ * written as ordinals, troops and counts as variable length integers.
+ *
+ * <p>The players of a {@link com.unima.risk6.network.message.GameStateDelta}, its last moves and
+ * its deck are already held as JSON trees and are embedded as JSON text.
+ *
+ * @author jferch
+ */
+public class BinaryMessageCodec {
+
+  private static final CountryName[] COUNTRY_NAMES = CountryName.values();
+  private static final GamePhase[] GAME_PHASES = GamePhase.values();
+  private static final CardSymbol[] CARD_SYMBOLS = CardSymbol.values();
+  private static final ContentType[] CONTENT_TYPES = ContentType.values();
+
+  /**
+   * Checks whether a message has a binary layout.
+   *
+   * @param message the message to be sent.
+   * @return true if the message can be encoded, false if it has to be sent as JSON.
+   */
+  public static boolean canEncode(Message<?> message) {
+    if (!(message instanceof StandardMessage<?>)) {
+      return false;
+    }
+    return switch (message.getContentType()) {
+      case ATTACK, REINFORCE, FORTIFY, HAND_IN, END_PHASE, GAME_STATE, GAME_STATE_DELTA -> true;
+      default -> false;
+    };
+  }
+
+  /**
+   * Encodes a message into a new buffer of the given allocator.
+   *
+   * @param message   the message to be encoded, which has to have a binary layout.
+   * @param allocator the allocator of the buffer.
+   * @return the buffer containing the encoded message, which has to be released by the caller.
+   * @throws IllegalArgumentException if the message has no binary layout.
+   */
+  public static ByteBuf encode(Message<?> message, ByteBufAllocator allocator) {
+    if (!canEncode(message)) {
+      throw new IllegalArgumentException(
+          "No binary layout for messages of type " + message.getContentType());
+    }
+    ByteBuf buffer = allocator.directBuffer();
+    try {
+      buffer.writeByte(message.getContentType().ordinal());
+      writeSignedVarInt(buffer, message.getStatusCode());
+      Object content = message.getContent();
+      if (content instanceof GameState gameState) {
+        writeGameState(buffer, gameState);
+      } else if (content instanceof GameStateDelta delta) {
+        writeDelta(buffer, delta);
+      } else {
+        writeMove(buffer, (Move) content);
+      }
+      return buffer;
+    } catch (RuntimeException e) {
+      buffer.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Decodes a message. Countries are resolved in the given game state, a decoded game state is
+   * written into it like by the {@link com.unima.risk6.network.serialization.Deserializer}.
+   *
+   * @param buffer    the encoded message, which is not released by this method.
+   * @param gameState the game state used for context, may be null for messages without countries.
+   * @return the decoded message.
+   * @throws CorruptedFrameException if the buffer does not contain a valid message.
+   */
+  public static Message<?> decode(ByteBuf buffer, GameState gameState) {
+    try {
+      ContentType contentType = CONTENT_TYPES[buffer.readUnsignedByte()];
+      int statusCode = readSignedVarInt(buffer);
+      Object content = switch (contentType) {
+        case GAME_STATE -> readGameState(buffer, gameState);
+        case GAME_STATE_DELTA -> readDelta(buffer);
+        case ATTACK, REINFORCE, FORTIFY, HAND_IN, END_PHASE ->
+            readMove(buffer, contentType, new Country[COUNTRY_NAMES.length], gameState);
+        default -> throw new CorruptedFrameException("No binary layout for " + contentType);
+      };
+      return new StandardMessage<>(content, statusCode);
+    } catch (IndexOutOfBoundsException e) {
+      throw new CorruptedFrameException("Invalid binary message", e);
+    }
+  }
+
+  /**
+   * Reads the content type of an encoded message without consuming it.
+   *
+   * @param buffer the encoded message.
+   * @return the content type of the message.
+   * @throws CorruptedFrameException if the buffer is empty or starts with an unknown content type.
+   */
+  public static ContentType peekContentType(ByteBuf buffer) {
+    try {
+      return CONTENT_TYPES[buffer.getUnsignedByte(buffer.readerIndex())];
+    } catch (IndexOutOfBoundsException e) {
+      throw new CorruptedFrameException("Invalid binary message", e);
+    }
+  }
+
+  private static void writeGameState(ByteBuf buffer, GameState gameState) {
+    writeVarLong(buffer, gameState.getVersion());
+    writeVarInt(buffer, gameState.getNumberOfHandIns());
+    buffer.writeByte((gameState.isGameOver() ? 1 : 0) | (gameState.isChatEnabled() ? 2 : 0));
+
+    List<Player> players = new ArrayList<>(gameState.getActivePlayers());
+    players.addAll(gameState.getLostPlayers());
+    Map<String, Integer> indices = new HashMap<>();
+    writeVarInt(buffer, players.size());
+    writeVarInt(buffer, gameState.getActivePlayers().size());
+    for (Player player : players) {
+      indices.putIfAbsent(player.getUser(), indices.size() + 1);
+      writePlayer(buffer, player);
+    }
+    Player currentPlayer = gameState.getCurrentPlayer();
+    writeVarInt(buffer, currentPlayer == null ? 0
+        : indices.getOrDefault(currentPlayer.getUser(), 0));
+
+    writeVarInt(buffer, gameState.getCountries().size());
+    for (Country country : gameState.getCountries()) {
+      buffer.writeByte(country.getCountryName().ordinal());
+      Player owner = country.getPlayer();
+      writeVarInt(buffer, owner == null ? 0 : indices.getOrDefault(owner.getUser(), 0));
+      writeSignedVarInt(buffer, country.getTroops());
+    }
+
+    writeVarInt(buffer, gameState.getLastMoves().size());
+    for (Move move : gameState.getLastMoves()) {
+      buffer.writeByte(getContentType(move).ordinal());
+      writeMove(buffer, move);
+    }
+    writeCards(buffer, gameState.getDeck().getDeckCards());
+  }
+
+  private static GameState readGameState(ByteBuf buffer, GameState gameState) {
+    Country[] countries = new Country[COUNTRY_NAMES.length];
+    gameState.setVersion(readVarLong(buffer));
+    gameState.setNumberOfHandIns(readVarInt(buffer));
+    int flags = buffer.readUnsignedByte();
+    gameState.setGameOver((flags & 1) != 0);
+    gameState.setChatEnabled((flags & 2) != 0);
+
+    int playerCount = readVarInt(buffer);
+    int activeCount = readVarInt(buffer);
+    List<Player> players = new ArrayList<>();
+    for (int i = 0; i < playerCount; i++) {
+      Player player = readPlayer(buffer, countries, gameState);
+      players.add(player);
+      if (i < activeCount) {
+        gameState.getActivePlayers().add(player);
+      } else {
+        gameState.getLostPlayers().add(player);
+      }
+    }
+    int currentPlayer = readVarInt(buffer);
+    gameState.setCurrentPlayer(currentPlayer == 0 ? null : players.get(currentPlayer - 1));
+
+    int countryCount = readVarInt(buffer);
+    for (int i = 0; i < countryCount; i++) {
+      Country country = getCountry(buffer.readUnsignedByte(), countries, gameState);
+      int owner = readVarInt(buffer);
+      if (owner > 0) {
+        Player player = players.get(owner - 1);
+        country.setPlayer(player);
+        player.getCountries().add(country);
+      }
+      country.setTroops(readSignedVarInt(buffer));
+    }
+
+    int moveCount = readVarInt(buffer);
+    for (int i = 0; i < moveCount; i++) {
+      ContentType moveType = CONTENT_TYPES[buffer.readUnsignedByte()];
+      gameState.getLastMoves().add(readMove(buffer, moveType, countries, gameState));
+    }
+    gameState.getDeck().getDeckCards().addAll(readCards(buffer));
+    return gameState;
+  }
+
+  private static void writePlayer(ByteBuf buffer, Player player) {
+    writeString(buffer, player.getUser());
+    writeString(buffer, player.getClass().getSimpleName());
+    writeVarInt(buffer, player.getCurrentPhase() == null ? 0
+        : player.getCurrentPhase().ordinal() + 1);
+    writeSignedVarInt(buffer, player.getDeployableTroops());
+    writeSignedVarInt(buffer, player.getInitialTroops());
+    Statistic statistic = player.getStatistic();
+    buffer.writeBoolean(statistic != null);
+    if (statistic != null) {
+      writeSignedVarInt(buffer, statistic.getTroopsLost());
+      writeSignedVarInt(buffer, statistic.getTroopsGained());
+      writeSignedVarInt(buffer, statistic.getCountriesWon());
+      writeSignedVarInt(buffer, statistic.getCountriesLost());
+      writeSignedVarInt(buffer, statistic.getNumberOfOwnedCountries());
+      writeSignedVarInt(buffer, statistic.getNumberOfTroops());
+    }
+    writeCards(buffer, player.getHand().getCards());
+    writeCards(buffer, player.getHand().getSelectedCards());
+    int continents = 0;
+    for (Continent continent : player.getContinents()) {
+      continents |= 1 << continent.getContinentName().ordinal();
+    }
+    writeVarInt(buffer, continents);
+    if (player instanceof TutorialBot tutorialBot) {
+      writeVarInt(buffer, tutorialBot.getDeterministicClaims().size());
+      tutorialBot.getDeterministicClaims().forEach(x -> writeMove(buffer, x));
+    }
+  }
+
+  private static Player readPlayer(ByteBuf buffer, Country[] countries, GameState gameState) {
+    String user = readString(buffer);
+    String type = readString(buffer);
+    Player player = switch (type) {
+      case "EasyBot" -> new EasyBot(user);
+      case "MediumBot" -> new MediumBot(user);
+      case "HardBot" -> new HardBot(user);
+      case "MonteCarloBot" -> new MonteCarloBot(user);
+      case "TutorialBot" -> new TutorialBot(user);
+      default -> new Player(user);
+    };
+    int phase = readVarInt(buffer);
+    player.setCurrentPhase(phase == 0 ? null : GAME_PHASES[phase - 1]);
+    player.setDeployableTroops(readSignedVarInt(buffer));
+    player.setInitialTroops(readSignedVarInt(buffer));
+    if (buffer.readBoolean()) {
+      Statistic statistic = new Statistic();
+      statistic.setTroopsLost(readSignedVarInt(buffer));
+      statistic.setTroopsGained(readSignedVarInt(buffer));
+      statistic.setCountriesWon(readSignedVarInt(buffer));
+      statistic.setCountriesLost(readSignedVarInt(buffer));
+      statistic.setNumberOfOwnedCountries(readSignedVarInt(buffer));
+      statistic.setNumberOfTroops(readSignedVarInt(buffer));
+      player.setStatistic(statistic);
+    } else {
+      player.setStatistic(null);
+    }
+    Hand hand = new Hand();
+    hand.getCards().addAll(readCards(buffer));
+    hand.getSelectedCards().addAll(readCards(buffer));
+    player.setHand(hand);
+    int continents = readVarInt(buffer);
+    for (Continent continent : gameState.getContinents()) {
+      if ((continents & 1 << continent.getContinentName().ordinal()) != 0) {
+        player.getContinents().add(continent);
+      }
+    }
+    if (player instanceof TutorialBot tutorialBot) {
+      int claimCount = readVarInt(buffer);
+      Queue<Reinforce> deterministicClaims = new LinkedList<>();
+      for (int i = 0; i < claimCount; i++) {
+        deterministicClaims.add(
+            (Reinforce) readMove(buffer, ContentType.REINFORCE, countries, gameState));
+      }
+      tutorialBot.setDeterministicClaims(deterministicClaims);
+    }
+    return player;
+  }
+
+  private static void writeDelta(ByteBuf buffer, GameStateDelta delta) {
+    writeVarLong(buffer, delta.getBaseVersion());
+    writeVarLong(buffer, delta.getVersion());
+    writeVarInt(buffer, delta.getCountries().size());
+    for (CountryUpdate update : delta.getCountries()) {
+      buffer.writeByte(update.country().ordinal());
+      writeNullableString(buffer, update.owner());
+      writeSignedVarInt(buffer, update.troops());
+    }
+    writeVarInt(buffer, delta.getPlayers().size());
+    delta.getPlayers().forEach((user, player) -> {
+      writeString(buffer, user);
+      writeString(buffer, player.toString());
+    });
+    writeNullableStrings(buffer, delta.getActivePlayers());
+    writeNullableStrings(buffer, delta.getLostPlayers());
+    writeNullableString(buffer, delta.getCurrentPlayer());
+    writeVarInt(buffer, delta.getNumberOfHandIns());
+    buffer.writeByte((delta.isGameOver() ? 1 : 0) | (delta.isChatEnabled() ? 2 : 0));
+    writeString(buffer, delta.getLastMoves().toString());
+    writeNullableString(buffer, delta.getDeck() == null ? null : delta.getDeck().toString());
+  }
+
+  private static GameStateDelta readDelta(ByteBuf buffer) {
+    GameStateDelta delta = new GameStateDelta(readVarLong(buffer), readVarLong(buffer));
+    int countryCount = readVarInt(buffer);
+    for (int i = 0; i < countryCount; i++) {
+      delta.getCountries().add(new CountryUpdate(COUNTRY_NAMES[buffer.readUnsignedByte()],
+          readNullableString(buffer), readSignedVarInt(buffer)));
+    }
+    int playerCount = readVarInt(buffer);
+    for (int i = 0; i < playerCount; i++) {
+      String user = readString(buffer);
+      JsonObject player = JsonParser.parseString(readString(buffer)).getAsJsonObject();
+      delta.getPlayers().put(user, player);
+    }
+    delta.setActivePlayers(readNullableStrings(buffer));
+    delta.setLostPlayers(readNullableStrings(buffer));
+    delta.setCurrentPlayer(readNullableString(buffer));
+    delta.setNumberOfHandIns(readVarInt(buffer));
+    int flags = buffer.readUnsignedByte();
+    delta.setGameOver((flags & 1) != 0);
+    delta.setChatEnabled((flags & 2) != 0);
+    delta.setLastMoves(JsonParser.parseString(readString(buffer)).getAsJsonArray());
+    String deck = readNullableString(buffer);
+    delta.setDeck(deck == null ? null : JsonParser.parseString(deck).getAsJsonArray());
+    return delta;
+  }
+
+  private static ContentType getContentType(Move move) {
+    if (move instanceof Attack) {
+      return ContentType.ATTACK;
+    } else if (move instanceof Reinforce) {
+      return ContentType.REINFORCE;
+    } else if (move instanceof Fortify) {
+      return ContentType.FORTIFY;
+    } else if (move instanceof HandIn) {
+      return ContentType.HAND_IN;
+    } else if (move instanceof EndPhase) {
+      return ContentType.END_PHASE;
+    }
+    throw new IllegalArgumentException("No binary layout for " + move.getClass());
+  }
+
+  private static void writeMove(ByteBuf buffer, Move move) {
+    if (move instanceof Attack attack) {
+      buffer.writeByte(attack.getAttackingCountry().getCountryName().ordinal());
+      buffer.writeByte(attack.getDefendingCountry().getCountryName().ordinal());
+      writeSignedVarInt(buffer, attack.getTroopNumber());
+      writeSignedVarInt(buffer, attack.getAttackerLosses());
+      writeSignedVarInt(buffer, attack.getDefenderLosses());
+      buffer.writeBoolean(attack.getHasConquered());
+      writeDice(buffer, attack.getAttackDiceResult());
+      writeDice(buffer, attack.getDefendDiceResult());
+    } else if (move instanceof Reinforce reinforce) {
+      buffer.writeByte(reinforce.getCountry().getCountryName().ordinal());
+      writeSignedVarInt(buffer, reinforce.getToAdd());
+    } else if (move instanceof Fortify fortify) {
+      buffer.writeByte(fortify.getOutgoing().getCountryName().ordinal());
+      buffer.writeByte(fortify.getIncoming().getCountryName().ordinal());
+      writeSignedVarInt(buffer, fortify.getTroopsToMove());
+    } else if (move instanceof HandIn handIn) {
+      writeCards(buffer, handIn.getCards());
+    } else if (move instanceof EndPhase endPhase) {
+      buffer.writeByte(endPhase.getPhaseToEnd().ordinal());
+    } else {
+      throw new IllegalArgumentException("No binary layout for " + move.getClass());
+    }
+  }
+
+  private static Move readMove(ByteBuf buffer, ContentType moveType, Country[] countries,
+      GameState gameState) {
+    switch (moveType) {
+      case ATTACK -> {
+        Attack attack = new Attack(getCountry(buffer.readUnsignedByte(), countries, gameState),
+            getCountry(buffer.readUnsignedByte(), countries, gameState),
+            readSignedVarInt(buffer));
+        attack.setAttackerLosses(readSignedVarInt(buffer));
+        attack.setDefenderLosses(readSignedVarInt(buffer));
+        attack.setHasConquered(buffer.readBoolean());
+        attack.getAttackDiceResult().addAll(readDice(buffer));
+        attack.getDefendDiceResult().addAll(readDice(buffer));
+        return attack;
+      }
+      case REINFORCE -> {
+        return new Reinforce(getCountry(buffer.readUnsignedByte(), countries, gameState),
+            readSignedVarInt(buffer));
+      }
+      case FORTIFY -> {
+        return new Fortify(getCountry(buffer.readUnsignedByte(), countries, gameState),
+            getCountry(buffer.readUnsignedByte(), countries, gameState),
+            readSignedVarInt(buffer));
+      }
+      case HAND_IN -> {
+        return new HandIn(readCards(buffer));
+      }
+      case END_PHASE -> {
+        return new EndPhase(GAME_PHASES[buffer.readUnsignedByte()]);
+      }
+      default -> throw new CorruptedFrameException("No binary layout for move " + moveType);
+    }
+  }
+
+  /**
+   * Resolves a country by the ordinal of its name in the game state used for context. Without a
+   * game state a new country is created.
+   */
+  private static Country getCountry(int ordinal, Country[] countries, GameState gameState) {
+    if (countries[ordinal] == null) {
+      if (gameState != null) {
+        countries[ordinal] = gameState.getCountry(COUNTRY_NAMES[ordinal]);
+      }
+      if (countries[ordinal] == null) {
+        countries[ordinal] = new Country(COUNTRY_NAMES[ordinal]);
+      }
+    }
+    return countries[ordinal];
+  }
+
+  private static void writeDice(ByteBuf buffer, List<Integer> dice) {
+    writeVarInt(buffer, dice.size());
+    dice.forEach(buffer::writeByte);
+  }
+
+  private static List<Integer> readDice(ByteBuf buffer) {
+    int count = readVarInt(buffer);
+    List<Integer> dice = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      dice.add((int) buffer.readUnsignedByte());
+    }
+    return dice;
+  }
+
+  private static void writeCards(ByteBuf buffer, List<Card> cards) {
+    writeVarInt(buffer, cards.size());
+    for (Card card : cards) {
+      buffer.writeByte(card.getCardSymbol().ordinal());
+      buffer.writeByte(card.hasCountry() ? card.getCountry().ordinal() + 1 : 0);
+      writeVarLong(buffer, card.getId());
+    }
+  }
+
+  private static List<Card> readCards(ByteBuf buffer) {
+    int count = readVarInt(buffer);
+    List<Card> cards = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      CardSymbol symbol = CARD_SYMBOLS[buffer.readUnsignedByte()];
+      int country = buffer.readUnsignedByte();
+      int id = (int) readVarLong(buffer);
+      cards.add(country == 0 ? new Card(symbol, id)
+          : new Card(symbol, COUNTRY_NAMES[country - 1], id));
+    }
+    return cards;
+  }
+
+  private static void writeString(ByteBuf buffer, String value) {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(buffer, bytes.length);
+    buffer.writeBytes(bytes);
+  }
+
+  private static String readString(ByteBuf buffer) {
+    int length = readVarInt(buffer);
+    String value = buffer.toString(buffer.readerIndex(), length, StandardCharsets.UTF_8);
+    buffer.skipBytes(length);
+    return value;
+  }
+
+  private static void writeNullableString(ByteBuf buffer, String value) {
+    buffer.writeBoolean(value != null);
+    if (value != null) {
+      writeString(buffer, value);
+    }
+  }
+
+  private static String readNullableString(ByteBuf buffer) {
+    return buffer.readBoolean() ? readString(buffer) : null;
+  }
+
+  private static void writeNullableStrings(ByteBuf buffer, List<String> values) {
+    writeVarInt(buffer, values == null ? 0 : values.size() + 1);
+    if (values != null) {
+      values.forEach(x -> writeString(buffer, x));
+    }
+  }
+
+  private static List<String> readNullableStrings(ByteBuf buffer) {
+    int count = readVarInt(buffer) - 1;
+    if (count < 0) {
+      return null;
+    }
+    List<String> values = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      values.add(readString(buffer));
+    }
+    return values;
+  }
+
+  /**
+   * Writes a non-negative integer in 7 bit groups, the highest bit of every byte marks whether
+   * another byte follows.
+   */
+  static void writeVarInt(ByteBuf buffer, int value) {
+    writeVarLong(buffer, value & 0xFFFFFFFFL);
+  }
+
+  static int readVarInt(ByteBuf buffer) {
+    return (int) readVarLong(buffer);
+  }
+
+  /**
+   * Writes an integer which may be negative in zigzag encoding, so small negative values stay
+   * short.
+   */
+  static void writeSignedVarInt(ByteBuf buffer, int value) {
+    writeVarInt(buffer, (value << 1) ^ (value >> 31));
+  }
+
+  static int readSignedVarInt(ByteBuf buffer) {
+    int value = readVarInt(buffer);
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  static void writeVarLong(ByteBuf buffer, long value) {
+    while ((value & ~0x7FL) != 0) {
+      buffer.writeByte((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer.writeByte((int) value);
+  }
+
+  static long readVarLong(ByteBuf buffer) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new CorruptedFrameException("Variable length integer is too long");
+  }
+}
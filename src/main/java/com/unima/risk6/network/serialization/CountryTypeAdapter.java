@@ -12,7 +12,6 @@ import com.unima.risk6.game.models.GameState;
 import com.unima.risk6.game.models.Player;
 import com.unima.risk6.game.models.enums.CountryName;
 import java.lang.reflect.Type;
-import java.util.NoSuchElementException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -88,14 +87,11 @@ public class CountryTypeAdapter implements JsonSerializer<Country>, JsonDeserial
   public Country deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException {
     JsonObject jsonObject = json.getAsJsonObject();
+    GameState gameState = SerializationContext.resolve(this.gameState);
 
     CountryName countryName = context.deserialize(jsonObject.get("countryName"), CountryName.class);
-    Country country;
-    try {
-
-      country = gameState.getCountries().stream()
-          .filter(x -> x.getCountryName().equals(countryName)).findFirst().orElseThrow();
-    } catch (NoSuchElementException e) {
+    Country country = gameState.getCountry(countryName);
+    if (country == null) {
       LOGGER.error("No such Country");
       country = new Country(CountryName.ALASKA);
     }
@@ -1,11 +1,14 @@
 package com.unima.risk6.network.serialization;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
 import com.unima.risk6.game.ai.bots.EasyBot;
 import com.unima.risk6.game.logic.Attack;
 import com.unima.risk6.game.logic.EndPhase;
 import com.unima.risk6.game.logic.Fortify;
 import com.unima.risk6.game.logic.HandIn;
+import com.unima.risk6.game.logic.Move;
 import com.unima.risk6.game.logic.Reinforce;
 import com.unima.risk6.game.models.Card;
 import com.unima.risk6.game.models.Continent;
@@ -21,12 +24,79 @@ import com.unima.risk6.network.message.StandardMessage;
 /**
  * A utility class for deserializing JSON strings into their corresponding object representations.
  * This class uses Gson's {@link com.google.gson.GsonBuilder} for deserialization, with custom type
- * adapters registered for certain object types.
+ * adapters registered for certain object types. The Gson instances are built once and shared by
+ * all threads, the GameState used for context is passed to the type adapters through the
+ * {@link com.unima.risk6.network.serialization.SerializationContext} of the calling thread.
  *
  * @author jferch
  */
 public class Deserializer {
 
+  private static final Gson GAME_STATE_GSON = new GsonBuilder()
+      .registerTypeAdapter(StandardMessage.class, new StandardMessageAdapter())
+
+      .registerTypeAdapter(GameState.class, new GameStateTypeAdapter())
+
+      .registerTypeAdapter(Country.class, new CountryTypeAdapter())
+      .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
+      .registerTypeAdapter(Card.class, new CardTypeAdapter())
+      .registerTypeAdapter(Hand.class, new HandTypeAdapter())
+      .registerTypeAdapter(Player.class, new PlayerTypeAdapter())
+      .registerTypeAdapter(Attack.class, new AttackTypeAdapter())
+      .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter())
+      .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter())
+      .registerTypeAdapter(HandIn.class, new HandInTypeAdapter())
+      .registerTypeAdapter(EndPhase.class, new EndPhaseTypeAdapter())
+      .create();
+
+  private static final Gson STANDARD_GSON = new GsonBuilder()
+      .registerTypeAdapter(StandardMessage.class, new StandardMessageAdapter())
+      .registerTypeAdapter(GameState.class, new GameStateTypeAdapter())
+
+      .registerTypeAdapter(Country.class, new CountryTypeAdapter())
+      .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
+      .registerTypeAdapter(Card.class, new CardTypeAdapter())
+      .registerTypeAdapter(Hand.class, new HandTypeAdapter())
+      .registerTypeAdapter(Player.class, new PlayerTypeAdapter())
+      .registerTypeAdapter(EasyBot.class, new EasyBotTypeAdapter())
+
+      .registerTypeAdapter(Attack.class, new AttackTypeAdapter())
+      .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter())
+      .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter())
+      .create();
+
+  private static final Gson CONNECTION_GSON = new GsonBuilder()
+      .registerTypeAdapter(ConnectionMessage.class, new ConnectionMessageAdapter())
+      .registerTypeAdapter(GameState.class, new GameStateTypeAdapter())
+      .registerTypeAdapter(Country.class, new CountryTypeAdapter())
+      .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
+      .registerTypeAdapter(Card.class, new CardTypeAdapter())
+      .registerTypeAdapter(Hand.class, new HandTypeAdapter())
+      .registerTypeAdapter(Player.class, new PlayerTypeAdapter())
+      .registerTypeAdapter(Attack.class, new AttackTypeAdapter())
+      .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter())
+      .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter())
+      .create();
+
+  private static final Gson GAME_STATE_CONNECTION_GSON = new GsonBuilder()
+      .registerTypeAdapter(ConnectionMessage.class, new ConnectionMessageAdapter())
+      .registerTypeAdapter(GameState.class, new GameStateTypeAdapter())
+      .registerTypeAdapter(Country.class, new CountryTypeAdapter())
+      .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
+      .registerTypeAdapter(Card.class, new CardTypeAdapter())
+      .registerTypeAdapter(Hand.class, new HandTypeAdapter())
+      .registerTypeAdapter(Player.class, new PlayerTypeAdapter())
+      .registerTypeAdapter(Attack.class, new AttackTypeAdapter())
+      .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter())
+      .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter())
+      .registerTypeAdapter(HandIn.class, new HandInTypeAdapter())
+      .registerTypeAdapter(EndPhase.class, new EndPhaseTypeAdapter())
+      .create();
+
+  private static final Gson CHAT_GSON = new GsonBuilder()
+      .registerTypeAdapter(ChatMessage.class, new ChatMessageTypeAdapter())
+      .create();
+
   /**
    * Deserializes a JSON string into a {@link com.unima.risk6.network.message.Message} object, using
    * a given GameState for context.
@@ -36,23 +106,8 @@ public class Deserializer {
    * @return The deserialized Message object.
    */
   public static Message deserialize(String json, GameState gameState) {
-    return new GsonBuilder()
-        .registerTypeAdapter(StandardMessage.class, new StandardMessageAdapter())
-
-        .registerTypeAdapter(GameState.class, new GameStateTypeAdapter(gameState))
-
-        .registerTypeAdapter(Country.class, new CountryTypeAdapter(gameState))
-        .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
-        .registerTypeAdapter(Card.class, new CardTypeAdapter())
-        .registerTypeAdapter(Hand.class, new HandTypeAdapter())
-        .registerTypeAdapter(Player.class, new PlayerTypeAdapter(gameState))
-        .registerTypeAdapter(Attack.class, new AttackTypeAdapter(gameState))
-        .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter(gameState))
-        .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter(gameState))
-        .registerTypeAdapter(HandIn.class, new HandInTypeAdapter())
-        .registerTypeAdapter(EndPhase.class, new EndPhaseTypeAdapter())
-        .create()
-        .fromJson(json, StandardMessage.class);
+    return SerializationContext.withGameState(gameState,
+        () -> GAME_STATE_GSON.fromJson(json, StandardMessage.class));
   }
 
   /**
@@ -62,23 +117,8 @@ public class Deserializer {
    * @return The deserialized Message object.
    */
   public static Message deserialize(String json) {
-    return new GsonBuilder()
-        .registerTypeAdapter(StandardMessage.class, new StandardMessageAdapter())
-        .registerTypeAdapter(GameState.class, new GameStateTypeAdapter())
-
-        .registerTypeAdapter(Country.class, new CountryTypeAdapter())
-        .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
-        .registerTypeAdapter(Card.class, new CardTypeAdapter())
-        .registerTypeAdapter(Hand.class, new HandTypeAdapter())
-        .registerTypeAdapter(Player.class, new PlayerTypeAdapter())
-        .registerTypeAdapter(EasyBot.class, new EasyBotTypeAdapter())
-
-        .registerTypeAdapter(Attack.class, new AttackTypeAdapter())
-        .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter())
-        .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter())
-        .create()
-        .fromJson(json, StandardMessage.class);
-    //return new Gson().fromJson(json, StandardMessage.class);
+    return SerializationContext.withGameState(null,
+        () -> STANDARD_GSON.fromJson(json, StandardMessage.class));
   }
 
   /**
@@ -89,19 +129,8 @@ public class Deserializer {
    * @return The deserialized ConnectionMessage object.
    */
   public static Message deserializeConnectionMessage(String json) {
-    return new GsonBuilder()
-        .registerTypeAdapter(ConnectionMessage.class, new ConnectionMessageAdapter())
-        .registerTypeAdapter(GameState.class, new GameStateTypeAdapter())
-        .registerTypeAdapter(Country.class, new CountryTypeAdapter())
-        .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
-        .registerTypeAdapter(Card.class, new CardTypeAdapter())
-        .registerTypeAdapter(Hand.class, new HandTypeAdapter())
-        .registerTypeAdapter(Player.class, new PlayerTypeAdapter())
-        .registerTypeAdapter(Attack.class, new AttackTypeAdapter())
-        .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter())
-        .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter())
-        .create()
-        .fromJson(json, ConnectionMessage.class);
+    return SerializationContext.withGameState(null,
+        () -> CONNECTION_GSON.fromJson(json, ConnectionMessage.class));
   }
 
   /**
@@ -113,21 +142,8 @@ public class Deserializer {
    * @return The deserialized ConnectionMessage object.
    */
   public static Message deserializeConnectionMessage(String json, GameState gameState) {
-    return new GsonBuilder()
-        .registerTypeAdapter(ConnectionMessage.class, new ConnectionMessageAdapter())
-        .registerTypeAdapter(GameState.class, new GameStateTypeAdapter(gameState))
-        .registerTypeAdapter(Country.class, new CountryTypeAdapter(gameState))
-        .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
-        .registerTypeAdapter(Card.class, new CardTypeAdapter())
-        .registerTypeAdapter(Hand.class, new HandTypeAdapter())
-        .registerTypeAdapter(Player.class, new PlayerTypeAdapter(gameState))
-        .registerTypeAdapter(Attack.class, new AttackTypeAdapter(gameState))
-        .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter(gameState))
-        .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter(gameState))
-        .registerTypeAdapter(HandIn.class, new HandInTypeAdapter())
-        .registerTypeAdapter(EndPhase.class, new EndPhaseTypeAdapter())
-        .create()
-        .fromJson(json, ConnectionMessage.class);
+    return SerializationContext.withGameState(gameState,
+        () -> GAME_STATE_CONNECTION_GSON.fromJson(json, ConnectionMessage.class));
   }
 
   /**
@@ -137,9 +153,82 @@ public class Deserializer {
    * @return The deserialized ChatMessage object.
    */
   public static ChatMessage deserializeChatMessage(String json) {
-    return new GsonBuilder()
-        .registerTypeAdapter(ChatMessage.class, new ChatMessageTypeAdapter())
-        .create()
-        .fromJson(json, ChatMessage.class);
+    return CHAT_GSON.fromJson(json, ChatMessage.class);
+  }
+
+  /**
+   * Deserializes a parsed JSON tree into a {@link com.unima.risk6.network.message.Message} object,
+   * using a given GameState for context.
+   *
+   * @param json      The JSON tree to be deserialized.
+   * @param gameState The GameState object to be used for context during deserialization.
+   * @return The deserialized Message object.
+   */
+  public static Message deserialize(JsonElement json, GameState gameState) {
+    return SerializationContext.withGameState(gameState,
+        () -> GAME_STATE_GSON.fromJson(json, StandardMessage.class));
+  }
+
+  /**
+   * Deserializes a parsed JSON tree into a {@link com.unima.risk6.network.message.Message} object.
+   *
+   * @param json The JSON tree to be deserialized.
+   * @return The deserialized Message object.
+   */
+  public static Message deserialize(JsonElement json) {
+    return SerializationContext.withGameState(null,
+        () -> STANDARD_GSON.fromJson(json, StandardMessage.class));
+  }
+
+  /**
+   * Deserializes a parsed JSON tree into a
+   * {@link com.unima.risk6.network.message.ConnectionMessage} object.
+   *
+   * @param json The JSON tree to be deserialized.
+   * @return The deserialized ConnectionMessage object.
+   */
+  public static Message deserializeConnectionMessage(JsonElement json) {
+    return SerializationContext.withGameState(null,
+        () -> CONNECTION_GSON.fromJson(json, ConnectionMessage.class));
+  }
+
+  /**
+   * Deserializes a parsed JSON tree into a {@link com.unima.risk6.network.message.ChatMessage}
+   * object.
+   *
+   * @param json The JSON tree to be deserialized.
+   * @return The deserialized ChatMessage object.
+   */
+  public static ChatMessage deserializeChatMessage(JsonElement json) {
+    return CHAT_GSON.fromJson(json, ChatMessage.class);
+  }
+
+  /**
+   * Deserializes a JSON tree into an object of the given type, using a given GameState for
+   * context. This is used for the parts of a game state a
+   * {@link com.unima.risk6.network.message.GameStateDelta} carries.
+   *
+   * @param json      The JSON tree to be deserialized.
+   * @param type      The class of the object.
+   * @param gameState The GameState object to be used for context during deserialization.
+   * @param <T>       The type of the object.
+   * @return The deserialized object.
+   */
+  public static <T> T deserialize(JsonElement json, Class<T> type, GameState gameState) {
+    return SerializationContext.withGameState(gameState,
+        () -> GAME_STATE_GSON.fromJson(json, type));
+  }
+
+  /**
+   * Deserializes a move of a game state, whose type is determined by its properties, using a given
+   * GameState for context.
+   *
+   * @param json      The JSON tree of the move.
+   * @param gameState The GameState object to be used for context during deserialization.
+   * @return The deserialized move, or null if the type of the move is unknown.
+   */
+  public static Move deserializeMove(JsonElement json, GameState gameState) {
+    Class<? extends Move> moveType = GameStateTypeAdapter.getMoveType(json.getAsJsonObject());
+    return moveType == null ? null : deserialize(json, moveType, gameState);
   }
 }
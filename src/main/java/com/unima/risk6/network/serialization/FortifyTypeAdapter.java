@@ -10,6 +10,7 @@ import com.google.gson.JsonSerializer;
 import com.unima.risk6.game.logic.Fortify;
 import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.enums.CountryName;
 import java.lang.reflect.Type;
 
 /**
@@ -77,14 +78,11 @@ public class FortifyTypeAdapter implements JsonSerializer<Fortify>, JsonDeserial
   public Fortify deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException {
     JsonObject jsonObject = json.getAsJsonObject();
-    Country incoming = gameState.getCountries().stream()
-        .filter(x -> x.getCountryName().toString().equals(jsonObject.get("incoming").getAsString()))
-        .findFirst()
-        .get();
-    Country outgoing = gameState.getCountries().stream()
-        .filter(x -> x.getCountryName().toString().equals(jsonObject.get("outgoing").getAsString()))
-        .findFirst()
-        .get();
+    GameState gameState = SerializationContext.resolve(this.gameState);
+    Country incoming = gameState.getCountry(
+        CountryName.valueOf(jsonObject.get("incoming").getAsString()));
+    Country outgoing = gameState.getCountry(
+        CountryName.valueOf(jsonObject.get("outgoing").getAsString()));
     int troopsToMove = jsonObject.get("troopsToMove").getAsInt();
     return new Fortify(outgoing, incoming, troopsToMove);
   }
@@ -93,6 +93,7 @@ public class GameStateTypeAdapter implements JsonSerializer<GameState>,
     jsonObject.add("deck", deckJsonArray);
     jsonObject.addProperty("isGameOver", gameState.isGameOver());
     jsonObject.addProperty("chatEnabled", gameState.isChatEnabled());
+    jsonObject.addProperty("version", gameState.getVersion());
 
     return jsonObject;
   }
@@ -110,6 +111,7 @@ public class GameStateTypeAdapter implements JsonSerializer<GameState>,
   public GameState deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException {
     JsonObject jsonObject = json.getAsJsonObject();
+    GameState gameState = SerializationContext.resolve(this.gameState);
 
     JsonArray activePlayersJsonArray = jsonObject.getAsJsonArray("activePlayers");
     activePlayersJsonArray.forEach(x -> {
@@ -128,27 +130,16 @@ public class GameStateTypeAdapter implements JsonSerializer<GameState>,
     gameState.setGameOver(isGameOver);
     gameState.setChatEnabled(chatEnabled);
     gameState.setNumberOfHandIns(numberOfHandIns);
+    if (jsonObject.has("version")) {
+      gameState.setVersion(jsonObject.get("version").getAsLong());
+    }
 
     JsonArray jsonArray = jsonObject.get("lastMoves").getAsJsonArray();
     for (JsonElement element : jsonArray) {
-
-      if (element.getAsJsonObject().has("attackingCountry")) {
-        //Attack
-        gameState.getLastMoves().add(context.deserialize(element, Attack.class));
-      } else if (element.getAsJsonObject().has("phaseToEnd")) {
-        //EndPhase
-        gameState.getLastMoves().add(context.deserialize(element, EndPhase.class));
-      } else if (element.getAsJsonObject().has("outgoing")) {
-        //Fortify
-        gameState.getLastMoves().add(context.deserialize(element, Fortify.class));
-      } else if (element.getAsJsonObject().has("cards")) {
-        //HandIn
-        gameState.getLastMoves().add(context.deserialize(element, HandIn.class));
-      } else if (element.getAsJsonObject().has("toAdd")) {
-        //Reinforce
-        gameState.getLastMoves().add(context.deserialize(element, Reinforce.class));
+      Class<? extends Move> moveType = getMoveType(element.getAsJsonObject());
+      if (moveType != null) {
+        gameState.getLastMoves().add(context.deserialize(element, moveType));
       }
-
     }
     ArrayList<Card> deckArray = context.deserialize(jsonObject.get("deck"),
         new TypeToken<ArrayList<Card>>() {
@@ -156,7 +147,29 @@ public class GameStateTypeAdapter implements JsonSerializer<GameState>,
     gameState.getDeck().getDeckCards().addAll(deckArray);
 
     gameState.setCurrentPlayer(context.deserialize(jsonObject.get("currentPlayer"), Player.class));
+    gameState.linkPlayers();
 
     return gameState;
   }
+
+  /**
+   * Determines the type of a serialized move by the properties only this type of move has.
+   *
+   * @param move The serialized move.
+   * @return The class of the move, or null if the type is unknown.
+   */
+  static Class<? extends Move> getMoveType(JsonObject move) {
+    if (move.has("attackingCountry")) {
+      return Attack.class;
+    } else if (move.has("phaseToEnd")) {
+      return EndPhase.class;
+    } else if (move.has("outgoing")) {
+      return Fortify.class;
+    } else if (move.has("cards")) {
+      return HandIn.class;
+    } else if (move.has("toAdd")) {
+      return Reinforce.class;
+    }
+    return null;
+  }
 }
@@ -20,6 +20,8 @@ import com.unima.risk6.game.models.GameState;
 import com.unima.risk6.game.models.Hand;
 import com.unima.risk6.game.models.Player;
 import com.unima.risk6.game.models.Statistic;
+import com.unima.risk6.game.models.enums.ContinentName;
+import com.unima.risk6.game.models.enums.CountryName;
 import com.unima.risk6.game.models.enums.GamePhase;
 import java.lang.reflect.Type;
 import java.util.LinkedList;
@@ -125,6 +127,7 @@ public class PlayerTypeAdapter implements JsonSerializer<Player>, JsonDeserializ
   public Player deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException {
     JsonObject jsonObject = json.getAsJsonObject();
+    GameState gameState = SerializationContext.resolve(this.gameState);
 
     Player player;
 
@@ -159,30 +162,27 @@ public class PlayerTypeAdapter implements JsonSerializer<Player>, JsonDeserializ
     //if the player owns a whole continent the references for the countries in a continent and the
     //for the countries should be the same
     JsonArray countriesArray = jsonObject.getAsJsonArray("countries");
-    Set<Country> countries = gameState.getCountries();
     for (JsonElement countryElement : countriesArray) {
-      String countryName = countryElement.getAsJsonObject().get("name").getAsString();
-      countries.stream().filter(x -> x.getCountryName().toString().equals(countryName))
-          .forEach(x -> {
-            //set the owner of the country
-            x.setPlayer(player);
-            //set the amount of troops in the country
-            x.setTroops(countryElement.getAsJsonObject().get("troops").getAsInt());
-            //add the country to the players Array
-            x.getPlayer().getCountries().add(x);
-          });
-
+      Country country = gameState.getCountry(
+          CountryName.valueOf(countryElement.getAsJsonObject().get("name").getAsString()));
+      if (country != null) {
+        //set the owner of the country
+        country.setPlayer(player);
+        //set the amount of troops in the country
+        country.setTroops(countryElement.getAsJsonObject().get("troops").getAsInt());
+        //add the country to the players Array
+        player.getCountries().add(country);
+      }
     }
 
     JsonArray continentsArray = jsonObject.getAsJsonArray("continents");
-    Set<Continent> continents = gameState.getContinents();
     for (JsonElement continentElement : continentsArray) {
-      String continentName = continentElement.getAsJsonObject().get("name").getAsString();
-      continents.stream().filter(x -> x.getContinentName().toString().equals(continentName))
-          .forEach(x -> {
-            //add the continent to the players Array
-            player.getContinents().add(x);
-          });
+      Continent continent = gameState.getContinent(
+          ContinentName.valueOf(continentElement.getAsJsonObject().get("name").getAsString()));
+      if (continent != null) {
+        //add the continent to the players Array
+        player.getContinents().add(continent);
+      }
     }
     GamePhase currentPhase = context.deserialize(jsonObject.get("currentPhase"), GamePhase.class);
     player.setCurrentPhase(currentPhase);
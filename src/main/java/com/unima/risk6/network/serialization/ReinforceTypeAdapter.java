@@ -11,6 +11,7 @@ import com.google.gson.JsonSerializer;
 import com.unima.risk6.game.logic.Reinforce;
 import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.enums.CountryName;
 import java.lang.reflect.Type;
 
 /**
@@ -80,10 +81,9 @@ public class ReinforceTypeAdapter implements JsonSerializer<Reinforce>,
   public Reinforce deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
       throws JsonParseException {
     JsonObject jsonObject = json.getAsJsonObject();
-    Country country = gameState.getCountries().stream()
-        .filter(x -> x.getCountryName().toString().equals(jsonObject.get("country").getAsString()))
-        .findFirst()
-        .get();
+    GameState gameState = SerializationContext.resolve(this.gameState);
+    Country country = gameState.getCountry(
+        CountryName.valueOf(jsonObject.get("country").getAsString()));
     int toAdd = jsonObject.get("toAdd").getAsInt();
     return new Reinforce(country, toAdd);
   }
@@ -0,0 +1,64 @@
+package com.unima.risk6.network.serialization;
+
+import com.unima.risk6.game.models.GameState;
+import java.util.function.Supplier;
+
+/**
+ * Holds the {@link com.unima.risk6.game.models.GameState} which is used for context while a message
+ * is deserialized on the current thread. The Gson instances of the
+ * {@link com.unima.risk6.network.serialization.Deserializer} are built once and shared between
+ * all threads, so the type adapters which resolve countries and players look up the GameState of
+ * the current call here instead of holding it themselves.
+ *
+ * @author jferch
+ */
+public final class SerializationContext {
+
+  private static final ThreadLocal<GameState> GAME_STATE = new ThreadLocal<>();
+
+  private SerializationContext() {
+  }
+
+  /**
+   * Runs the given action with the given GameState as context of the current thread. The previous
+   * context is restored afterwards, so calls may be nested.
+   *
+   * @param gameState The GameState to be used for context, may be null.
+   * @param action    The action to run, usually the deserialization of a message.
+   * @param <T>       The type of the result of the action.
+   * @return The result of the action.
+   */
+  public static <T> T withGameState(GameState gameState, Supplier<T> action) {
+    GameState previous = GAME_STATE.get();
+    GAME_STATE.set(gameState);
+    try {
+      return action.get();
+    } finally {
+      if (previous == null) {
+        GAME_STATE.remove();
+      } else {
+        GAME_STATE.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Returns the GameState of the current thread.
+   *
+   * @return The GameState used for context, or null if there is none.
+   */
+  public static GameState getGameState() {
+    return GAME_STATE.get();
+  }
+
+  /**
+   * Returns the GameState a type adapter has to use for context. A GameState given to the
+   * constructor of the adapter takes precedence over the one of the current thread.
+   *
+   * @param ownGameState The GameState the adapter was constructed with, may be null.
+   * @return The GameState to be used for context.
+   */
+  static GameState resolve(GameState ownGameState) {
+    return ownGameState != null ? ownGameState : GAME_STATE.get();
+  }
+}
@@ -1,6 +1,9 @@
 package com.unima.risk6.network.serialization;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.unima.risk6.game.ai.bots.EasyBot;
 import com.unima.risk6.game.ai.bots.HardBot;
 import com.unima.risk6.game.ai.bots.MediumBot;
@@ -17,6 +20,13 @@ import com.unima.risk6.game.models.GameState;
 import com.unima.risk6.game.models.Hand;
 import com.unima.risk6.game.models.Player;
 import com.unima.risk6.network.message.Message;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A utility class for serializing objects into their JSON string representations. This class uses
@@ -27,31 +37,67 @@ import com.unima.risk6.network.message.Message;
  */
 public class Serializer {
 
+  private static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapter(GameState.class, new GameStateTypeAdapter())
+      .registerTypeAdapter(Country.class, new CountryTypeAdapter())
+      .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
+      .registerTypeAdapter(Card.class, new CardTypeAdapter())
+      .registerTypeAdapter(Hand.class, new HandTypeAdapter())
+      .registerTypeAdapter(Player.class, new PlayerTypeAdapter())
+      .registerTypeAdapter(EasyBot.class, new EasyBotTypeAdapter())
+      .registerTypeAdapter(MediumBot.class, new MediumBotTypeAdapter())
+      .registerTypeAdapter(HardBot.class, new HardBotTypeAdapter())
+      .registerTypeAdapter(TutorialBot.class, new TutorialBotTypeAdapter())
+      .registerTypeAdapter(Attack.class, new AttackTypeAdapter())
+      .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter())
+      .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter())
+      .registerTypeAdapter(HandIn.class, new HandInTypeAdapter())
+      .registerTypeAdapter(EndPhase.class, new EndPhaseTypeAdapter())
+      .create();
+
   /**
-   * Serializes an object into a JSON string.
+   * Serializes an object into a JSON string. The Gson instance is built once and shared by all
+   * threads.
    *
    * @param obj The object to be serialized.
    * @return The JSON string representation of the object.
    */
   public static String serialize(Message obj) {
-    return new GsonBuilder()
-        .registerTypeAdapter(GameState.class, new GameStateTypeAdapter())
-        .registerTypeAdapter(Country.class, new CountryTypeAdapter())
-        .registerTypeAdapter(Continent.class, new ContinentTypeAdapter())
-        .registerTypeAdapter(Card.class, new CardTypeAdapter())
-        .registerTypeAdapter(Hand.class, new HandTypeAdapter())
-        .registerTypeAdapter(Player.class, new PlayerTypeAdapter())
-        .registerTypeAdapter(EasyBot.class, new EasyBotTypeAdapter())
-        .registerTypeAdapter(MediumBot.class, new MediumBotTypeAdapter())
-        .registerTypeAdapter(HardBot.class, new HardBotTypeAdapter())
-        .registerTypeAdapter(TutorialBot.class, new TutorialBotTypeAdapter())
-        .registerTypeAdapter(Attack.class, new AttackTypeAdapter())
-        .registerTypeAdapter(Fortify.class, new FortifyTypeAdapter())
-        .registerTypeAdapter(Reinforce.class, new ReinforceTypeAdapter())
-        .registerTypeAdapter(HandIn.class, new HandInTypeAdapter())
-        .registerTypeAdapter(EndPhase.class, new EndPhaseTypeAdapter())
-        .create()
-        .toJson(obj);
+    return GSON.toJson(obj);
+  }
+
+  /**
+   * Serializes an object into a new direct buffer of the given allocator. The JSON is encoded to
+   * UTF-8 while it is written, so a message which is sent to many channels is encoded only once and
+   * never held as a String.
+   *
+   * @param obj       The object to be serialized.
+   * @param allocator The allocator of the buffer.
+   * @return The buffer containing the UTF-8 encoded JSON, which has to be released by the caller.
+   */
+  public static ByteBuf serialize(Message obj, ByteBufAllocator allocator) {
+    ByteBuf buffer = allocator.directBuffer();
+    try (Writer writer = new OutputStreamWriter(new ByteBufOutputStream(buffer),
+        StandardCharsets.UTF_8)) {
+      GSON.toJson(obj, writer);
+    } catch (IOException e) {
+      buffer.release();
+      throw new JsonIOException(e);
+    } catch (RuntimeException e) {
+      buffer.release();
+      throw e;
+    }
+    return buffer;
+  }
+
+  /**
+   * Serializes an object into its JSON tree, using the same type adapters as for messages.
+   *
+   * @param obj The object to be serialized.
+   * @return The JSON tree of the object.
+   */
+  public static JsonElement toJsonTree(Object obj) {
+    return GSON.toJsonTree(obj);
   }
 
 
@@ -11,6 +11,7 @@ import com.unima.risk6.game.logic.Fortify;
 import com.unima.risk6.game.logic.HandIn;
 import com.unima.risk6.game.logic.Reinforce;
 import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.network.message.GameStateDelta;
 import com.unima.risk6.network.message.StandardMessage;
 import com.unima.risk6.network.message.enums.ContentType;
 import java.lang.reflect.Type;
@@ -81,7 +82,12 @@ public class StandardMessageAdapter implements JsonDeserializer<StandardMessage>
         }
         message = new StandardMessage<HashMap<String, Integer>>(map, statusCode);
       }
-      case DEFAULT -> {
+      case GAME_STATE_DELTA -> {
+        GameStateDelta delta = context.deserialize(jsonObject.get("content"),
+            GameStateDelta.class);
+        message = new StandardMessage<GameStateDelta>(delta, statusCode);
+      }
+      case DEFAULT, SNAPSHOT_REQUEST -> {
         String defaultContent = context.deserialize(jsonObject.get("content"), String.class);
         message = new StandardMessage<String>(defaultContent, statusCode);
       }
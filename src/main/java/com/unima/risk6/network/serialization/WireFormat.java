@@ -0,0 +1,80 @@
+package com.unima.risk6.network.serialization;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+
+/**
+ * The formats in which messages can be exchanged between client and server. The format is
+ * negotiated as WebSocket subprotocol during the handshake: the client offers the formats it wants
+ * to use in the order of its preference, and the server selects the first one it supports. Clients
+ * which offer no subprotocol use JSON.
+ *
+ * @author jferch
+ */
+public enum WireFormat {
+
+  /**
+   * The compact binary layout of {@link com.unima.risk6.network.serialization.BinaryMessageCodec}
+   * for moves and game states, all other messages are still sent as JSON.
+   */
+  BINARY("risk6.binary"),
+  /**
+   * Every message is sent as JSON text, which is easier to debug.
+   */
+  JSON("risk6.json");
+
+  /**
+   * The attribute of a channel which holds the format negotiated for the channel.
+   */
+  public static final AttributeKey<WireFormat> WIRE_FORMAT = AttributeKey.valueOf("wireFormat");
+
+  private final String subprotocol;
+
+  WireFormat(String subprotocol) {
+    this.subprotocol = subprotocol;
+  }
+
+  public String getSubprotocol() {
+    return subprotocol;
+  }
+
+  /**
+   * Returns the format of a subprotocol selected during the handshake.
+   *
+   * @param subprotocol the selected subprotocol, may be null.
+   * @return the format of the subprotocol, JSON if no or an unknown subprotocol was selected.
+   */
+  public static WireFormat fromSubprotocol(String subprotocol) {
+    for (WireFormat wireFormat : values()) {
+      if (wireFormat.subprotocol.equals(subprotocol)) {
+        return wireFormat;
+      }
+    }
+    return JSON;
+  }
+
+  /**
+   * Returns the subprotocols a client offers if it prefers the given format, in the order of its
+   * preference.
+   *
+   * @param preferred the format the client prefers.
+   * @return the comma separated subprotocols.
+   */
+  public static String getSubprotocols(WireFormat preferred) {
+    return preferred == BINARY ? BINARY.subprotocol + "," + JSON.subprotocol : JSON.subprotocol;
+  }
+
+  /**
+   * Returns the format negotiated for a channel.
+   *
+   * @param channel the channel.
+   * @return the format of the channel, JSON if no format was negotiated.
+   */
+  public static WireFormat of(Channel channel) {
+    if (!channel.hasAttr(WIRE_FORMAT)) {
+      return JSON;
+    }
+    WireFormat wireFormat = channel.attr(WIRE_FORMAT).get();
+    return wireFormat == null ? JSON : wireFormat;
+  }
+}
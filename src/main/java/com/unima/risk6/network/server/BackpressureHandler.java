@@ -0,0 +1,192 @@
+package com.unima.risk6.network.server;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a slow client from making the outbound buffer of its channel grow without bound. While the
+ * outbound buffer of a channel is above its high water mark, updates of the game state are not
+ * written but held back, and a newer update replaces the one held back. Once the buffer drained
+ * below the low water mark, only the latest update is written. If the latest update is a delta, the
+ * client notices the skipped versions and requests the whole game state. A channel which stays
+ * above its high water mark for longer than the stall timeout is closed. The handler counts the
+ * frames written and coalesced and the stalls of its channel.
+ *
+ * @author jferch
+ */
+public class BackpressureHandler extends ChannelDuplexHandler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BackpressureHandler.class);
+
+  static final AttributeKey<BackpressureHandler> HANDLER = AttributeKey.valueOf(
+      "backpressureHandler");
+
+  private final long stallTimeoutMillis;
+  private ChannelHandlerContext ctx;
+  private WebSocketFrame pendingUpdate;
+  private ScheduledFuture<?> stallCheck;
+  private boolean removed;
+
+  private volatile long writtenFrames;
+  private volatile long coalescedFrames;
+  private volatile long stalls;
+
+  /**
+   * Constructs a new BackpressureHandler.
+   *
+   * @param stallTimeoutMillis the time in milliseconds a channel may stay unwritable before it is
+   *                           closed.
+   */
+  public BackpressureHandler(long stallTimeoutMillis) {
+    this.stallTimeoutMillis = stallTimeoutMillis;
+  }
+
+  /**
+   * Returns the BackpressureHandler in the pipeline of a channel.
+   *
+   * @param channel the channel.
+   * @return the handler of the channel, or null if its pipeline has none.
+   */
+  public static BackpressureHandler of(Channel channel) {
+    return channel.hasAttr(HANDLER) ? channel.attr(HANDLER).get() : null;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) {
+    this.ctx = ctx;
+    ctx.channel().attr(HANDLER).set(this);
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) {
+    removed = true;
+    cancelStallCheck();
+    if (pendingUpdate != null) {
+      pendingUpdate.release();
+      pendingUpdate = null;
+    }
+    ctx.channel().attr(HANDLER).set(null);
+  }
+
+  /**
+   * Writes an update of the game state, or holds it back while the channel is not writable. Can be
+   * called from any thread, the update is written in the event loop of the channel in the order of
+   * all other writes to the channel.
+   *
+   * @param frame the frame of the update, which is released by this handler.
+   */
+  public void writeGameUpdate(WebSocketFrame frame) {
+    if (ctx.executor().inEventLoop()) {
+      writeOrHoldBack(frame);
+    } else {
+      try {
+        ctx.executor().execute(() -> writeOrHoldBack(frame));
+      } catch (RejectedExecutionException e) {
+        frame.release();
+      }
+    }
+  }
+
+  private void writeOrHoldBack(WebSocketFrame frame) {
+    if (removed) {
+      frame.release();
+    } else if (pendingUpdate == null && ctx.channel().isWritable()) {
+      writtenFrames++;
+      ctx.writeAndFlush(frame);
+    } else {
+      if (pendingUpdate != null) {
+        coalescedFrames++;
+        pendingUpdate.release();
+      }
+      pendingUpdate = frame;
+    }
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+    writePendingUpdate();
+    writtenFrames++;
+    ctx.write(msg, promise);
+  }
+
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+    if (ctx.channel().isWritable()) {
+      cancelStallCheck();
+      if (writePendingUpdate()) {
+        ctx.flush();
+      }
+    } else if (stallCheck == null) {
+      stalls++;
+      LOGGER.debug("Channel " + ctx.channel().id() + " is not writable, " + getPendingBytes()
+          + " bytes pending");
+      stallCheck = ctx.executor().schedule(this::closeIfStalled, stallTimeoutMillis,
+          TimeUnit.MILLISECONDS);
+    }
+    super.channelWritabilityChanged(ctx);
+  }
+
+  /**
+   * Writes the update held back, so it keeps its order in front of a message written after it.
+   *
+   * @return true if an update was written.
+   */
+  private boolean writePendingUpdate() {
+    if (pendingUpdate == null) {
+      return false;
+    }
+    WebSocketFrame frame = pendingUpdate;
+    pendingUpdate = null;
+    writtenFrames++;
+    ctx.write(frame);
+    return true;
+  }
+
+  private void closeIfStalled() {
+    stallCheck = null;
+    if (!ctx.channel().isWritable()) {
+      LOGGER.warn("Closing channel " + ctx.channel().id() + ", which did not read "
+          + getPendingBytes() + " pending bytes for " + stallTimeoutMillis + " ms");
+      ctx.close();
+    }
+  }
+
+  private void cancelStallCheck() {
+    if (stallCheck != null) {
+      stallCheck.cancel(false);
+      stallCheck = null;
+    }
+  }
+
+  /**
+   * Returns the number of bytes waiting in the outbound buffer of the channel.
+   *
+   * @return the number of pending bytes.
+   */
+  public long getPendingBytes() {
+    ChannelOutboundBuffer outboundBuffer = ctx.channel().unsafe().outboundBuffer();
+    return outboundBuffer == null ? 0 : outboundBuffer.totalPendingWriteBytes();
+  }
+
+  public long getWrittenFrames() {
+    return writtenFrames;
+  }
+
+  public long getCoalescedFrames() {
+    return coalescedFrames;
+  }
+
+  public long getStalls() {
+    return stalls;
+  }
+}
@@ -0,0 +1,298 @@
+package com.unima.risk6.network.server;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.bots.HardBot;
+import com.unima.risk6.game.ai.models.CountryPair;
+import com.unima.risk6.game.configurations.GameStateCopier;
+import com.unima.risk6.game.logic.Attack;
+import com.unima.risk6.game.logic.EndPhase;
+import com.unima.risk6.game.logic.Fortify;
+import com.unima.risk6.game.logic.HandIn;
+import com.unima.risk6.game.logic.Reinforce;
+import com.unima.risk6.game.logic.controllers.HandController;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import io.netty.channel.group.ChannelGroup;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plays the turns of the bots of a running game. A turn is split into steps, one for every move a
+ * bot makes, which run in the {@link com.unima.risk6.network.server.LobbyActor} of the lobby. The
+ * pauses between the steps, which give the players time to follow the moves of a bot, are
+ * scheduled in the actor according to its {@link com.unima.risk6.network.server.PacingProfile}, so
+ * no thread waits for them. When a bot ends its turn and the next player is a bot as well, the turn
+ * of the next bot is scheduled as a new chain of steps, so the stack does not grow with the number
+ * of consecutive bot turns. Decisions which need a Monte Carlo Tree Search are computed on a
+ * separate executor and their result is posted back to the actor, so a search never occupies the
+ * threads of the lobbies. A search only sees a copy of the game taken in the actor, and its result
+ * is only played if the game did not change in the meantime.
+ *
+ * @author jferch
+ */
+public class BotTurnScheduler {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BotTurnScheduler.class);
+
+  private static final ExecutorService DECISION_EXECUTOR = createDecisionExecutor();
+
+  static final long CLAIM_DELAY = 500;
+  static final long HAND_IN_DELAY = 1500;
+  static final long REINFORCE_DELAY = 1000;
+  static final long PHASE_DELAY = 3000;
+  static final long ATTACK_DELAY = 3250;
+  static final long FORTIFY_DELAY = 500;
+  static final long NEXT_TURN_DELAY = 500;
+
+  private final LobbyActor lobbyActor;
+  private final MoveProcessor moveProcessor;
+  private final ChannelGroup channelGroup;
+
+  /**
+   * Constructs a new BotTurnScheduler for a running game.
+   *
+   * @param lobbyActor    the actor of the lobby the game runs in.
+   * @param moveProcessor the MoveProcessor of the game.
+   * @param channelGroup  the channels of the clients playing the game.
+   */
+  public BotTurnScheduler(LobbyActor lobbyActor, MoveProcessor moveProcessor,
+      ChannelGroup channelGroup) {
+    this.lobbyActor = lobbyActor;
+    this.moveProcessor = moveProcessor;
+    this.channelGroup = channelGroup;
+  }
+
+  /**
+   * Starts the turn of a bot in the phase the bot is currently in. Has to be called in the actor of
+   * the lobby.
+   *
+   * @param aiBot the bot whose turn it is.
+   */
+  public void startTurn(AiBot aiBot) {
+    Player player = (Player) aiBot;
+    aiBot.setGameState(getGameState());
+    moveProcessor.getPlayerController().setPlayer(player);
+    switch (player.getCurrentPhase()) {
+      case CLAIM_PHASE -> later(() -> claim(aiBot, aiBot.claimCountry()), CLAIM_DELAY);
+      case REINFORCEMENT_PHASE -> {
+        handIn();
+        later(() -> reinforce(aiBot), HAND_IN_DELAY);
+      }
+      case ATTACK_PHASE -> attack(aiBot);
+      case FORTIFY_PHASE -> fortify(aiBot);
+      default -> LOGGER.debug("Unexpected value: " + player.getCurrentPhase());
+    }
+  }
+
+  private void claim(AiBot aiBot, Reinforce reinforce) {
+    moveProcessor.processReinforce(reinforce);
+    sendGamestate();
+    later(() -> {
+      endPhase((Player) aiBot);
+      later(() -> startNextTurn((Player) aiBot), NEXT_TURN_DELAY);
+    }, CLAIM_DELAY);
+  }
+
+  private void handIn() {
+    HandController handController = moveProcessor.getPlayerController().getHandController();
+    if (handController.holdsExchangeable()) {
+      handController.selectExchangeableCards();
+      moveProcessor.processHandIn(new HandIn(handController.getHand().getSelectedCards()));
+      sendGamestate();
+    }
+  }
+
+  private void reinforce(AiBot aiBot) {
+    Player player = (Player) aiBot;
+    player.setDeployableTroops(// to ensure numbers are right
+        moveProcessor.getPlayerController().getPlayer().getDeployableTroops());
+    decide(aiBot, aiBot::createAllReinforcements, (bot, reinforces) -> placeReinforcements(bot,
+        reinforces.stream().filter(x -> x.getToAdd() > 0).iterator()));
+  }
+
+  private void placeReinforcements(AiBot aiBot, Iterator<Reinforce> reinforces) {
+    if (reinforces.hasNext()) {
+      moveProcessor.processReinforce(reinforces.next());
+      sendGamestate();
+      later(() -> placeReinforcements(aiBot, reinforces), REINFORCE_DELAY);
+    } else {
+      endPhase((Player) aiBot);
+      later(() -> attack(aiBot), PHASE_DELAY);
+    }
+  }
+
+  private void attack(AiBot aiBot) {
+    decide(aiBot, aiBot::createAttack, (bot, countryPair) -> {
+      if (countryPair == null) {
+        endAttackPhase(bot);
+      } else {
+        attack(bot, new CountryPair(
+            getGameState().getCountry(countryPair.getOutgoing().getCountryName()),
+            getGameState().getCountry(countryPair.getIncoming().getCountryName())));
+      }
+    });
+  }
+
+  private void attack(AiBot aiBot, CountryPair countryPair) {
+    Attack attack = countryPair.createAttack(aiBot.getAttackTroops(countryPair.getOutgoing()));
+    moveProcessor.processAttack(attack);
+    sendGamestate();
+    later(() -> afterAttack(aiBot, countryPair, attack), ATTACK_DELAY);
+  }
+
+  private void afterAttack(AiBot aiBot, CountryPair countryPair, Attack attack) {
+    if (!attack.getHasConquered() && attack.getAttackingCountry().getTroops() >= 2) {
+      attack(aiBot, countryPair);
+      return;
+    }
+    aiBot.setGameState(getGameState());
+    if (getGameState().isGameOver()) {
+      endPhase((Player) aiBot);
+      return;
+    }
+    if (attack.getHasConquered()) {
+      moveProcessor.processFortify(countryPair.createFortify(attack.getTroopNumber()));
+      sendGamestate();
+      later(() -> {
+        Fortify fortify = aiBot.moveAfterAttack(countryPair);
+        if (fortify != null && fortify.getTroopsToMove() > 0) {
+          moveProcessor.processFortify(fortify);
+          sendGamestate();
+        }
+        continueAttackPhase(aiBot);
+      }, FORTIFY_DELAY);
+    } else {
+      continueAttackPhase(aiBot);
+    }
+  }
+
+  private void continueAttackPhase(AiBot aiBot) {
+    if (aiBot.attackAgain()) {
+      attack(aiBot);
+    } else {
+      endAttackPhase(aiBot);
+    }
+  }
+
+  private void endAttackPhase(AiBot aiBot) {
+    endPhase((Player) aiBot);
+    later(() -> fortify(aiBot), PHASE_DELAY);
+  }
+
+  private void fortify(AiBot aiBot) {
+    decide(aiBot, aiBot::createFortify, this::fortify);
+  }
+
+  private void fortify(AiBot aiBot, Fortify fortify) {
+    if (fortify != null && fortify.getTroopsToMove() > 0) {
+      moveProcessor.processFortify(fortify);
+      sendGamestate();
+    }
+    later(() -> {
+      endPhase((Player) aiBot);
+      later(() -> startNextTurn((Player) aiBot), NEXT_TURN_DELAY);
+    }, FORTIFY_DELAY);
+  }
+
+  private void startNextTurn(Player player) {
+    Player currentPlayer = getGameState().getCurrentPlayer();
+    if (!player.getUser().equals(currentPlayer.getUser())
+        && currentPlayer instanceof AiBot aiBot) {
+      startTurn(aiBot);
+    }
+  }
+
+  private void endPhase(Player player) {
+    moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
+    sendGamestate();
+  }
+
+  private void sendGamestate() {
+    GameServerFrameHandler.broadcast(channelGroup,
+        lobbyActor.getGameStateDeltaTracker().nextUpdate(getGameState()));
+    moveProcessor.clearLastMoves();
+  }
+
+  /**
+   * Lets a bot make a decision and continues the turn with it in the actor of the lobby. Decisions
+   * of bots which search for their moves are computed on the decision executor, all other bots
+   * decide right away. A searching bot decides on a copy of the game with its own random number
+   * generator, both taken in the actor, so the search never touches the game itself. If the game
+   * changed before the decision is posted back, the decision is dropped and the bot decides again
+   * as long as it is still its turn. The moves of a decision refer to the countries of the copy, the
+   * step has to look them up in the game.
+   *
+   * @param aiBot    the bot which decides.
+   * @param decision the decision of the bot.
+   * @param step     the step which continues the turn with the decision.
+   * @param <T>      the type of the decision.
+   */
+  private <T> void decide(AiBot aiBot, Supplier<T> decision, BiConsumer<AiBot, T> step) {
+    if (!(aiBot instanceof HardBot hardBot)) {
+      step.accept(aiBot, decision.get());
+      return;
+    }
+    GameState gameState = getGameState();
+    long version = gameState.getVersion();
+    GameState snapshot = GameStateCopier.copy(gameState);
+    snapshot.setRandom(gameState.getRandom().split());
+    hardBot.setGameState(snapshot);
+    CompletableFuture.supplyAsync(decision, DECISION_EXECUTOR).whenComplete(
+        (result, error) -> lobbyActor.tell(() -> {
+          hardBot.setGameState(getGameState());
+          String user = hardBot.getUser();
+          if (error != null) {
+            LOGGER.error("The bot " + user + " could not decide", error);
+          } else if (getGameState().getVersion() == version) {
+            step.accept(aiBot, result);
+          } else if (!getGameState().isGameOver()
+              && user.equals(getGameState().getCurrentPlayer().getUser())) {
+            LOGGER.debug("The game changed while " + user + " decided, deciding again");
+            decide(aiBot, decision, step);
+          } else {
+            LOGGER.debug("Dropped the decision of " + user + ", the game changed meanwhile");
+          }
+        }));
+  }
+
+  /**
+   * Schedules the next step of a turn after a pause, which is scaled by the pacing profile of the
+   * lobby.
+   *
+   * @param step  the next step.
+   * @param delay the pause in milliseconds of the standard pacing profile.
+   */
+  private void later(Runnable step, long delay) {
+    lobbyActor.schedule(step, lobbyActor.getPacingProfile().delay(delay), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Creates the executor for the decisions of searching bots. Its daemon threads never block the
+   * shutdown of the server.
+   *
+   * @return the executor for the decisions of searching bots.
+   */
+  private static ExecutorService createDecisionExecutor() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "bot-decision-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+        threadFactory);
+  }
+
+  private GameState getGameState() {
+    return moveProcessor.getGameController().getGameState();
+  }
+}
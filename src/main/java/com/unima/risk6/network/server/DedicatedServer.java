@@ -3,14 +3,14 @@ package com.unima.risk6.network.server;
 import com.unima.risk6.network.configurations.NetworkConfiguration;
 
 /**
- * A simple dedicated server.
+ * A simple dedicated server, which uses the native epoll transport when running on Linux.
  *
  * @author jferch
  */
 public class DedicatedServer {
 
   public static void main(String[] args) {
-    NetworkConfiguration.startGameServer();
+    NetworkConfiguration.startGameServer(ServerTransportConfiguration.forDedicatedServer());
   }
 
 }
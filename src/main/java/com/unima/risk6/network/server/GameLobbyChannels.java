@@ -1,21 +1,15 @@
 package com.unima.risk6.network.server;
 
-import static com.unima.risk6.game.models.enums.GamePhase.ATTACK_PHASE;
-import static com.unima.risk6.game.models.enums.GamePhase.CLAIM_PHASE;
-import static com.unima.risk6.game.models.enums.GamePhase.FORTIFY_PHASE;
 import static com.unima.risk6.game.models.enums.GamePhase.NOT_ACTIVE;
-import static com.unima.risk6.game.models.enums.GamePhase.REINFORCEMENT_PHASE;
 import static com.unima.risk6.network.server.GameServer.channels;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Maps;
 import com.unima.risk6.game.ai.AiBot;
 import com.unima.risk6.game.ai.bots.EasyBot;
 import com.unima.risk6.game.ai.bots.HardBot;
 import com.unima.risk6.game.ai.bots.MediumBot;
-import com.unima.risk6.game.logic.EndPhase;
-import com.unima.risk6.game.logic.Reinforce;
-import com.unima.risk6.game.logic.controllers.GameController;
 import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.GameLobby;
 import com.unima.risk6.game.models.GameState;
@@ -27,6 +21,8 @@ import io.netty.channel.ChannelOutboundInvoker;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.util.concurrent.GlobalEventExecutor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +30,10 @@ import org.slf4j.LoggerFactory;
  * This class contains maps, that map users to netty channels and netty channel groups to
  * moveProcessors and gameChannels. The provided methods manipulate these maps and ensure, that the
  * game is initialized in the right way, that the server gets cleaned up, when the game is over,
- * that exiting users are replaced by bots, etc
+ * that exiting users are replaced by bots, etc. Every channel in a game lobby is additionally
+ * indexed to its lobby, so the lobby, channel group and MoveProcessor of a channel are found
+ * without searching all lobbies. The maps are changed by the Netty event loops as well as by the
+ * actors of the lobbies, so all of them are thread-safe.
  *
  * @author jferch
  */
@@ -43,23 +42,25 @@ public class GameLobbyChannels {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GameLobbyChannels.class);
 
-  final BiMap<GameLobby, ChannelGroup> gameChannels = HashBiMap.create();
-  final BiMap<MoveProcessor, ChannelGroup> moveProcessors = HashBiMap.create();
-  final BiMap<UserDto, Channel> users = HashBiMap.create();
+  final BiMap<GameLobby, ChannelGroup> gameChannels = Maps.synchronizedBiMap(HashBiMap.create());
+  final BiMap<MoveProcessor, ChannelGroup> moveProcessors =
+      Maps.synchronizedBiMap(HashBiMap.create());
+  final BiMap<UserDto, Channel> users = Maps.synchronizedBiMap(HashBiMap.create());
+  final Map<Channel, GameLobby> channelLobbies = new ConcurrentHashMap<>();
+  final Map<GameLobby, LobbyActor> lobbyActors = new ConcurrentHashMap<>();
 
   public GameLobbyChannels() {
   }
 
   /**
-   * Return the initialized probability array object, strictly for testing purposes.
+   * Get the ChannelGroup the given channel belongs to.
    *
    * @param channel the channel you want to be searched for
    * @return a ChannelGroup of a GameLobby or if not found of the ServerLobby
    */
   ChannelGroup getChannelGroupByChannel(Channel channel) {
-    return gameChannels.values().stream()
-        .filter(x -> x.contains(channel)).findFirst()
-        .orElse(channels);
+    GameLobby gameLobby = channelLobbies.get(channel);
+    return gameLobby == null ? channels : gameChannels.get(gameLobby);
   }
 
   /**
@@ -84,10 +85,10 @@ public class GameLobbyChannels {
   void removeUserFromGameLobby(Channel channel,
       GameServerFrameHandler gameServerFrameHandler, boolean isDead) {
     LOGGER.debug(channel.id() + " left");
-    UserDto deadUser = getUserByChannel(channel);
     //leave gameChannel
-    GameLobby gameLobby = gameChannels.keySet().stream()
-        .filter(x -> x.getUsers().contains(deadUser)).findFirst().get();
+    GameLobby gameLobby = channelLobbies.remove(channel);
+    ChannelGroup channelGroup = gameChannels.get(gameLobby);
+    channelGroup.remove(channel);
 
     //remove from game lobby
     gameLobby.getUsers().remove(users.inverse().get(channel));
@@ -104,10 +105,9 @@ public class GameLobbyChannels {
                   x -> x.getLobbyName().equals(
                       gameLobby.getLobbyName())).findFirst().get());
       gameChannels.remove(gameLobby);
+      stopLobbyActor(gameLobby);
       //delete moveprocessor if the game is running
-      if (moveProcessors.values().stream().anyMatch(x -> x.contains(channel))) {
-        moveProcessors.inverse().remove(getChannelGroupByChannel(channel));
-      }
+      moveProcessors.inverse().remove(channelGroup);
     } else {
       //Change owner
       gameLobby.setLobbyOwner(
@@ -142,9 +142,55 @@ public class GameLobbyChannels {
         .add(gameLobby);
     gameChannels.put(gameLobby,
         new DefaultChannelGroup(GlobalEventExecutor.INSTANCE));
+    lobbyActors.put(gameLobby, new LobbyActor(gameLobby.getLobbyName()));
     addUserToGameLobby(gameLobby, channel);
   }
 
+  /**
+   * Get the actor which runs the game of a game lobby.
+   *
+   * @param gameLobby the GameLobby to get the actor for.
+   * @return the LobbyActor of the GameLobby, or null if the game lobby does not exist anymore.
+   */
+  LobbyActor getLobbyActor(GameLobby gameLobby) {
+    return lobbyActors.get(gameLobby);
+  }
+
+  /**
+   * Get the actor which runs the game the given channel takes part in.
+   *
+   * @param channel the channel to get the LobbyActor for.
+   * @return the LobbyActor of the game lobby of the channel, or null if the channel is in no game
+   * lobby.
+   */
+  LobbyActor getLobbyActor(Channel channel) {
+    GameLobby gameLobby = channelLobbies.get(channel);
+    return gameLobby == null ? null : lobbyActors.get(gameLobby);
+  }
+
+  /**
+   * Get the actor of the game lobby the given channels belong to.
+   *
+   * @param channelGroup the ChannelGroup of a game lobby.
+   * @return the LobbyActor of the game lobby, or null if the channels belong to no game lobby.
+   */
+  LobbyActor getLobbyActor(ChannelGroup channelGroup) {
+    GameLobby gameLobby = gameChannels.inverse().get(channelGroup);
+    return gameLobby == null ? null : lobbyActors.get(gameLobby);
+  }
+
+  /**
+   * Stops the actor of a game lobby which got deleted, which drops all its pending tasks.
+   *
+   * @param gameLobby the deleted GameLobby.
+   */
+  private void stopLobbyActor(GameLobby gameLobby) {
+    LobbyActor lobbyActor = lobbyActors.remove(gameLobby);
+    if (lobbyActor != null) {
+      lobbyActor.stop();
+    }
+  }
+
   /**
    * Add a user to the game lobby.
    *
@@ -159,6 +205,7 @@ public class GameLobbyChannels {
           .add(users.inverse().get(channel));
     }
     gameChannels.get(gameLobby).add(channel);
+    channelLobbies.put(channel, gameLobby);
   }
 
   /**
@@ -175,11 +222,10 @@ public class GameLobbyChannels {
    * Get the GameLobby associated with a channel.
    *
    * @param channel the channel to get the GameLobby for.
-   * @return GameLobby associated with the Channel.
+   * @return GameLobby associated with the Channel, or null if the channel is in no game lobby.
    */
   GameLobby getGameLobbyByChannel(Channel channel) {
-    return gameChannels.inverse()
-        .get(gameChannels.values().stream().filter(x -> x.contains(channel)).findFirst().get());
+    return channelLobbies.get(channel);
   }
 
   /**
@@ -200,8 +246,7 @@ public class GameLobbyChannels {
    */
   boolean containsUser(UserDto userDto) {
     LOGGER.debug("Searching for user " + userDto.getUsername());
-    users.keySet().stream().forEach(x -> LOGGER.debug("Found: " + x.getUsername()));
-    return users.keySet().stream().anyMatch(x -> x.equals(userDto));
+    return users.containsKey(userDto);
   }
 
   /**
@@ -217,11 +262,12 @@ public class GameLobbyChannels {
    * Get the MoveProcessor associated with the given channel.
    *
    * @param channel the channel associated with the MoveProcessor.
-   * @return MoveProcessor object associated with the channel.
+   * @return MoveProcessor object associated with the channel, or null if the channel is not in a
+   * running game.
    */
   MoveProcessor getMoveProcessor(Channel channel) {
-    return moveProcessors.inverse()
-        .get(moveProcessors.values().stream().filter(x -> x.contains(channel)).findFirst().get());
+    GameLobby gameLobby = channelLobbies.get(channel);
+    return gameLobby == null ? null : moveProcessors.inverse().get(gameChannels.get(gameLobby));
   }
 
   /**
@@ -231,10 +277,10 @@ public class GameLobbyChannels {
    * @return MoveProcessor object that was created and associated with the channel.
    */
   MoveProcessor createMoveProcessor(Channel channel) {
-    ChannelGroup channelGroup = gameChannels.values().stream().filter(x -> x.contains(channel))
-        .findFirst().get();
-    moveProcessors.put(new MoveProcessor(), channelGroup);
-    return moveProcessors.inverse().get(channelGroup);
+    ChannelGroup channelGroup = gameChannels.get(channelLobbies.get(channel));
+    MoveProcessor moveProcessor = new MoveProcessor();
+    moveProcessors.put(moveProcessor, channelGroup);
+    return moveProcessor;
   }
 
   /**
@@ -287,56 +333,18 @@ public class GameLobbyChannels {
 
     LOGGER.info(getUserByChannel(channel).getUsername() + " left");
 
-    if (gameChannels.keySet().stream()
-        .anyMatch(x -> x.getUsers().contains(getUserByChannel(channel)))) {
-      GameLobby gameLobby = gameChannels.keySet().stream()
-          .filter(x -> x.getUsers().contains(getUserByChannel(channel))).findFirst().get();
-      MediumBot mediumBot;
+    GameLobby gameLobby = channelLobbies.get(channel);
+    if (gameLobby != null) {
+      ChannelGroup channelGroup = gameChannels.get(gameLobby);
 
-      if (moveProcessors.containsValue(gameChannels.get(gameChannels.keySet().stream()
-          .filter(x -> x.getUsers().contains(getUserByChannel(channel))).findFirst().get()))) {
+      if (moveProcessors.containsValue(channelGroup)) {
         //In Running Game
         LOGGER.debug("In Running game");
-        ChannelGroup channelGroup = gameChannels.get(gameChannels.keySet().stream()
-            .filter(x -> x.getUsers().contains(getUserByChannel(channel))).findFirst().get());
-        GameController gameController = moveProcessors.inverse().get(channelGroup)
-            .getGameController();
-        GameState gameState = gameController.getGameState();
-        if (gameState.getCurrentPlayer().getUser()
-            .equals(getUserByChannel(channel).getUsername())) {
-          //player is current player
-          LOGGER.debug("Current player left");
-
-          Player player = gameState.getCurrentPlayer();
-          mediumBot = new MediumBot(player);
-          for (Country country : mediumBot.getCountries()) {
-            country.setPlayer(mediumBot);
-          }
-          MoveProcessor moveProcessor = moveProcessors.inverse().get(channelGroup);
-
-          gameState.getActivePlayers().poll();
-          gameState.getActivePlayers().add(mediumBot);
-          int size = gameState.getActivePlayers().size();
-          for (int i = 0; i < size - 1; i++) {
-            gameState.getActivePlayers().add(gameState.getActivePlayers().poll());
-          }
-          gameState.setCurrentPlayer(gameState.getActivePlayers().peek());
-
-          if (gameState.getActivePlayers().stream().allMatch(n -> n instanceof AiBot)) {
-            gameState.setGameOver(true);
-            gameState.getActivePlayers().forEach(n -> n.setCurrentPhase(NOT_ACTIVE));
-            moveProcessors.inverse().remove(getChannelGroupByChannel(channel));
-          } else {
-            processBotMove(mediumBot, channelGroup, gsh, moveProcessor);
-          }
-
-          gsh.sendGamestate(channelGroup, gameState);
-
-
-        } else {
-          LOGGER.debug("A player left");
-          replaceUser(gameState, gameLobby, getUserByChannel(channel).getUsername(), "medium");
-        }
+        MoveProcessor moveProcessor = moveProcessors.inverse().get(channelGroup);
+        LobbyActor lobbyActor = lobbyActors.get(gameLobby);
+        String username = getUserByChannel(channel).getUsername();
+        lobbyActor.tell(() -> replaceLeavingUser(moveProcessor, lobbyActor, channelGroup,
+            gameLobby, username));
       }
       removeUserFromGameLobby(channel, gsh, true);
       removeUserFromServerLobby(channel);
@@ -346,11 +354,6 @@ public class GameLobbyChannels {
       gsh.sendUpdatedServerLobby(NetworkConfiguration.getServerLobby());
     }
 
-    try {
-      Thread.sleep(300);
-    } catch (InterruptedException e) {
-      throw new RuntimeException(e);
-    }
     LOGGER.debug("After handle Exit : moveProcessors Size: " + moveProcessors.size()
         + " gameChannels Size: " + gameChannels.size() + "Users size: " + users.size()
         + " GameLobbies in ServerLobby: "
@@ -361,64 +364,49 @@ public class GameLobbyChannels {
   }
 
   /**
-   * Processes the move for an AI bot.
+   * Replaces a user who left a running game by a bot. If the user was the current player, the bot
+   * continues the turn of the user. Runs in the actor of the game lobby.
    *
-   * @param aiBot         the AI bot that is making a move.
-   * @param channelGroup  the group of channels that the bot is associated with.
-   * @param gsh           the Game Server Frame Handler for processing the specific bot move, like
-   *                      attack.
-   * @param moveProcessor the Move Processor for processing bot moves.
+   * @param moveProcessor the MoveProcessor of the game.
+   * @param lobbyActor    the actor of the game lobby.
+   * @param channelGroup  the channels of the clients playing the game.
+   * @param gameLobby     the game lobby the user left.
+   * @param username      the name of the user who left.
    */
-  void processBotMove(AiBot aiBot, ChannelGroup channelGroup, GameServerFrameHandler gsh,
-      MoveProcessor moveProcessor) {
-    aiBot.setGameState(moveProcessor.getGameController().getGameState());
-    Player player = (Player) aiBot;
-    moveProcessor.getPlayerController().setPlayer(player);
-    try {
-
-      if (player.getCurrentPhase().equals(CLAIM_PHASE)) {
-        Thread.sleep(500);
-        Reinforce reinforce = aiBot.claimCountry();
-        moveProcessor.processReinforce(reinforce);
-        gsh.sendGamestate(channelGroup);
-        moveProcessor.clearLastMoves();
-        Thread.sleep(500);
-        moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
-        gsh.sendGamestate(channelGroup);
-        moveProcessor.clearLastMoves();
-        Thread.sleep(500);
-        Player currentPlayer = moveProcessor.getGameController().getGameState()
-            .getCurrentPlayer();
-        if (!player.getUser().equals(currentPlayer.getUser())
-            && currentPlayer instanceof AiBot aiBot1) {
-          processBotMove(aiBot1, channelGroup, gsh, moveProcessor);
-        }
+  private void replaceLeavingUser(MoveProcessor moveProcessor, LobbyActor lobbyActor,
+      ChannelGroup channelGroup, GameLobby gameLobby, String username) {
+    GameState gameState = moveProcessor.getGameController().getGameState();
+    if (gameState.getCurrentPlayer().getUser().equals(username)) {
+      //player is current player
+      LOGGER.debug("Current player left");
+
+      Player player = gameState.getCurrentPlayer();
+      MediumBot mediumBot = new MediumBot(player);
+      for (Country country : mediumBot.getCountries()) {
+        country.setPlayer(mediumBot);
       }
-      if (player.getCurrentPhase().equals(REINFORCEMENT_PHASE)) {
-        gsh.processBotHandIn(channelGroup);
-        Thread.sleep(1500);
-        gsh.processBotReinforcementPhase(aiBot, channelGroup, player);
-        Thread.sleep(3000);
-      }
-      if (player.getCurrentPhase().equals(ATTACK_PHASE)) {
-        gsh.processBotAttackPhase(aiBot, channelGroup, player);
-        Thread.sleep(3000);
+
+      gameState.getActivePlayers().poll();
+      gameState.getActivePlayers().add(mediumBot);
+      int size = gameState.getActivePlayers().size();
+      for (int i = 0; i < size - 1; i++) {
+        gameState.getActivePlayers().add(gameState.getActivePlayers().poll());
       }
-      if (player.getCurrentPhase().equals(FORTIFY_PHASE)) {
-        gsh.processBotFortifyPhase(aiBot, channelGroup, player);
-        Thread.sleep(500);
-        Player currentPlayer = moveProcessor.getGameController().getGameState()
-            .getCurrentPlayer();
-        if (!player.getUser().equals(currentPlayer.getUser())
-            && currentPlayer instanceof AiBot aiBot1) {
-          processBotMove(aiBot1, channelGroup, gsh, moveProcessor);
-        }
+      gameState.setCurrentPlayer(gameState.getActivePlayers().peek());
 
+      if (gameState.getActivePlayers().stream().allMatch(n -> n instanceof AiBot)) {
+        gameState.setGameOver(true);
+        gameState.getActivePlayers().forEach(n -> n.setCurrentPhase(NOT_ACTIVE));
+        moveProcessors.inverse().remove(channelGroup);
+      } else {
+        new BotTurnScheduler(lobbyActor, moveProcessor, channelGroup).startTurn(mediumBot);
       }
-    } catch (InterruptedException e) {
-      throw new RuntimeException(e);
+      GameServerFrameHandler.broadcast(channelGroup,
+          lobbyActor.getGameStateDeltaTracker().nextUpdate(gameState));
+    } else {
+      LOGGER.debug("A player left");
+      replaceUser(gameState, gameLobby, username, "medium");
     }
-
   }
 
   /**
@@ -444,6 +432,8 @@ public class GameLobbyChannels {
 
     moveProcessors.inverse().remove(channelGroup);
     gameChannels.inverse().remove(channelGroup);
+    stopLobbyActor(gameLobby);
+    channelGroup.forEach(channelLobbies::remove);
 
     channelGroup.forEach(this::removeUserFromServerLobby);
     channelGroup.forEach(ChannelOutboundInvoker::close);
@@ -5,10 +5,6 @@ import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.logging.LogLevel;
-import io.netty.handler.logging.LoggingHandler;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import java.net.InetSocketAddress;
 import org.slf4j.Logger;
@@ -24,6 +20,7 @@ public final class GameServer implements Runnable {
 
   final int port = 42069;
   final String hostIp;
+  private final ServerTransportConfiguration transportConfiguration;
   static final ChannelGroup channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GameServer.class);
@@ -34,7 +31,7 @@ public final class GameServer implements Runnable {
    * want to allow all ip addresses to connect to your server.
    */
   public GameServer() {
-    this.hostIp = "0.0.0.0";
+    this("0.0.0.0");
   }
 
   /**
@@ -44,26 +41,45 @@ public final class GameServer implements Runnable {
    * @param hostIp the IP address of the host server.
    */
   public GameServer(String hostIp) {
+    this(hostIp, ServerTransportConfiguration.fromSystemProperties());
+  }
+
+  /**
+   * Constructor that initializes the server with a provided IP address and transport
+   * configuration.
+   *
+   * @param hostIp                 the IP address of the host server.
+   * @param transportConfiguration the configuration of the transport and the client sockets.
+   */
+  public GameServer(String hostIp, ServerTransportConfiguration transportConfiguration) {
     this.hostIp = hostIp;
+    this.transportConfiguration = transportConfiguration;
   }
 
   public String getHostIp() {
     return hostIp;
   }
 
+  public ServerTransportConfiguration getTransportConfiguration() {
+    return transportConfiguration;
+  }
+
   /**
    * The main loop of the server, which initializes and starts the server. The server will keep
    * running until an exception occurs or the server is shut down.
    */
   public void run() {
-    EventLoopGroup bossGroup = new NioEventLoopGroup(1);
-    EventLoopGroup workerGroup = new NioEventLoopGroup();
+    EventLoopGroup bossGroup = transportConfiguration.createEventLoopGroup(1);
+    EventLoopGroup workerGroup = transportConfiguration.createEventLoopGroup(
+        transportConfiguration.getWorkerThreads());
+    LOGGER.info("Starting the server with the " + (transportConfiguration.usesNativeTransport()
+        ? "epoll" : "NIO") + " transport");
     try {
       ServerBootstrap b = new ServerBootstrap();
-      b.group(bossGroup, workerGroup).channel(NioServerSocketChannel.class)
-          .handler(new LoggingHandler(LogLevel.INFO))
-          .childHandler(new GameServerInitializer(channels))
+      b.group(bossGroup, workerGroup).channel(transportConfiguration.getServerChannelClass())
+          .childHandler(new GameServerInitializer(channels, transportConfiguration))
           .localAddress(new InetSocketAddress(hostIp, port));
+      transportConfiguration.configure(b);
 
       Channel ch = b.bind(port).sync().channel();
       ch.closeFuture().sync();
@@ -1,12 +1,9 @@
 package com.unima.risk6.network.server;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.unima.risk6.game.ai.AiBot;
 import com.unima.risk6.game.ai.bots.EasyBot;
 import com.unima.risk6.game.ai.bots.HardBot;
 import com.unima.risk6.game.ai.bots.MediumBot;
-import com.unima.risk6.game.ai.models.CountryPair;
 import com.unima.risk6.game.ai.models.Probabilities;
 import com.unima.risk6.game.ai.tutorial.Tutorial;
 import com.unima.risk6.game.configurations.GameConfiguration;
@@ -18,7 +15,6 @@ import com.unima.risk6.game.logic.HandIn;
 import com.unima.risk6.game.logic.Reinforce;
 import com.unima.risk6.game.logic.controllers.DeckController;
 import com.unima.risk6.game.logic.controllers.GameController;
-import com.unima.risk6.game.logic.controllers.HandController;
 import com.unima.risk6.game.logic.controllers.PlayerController;
 import com.unima.risk6.game.models.GameLobby;
 import com.unima.risk6.game.models.GameState;
@@ -29,18 +25,26 @@ import com.unima.risk6.gui.configurations.CountriesUiConfiguration;
 import com.unima.risk6.network.configurations.NetworkConfiguration;
 import com.unima.risk6.network.message.ChatMessage;
 import com.unima.risk6.network.message.ConnectionMessage;
+import com.unima.risk6.network.message.Message;
 import com.unima.risk6.network.message.StandardMessage;
 import com.unima.risk6.network.message.enums.ConnectionActions;
-import com.unima.risk6.network.serialization.Deserializer;
+import com.unima.risk6.network.message.enums.ContentType;
+import com.unima.risk6.network.serialization.BinaryMessageCodec;
 import com.unima.risk6.network.serialization.Serializer;
+import com.unima.risk6.network.serialization.WireFormat;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.group.ChannelGroup;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketServerProtocolHandler;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,14 +53,14 @@ import org.slf4j.LoggerFactory;
  *
  * @author jferch
  */
-public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocketFrame> {
+public class GameServerFrameHandler extends SimpleChannelInboundHandler<Message<?>> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(GameServerFrameHandler.class);
 
   protected static ChannelGroup channels;
   private final GameLobbyChannels gameLobbyChannels;
 
-  private MoveProcessor moveProcessor;
+  private volatile MoveProcessor moveProcessor;
 
   /**
    * Constructor of GameServerFrameHandler with the given channels and GameLobbyChannels.
@@ -108,293 +112,396 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
   }
 
   /**
-   * Handles the reading of a WebSocketFrame from a client's channel. The Message gets deserialized
-   * and then processed.
+   * Handles a message decoded by the {@link com.unima.risk6.network.server.ServerMessageDecoder}
+   * from a client's channel and dispatches it by its content type.
    *
-   * @param ctx   the ChannelHandlerContext tied to the client's channel.
-   * @param frame the WebSocketFrame read from the client's channel.
-   * @throws Exception if an error occurs during the handling of the WebSocketFrame.
+   * @param ctx     the ChannelHandlerContext tied to the client's channel.
+   * @param message the decoded message read from the client's channel.
+   * @throws Exception if an error occurs during the handling of the message.
    */
   @Override
-  protected void channelRead0(ChannelHandlerContext ctx, WebSocketFrame frame) throws Exception {
-
-    if (frame instanceof TextWebSocketFrame) {
-      String request = ((TextWebSocketFrame) frame).text();
-      JsonObject json = null;
-      try {
-        moveProcessor = gameLobbyChannels.getMoveProcessor(ctx.channel());
-      } catch (java.util.NoSuchElementException e) {
-        LOGGER.debug(e.toString());
+  protected void channelRead0(ChannelHandlerContext ctx, Message<?> message) throws Exception {
+    switch (message.getContentType()) {
+      case CONNECTION -> {
+        LOGGER.debug("The server received a connection message");
+        processConnectionMessage(ctx, (ConnectionMessage<?>) message);
       }
-      try {
-        LOGGER.debug("Server: Trying to read message");
-        json = JsonParser.parseString(request).getAsJsonObject();
-      } catch (Exception e) {
-        LOGGER.debug("Not a JSON: " + request + "\n Exception: " + e);
+      case CHAT_MESSAGE -> {
+        LOGGER.debug("The server received a chat message object");
+        sendChatMessage(ctx.channel(), (ChatMessage) message);
       }
-      if (json != null) {
-        if (GameConfiguration.isTutorialOver()) {
-          gameLobbyChannels.replaceUser(moveProcessor.getGameController().getGameState(),
-              gameLobbyChannels.getGameLobbyByChannel(ctx.channel()), "Johnny Test",
-              GameConfiguration.getBotDifficulty().toLowerCase());
-          GameConfiguration.setTutorialOver(false);
-        }
-        LOGGER.debug(
-            "Server Received Message with ContentType: " + json.get("contentType").getAsString());
-        ChannelGroup channelGroup = gameLobbyChannels.getChannelGroupByChannel(ctx.channel());
-        switch (json.get("contentType").getAsString()) {
-          case "GAME_STATE" -> {
-            LOGGER.error("The server should not receive a gamestate");
-          }
-          case "ATTACK" -> {
-            LOGGER.debug("The server received a attack object");
-            Attack attack = (Attack) Deserializer.deserialize(request,
-                moveProcessor.getGameController().getGameState()).getContent();
-            boolean isGameOver = moveProcessor.processAttack(attack);
-            sendGamestate(channelGroup);
-            moveProcessor.clearLastMoves();
-            if (isGameOver) {
-              LOGGER.info("Game Over!");
-              gameLobbyChannels.handleGameOver(ctx.channel(), this);
-            }
-          }
-          case "REINFORCE" -> {
-            LOGGER.debug("The server received a reinforce object");
-            Reinforce reinforce = (Reinforce) Deserializer.deserialize(request,
-                moveProcessor.getGameController().getGameState()).getContent();
-            moveProcessor.processReinforce(reinforce);
-            sendGamestate(channelGroup);
-            moveProcessor.clearLastMoves();
-          }
-          case "FORTIFY" -> {
-            LOGGER.debug("The server received a fortify object");
-            Fortify fortify = (Fortify) Deserializer.deserialize(request,
-                moveProcessor.getGameController().getGameState()).getContent();
-            moveProcessor.processFortify(fortify);
-            sendGamestate(channelGroup);
-            moveProcessor.clearLastMoves();
-          }
-          case "HAND_IN" -> {
-            LOGGER.debug("The server received a hand in object");
-            HandIn handIn = (HandIn) Deserializer.deserialize(request).getContent();
-            moveProcessor.processHandIn(handIn);
-            sendGamestate(channelGroup);
-            moveProcessor.clearLastMoves();
-          }
-          case "END_PHASE" -> {
-            LOGGER.debug("The server received a end phase object");
-            EndPhase endPhase = (EndPhase) Deserializer.deserialize(request).getContent();
-            final Player currentPlayer = moveProcessor.getGameController().getCurrentPlayer();
-            moveProcessor.processEndPhase(endPhase);
-            Player currentPlayerAfter = moveProcessor.getGameController().getCurrentPlayer();
-            sendGamestate(channelGroup);
-            moveProcessor.clearLastMoves();
-            if (!currentPlayer.equals(currentPlayerAfter)
-                && currentPlayerAfter instanceof AiBot aiBot) {
-              processBotMove(aiBot, channelGroup);
-            }
+      case GAME_STATE, GAME_STATE_DELTA -> LOGGER.error("The server should not receive a gamestate");
+      case SNAPSHOT_REQUEST -> {
+        LOGGER.debug("The server received a snapshot request");
+        updateMoveProcessor(ctx);
+        tellLobby(ctx, () -> sendSnapshot(ctx.channel()));
+      }
+      case ATTACK, REINFORCE, FORTIFY, HAND_IN, END_PHASE -> {
+        updateMoveProcessor(ctx);
+        tellLobby(ctx, () -> {
+          replaceTutorialUser(ctx);
+          processMove(ctx, message);
+        });
+      }
+      default -> LOGGER.debug("The Message received wasnt a valid Message\nMessage: "
+          + message.getContentType());
+    }
+  }
 
+  /**
+   * Updates the MoveProcessor of this handler to the one of the game the client's channel takes
+   * part in. Only messages of a running game need it, so lobby messages skip the lookup.
+   *
+   * @param ctx the ChannelHandlerContext tied to the client's channel.
+   */
+  private void updateMoveProcessor(ChannelHandlerContext ctx) {
+    MoveProcessor current = gameLobbyChannels.getMoveProcessor(ctx.channel());
+    if (current != null) {
+      moveProcessor = current;
+    }
+  }
 
+  /**
+   * Puts a task which accesses the game of the client's channel into the mailbox of the game's
+   * lobby, so it never runs concurrently to other tasks of the game and never blocks the event
+   * loop of the channel.
+   *
+   * @param ctx  the ChannelHandlerContext tied to the client's channel.
+   * @param task the task to run.
+   */
+  private void tellLobby(ChannelHandlerContext ctx, Runnable task) {
+    LobbyActor lobbyActor = gameLobbyChannels.getLobbyActor(ctx.channel());
+    if (lobbyActor == null) {
+      LOGGER.error("The channel " + ctx.channel().id() + " is in no game lobby");
+    } else {
+      lobbyActor.tell(task);
+    }
+  }
+
+  /**
+   * Processes a connection message, which changes the lobbies or starts a game.
+   *
+   * @param ctx               the ChannelHandlerContext tied to the client's channel.
+   * @param connectionMessage the connection message received from the client.
+   */
+  private void processConnectionMessage(ChannelHandlerContext ctx,
+      ConnectionMessage<?> connectionMessage) {
+    try {
+      switch (connectionMessage.getConnectionActions()) {
+
+        case JOIN_SERVER_LOBBY -> {
+          UserDto userDto = (UserDto) connectionMessage.getContent();
+          NetworkConfiguration.getServerLobby().getUsers()
+              .forEach(x -> LOGGER.debug(x.getUsername() + " is in ServerLobby"));
+          LOGGER.debug("On JOIN_SERVER_LOBBY: " + userDto.getUsername() + " wants to join");
+
+          if (gameLobbyChannels.containsUser(userDto)) {
+            LOGGER.error("User already in the Lobby");
+            sendDropMessage(ctx.channel(), ConnectionActions.DROP_USER_SERVER_LOBBY,
+                "User already in the Lobby");
+          } else {
+            gameLobbyChannels.putUsers(userDto, ctx.channel());
+            NetworkConfiguration.getServerLobby().getUsers().add(userDto);
+            sendServerLobby(NetworkConfiguration.getServerLobby(),
+                ConnectionActions.ACCEPT_JOIN_SERVER_LOBBY);
           }
-          case "CHAT_MESSAGE" -> {
-            LOGGER.debug("The server received a chat message object");
-            sendChatMessage(ctx.channel(), request);
-          }
-          case "CONNECTION" -> {
-            LOGGER.debug("The server received a connection message");
-            ConnectionMessage connectionMessage = null;
-            try {
-              connectionMessage = (ConnectionMessage) Deserializer.deserializeConnectionMessage(
-                  request);
-            } catch (Exception e) {
-              LOGGER.error("Error at deserializing ConnectionMessage: " + e);
-            }
-            try {
-              switch (connectionMessage.getConnectionActions()) {
-
-                case JOIN_SERVER_LOBBY -> {
-                  UserDto userDto = (UserDto) connectionMessage.getContent();
-                  NetworkConfiguration.getServerLobby().getUsers()
-                      .forEach(x -> LOGGER.debug(x.getUsername() + " is in ServerLobby"));
-                  LOGGER.debug("On JOIN_SERVER_LOBBY: " + userDto.getUsername() + " wants to join");
-
-                  if (gameLobbyChannels.containsUser(userDto)) {
-                    LOGGER.error("User already in the Lobby");
-                    sendDropMessage(ctx.channel(), ConnectionActions.DROP_USER_SERVER_LOBBY,
-                        "User already in the Lobby");
-                  } else {
-                    gameLobbyChannels.putUsers(userDto, ctx.channel());
-                    NetworkConfiguration.getServerLobby().getUsers().add(userDto);
-                    sendServerLobby(NetworkConfiguration.getServerLobby(),
-                        ConnectionActions.ACCEPT_JOIN_SERVER_LOBBY);
-                  }
-                }
-                case JOIN_GAME_LOBBY -> {
-                  LOGGER.debug("At JOIN_GAME_LOBBY " + connectionMessage.getContent().getClass());
-                  GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
-                  GameLobby gameLobbyFromServer = getServerGameLobby(gameLobby,
-                      NetworkConfiguration.getServerLobby());
-
-                  if (gameLobbyFromServer.getBots().size() + gameLobbyFromServer.getUsers().size()
-                      < gameLobbyFromServer.getMaxPlayers()) {
-
-                    //Add users channel to the ChannelGroup from the gamelobby
-
-                    gameLobbyChannels.addUserToGameLobby(gameLobbyFromServer, ctx.channel());
-
-                    sendGameLobby(gameLobbyFromServer);
-                    sendUpdatedServerLobby(NetworkConfiguration.getServerLobby());
-                  } else {
-                    sendDropMessage(ctx.channel(), ConnectionActions.DROP_USER_GAME_LOBBY,
-                        "The GameLobby is full");
-                  }
-                }
-                case CREATE_TUTORIAL_LOBBY -> {
-                  LOGGER.debug(
-                      "At CREATE_TUTORIAL_GAME_LOBBY" + connectionMessage.getContent().getClass());
-                  GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
-                  gameLobbyChannels.createGameLobby(gameLobby, ctx.channel());
-                  sendCreatedTutorialGameLobby(gameLobby);
-                }
-                case JOIN_BOT_GAME_LOBBY -> {
-                  LOGGER.debug(
-                      "At JOIN_BOT_GAME_LOBBY " + connectionMessage.getContent().getClass());
-                  GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
-                  GameLobby gameLobbyFromServer = getServerGameLobby(gameLobby,
-                      NetworkConfiguration.getServerLobby());
-                  String bot = gameLobby.getBots().stream()
-                      .filter(x -> !gameLobbyFromServer.getBots().contains(x)).findFirst().get();
-                  gameLobbyFromServer.getBots().add(bot);
-                  ServerLobby serverLobby = NetworkConfiguration.getServerLobby();
-                  sendGameLobby(gameLobbyFromServer);
-                  sendUpdatedServerLobby(serverLobby);
-
-                }
-                case REMOVE_BOT_FROM_LOBBY -> {
-                  LOGGER.debug(
-                      "At REMOVE_BOT_FROM_LOBBY " + connectionMessage.getContent().getClass());
-                  GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
-                  GameLobby gameLobbyFromServer = getServerGameLobby(gameLobby,
-                      NetworkConfiguration.getServerLobby());
-                  String bot = gameLobbyFromServer.getBots().stream()
-                      .filter(x -> !gameLobby.getBots().contains(x)).findFirst().get();
-                  gameLobbyFromServer.getBots().remove(bot);
-                  ServerLobby serverLobby = NetworkConfiguration.getServerLobby();
-                  sendGameLobby(gameLobbyFromServer);
-                  sendUpdatedServerLobby(serverLobby);
-                }
-                case START_GAME -> {
-                  LOGGER.debug("At START_GAME" + connectionMessage.getContent().getClass());
-                  GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
-                  GameLobby myServerGameLobby = getServerGameLobby(gameLobby,
-                      NetworkConfiguration.getServerLobby());
-                  //Send max players to current players
-                  int newMaxPlayers =
-                      myServerGameLobby.getUsers().size() + myServerGameLobby.getBots().size();
-                  myServerGameLobby.setMaxPlayers(newMaxPlayers);
-                  sendUpdatedServerLobby(NetworkConfiguration.getServerLobby());
-                  moveProcessor = gameLobbyChannels.createMoveProcessor(ctx.channel());
-                  processStartGame(myServerGameLobby);
-
-                }
-                case LEAVE_SERVER_LOBBY -> {
-                  LOGGER.debug("At LEAVE_SERVER_LOBBY");
-
-                  LOGGER.debug("Sizes of ChannelGroup " + channels.size() + " ServerLobby "
-                      + NetworkConfiguration.getServerLobby().getUsers().size() + " UsersList "
-                      + gameLobbyChannels.getUsers().size());
-                  //remove from LobbyObject
-                  gameLobbyChannels.removeUserFromServerLobby(ctx.channel());
-                  LOGGER.debug("Sizes of ChannelGroup " + channels.size() + " ServerLobby "
-                      + NetworkConfiguration.getServerLobby().getUsers().size() + " UsersList "
-                      + gameLobbyChannels.getUsers().size());
-                  sendUpdatedServerLobby(NetworkConfiguration.getServerLobby());
-
-
-                }
-                case LEAVE_GAME_LOBBY -> {
-                  LOGGER.debug("At LEAVE_GAME_LOBBY");
-                  gameLobbyChannels.removeUserFromGameLobby(ctx.channel(), this, false);
-                  sendUpdatedServerLobby(NetworkConfiguration.getServerLobby());
-
-
-                }
-                case LEAVE_GAME -> {
-                  LOGGER.debug("At LEAVE_GAME" + connectionMessage.getContent().getClass());
-
-                }
-                case CREATE_GAME_LOBBY -> {
-                  LOGGER.debug("At CREATE_GAME_LOBBY" + connectionMessage.getContent().getClass());
-                  GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
-                  if (NetworkConfiguration.getServerLobby().getGameLobbies().stream()
-                      .anyMatch(x -> x.getLobbyName().equals(gameLobby.getLobbyName()))) {
-                    //If theres already a lobby with the same name
-                    LOGGER.error("There is another lobby with the same name.");
-                    sendDropMessage(ctx.channel(), ConnectionActions.DROP_CREATE_GAME_LOBBY,
-                        "There is another lobby with the same name.");
-                  } else {
-                    gameLobbyChannels.createGameLobby(gameLobby, ctx.channel());
-                    sendCreatedGameLobby(NetworkConfiguration.getServerLobby(), gameLobby);
-                  }
-
-                }
-                case START_TUTORIAL -> {
-                  LOGGER.debug("At START_TUTORIAL" + connectionMessage.getContent().getClass());
-                  GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
-                  GameLobby myServerGameLobby = getServerGameLobby(gameLobby,
-                      NetworkConfiguration.getServerLobby());
-                  moveProcessor = gameLobbyChannels.createMoveProcessor(ctx.channel());
-                  processStartTutorial(myServerGameLobby);
-                }
-                default -> LOGGER.error("Server received a faulty connection message");
-              }
-            } catch (NullPointerException e) {
-              LOGGER.debug(e.toString());
-            }
+        }
+        case JOIN_GAME_LOBBY -> {
+          LOGGER.debug("At JOIN_GAME_LOBBY " + connectionMessage.getContent().getClass());
+          GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
+          GameLobby gameLobbyFromServer = getServerGameLobby(gameLobby,
+              NetworkConfiguration.getServerLobby());
+
+          if (gameLobbyFromServer.getBots().size() + gameLobbyFromServer.getUsers().size()
+              < gameLobbyFromServer.getMaxPlayers()) {
+
+            //Add users channel to the ChannelGroup from the gamelobby
+
+            gameLobbyChannels.addUserToGameLobby(gameLobbyFromServer, ctx.channel());
+
+            sendGameLobby(gameLobbyFromServer);
+            sendUpdatedServerLobby(NetworkConfiguration.getServerLobby());
+          } else {
+            sendDropMessage(ctx.channel(), ConnectionActions.DROP_USER_GAME_LOBBY,
+                "The GameLobby is full");
           }
-          default -> {
-            LOGGER.debug("The Message received wasnt a valid Message\nMessage: " + json);
+        }
+        case CREATE_TUTORIAL_LOBBY -> {
+          LOGGER.debug(
+              "At CREATE_TUTORIAL_GAME_LOBBY" + connectionMessage.getContent().getClass());
+          GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
+          gameLobbyChannels.createGameLobby(gameLobby, ctx.channel());
+          sendCreatedTutorialGameLobby(gameLobby);
+        }
+        case JOIN_BOT_GAME_LOBBY -> {
+          LOGGER.debug(
+              "At JOIN_BOT_GAME_LOBBY " + connectionMessage.getContent().getClass());
+          GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
+          GameLobby gameLobbyFromServer = getServerGameLobby(gameLobby,
+              NetworkConfiguration.getServerLobby());
+          String bot = gameLobby.getBots().stream()
+              .filter(x -> !gameLobbyFromServer.getBots().contains(x)).findFirst().get();
+          gameLobbyFromServer.getBots().add(bot);
+          ServerLobby serverLobby = NetworkConfiguration.getServerLobby();
+          sendGameLobby(gameLobbyFromServer);
+          sendUpdatedServerLobby(serverLobby);
+
+        }
+        case REMOVE_BOT_FROM_LOBBY -> {
+          LOGGER.debug(
+              "At REMOVE_BOT_FROM_LOBBY " + connectionMessage.getContent().getClass());
+          GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
+          GameLobby gameLobbyFromServer = getServerGameLobby(gameLobby,
+              NetworkConfiguration.getServerLobby());
+          String bot = gameLobbyFromServer.getBots().stream()
+              .filter(x -> !gameLobby.getBots().contains(x)).findFirst().get();
+          gameLobbyFromServer.getBots().remove(bot);
+          ServerLobby serverLobby = NetworkConfiguration.getServerLobby();
+          sendGameLobby(gameLobbyFromServer);
+          sendUpdatedServerLobby(serverLobby);
+        }
+        case START_GAME -> {
+          LOGGER.debug("At START_GAME" + connectionMessage.getContent().getClass());
+          GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
+          GameLobby myServerGameLobby = getServerGameLobby(gameLobby,
+              NetworkConfiguration.getServerLobby());
+          //Send max players to current players
+          int newMaxPlayers =
+              myServerGameLobby.getUsers().size() + myServerGameLobby.getBots().size();
+          myServerGameLobby.setMaxPlayers(newMaxPlayers);
+          sendUpdatedServerLobby(NetworkConfiguration.getServerLobby());
+          moveProcessor = gameLobbyChannels.createMoveProcessor(ctx.channel());
+          tellLobby(ctx, () -> processStartGame(myServerGameLobby));
+
+        }
+        case LEAVE_SERVER_LOBBY -> {
+          LOGGER.debug("At LEAVE_SERVER_LOBBY");
+
+          LOGGER.debug("Sizes of ChannelGroup " + channels.size() + " ServerLobby "
+              + NetworkConfiguration.getServerLobby().getUsers().size() + " UsersList "
+              + gameLobbyChannels.getUsers().size());
+          //remove from LobbyObject
+          gameLobbyChannels.removeUserFromServerLobby(ctx.channel());
+          LOGGER.debug("Sizes of ChannelGroup " + channels.size() + " ServerLobby "
+              + NetworkConfiguration.getServerLobby().getUsers().size() + " UsersList "
+              + gameLobbyChannels.getUsers().size());
+          sendUpdatedServerLobby(NetworkConfiguration.getServerLobby());
+
+
+        }
+        case LEAVE_GAME_LOBBY -> {
+          LOGGER.debug("At LEAVE_GAME_LOBBY");
+          gameLobbyChannels.removeUserFromGameLobby(ctx.channel(), this, false);
+          sendUpdatedServerLobby(NetworkConfiguration.getServerLobby());
+
+
+        }
+        case LEAVE_GAME -> {
+          LOGGER.debug("At LEAVE_GAME" + connectionMessage.getContent().getClass());
 
+        }
+        case CREATE_GAME_LOBBY -> {
+          LOGGER.debug("At CREATE_GAME_LOBBY" + connectionMessage.getContent().getClass());
+          GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
+          if (NetworkConfiguration.getServerLobby().getGameLobbies().stream()
+              .anyMatch(x -> x.getLobbyName().equals(gameLobby.getLobbyName()))) {
+            //If theres already a lobby with the same name
+            LOGGER.error("There is another lobby with the same name.");
+            sendDropMessage(ctx.channel(), ConnectionActions.DROP_CREATE_GAME_LOBBY,
+                "There is another lobby with the same name.");
+          } else {
+            gameLobbyChannels.createGameLobby(gameLobby, ctx.channel());
+            sendCreatedGameLobby(NetworkConfiguration.getServerLobby(), gameLobby);
           }
+
+        }
+        case START_TUTORIAL -> {
+          LOGGER.debug("At START_TUTORIAL" + connectionMessage.getContent().getClass());
+          GameLobby gameLobby = (GameLobby) connectionMessage.getContent();
+          GameLobby myServerGameLobby = getServerGameLobby(gameLobby,
+              NetworkConfiguration.getServerLobby());
+          moveProcessor = gameLobbyChannels.createMoveProcessor(ctx.channel());
+          tellLobby(ctx, () -> processStartTutorial(myServerGameLobby));
         }
+        default -> LOGGER.error("Server received a faulty connection message");
       }
-    } else {
-      String message = "unsupported frame type: " + frame.getClass().getName();
-      throw new UnsupportedOperationException(message);
+    } catch (NullPointerException e) {
+      LOGGER.debug(e.toString());
     }
+  }
 
+  /**
+   * Replaces the user of a finished tutorial by a bot, so the game can be continued against bots.
+   *
+   * @param ctx the ChannelHandlerContext tied to the client's channel.
+   */
+  private void replaceTutorialUser(ChannelHandlerContext ctx) {
+    if (GameConfiguration.isTutorialOver()) {
+      gameLobbyChannels.replaceUser(moveProcessor.getGameController().getGameState(),
+          gameLobbyChannels.getGameLobbyByChannel(ctx.channel()), "Johnny Test",
+          GameConfiguration.getBotDifficulty().toLowerCase());
+      GameConfiguration.setTutorialOver(false);
+    }
   }
 
   /**
-   * Sends the current game state to all the clients in the given ChannelGroup.
+   * Processes a move received from a client, regardless of the format it was received in, and
+   * sends the updated game state to all clients of the game.
+   *
+   * @param ctx     the ChannelHandlerContext tied to the client's channel.
+   * @param message the message containing the move.
+   */
+  private void processMove(ChannelHandlerContext ctx, Message<?> message) {
+    ChannelGroup channelGroup = gameLobbyChannels.getChannelGroupByChannel(ctx.channel());
+    switch (message.getContentType()) {
+      case ATTACK -> {
+        LOGGER.debug("The server received a attack object");
+        boolean isGameOver = moveProcessor.processAttack((Attack) message.getContent());
+        sendGamestate(channelGroup);
+        moveProcessor.clearLastMoves();
+        if (isGameOver) {
+          LOGGER.info("Game Over!");
+          gameLobbyChannels.handleGameOver(ctx.channel(), this);
+        }
+      }
+      case REINFORCE -> {
+        LOGGER.debug("The server received a reinforce object");
+        moveProcessor.processReinforce((Reinforce) message.getContent());
+        sendGamestate(channelGroup);
+        moveProcessor.clearLastMoves();
+      }
+      case FORTIFY -> {
+        LOGGER.debug("The server received a fortify object");
+        moveProcessor.processFortify((Fortify) message.getContent());
+        sendGamestate(channelGroup);
+        moveProcessor.clearLastMoves();
+      }
+      case HAND_IN -> {
+        LOGGER.debug("The server received a hand in object");
+        moveProcessor.processHandIn((HandIn) message.getContent());
+        sendGamestate(channelGroup);
+        moveProcessor.clearLastMoves();
+      }
+      case END_PHASE -> {
+        LOGGER.debug("The server received a end phase object");
+        final Player currentPlayer = moveProcessor.getGameController().getCurrentPlayer();
+        moveProcessor.processEndPhase((EndPhase) message.getContent());
+        Player currentPlayerAfter = moveProcessor.getGameController().getCurrentPlayer();
+        sendGamestate(channelGroup);
+        moveProcessor.clearLastMoves();
+        if (!currentPlayer.equals(currentPlayerAfter)
+            && currentPlayerAfter instanceof AiBot aiBot) {
+          new BotTurnScheduler(gameLobbyChannels.getLobbyActor(ctx.channel()), moveProcessor,
+              channelGroup).startTurn(aiBot);
+        }
+      }
+      default -> LOGGER.error("The server should not receive a " + message.getContentType());
+    }
+  }
+
+  /**
+   * Stores the format negotiated during the WebSocket handshake in the channel.
+   *
+   * @param ctx the ChannelHandlerContext tied to the client's channel.
+   * @param evt the triggered event.
+   * @throws Exception if an error occurs in the next handler.
+   */
+  @Override
+  public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+    if (evt instanceof WebSocketServerProtocolHandler.HandshakeComplete handshake) {
+      WireFormat wireFormat = WireFormat.fromSubprotocol(handshake.selectedSubprotocol());
+      ctx.channel().attr(WireFormat.WIRE_FORMAT).set(wireFormat);
+      LOGGER.debug("Channel: " + ctx.channel().id() + " uses " + wireFormat);
+    }
+    super.userEventTriggered(ctx, evt);
+  }
+
+  /**
+   * Sends the update of the current game state to all the clients in the given ChannelGroup. The
+   * update only contains the changes since the last update, if the clients can apply them.
    *
    * @param channelGroup the group of clients to send the game state to.
    */
   void sendGamestate(ChannelGroup channelGroup) {
-    String message = Serializer.serialize(
-        new StandardMessage<GameState>(moveProcessor.getGameController().getGameState()));
-    LOGGER.debug(message);
-    for (Channel ch : channelGroup) {
-      LOGGER.debug("Send new gamestate to: " + ch.id());
-      ch.writeAndFlush(new TextWebSocketFrame(message));
-    }
+    sendGamestate(channelGroup, moveProcessor.getGameController().getGameState());
   }
 
   /**
-   * Sends a specific game state to all the clients in the given ChannelGroup.
+   * Sends the update of a specific game state to all the clients in the given ChannelGroup.
    *
    * @param channelGroup the group of clients to send the game state to.
    * @param gameState    the specific game state to send.
    */
   protected void sendGamestate(ChannelGroup channelGroup, GameState gameState) {
-    String message = Serializer.serialize(new StandardMessage<GameState>(gameState));
-    LOGGER.debug(message);
-    for (Channel ch : channelGroup) {
-      LOGGER.debug("Send new gamestate to: " + ch.id());
-      ch.writeAndFlush(new TextWebSocketFrame(message));
+    LobbyActor lobbyActor = gameLobbyChannels.getLobbyActor(channelGroup);
+    broadcast(channelGroup, lobbyActor == null
+        ? new StandardMessage<GameState>(gameState)
+        : lobbyActor.getGameStateDeltaTracker().nextUpdate(gameState));
+  }
+
+  /**
+   * Writes a message to all given channels in the format negotiated by each channel. The message is
+   * serialized at most once per format into a pooled direct buffer and every channel writes a
+   * retained duplicate of the same frame, so the JSON is neither built as a String nor encoded to
+   * UTF-8 once per channel. Updates of the game state are written through the BackpressureHandler
+   * of each channel, which holds them back while a client does not keep up.
+   *
+   * @param channels the channels to write the message to.
+   * @param message  the message to write.
+   */
+  static void broadcast(Iterable<Channel> channels, Message<?> message) {
+    boolean gameUpdate = message.getContentType() == ContentType.GAME_STATE
+        || message.getContentType() == ContentType.GAME_STATE_DELTA;
+    WebSocketFrame textFrame = null;
+    WebSocketFrame binaryFrame = null;
+    try {
+      for (Channel ch : channels) {
+        LOGGER.debug("Send " + message.getContentType() + " message to: " + ch.id());
+        if (WireFormat.of(ch) == WireFormat.BINARY && BinaryMessageCodec.canEncode(message)) {
+          if (binaryFrame == null) {
+            binaryFrame = new BinaryWebSocketFrame(
+                BinaryMessageCodec.encode(message, PooledByteBufAllocator.DEFAULT));
+          }
+          write(ch, binaryFrame.retainedDuplicate(), gameUpdate);
+        } else {
+          if (textFrame == null) {
+            textFrame = new TextWebSocketFrame(
+                Serializer.serialize(message, PooledByteBufAllocator.DEFAULT));
+          }
+          write(ch, textFrame.retainedDuplicate(), gameUpdate);
+        }
+      }
+    } finally {
+      if (textFrame != null) {
+        textFrame.release();
+      }
+      if (binaryFrame != null) {
+        binaryFrame.release();
+      }
+    }
+  }
+
+  private static void write(Channel ch, WebSocketFrame frame, boolean gameUpdate) {
+    BackpressureHandler backpressureHandler = gameUpdate ? BackpressureHandler.of(ch) : null;
+    if (backpressureHandler != null) {
+      backpressureHandler.writeGameUpdate(frame);
+    } else {
+      ch.writeAndFlush(frame);
     }
   }
 
+  /**
+   * Sends the whole current game state to a single client, which could not apply the last update
+   * of the game state.
+   *
+   * @param channel the channel of the client.
+   */
+  private void sendSnapshot(Channel channel) {
+    LOGGER.debug("Send gamestate snapshot to: " + channel.id());
+    broadcast(List.of(channel),
+        new StandardMessage<GameState>(moveProcessor.getGameController().getGameState()));
+  }
+
   /**
    * Sends the first game state to all the clients in the given GameLobby. Only use it, to start the
    * game!
@@ -402,14 +509,11 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
    * @param gameLobby the lobby of clients to send the first game state to.
    */
   private void sendFirstGamestate(GameLobby gameLobby) {
-    String message = Serializer.serialize(
+    gameLobbyChannels.getLobbyActor(gameLobby).getGameStateDeltaTracker()
+        .markSent(moveProcessor.getGameController().getGameState());
+    broadcast(gameLobbyChannels.getChannelsByGameLobby(gameLobby),
         new ConnectionMessage<>(ConnectionActions.ACCEPT_START_GAME,
             moveProcessor.getGameController().getGameState()));
-    LOGGER.debug(message);
-    for (Channel ch : gameLobbyChannels.getChannelsByGameLobby(gameLobby)) {
-      LOGGER.debug("Send first gamestate to: " + ch.id());
-      ch.writeAndFlush(new TextWebSocketFrame(message));
-    }
   }
 
   /**
@@ -418,12 +522,8 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
    * @param gameLobby the lobby of clients to send the game lobby state to.
    */
   protected void sendGameLobby(GameLobby gameLobby) {
-    String serializedGameLobby = Serializer.serialize(
+    broadcast(gameLobbyChannels.getChannelsByGameLobby(gameLobby),
         new ConnectionMessage<>(ConnectionActions.ACCEPT_JOIN_GAME_LOBBY, gameLobby));
-    for (Channel ch : gameLobbyChannels.getChannelsByGameLobby(gameLobby)) {
-      LOGGER.debug("Send a game lobby to: " + ch.id());
-      ch.writeAndFlush(new TextWebSocketFrame(serializedGameLobby));
-    }
   }
 
   /**
@@ -435,14 +535,8 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
    */
   private void sendCreatedGameLobby(ServerLobby serverLobby, GameLobby gameLobby) {
     sendServerLobby(serverLobby, ConnectionActions.ACCEPT_UPDATE_SERVER_LOBBY);
-    String serialized1 = Serializer.serialize(
+    broadcast(gameLobbyChannels.getChannelsByGameLobby(gameLobby),
         new ConnectionMessage<>(ConnectionActions.ACCEPT_CREATE_LOBBY, gameLobby));
-
-    for (Channel channel : gameLobbyChannels.getChannelsByGameLobby(gameLobby)) {
-      LOGGER.debug("Send game lobby to : " + channel.id());
-      channel.writeAndFlush(new TextWebSocketFrame(serialized1));
-
-    }
   }
 
   /**
@@ -451,13 +545,8 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
    * @param gameLobby the tutorial game lobby to send.
    */
   private void sendCreatedTutorialGameLobby(GameLobby gameLobby) {
-    String serialized1 = Serializer.serialize(
+    broadcast(gameLobbyChannels.getChannelsByGameLobby(gameLobby),
         new ConnectionMessage<>(ConnectionActions.ACCEPT_TUTORIAL_CREATE_LOBBY, gameLobby));
-    for (Channel channel : gameLobbyChannels.getChannelsByGameLobby(gameLobby)) {
-      LOGGER.debug("Send game lobby to : " + channel.id());
-      channel.writeAndFlush(new TextWebSocketFrame(serialized1));
-
-    }
   }
 
   /**
@@ -467,12 +556,7 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
    * @param connectionActions the type of action that triggered this update.
    */
   private void sendServerLobby(ServerLobby serverLobby, ConnectionActions connectionActions) {
-    String serialized = Serializer.serialize(
-        new ConnectionMessage<>(connectionActions, serverLobby));
-    for (Channel ch : channels) {
-      LOGGER.debug("Send new server lobby to: " + ch.id());
-      ch.writeAndFlush(new TextWebSocketFrame(serialized));
-    }
+    broadcast(channels, new ConnectionMessage<>(connectionActions, serverLobby));
   }
 
   /**
@@ -488,36 +572,32 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
    * Sends a chat message from a specific channel to all channels in the same channel group. The
    * channel group is either the channel group of a running game or of the server lobby.
    *
-   * @param channel the channel from which the chat message originates.
-   * @param request the original content of the chat message.
+   * @param channel     the channel from which the chat message originates.
+   * @param chatMessage the chat message received from the channel.
    */
-  public void sendChatMessage(Channel channel, String request) {
-    ChatMessage chatMessage = Deserializer.deserializeChatMessage(request);
+  public void sendChatMessage(Channel channel, ChatMessage chatMessage) {
     chatMessage.setContent(gameLobbyChannels.getUserByChannel(channel).getUsername() + ": "
         + chatMessage.getContent());
-    String message = Serializer.serialize(chatMessage);
-    gameLobbyChannels.getChannelGroupByChannel(channel).forEach(ch -> {
-      LOGGER.debug("Send chatmessage: " + message + " to channel: " + channel.id());
-      ch.writeAndFlush(new TextWebSocketFrame(message));
-    });
+    broadcast(gameLobbyChannels.getChannelGroupByChannel(channel), chatMessage);
 
 
   }
 
   /**
-   * Sends a message indicating that a players request got dropped.
+   * Sends a message indicating that a players request got dropped, in the format negotiated by the
+   * channel.
    *
    * @param channel           the channel to which the drop message is to be sent.
    * @param connectionActions the type of action that triggered this message.
    * @param string            an explanation, why the request got dropped.
    */
   public void sendDropMessage(Channel channel, ConnectionActions connectionActions, String string) {
-    channel.writeAndFlush(new TextWebSocketFrame(
-        Serializer.serialize(new ConnectionMessage<String>(connectionActions, string))));
+    broadcast(List.of(channel), new ConnectionMessage<String>(connectionActions, string));
   }
 
   /**
-   * Processes the start of a game in the given game lobby.
+   * Processes the start of a game in the given game lobby. The dice rolls for the order of the
+   * players and the first turn follow after scheduled pauses in the actor of the lobby.
    *
    * @param gameLobby the game lobby to start the game in.
    */
@@ -537,15 +617,16 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
         .forEach(x -> ((AiBot) x).setGameState(gameState));
     gameState.setChatEnabled(gameLobby.isChatEnabled());
     moveProcessor.setGameController(new GameController(gameState));
-    moveProcessor.setDeckController(new DeckController(gameState.getDeck()));
+    moveProcessor.setDeckController(
+        new DeckController(gameState.getDeck(), gameState.getRandom()));
     PlayerController playerController = new PlayerController();
     moveProcessor.setPlayerController(playerController);
-    HashMap<Player, Integer> diceRolls = new HashMap<>();
+    HashMap<Player, Integer> diceRolls = new LinkedHashMap<>();
     int queueSize = gameState.getActivePlayers().size();
     GameController gameController = moveProcessor.getGameController();
     for (int i = queueSize; i > 0; i--) {
       Player player = gameController.getGameState().getActivePlayers().poll();
-      diceRolls.put(player, Dice.rollDice());
+      diceRolls.put(player, Dice.rollDice(gameState.getRandom()));
       gameState.getActivePlayers().add(player);
     }
     HashMap<String, Integer> diceRollsString = new HashMap<>();
@@ -556,35 +637,24 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
     moveProcessor.getDeckController().initDeck();
     Probabilities.init();
     sendFirstGamestate(gameLobby);
-    try {
-      Thread.sleep(100);
-    } catch (InterruptedException e) {
-      throw new RuntimeException(e);
-    }
 
-    String message = Serializer.serialize(
-        new StandardMessage<HashMap<String, Integer>>(diceRollsString));
-    for (Channel ch : gameLobbyChannels.getChannelsByGameLobby(gameLobby)) {
-      LOGGER.debug("Send new diceRolls to: " + ch.id());
-      ch.writeAndFlush(new TextWebSocketFrame(message));
-    }
-    try {
-      Thread.sleep(3000);
-    } catch (InterruptedException e) {
-      throw new RuntimeException(e);
-    }
-    gameController.setNewPlayerOrder(gameController.getNewPlayerOrder(diceRolls));
-    playerController.setPlayer(gameController.getCurrentPlayer());
-    sendGamestate(gameLobbyChannels.getChannelsByGameLobby(gameLobby));
-    moveProcessor.clearLastMoves();
-    try {
-      Thread.sleep(1000);
-    } catch (InterruptedException e) {
-      throw new RuntimeException(e);
-    }
-    if (gameController.getCurrentPlayer() instanceof AiBot aiBot) {
-      processBotMove(aiBot, gameLobbyChannels.getChannelsByGameLobby(gameLobby));
-    }
+    LobbyActor lobbyActor = gameLobbyChannels.getLobbyActor(gameLobby);
+    PacingProfile pacingProfile = lobbyActor.getPacingProfile();
+    ChannelGroup channelGroup = gameLobbyChannels.getChannelsByGameLobby(gameLobby);
+    lobbyActor.schedule(() -> {
+      broadcast(channelGroup, new StandardMessage<HashMap<String, Integer>>(diceRollsString));
+      lobbyActor.schedule(() -> {
+        gameController.setNewPlayerOrder(gameController.getNewPlayerOrder(diceRolls));
+        playerController.setPlayer(gameController.getCurrentPlayer());
+        sendGamestate(channelGroup);
+        moveProcessor.clearLastMoves();
+        lobbyActor.schedule(() -> {
+          if (gameController.getCurrentPlayer() instanceof AiBot aiBot) {
+            new BotTurnScheduler(lobbyActor, moveProcessor, channelGroup).startTurn(aiBot);
+          }
+        }, pacingProfile.delay(1000), TimeUnit.MILLISECONDS);
+      }, pacingProfile.delay(3000), TimeUnit.MILLISECONDS);
+    }, pacingProfile.delay(100), TimeUnit.MILLISECONDS);
   }
 
   /**
@@ -595,7 +665,8 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
   private void processStartTutorial(GameLobby myServerGameLobby) {
     Tutorial tutorial = new Tutorial(myServerGameLobby.getUsers().get(0).getUsername());
     moveProcessor.setGameController(new GameController(tutorial.getTutorialState()));
-    moveProcessor.setDeckController(new DeckController(tutorial.getTutorialState().getDeck()));
+    moveProcessor.setDeckController(new DeckController(tutorial.getTutorialState().getDeck(),
+        tutorial.getTutorialState().getRandom()));
     PlayerController playerController = new PlayerController();
     playerController.setPlayer(tutorial.getTutorialState().getCurrentPlayer());
     moveProcessor.setPlayerController(playerController);
@@ -607,178 +678,6 @@ public class GameServerFrameHandler extends SimpleChannelInboundHandler<WebSocke
 
   }
 
-  /**
-   * Processes the move of an AI bot in the game.
-   *
-   * @param aiBot        the AI bot to process the move for.
-   * @param channelGroup the channel group for the game lobby.
-   */
-  private void processBotMove(AiBot aiBot, ChannelGroup channelGroup) {
-    aiBot.setGameState(moveProcessor.getGameController().getGameState());
-    Player player = (Player) aiBot;
-    moveProcessor.getPlayerController().setPlayer(player);
-    try {
-      switch (player.getCurrentPhase()) {
-        case CLAIM_PHASE -> {
-          Thread.sleep(500);
-          Reinforce reinforce = aiBot.claimCountry();
-          moveProcessor.processReinforce(reinforce);
-          sendGamestate(channelGroup);
-          moveProcessor.clearLastMoves();
-          Thread.sleep(500);
-          moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
-          sendGamestate(channelGroup);
-          moveProcessor.clearLastMoves();
-          Thread.sleep(500);
-          Player currentPlayer = moveProcessor.getGameController().getGameState()
-              .getCurrentPlayer();
-          if (!player.getUser().equals(currentPlayer.getUser())
-              && currentPlayer instanceof AiBot aiBot1) {
-            processBotMove(aiBot1, channelGroup);
-          }
-        }
-        case REINFORCEMENT_PHASE -> {
-          processBotHandIn(channelGroup);
-          Thread.sleep(1500);
-          processBotReinforcementPhase(aiBot, channelGroup, player);
-          Thread.sleep(3000);
-          processBotAttackPhase(aiBot, channelGroup, player);
-          Thread.sleep(3000);
-          processBotFortifyPhase(aiBot, channelGroup, player);
-          Thread.sleep(500);
-          Player currentPlayer = moveProcessor.getGameController().getGameState()
-              .getCurrentPlayer();
-          if (!player.getUser().equals(currentPlayer.getUser())
-              && currentPlayer instanceof AiBot aiBot1) {
-            processBotMove(aiBot1, channelGroup);
-          }
-
-        }
-
-        default -> LOGGER.debug("Unexpected value: " + player.getCurrentPhase());
-      }
-    } catch (InterruptedException e) {
-      throw new RuntimeException(e);
-    }
-
-  }
-
-  /**
-   * Processes a reinforcement phase for the given bot.
-   *
-   * @param aiBot        the AI bot to process the move for.
-   * @param channelGroup the channel group for the game lobby.
-   * @param player       parameter aiBot cast to a player.
-   */
-  void processBotReinforcementPhase(AiBot aiBot, ChannelGroup channelGroup, Player player)
-      throws InterruptedException {
-    player.setDeployableTroops(// to ensure numbers are right
-        moveProcessor.getPlayerController().getPlayer().getDeployableTroops());
-    List<Reinforce> reinforces = aiBot.createAllReinforcements();
-    reinforces.stream().filter(x -> x.getToAdd() > 0).forEach(x -> {
-      moveProcessor.processReinforce(x);
-      sendGamestate(channelGroup);
-      moveProcessor.clearLastMoves();
-      try {
-        Thread.sleep(1000);
-      } catch (InterruptedException e) {
-        throw new RuntimeException(e);
-      }
-    });
-    moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
-    sendGamestate(channelGroup);
-    moveProcessor.clearLastMoves();
-  }
-
-  /**
-   * Processes a bot hand in.
-   *
-   * @param channelGroup the channel group for the game lobby.
-   */
-  void processBotHandIn(ChannelGroup channelGroup) {
-    HandController handController = moveProcessor.getPlayerController().getHandController();
-    if (handController.holdsExchangeable()) {
-      handController.selectExchangeableCards();
-      HandIn hand = new HandIn(handController.getHand().getSelectedCards());
-      moveProcessor.processHandIn(hand);
-      sendGamestate(channelGroup);
-      moveProcessor.clearLastMoves();
-    }
-  }
-
-  /**
-   * Processes a fortify phase for the given bot.
-   *
-   * @param aiBot        the AI bot to process the move for.
-   * @param channelGroup the channel group for the game lobby.
-   * @param player       parameter aiBot cast to a player.
-   */
-  void processBotFortifyPhase(AiBot aiBot, ChannelGroup channelGroup, Player player)
-      throws InterruptedException {
-    Fortify fortify = aiBot.createFortify();
-    if (fortify != null && fortify.getTroopsToMove() > 0) {
-      moveProcessor.processFortify(fortify);
-      sendGamestate(channelGroup);
-      moveProcessor.clearLastMoves();
-    }
-    Thread.sleep(500);
-    moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
-    sendGamestate(channelGroup);
-    moveProcessor.clearLastMoves();
-  }
-
-  /**
-   * Processes an attack phase for the given bot.
-   *
-   * @param aiBot        the AI bot to process the move for.
-   * @param channelGroup the channel group for the game lobby.
-   * @param player       parameter aiBot cast to a player.
-   */
-  void processBotAttackPhase(AiBot aiBot, ChannelGroup channelGroup, Player player)
-      throws InterruptedException {
-    boolean quitEarly = false;
-    do {
-      CountryPair attack = aiBot.createAttack();
-      if (attack == null) {
-        moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
-        sendGamestate(channelGroup);
-        moveProcessor.clearLastMoves();
-        quitEarly = true;
-      } else {
-        Attack attack1;
-        do {
-          attack1 = attack.createAttack(aiBot.getAttackTroops(attack.getOutgoing()));
-          moveProcessor.processAttack(attack1);
-          sendGamestate(channelGroup);
-          moveProcessor.clearLastMoves();
-          Thread.sleep(3250);
-        } while (!attack1.getHasConquered() && attack1.getAttackingCountry().getTroops() >= 2);
-        aiBot.setGameState(moveProcessor.getGameController().getGameState());
-        if (moveProcessor.getGameController().getGameState().isGameOver()) {
-          break;
-        }
-        if (attack1.getHasConquered()) {
-          Fortify fortify = attack.createFortify(attack1.getTroopNumber());
-          moveProcessor.processFortify(fortify);
-          sendGamestate(channelGroup);
-          Thread.sleep(500);
-          moveProcessor.clearLastMoves();
-          Fortify fortify1 = aiBot.moveAfterAttack(attack);
-          if (fortify1 != null && fortify1.getTroopsToMove() > 0) {
-            moveProcessor.processFortify(fortify1);
-            sendGamestate(channelGroup);
-            moveProcessor.clearLastMoves();
-          }
-        }
-      }
-    } while (aiBot.attackAgain());
-    if (!quitEarly) {
-      moveProcessor.processEndPhase(new EndPhase(player.getCurrentPhase()));
-      sendGamestate(channelGroup);
-      moveProcessor.clearLastMoves();
-    }
-  }
-
   /**
    * Only for testing.
    *
@@ -1,5 +1,6 @@
 package com.unima.risk6.network.server;
 
+import com.unima.risk6.network.serialization.WireFormat;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.group.ChannelGroup;
@@ -9,10 +10,11 @@ import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.codec.http.websocketx.WebSocketServerProtocolHandler;
 import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketServerCompressionHandler;
 import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.OpenSsl;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
 import java.security.KeyStore;
 import javax.net.ssl.KeyManagerFactory;
-import javax.net.ssl.SSLContext;
 
 /**
  * Initializes the channel pipeline for a GameServer. This class extends the ChannelInitializer
@@ -24,9 +26,11 @@ public class GameServerInitializer extends ChannelInitializer<SocketChannel> {
 
   private static final String WEBSOCKET_PATH = "/game";
   private static ChannelGroup channels;
+  private static volatile SslContext sslContext;
 
 
   private GameLobbyChannels gameLobbyChannels;
+  private final ServerTransportConfiguration transportConfiguration;
 
   /**
    * Constructs a new GameServerInitializer with the specified ChannelGroup.
@@ -34,28 +38,67 @@ public class GameServerInitializer extends ChannelInitializer<SocketChannel> {
    * @param channels The ChannelGroup that keeps track of all active channels.
    */
   public GameServerInitializer(ChannelGroup channels) {
+    this(channels, new ServerTransportConfiguration());
+  }
+
+  /**
+   * Constructs a new GameServerInitializer with the specified ChannelGroup and transport
+   * configuration.
+   *
+   * @param channels               The ChannelGroup that keeps track of all active channels.
+   * @param transportConfiguration The configuration of the transport, which sets the stall timeout
+   *                               of the clients.
+   */
+  public GameServerInitializer(ChannelGroup channels,
+      ServerTransportConfiguration transportConfiguration) {
     GameServerInitializer.channels = channels;
     this.gameLobbyChannels = new GameLobbyChannels();
+    this.transportConfiguration = transportConfiguration;
   }
 
   @Override
   public void initChannel(SocketChannel ch) throws Exception {
     ChannelPipeline pipeline = ch.pipeline();
-    pipeline.addLast(createSslContext().newHandler(ch.alloc()));
+    pipeline.addLast(getSslContext().newHandler(ch.alloc()));
     pipeline.addLast(new HttpServerCodec());
     pipeline.addLast(new HttpObjectAggregator(65536));
     pipeline.addLast(new WebSocketServerCompressionHandler());
-    pipeline.addLast(new WebSocketServerProtocolHandler(WEBSOCKET_PATH, null, true));
+    pipeline.addLast(new WebSocketServerProtocolHandler(WEBSOCKET_PATH,
+        WireFormat.getSubprotocols(WireFormat.BINARY), true));
+    pipeline.addLast(new BackpressureHandler(transportConfiguration.getStallTimeoutMillis()));
+    pipeline.addLast(new ServerMessageDecoder(gameLobbyChannels));
     pipeline.addLast(new GameServerFrameHandler(channels, gameLobbyChannels));
   }
 
   /**
-   * Create an SSL context for secure communication.
+   * Returns the SSL context shared by all connections of all servers, which is created on first
+   * use.
+   *
+   * @return The shared SSL context.
+   * @throws Exception If an error occurs during SSL context creation.
+   */
+  static SslContext getSslContext() throws Exception {
+    SslContext context = sslContext;
+    if (context == null) {
+      synchronized (GameServerInitializer.class) {
+        context = sslContext;
+        if (context == null) {
+          context = createSslContext();
+          sslContext = context;
+        }
+      }
+    }
+    return context;
+  }
+
+  /**
+   * Create an SSL context for secure communication. OpenSSL or BoringSSL is used when netty-tcnative
+   * is on the classpath, the JDK implementation otherwise.
    *
    * @return An initialized SSL context.
    * @throws Exception If an error occurs during SSL context creation.
    */
-  private SslContext createSslContext() throws Exception {
+  private static SslContext createSslContext() throws Exception {
     KeyStore keystore = KeyStore.getInstance("JKS");
     keystore.load(
         GameServerInitializer.class.getResourceAsStream("/com/unima/risk6/certs/Keystore.jks"),
@@ -65,10 +108,8 @@ public class GameServerInitializer extends ChannelInitializer<SocketChannel> {
         KeyManagerFactory.getDefaultAlgorithm());
     keyManagerFactory.init(keystore, "T0u8nUjT8TX9vTr2".toCharArray());
 
-    SSLContext sslContext = SSLContext.getInstance("TLS");
-    sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
-
-    return SslContextBuilder.forServer(keyManagerFactory).build();
+    return SslContextBuilder.forServer(keyManagerFactory)
+        .sslProvider(OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK).build();
   }
 
 }
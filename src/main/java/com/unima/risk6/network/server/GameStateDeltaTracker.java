@@ -0,0 +1,239 @@
+package com.unima.risk6.network.server;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.unima.risk6.game.ai.tutorial.TutorialBot;
+import com.unima.risk6.game.logic.Move;
+import com.unima.risk6.game.models.Card;
+import com.unima.risk6.game.models.Continent;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.Statistic;
+import com.unima.risk6.game.models.enums.CountryName;
+import com.unima.risk6.game.models.enums.GamePhase;
+import com.unima.risk6.network.message.GameStateDelta;
+import com.unima.risk6.network.message.GameStateDelta.CountryUpdate;
+import com.unima.risk6.network.message.Message;
+import com.unima.risk6.network.message.StandardMessage;
+import com.unima.risk6.network.serialization.Serializer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps track of the game state the clients of a game lobby received last and creates the update
+ * the clients have to receive next. Every update increases the version of the game state. As long
+ * as the same game state is updated and no player joins, leaves or is replaced by a bot, the update
+ * is a {@link com.unima.risk6.network.message.GameStateDelta} containing only the countries and
+ * players which changed since the last update, otherwise it is the whole game state. Players are
+ * compared by the fields which change during a game, and only the changed players are serialized.
+ *
+ * @author jferch
+ */
+public class GameStateDeltaTracker {
+
+  private static final int COUNTRY_COUNT = CountryName.values().length;
+
+  private GameState gameState;
+  private long version;
+  private final String[] owners = new String[COUNTRY_COUNT];
+  private final int[] troops = new int[COUNTRY_COUNT];
+  private final Map<String, PlayerSnapshot> players = new HashMap<>();
+  private List<String> activePlayers = new ArrayList<>();
+  private List<String> lostPlayers = new ArrayList<>();
+  private List<Card> deck = new ArrayList<>();
+
+  /**
+   * Records the given game state as sent to the clients without creating an update, for the whole
+   * game state which is sent at the start of a game.
+   *
+   * @param gameState the game state which is sent to the clients.
+   */
+  public synchronized void markSent(GameState gameState) {
+    gameState.setVersion(++version);
+    record(gameState);
+  }
+
+  /**
+   * Creates the next update of the given game state for the clients and records the game state as
+   * sent.
+   *
+   * @param gameState the game state which has to be sent to the clients.
+   * @return a message containing either a GameStateDelta or the whole GameState.
+   */
+  public synchronized Message<?> nextUpdate(GameState gameState) {
+    long baseVersion = version;
+    gameState.setVersion(++version);
+    Map<String, PlayerSnapshot> snapshots = takeSnapshots(gameState);
+    Message<?> update;
+    if (isFullUpdateRequired(gameState, snapshots)) {
+      update = new StandardMessage<>(gameState);
+    } else {
+      update = new StandardMessage<>(createDelta(gameState, baseVersion, snapshots));
+    }
+    record(gameState, snapshots);
+    return update;
+  }
+
+  /**
+   * Checks whether the clients need the whole game state, because they never received the given
+   * game state or because the players changed in a way a delta can not express.
+   *
+   * @param gameState the game state which has to be sent.
+   * @param snapshots the snapshots of the players of the game state.
+   * @return true if the whole game state has to be sent, false otherwise.
+   */
+  private boolean isFullUpdateRequired(GameState gameState,
+      Map<String, PlayerSnapshot> snapshots) {
+    if (this.gameState != gameState || !players.keySet().equals(snapshots.keySet())) {
+      return true;
+    }
+    return snapshots.entrySet().stream().anyMatch(
+        x -> !players.get(x.getKey()).type().equals(x.getValue().type()));
+  }
+
+  /**
+   * Creates the delta between the recorded game state and the given game state.
+   *
+   * @param gameState   the game state which has to be sent.
+   * @param baseVersion the version of the recorded game state.
+   * @param snapshots   the snapshots of the players of the game state.
+   * @return the delta the clients have to apply to their game state.
+   */
+  private GameStateDelta createDelta(GameState gameState, long baseVersion,
+      Map<String, PlayerSnapshot> snapshots) {
+    GameStateDelta delta = new GameStateDelta(baseVersion, version);
+    for (Country country : gameState.getCountries()) {
+      int index = country.getCountryName().ordinal();
+      String owner = getOwner(country);
+      if (!Objects.equals(owners[index], owner) || troops[index] != country.getTroops()) {
+        delta.getCountries().add(new CountryUpdate(country.getCountryName(), owner,
+            country.getTroops()));
+      }
+    }
+    snapshots.forEach((user, snapshot) -> {
+      if (!snapshot.equals(players.get(user))) {
+        delta.getPlayers().put(user, serializePlayer(snapshot.player()));
+      }
+    });
+    List<String> active = getUsers(gameState.getActivePlayers());
+    if (!active.equals(activePlayers)) {
+      delta.setActivePlayers(active);
+    }
+    List<String> lost = getUsers(gameState.getLostPlayers());
+    if (!lost.equals(lostPlayers)) {
+      delta.setLostPlayers(lost);
+    }
+    Player currentPlayer = gameState.getCurrentPlayer();
+    delta.setCurrentPlayer(currentPlayer == null ? null : currentPlayer.getUser());
+    delta.setNumberOfHandIns(gameState.getNumberOfHandIns());
+    delta.setGameOver(gameState.isGameOver());
+    delta.setChatEnabled(gameState.isChatEnabled());
+    JsonArray lastMoves = new JsonArray();
+    for (Move move : gameState.getLastMoves()) {
+      lastMoves.add(Serializer.toJsonTree(move));
+    }
+    delta.setLastMoves(lastMoves);
+    if (!deck.equals(gameState.getDeck().getDeckCards())) {
+      JsonArray cards = new JsonArray();
+      gameState.getDeck().getDeckCards().forEach(x -> cards.add(Serializer.toJsonTree(x)));
+      delta.setDeck(cards);
+    }
+    return delta;
+  }
+
+  /**
+   * Records the given game state as the one the clients received last.
+   *
+   * @param gameState the game state which was sent.
+   */
+  private void record(GameState gameState) {
+    record(gameState, takeSnapshots(gameState));
+  }
+
+  /**
+   * Records the given game state as the one the clients received last.
+   *
+   * @param gameState the game state which was sent.
+   * @param snapshots the snapshots of the players of the game state.
+   */
+  private void record(GameState gameState, Map<String, PlayerSnapshot> snapshots) {
+    this.gameState = gameState;
+    for (Country country : gameState.getCountries()) {
+      int index = country.getCountryName().ordinal();
+      owners[index] = getOwner(country);
+      troops[index] = country.getTroops();
+    }
+    players.clear();
+    players.putAll(snapshots);
+    activePlayers = getUsers(gameState.getActivePlayers());
+    lostPlayers = getUsers(gameState.getLostPlayers());
+    deck = new ArrayList<>(gameState.getDeck().getDeckCards());
+  }
+
+  /**
+   * Takes a snapshot of all active and lost players of the game state.
+   *
+   * @param gameState the game state whose players should be recorded.
+   * @return the snapshots of the players by their username.
+   */
+  private static Map<String, PlayerSnapshot> takeSnapshots(GameState gameState) {
+    Map<String, PlayerSnapshot> snapshots = new HashMap<>();
+    gameState.getActivePlayers().forEach(x -> snapshots.put(x.getUser(), PlayerSnapshot.of(x)));
+    gameState.getLostPlayers().forEach(x -> snapshots.put(x.getUser(), PlayerSnapshot.of(x)));
+    return snapshots;
+  }
+
+  /**
+   * Serializes a player without its countries, which are tracked separately.
+   *
+   * @param player the player to serialize.
+   * @return the serialized player.
+   */
+  private static JsonObject serializePlayer(Player player) {
+    JsonObject serialized = Serializer.toJsonTree(player).getAsJsonObject();
+    serialized.remove("countries");
+    return serialized;
+  }
+
+  private static String getOwner(Country country) {
+    return country.getPlayer() == null ? null : country.getPlayer().getUser();
+  }
+
+  private static List<String> getUsers(Iterable<Player> players) {
+    List<String> users = new ArrayList<>();
+    players.forEach(x -> users.add(x.getUser()));
+    return users;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * The fields of a player which change during a game, without its countries. Two snapshots are
+   * equal if a client would deserialize the same player from both.
+   */
+  private record PlayerSnapshot(Player player, String type, GamePhase phase, int deployableTroops,
+                                int initialTroops, List<Card> cards, List<Card> selectedCards,
+                                List<Continent> continents, List<Integer> statistic,
+                                int deterministicClaims) {
+
+    private static PlayerSnapshot of(Player player) {
+      Statistic statistic = player.getStatistic();
+      return new PlayerSnapshot(player, player.getClass().getSimpleName(),
+          player.getCurrentPhase(), player.getDeployableTroops(), player.getInitialTroops(),
+          List.copyOf(player.getHand().getCards()),
+          List.copyOf(player.getHand().getSelectedCards()),
+          List.copyOf(player.getContinents()),
+          List.of(statistic.getTroopsLost(), statistic.getTroopsGained(),
+              statistic.getCountriesWon(), statistic.getCountriesLost(),
+              statistic.getNumberOfOwnedCountries(), statistic.getNumberOfTroops()),
+          player instanceof TutorialBot tutorialBot
+              ? tutorialBot.getDeterministicClaims().size() : 0);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package com.unima.risk6.network.server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs everything that touches the game of one lobby. Tasks are put into the mailbox of the lobby
+ * and executed one after another on a small scheduler shared by all lobbies, so the tasks of a
+ * lobby never run concurrently, while different lobbies run in parallel and never occupy the
+ * Netty event loops. Delays between the moves of a game are scheduled instead of slept, so a
+ * waiting lobby does not occupy any thread at all. The actor also keeps track of the game state
+ * its clients received last, since all updates of the game are broadcast from its tasks.
+ *
+ * @author jferch
+ */
+public class LobbyActor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LobbyActor.class);
+
+  private static final ScheduledExecutorService SCHEDULER = createScheduler();
+  private static final int MAX_TASKS_PER_RUN = 64;
+
+  private final String name;
+  private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean running = new AtomicBoolean();
+  private volatile boolean stopped;
+  private volatile PacingProfile pacingProfile = PacingProfile.getDefault();
+  private final GameStateDeltaTracker gameStateDeltaTracker = new GameStateDeltaTracker();
+
+  /**
+   * Constructs a new LobbyActor for the lobby with the given name.
+   *
+   * @param name the name of the lobby, used for logging.
+   */
+  public LobbyActor(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Puts a task into the mailbox of the lobby. The task runs after all tasks put into the mailbox
+   * before it. Tasks of a stopped lobby are dropped.
+   *
+   * @param task the task to run.
+   */
+  public void tell(Runnable task) {
+    if (stopped) {
+      LOGGER.debug("Dropped a task of the stopped lobby " + name);
+      return;
+    }
+    mailbox.add(task);
+    if (running.compareAndSet(false, true)) {
+      SCHEDULER.execute(this::run);
+    }
+  }
+
+  /**
+   * Puts a task into the mailbox of the lobby after the given delay.
+   *
+   * @param task  the task to run.
+   * @param delay the delay after which the task is put into the mailbox.
+   * @param unit  the unit of the delay.
+   */
+  public void schedule(Runnable task, long delay, TimeUnit unit) {
+    if (delay <= 0) {
+      tell(task);
+    } else if (!stopped) {
+      SCHEDULER.schedule(() -> tell(task), delay, unit);
+    }
+  }
+
+  /**
+   * Stops the lobby, which drops all pending and future tasks. The task currently running is
+   * finished.
+   */
+  public void stop() {
+    stopped = true;
+    mailbox.clear();
+  }
+
+  public boolean isStopped() {
+    return stopped;
+  }
+
+  public GameStateDeltaTracker getGameStateDeltaTracker() {
+    return gameStateDeltaTracker;
+  }
+
+  public PacingProfile getPacingProfile() {
+    return pacingProfile;
+  }
+
+  /**
+   * Sets the pace at which the bots of the lobby play, which applies from the next pause on.
+   *
+   * @param pacingProfile the pacing profile of the lobby.
+   */
+  public void setPacingProfile(PacingProfile pacingProfile) {
+    this.pacingProfile = pacingProfile;
+  }
+
+  /**
+   * Runs the tasks of the mailbox. After a bounded number of tasks the thread is handed to other
+   * lobbies, and the remaining tasks are run in a later turn.
+   */
+  private void run() {
+    try {
+      Runnable task;
+      for (int i = 0; i < MAX_TASKS_PER_RUN && !stopped && (task = mailbox.poll()) != null; i++) {
+        try {
+          task.run();
+        } catch (RuntimeException e) {
+          LOGGER.error("A task of the lobby " + name + " failed", e);
+        }
+      }
+    } finally {
+      running.set(false);
+      if (!stopped && !mailbox.isEmpty() && running.compareAndSet(false, true)) {
+        SCHEDULER.execute(this::run);
+      }
+    }
+  }
+
+  /**
+   * Creates the scheduler shared by all lobbies. Its daemon threads never block the shutdown of
+   * the server.
+   *
+   * @return the scheduler which runs the mailboxes and delays of all lobbies.
+   */
+  private static ScheduledExecutorService createScheduler() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "lobby-actor-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    return Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(),
+        threadFactory);
+  }
+}
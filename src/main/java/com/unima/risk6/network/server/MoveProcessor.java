@@ -20,7 +20,6 @@ import com.unima.risk6.game.models.Player;
 import com.unima.risk6.game.models.Statistic;
 import com.unima.risk6.game.models.enums.CountryName;
 import com.unima.risk6.network.server.exceptions.InvalidMoveException;
-import java.util.HashMap;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -152,7 +151,7 @@ public class MoveProcessor {
         && defendingCountry.getAdjacentCountries().contains(attackingCountry)
         && attack.getTroopNumber() <= attackingCountry.getTroops() - 1
         && attack.getTroopNumber() < 4 && attack.getTroopNumber() > 0) {
-      attack.calculateLosses();
+      attack.calculateLosses(gameController.getGameState().getRandom());
 
       gameController.addLastMove(attack);
 
@@ -348,10 +347,7 @@ public class MoveProcessor {
    * @param countryName the name of the Country as represented by the CountryName enum.
    */
   public Country getCountryByCountryName(CountryName countryName) {
-    final Country[] country = new Country[1];
-    gameController.getGameState().getCountries().stream()
-        .filter(n -> n.getCountryName().equals(countryName)).forEach(n -> country[0] = n);
-    return country[0];
+    return gameController.getGameState().getCountry(countryName);
   }
 
   /**
@@ -367,15 +363,14 @@ public class MoveProcessor {
   }
 
   /**
-   * Updated the in game statistics of each player. these include owned countries and troops.
+   * Updated the in game statistics of each player. these include owned countries and troops, which
+   * the players keep counted.
    */
   public void updateInGameStatistics() {
-    HashMap<Player, Integer> troopCounter = gameController.countTroops();
-    HashMap<Player, Integer> countryCounter = gameController.countCountries();
-    gameController.getGameState().getActivePlayers()
-        .forEach(n -> n.getStatistic().setNumberOfOwnedCountries(countryCounter.get(n)));
-    gameController.getGameState().getActivePlayers()
-        .forEach(n -> n.getStatistic().setNumberOfTroops(troopCounter.get(n)));
+    for (Player player : gameController.getGameState().getActivePlayers()) {
+      player.getStatistic().setNumberOfOwnedCountries(player.getNumberOfCountries());
+      player.getStatistic().setNumberOfTroops(player.getNumberOfTroops());
+    }
   }
 
   /**
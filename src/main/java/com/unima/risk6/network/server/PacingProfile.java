@@ -0,0 +1,59 @@
+package com.unima.risk6.network.server;
+
+import java.util.Locale;
+
+/**
+ * The pace at which the server plays the turns of bots. The pauses between the moves of a bot give
+ * the players time to follow them, games without spectators do not need them.
+ *
+ * @author jferch
+ */
+public enum PacingProfile {
+
+  /**
+   * The pauses the clients use to animate the moves of the bots.
+   */
+  STANDARD(1),
+  /**
+   * A fifth of the standard pauses, to fast-forward through the turns of bots.
+   */
+  FAST(0.2),
+  /**
+   * No pauses at all, for headless games and tests.
+   */
+  INSTANT(0);
+
+  private final double factor;
+
+  PacingProfile(double factor) {
+    this.factor = factor;
+  }
+
+  /**
+   * Returns the pause of this profile for a pause of the standard profile.
+   *
+   * @param standardDelay the pause in milliseconds of the standard profile.
+   * @return the pause in milliseconds of this profile.
+   */
+  public long delay(long standardDelay) {
+    return Math.round(standardDelay * factor);
+  }
+
+  /**
+   * Returns the profile new lobbies start with, which is configured with the system property
+   * {@code botPacing}.
+   *
+   * @return the configured profile, STANDARD if none or an unknown profile is configured.
+   */
+  public static PacingProfile getDefault() {
+    String name = System.getProperty("botPacing");
+    if (name != null) {
+      for (PacingProfile profile : values()) {
+        if (profile.name().equals(name.toUpperCase(Locale.ROOT))) {
+          return profile;
+        }
+      }
+    }
+    return STANDARD;
+  }
+}
@@ -0,0 +1,156 @@
+package com.unima.risk6.network.server;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.network.message.Message;
+import com.unima.risk6.network.message.StandardMessage;
+import com.unima.risk6.network.message.enums.ContentType;
+import com.unima.risk6.network.serialization.BinaryMessageCodec;
+import com.unima.risk6.network.serialization.Deserializer;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decodes the frames received from a client into typed messages, before they reach the
+ * {@link com.unima.risk6.network.server.GameServerFrameHandler}. A text frame is parsed exactly once,
+ * straight from its buffer into a JSON tree, whose content type selects the deserializer the tree
+ * is handed to. Only moves which reference countries look up the game state of the channel, all
+ * other messages are decoded without it. Frames which can not be decoded are logged and dropped.
+ *
+ * @author jferch
+ */
+public class ServerMessageDecoder extends MessageToMessageDecoder<WebSocketFrame> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ServerMessageDecoder.class);
+
+  private final GameLobbyChannels gameLobbyChannels;
+
+  /**
+   * Constructs a new ServerMessageDecoder which resolves the game state of a channel in the given
+   * GameLobbyChannels.
+   *
+   * @param gameLobbyChannels the GameLobbyChannels which manages the running games.
+   */
+  public ServerMessageDecoder(GameLobbyChannels gameLobbyChannels) {
+    this.gameLobbyChannels = gameLobbyChannels;
+  }
+
+  /**
+   * Decodes a text or binary frame into a message and passes it to the next handler.
+   *
+   * @param ctx   the ChannelHandlerContext tied to the client's channel.
+   * @param frame the frame read from the client's channel, which is released after decoding.
+   * @param out   the list the decoded message is added to.
+   */
+  @Override
+  protected void decode(ChannelHandlerContext ctx, WebSocketFrame frame, List<Object> out) {
+    Message<?> message;
+    if (frame instanceof TextWebSocketFrame) {
+      message = decodeText(ctx.channel(), frame);
+    } else if (frame instanceof BinaryWebSocketFrame) {
+      message = decodeBinary(ctx.channel(), frame);
+    } else {
+      LOGGER.debug("Unsupported frame type: " + frame.getClass().getName());
+      return;
+    }
+    if (message != null) {
+      LOGGER.debug("Server Received Message with ContentType: " + message.getContentType());
+      out.add(message);
+    }
+  }
+
+  /**
+   * Parses a text frame into a JSON tree and deserializes the tree according to its content type.
+   *
+   * @param channel the client's channel.
+   * @param frame   the text frame.
+   * @return the decoded message, or null if the frame does not contain a valid message.
+   */
+  private Message<?> decodeText(Channel channel, WebSocketFrame frame) {
+    JsonObject json;
+    ContentType contentType;
+    try {
+      json = JsonParser.parseReader(new InputStreamReader(
+          new ByteBufInputStream(frame.content()), StandardCharsets.UTF_8)).getAsJsonObject();
+      JsonElement type = json.get("contentType");
+      if (type == null) {
+        LOGGER.debug("The Message received has no content type\nMessage: " + json);
+        return null;
+      }
+      contentType = ContentType.valueOf(type.getAsString());
+    } catch (JsonParseException | IllegalStateException | IllegalArgumentException e) {
+      LOGGER.debug("The Message received wasnt a valid Message, Exception: " + e);
+      return null;
+    }
+    try {
+      return switch (contentType) {
+        case CONNECTION -> Deserializer.deserializeConnectionMessage(json);
+        case CHAT_MESSAGE -> Deserializer.deserializeChatMessage(json);
+        case ATTACK, REINFORCE, FORTIFY -> {
+          GameState gameState = getGameState(channel);
+          yield gameState == null ? null : Deserializer.deserialize(json, gameState);
+        }
+        case HAND_IN, END_PHASE, SNAPSHOT_REQUEST, DEFAULT -> Deserializer.deserialize(json);
+        //clients never send these, so their content is not worth deserializing
+        default -> new StandardMessage<>("", contentType);
+      };
+    } catch (JsonParseException e) {
+      LOGGER.error("Error at deserializing " + contentType + ": " + e);
+      return null;
+    }
+  }
+
+  /**
+   * Decodes a binary frame, resolving the countries of moves in the game state of the channel.
+   *
+   * @param channel the client's channel.
+   * @param frame   the binary frame.
+   * @return the decoded message, or null if the frame does not contain a valid message or the
+   * message references a game state the channel is not part of.
+   */
+  private Message<?> decodeBinary(Channel channel, WebSocketFrame frame) {
+    try {
+      ContentType contentType = BinaryMessageCodec.peekContentType(frame.content());
+      return switch (contentType) {
+        case ATTACK, REINFORCE, FORTIFY -> {
+          GameState gameState = getGameState(channel);
+          yield gameState == null ? null : BinaryMessageCodec.decode(frame.content(), gameState);
+        }
+        case HAND_IN, END_PHASE -> BinaryMessageCodec.decode(frame.content(), null);
+        default -> new StandardMessage<>("", contentType);
+      };
+    } catch (CorruptedFrameException e) {
+      LOGGER.debug("The binary Message received wasnt a valid Message, Exception: " + e);
+      return null;
+    }
+  }
+
+  /**
+   * Returns the game state of the game the channel takes part in.
+   *
+   * @param channel the client's channel.
+   * @return the game state, or null if the channel is not in a running game.
+   */
+  private GameState getGameState(Channel channel) {
+    MoveProcessor moveProcessor = gameLobbyChannels.getMoveProcessor(channel);
+    if (moveProcessor == null || moveProcessor.getGameController() == null) {
+      LOGGER.error("Received a move from a channel which is not in a running game");
+      return null;
+    }
+    return moveProcessor.getGameController().getGameState();
+  }
+}
@@ -0,0 +1,198 @@
+package com.unima.risk6.network.server;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+
+/**
+ * Configures the transport of a GameServer: whether the native epoll transport is used on Linux,
+ * how buffers are allocated and how the sockets of the clients are tuned. Every setting can be
+ * overridden with a system property of the same name prefixed with {@code server.}, for example
+ * {@code -Dserver.tcpNoDelay=false}.
+ *
+ * @author jferch
+ */
+public class ServerTransportConfiguration {
+
+  private static final String PROPERTY_PREFIX = "server.";
+
+  private boolean nativeTransport;
+  private boolean pooledAllocator = true;
+  private boolean tcpNoDelay = true;
+  private int writeBufferLowWaterMark = 32 * 1024;
+  private int writeBufferHighWaterMark = 64 * 1024;
+  private int backlog = 128;
+  private int workerThreads = 0;
+  private long stallTimeoutMillis = 30_000;
+
+  /**
+   * Constructs a new ServerTransportConfiguration with the Java NIO transport, the pooled
+   * allocator, TCP_NODELAY, write buffer water marks of 32 and 64 KiB and clients being
+   * disconnected after their channel was not writable for 30 seconds.
+   */
+  public ServerTransportConfiguration() {
+  }
+
+  /**
+   * Creates the configuration of a server running in the game, which uses the Java NIO transport
+   * unless configured otherwise.
+   *
+   * @return the configuration with the system properties applied.
+   */
+  public static ServerTransportConfiguration fromSystemProperties() {
+    return new ServerTransportConfiguration().applySystemProperties();
+  }
+
+  /**
+   * Creates the configuration of a dedicated server, which uses the native epoll transport whenever
+   * it is available.
+   *
+   * @return the configuration with the system properties applied.
+   */
+  public static ServerTransportConfiguration forDedicatedServer() {
+    ServerTransportConfiguration configuration = new ServerTransportConfiguration();
+    configuration.setNativeTransport(true);
+    return configuration.applySystemProperties();
+  }
+
+  /**
+   * Overrides the settings with the system properties which are set.
+   *
+   * @return this configuration.
+   */
+  ServerTransportConfiguration applySystemProperties() {
+    nativeTransport = getBoolean("nativeTransport", nativeTransport);
+    pooledAllocator = getBoolean("pooledAllocator", pooledAllocator);
+    tcpNoDelay = getBoolean("tcpNoDelay", tcpNoDelay);
+    writeBufferLowWaterMark = Integer.getInteger(PROPERTY_PREFIX + "writeBufferLowWaterMark",
+        writeBufferLowWaterMark);
+    writeBufferHighWaterMark = Integer.getInteger(PROPERTY_PREFIX + "writeBufferHighWaterMark",
+        writeBufferHighWaterMark);
+    backlog = Integer.getInteger(PROPERTY_PREFIX + "backlog", backlog);
+    workerThreads = Integer.getInteger(PROPERTY_PREFIX + "workerThreads", workerThreads);
+    stallTimeoutMillis = Long.getLong(PROPERTY_PREFIX + "stallTimeoutMillis", stallTimeoutMillis);
+    return this;
+  }
+
+  /**
+   * Checks whether the native epoll transport is used, which requires it to be enabled and the
+   * server to run on Linux with the native library loaded.
+   *
+   * @return true if the epoll transport is used, false if the Java NIO transport is used.
+   */
+  public boolean usesNativeTransport() {
+    return nativeTransport && Epoll.isAvailable();
+  }
+
+  /**
+   * Creates an event loop group for the transport in use.
+   *
+   * @param threads the number of threads, 0 for the Netty default of twice the processors.
+   * @return the event loop group.
+   */
+  public EventLoopGroup createEventLoopGroup(int threads) {
+    return usesNativeTransport() ? new EpollEventLoopGroup(threads)
+        : new NioEventLoopGroup(threads);
+  }
+
+  /**
+   * Returns the class of the server channel of the transport in use.
+   *
+   * @return the class of the server channel.
+   */
+  public Class<? extends ServerChannel> getServerChannelClass() {
+    return usesNativeTransport() ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+  }
+
+  /**
+   * Applies the channel options to a ServerBootstrap.
+   *
+   * @param bootstrap the bootstrap of the server.
+   */
+  public void configure(ServerBootstrap bootstrap) {
+    bootstrap.option(ChannelOption.SO_BACKLOG, backlog)
+        .childOption(ChannelOption.ALLOCATOR, pooledAllocator ? PooledByteBufAllocator.DEFAULT
+            : UnpooledByteBufAllocator.DEFAULT)
+        .childOption(ChannelOption.TCP_NODELAY, tcpNoDelay)
+        .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
+            new WriteBufferWaterMark(writeBufferLowWaterMark, writeBufferHighWaterMark));
+  }
+
+  public boolean isNativeTransport() {
+    return nativeTransport;
+  }
+
+  public void setNativeTransport(boolean nativeTransport) {
+    this.nativeTransport = nativeTransport;
+  }
+
+  public boolean isPooledAllocator() {
+    return pooledAllocator;
+  }
+
+  public void setPooledAllocator(boolean pooledAllocator) {
+    this.pooledAllocator = pooledAllocator;
+  }
+
+  public boolean isTcpNoDelay() {
+    return tcpNoDelay;
+  }
+
+  public void setTcpNoDelay(boolean tcpNoDelay) {
+    this.tcpNoDelay = tcpNoDelay;
+  }
+
+  public int getWriteBufferLowWaterMark() {
+    return writeBufferLowWaterMark;
+  }
+
+  public void setWriteBufferLowWaterMark(int writeBufferLowWaterMark) {
+    this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+  }
+
+  public int getWriteBufferHighWaterMark() {
+    return writeBufferHighWaterMark;
+  }
+
+  public void setWriteBufferHighWaterMark(int writeBufferHighWaterMark) {
+    this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+  }
+
+  public int getBacklog() {
+    return backlog;
+  }
+
+  public void setBacklog(int backlog) {
+    this.backlog = backlog;
+  }
+
+  public int getWorkerThreads() {
+    return workerThreads;
+  }
+
+  public void setWorkerThreads(int workerThreads) {
+    this.workerThreads = workerThreads;
+  }
+
+  public long getStallTimeoutMillis() {
+    return stallTimeoutMillis;
+  }
+
+  public void setStallTimeoutMillis(long stallTimeoutMillis) {
+    this.stallTimeoutMillis = stallTimeoutMillis;
+  }
+
+  private static boolean getBoolean(String name, boolean defaultValue) {
+    String value = System.getProperty(PROPERTY_PREFIX + name);
+    return value == null ? defaultValue : Boolean.parseBoolean(value);
+  }
+}
@@ -6,6 +6,7 @@ module com.unima.risk6 {
   requires io.netty.codec;
   requires io.netty.codec.http;
   requires io.netty.transport;
+  requires io.netty.transport.classes.epoll;
   requires io.netty.buffer;
   requires io.netty.common;
   requires io.netty.handler;
@@ -35,6 +36,7 @@ module com.unima.risk6 {
   exports com.unima.risk6.game.logic.controllers;
   exports com.unima.risk6.game.models;
   exports com.unima.risk6.game.models.enums;
+  exports com.unima.risk6.game.simulation;
   exports com.unima.risk6.gui.configurations;
   exports com.unima.risk6.gui.controllers;
   exports com.unima.risk6.gui.controllers.enums;
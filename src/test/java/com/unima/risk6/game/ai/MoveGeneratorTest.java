@@ -0,0 +1,114 @@
+package com.unima.risk6.game.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.unima.risk6.game.ai.models.CountryPair;
+import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.models.Continent;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.enums.ContinentName;
+import com.unima.risk6.game.models.enums.CountryName;
+import com.unima.risk6.game.models.enums.GamePhase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MoveGeneratorTest {
+
+  private GameState gameState;
+  private Player player;
+  private Player enemy;
+
+  @BeforeEach
+  void setUp() {
+    gameState = GameConfiguration.configureGame(List.of("Sarah Connor", "T-800"),
+        new ArrayList<>());
+    List<Player> players = new ArrayList<>(gameState.getActivePlayers());
+    player = players.get(0);
+    enemy = players.get(1);
+    player.setCurrentPhase(GamePhase.ATTACK_PHASE);
+    claim(player, CountryName.INDONESIA, 10);
+    claim(player, CountryName.WESTERN_AUSTRALIA, 4);
+    claim(player, CountryName.EASTERN_AUSTRALIA, 1);
+    claim(enemy, CountryName.SIAM, 1);
+    claim(enemy, CountryName.NEW_GUINEA, 12);
+  }
+
+  @Test
+  void attacksArePrunedByWinProbabilityTest() {
+    Continent australia = gameState.getContinent(ContinentName.AUSTRALIA);
+    List<CountryPair> all = MoveGenerator.collectAttacks(player, australia,
+        MoveGenerator.NO_PRUNING);
+    assertEquals(3, all.size());
+    assertTrue(all.contains(new CountryPair(country(CountryName.INDONESIA),
+        country(CountryName.NEW_GUINEA))));
+    List<CountryPair> promising = MoveGenerator.collectAttacks(player, australia, 65);
+    assertEquals(List.of(new CountryPair(country(CountryName.INDONESIA),
+        country(CountryName.SIAM))), promising);
+  }
+
+  @Test
+  void visitorStopsGenerationTest() {
+    int[] visited = new int[1];
+    boolean stopped = MoveGenerator.forEachAttack(player, gameState.getContinents(),
+        MoveGenerator.NO_PRUNING, (outgoing, incoming) -> ++visited[0] == 2);
+    assertTrue(stopped);
+    assertEquals(2, visited[0]);
+    assertFalse(MoveGenerator.forEachAttack(player, gameState.getContinents(), 100,
+        (outgoing, incoming) -> true));
+    assertNull(MoveGenerator.findAttack(player, gameState.getContinents(), 100));
+  }
+
+  @Test
+  void pickedMovesMatchCollectedMovesTest() {
+    List<CountryPair> attacks = new ArrayList<>();
+    for (Continent continent : gameState.getContinents()) {
+      attacks.addAll(MoveGenerator.collectAttacks(player, continent, MoveGenerator.NO_PRUNING));
+    }
+    List<CountryPair> fortifies = MoveGenerator.collectFortifies(player);
+    assertFalse(fortifies.contains(new CountryPair(country(CountryName.EASTERN_AUSTRALIA),
+        country(CountryName.WESTERN_AUSTRALIA))));
+    for (long seed = 0; seed < 20; seed++) {
+      assertEquals(attacks.get(new SplittableRandom(seed).nextInt(attacks.size())),
+          MoveGenerator.pickAttack(player, gameState.getContinents(), MoveGenerator.NO_PRUNING,
+              new SplittableRandom(seed)));
+      assertEquals(fortifies.get(new SplittableRandom(seed).nextInt(fortifies.size())),
+          MoveGenerator.pickFortify(player, new SplittableRandom(seed)));
+    }
+  }
+
+  @Test
+  void linkedPlayersAgreeWithFrontierTest() {
+    Player twin = new Player(player.getUser());
+    country(CountryName.INDONESIA).setPlayer(twin);
+    assertEquals(2, player.getNumberOfCountries());
+    assertEquals(2, player.getForeignNeighbours(country(CountryName.WESTERN_AUSTRALIA)));
+    gameState.linkPlayers();
+    assertSame(player, country(CountryName.INDONESIA).getPlayer());
+    assertEquals(3, player.getNumberOfCountries());
+    assertEquals(15, player.getNumberOfTroops());
+    assertEquals(0, twin.getNumberOfCountries());
+    assertEquals(1, player.getForeignNeighbours(country(CountryName.WESTERN_AUSTRALIA)));
+    assertTrue(MoveGenerator.collectFortifies(player).contains(new CountryPair(
+        country(CountryName.INDONESIA), country(CountryName.WESTERN_AUSTRALIA))));
+  }
+
+  private void claim(Player owner, CountryName countryName, int troops) {
+    Country country = country(countryName);
+    owner.getCountries().add(country);
+    country.setPlayer(owner);
+    country.setTroops(troops);
+  }
+
+  private Country country(CountryName countryName) {
+    return gameState.getCountry(countryName);
+  }
+}
@@ -67,8 +67,33 @@ class ProbabilitiesTest {
     // index [4,2]
     assertEquals(79, Probabilities.getWinProbability(5, 2));
     assertEquals(29, Probabilities.getWinProbability(14, 18));
-    // should adjust for index out of bounds
-    assertEquals(69, Probabilities.getWinProbability(30, 19));
+    // no approximation for larger battles
+    assertEquals(95, Probabilities.getWinProbability(30, 19));
+    assertEquals(0, Probabilities.getWinProbability(1, 5));
+    assertEquals(100, Probabilities.getWinProbability(5, 0));
+  }
+
+  @Test
+  void exactWinProbabilityTest() {
+    assertEquals(15. / 36, Probabilities.getExactWinProbability(2, 1), 1E-12);
+    assertEquals(125. / 216, BattleOdds.getRoundProbability(2, 1, 0), 1E-12);
+    assertEquals(2890. / 7776, BattleOdds.getRoundProbability(3, 2, 0), 1E-12);
+    // a battle too large for the cache is calculated the same way
+    double large = Probabilities.getExactWinProbability(1502, 1500);
+    assertTrue(large > 0.5 && large < 1);
+  }
+
+  @Test
+  void battleOutcomeTest() {
+    BattleOutcome outcome = Probabilities.getBattleOutcome(11, 7);
+    double total = outcome.getWinProbability();
+    for (double remaining : outcome.defenderRemaining()) {
+      total += remaining;
+    }
+    assertEquals(1, total, 1E-12);
+    assertEquals(Probabilities.getExactWinProbability(11, 7), outcome.getWinProbability(), 1E-12);
+    assertTrue(outcome.getExpectedAttackerLosses() > 0);
+    assertTrue(outcome.getExpectedDefenderLosses() <= 7);
   }
 
   @Test
@@ -79,10 +104,10 @@ class ProbabilitiesTest {
 
   @Test
   void initTest() {
-    assertEquals(20, Probabilities.getWinProbabilityArray().length);
-    for (int i = 0; i < Probabilities.getWinProbabilityArray().length; i++) {
-      assertEquals(20, Probabilities.getWinProbabilityArray()[i].length,
-          "Position " + (i + 1) + " not correct");
+    assertTrue(BattleOdds.getWinCache().length > 20);
+    for (int i = 0; i < BattleOdds.getWinCache().length; i++) {
+      assertEquals(BattleOdds.getWinCache().length, BattleOdds.getWinCache()[i].length,
+          "Position " + i + " not correct");
     }
   }
 
@@ -3,14 +3,22 @@ package com.unima.risk6.game.ai.montecarlo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.bots.EasyBot;
 import com.unima.risk6.game.ai.bots.HardBot;
+import com.unima.risk6.game.ai.models.MoveTriplet;
+import com.unima.risk6.game.ai.models.Probabilities;
 import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.logic.Reinforce;
+import com.unima.risk6.game.logic.controllers.DeckController;
 import com.unima.risk6.game.models.Country;
 import com.unima.risk6.game.models.GameState;
 import com.unima.risk6.game.models.Player;
 import com.unima.risk6.game.models.enums.CountryName;
+import com.unima.risk6.game.models.enums.GamePhase;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeAll;
@@ -61,6 +69,123 @@ class MonteCarloTreeSearchTest {
     assertNotSame(originalPeru, copyPeru);
   }
 
+  @Test
+  void parallelSearchTest() {
+    HardBot bot = new HardBot("Hal");
+    GameState playable = createPlayableGameState(bot);
+    MonteCarloTreeSearch mcts = new MonteCarloTreeSearch(bot);
+    mcts.setThreadCount(4);
+    MoveTriplet move = mcts.getBestMove(playable, Duration.ofMillis(500));
+    assertNotNull(move);
+    assertTrue(mcts.getLastIterationCount() >= 4);
+    assertTrue(mcts.getIterationsPerSecond() > 0);
+    assertEquals(bot.getDeployableTroops(),
+        move.reinforcements().stream().mapToInt(Reinforce::getToAdd).sum());
+    for (Reinforce reinforce : move.reinforcements()) {
+      Country original = getCountryFromGameState(playable,
+          reinforce.getCountry().getCountryName());
+      assertEquals(bot, original.getPlayer());
+    }
+  }
+
+  @Test
+  void iterationCountIsNotSharedTest() {
+    HardBot bot = new HardBot("Halley");
+    GameState playable = createPlayableGameState(bot);
+    MonteCarloTreeSearch mcts = new MonteCarloTreeSearch(bot);
+    mcts.setThreadCount(1);
+    mcts.setIterations(20);
+    mcts.getBestMove(playable);
+    mcts.getBestMove(playable);
+    assertEquals(20, mcts.getIterations());
+    assertEquals(20, mcts.getLastIterationCount());
+  }
+
+  @Test
+  void treeIsReusedAfterReinforcingTest() {
+    HardBot bot = new HardBot("Hector");
+    GameState playable = createPlayableGameState(bot);
+    MonteCarloTreeSearch mcts = new MonteCarloTreeSearch(bot);
+    mcts.setThreadCount(2);
+    mcts.setIterations(30);
+    MoveTriplet move = mcts.getBestMove(playable);
+    assertEquals(0, mcts.getLastReusedIterationCount());
+    for (Reinforce reinforce : move.reinforcements()) {
+      getCountryFromGameState(playable, reinforce.getCountry().getCountryName())
+          .changeTroops(reinforce.getToAdd());
+    }
+    bot.setDeployableTroops(0);
+    bot.setCurrentPhase(GamePhase.ATTACK_PHASE);
+    mcts.setIterations(10);
+    mcts.getBestMove(playable);
+    assertTrue(mcts.getLastReusedIterationCount() > 0);
+    assertEquals(20, mcts.getLastIterationCount());
+  }
+
+  @Test
+  void searchIsReproducibleWithFixedGameSeedTest() {
+    List<String> moves = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      HardBot bot = new HardBot("Rhea");
+      GameState playable = createPlayableGameState(bot, 42L);
+      MonteCarloTreeSearch mcts = new MonteCarloTreeSearch(bot);
+      mcts.setThreadCount(2);
+      mcts.setIterations(15);
+      moves.add(describe(mcts.getBestMove(playable)));
+    }
+    assertEquals(moves.get(0), moves.get(1));
+  }
+
+  static String describe(MoveTriplet move) {
+    StringBuilder description = new StringBuilder();
+    move.reinforcements().forEach(reinforce -> description.append(
+        reinforce.getCountry().getCountryName()).append('+').append(reinforce.getToAdd()));
+    move.attacks().forEach(attack -> description.append(attack.getOutgoing().getCountryName())
+        .append('>').append(attack.getIncoming().getCountryName()));
+    if (move.fortify() != null) {
+      description.append(move.fortify().getOutgoing().getCountryName()).append('>')
+          .append(move.fortify().getIncoming().getCountryName());
+    }
+    return description.toString();
+  }
+
+  static GameState createPlayableGameState(HardBot bot) {
+    return createPlayableGameState(bot, System.nanoTime());
+  }
+
+  /**
+   * Creates a game between a HardBot and an EasyBot in which the HardBot is about to reinforce.
+   * Every second country belongs to the HardBot. All random decisions are derived from the seed.
+   */
+  static GameState createPlayableGameState(HardBot bot, long seed) {
+    Probabilities.init();
+    EasyBot enemy = new EasyBot("Eve");
+    List<AiBot> bots = new ArrayList<>();
+    bots.add(bot);
+    bots.add(enemy);
+    GameState playable = GameConfiguration.configureGame(new ArrayList<>(), bots);
+    if (playable.getActivePlayers().peek() != bot) {
+      playable.getActivePlayers().add(playable.getActivePlayers().poll());
+    }
+    playable.setCurrentPlayer(bot);
+    for (Country country : playable.getCountries()) {
+      Player owner = country.getCountryName().ordinal() % 2 == 0 ? bot : enemy;
+      country.setPlayer(owner);
+      country.setTroops(1 + country.getCountryName().ordinal() % 3);
+      owner.getCountries().add(country);
+    }
+    playable.setSeed(seed);
+    new DeckController(playable.getDeck(), playable.getRandom()).initDeck();
+    bot.setInitialTroops(0);
+    enemy.setInitialTroops(0);
+    bot.setCurrentPhase(GamePhase.REINFORCEMENT_PHASE);
+    enemy.setCurrentPhase(GamePhase.NOT_ACTIVE);
+    bot.setDeployableTroops(7);
+    bot.setGameState(playable);
+    enemy.setGameState(playable);
+    return playable;
+  }
+
   Country getCountryFromGameState(GameState gameState, CountryName countryName) {
     return gameState.getCountries().stream().filter(c -> c.getCountryName().equals(countryName))
         .findFirst().orElse(null);
@@ -0,0 +1,174 @@
+package com.unima.risk6.game.ai.montecarlo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.bots.EasyBot;
+import com.unima.risk6.game.ai.models.Probabilities;
+import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.configurations.GameStateCopier;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.enums.ContinentName;
+import com.unima.risk6.game.models.enums.CountryName;
+import com.unima.risk6.game.models.enums.GamePhase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SimulationBoardTest {
+
+  static GameState gameState;
+  static List<Player> players;
+
+  @BeforeAll
+  static void setUp() {
+    Probabilities.init();
+  }
+
+  @BeforeEach
+  void createGameState() {
+    List<AiBot> bots = new ArrayList<>();
+    bots.add(new EasyBot("Anna"));
+    bots.add(new EasyBot("Ben"));
+    bots.add(new EasyBot("Cleo"));
+    gameState = GameConfiguration.configureGame(new ArrayList<>(), bots);
+    players = new ArrayList<>(gameState.getActivePlayers());
+    for (Country country : gameState.getCountries()) {
+      Player owner = players.get(country.getCountryName().ordinal() % players.size());
+      country.setPlayer(owner);
+      country.setTroops(1 + country.getCountryName().ordinal() % 4);
+      owner.getCountries().add(country);
+    }
+  }
+
+  @Test
+  void fromGameStateTest() {
+    SimulationBoard board = SimulationBoard.fromGameState(gameState);
+    assertEquals(3, board.getPlayerCount());
+    for (Country country : gameState.getCountries()) {
+      int index = country.getCountryName().ordinal();
+      assertEquals(country.getTroops(), board.getTroops(index));
+      assertSame(country.getPlayer(), board.getPlayer(board.getOwner(index)));
+      assertEquals(country.getAdjacentCountries().size(),
+          Long.bitCount(SimulationBoard.getAdjacency(index)));
+    }
+    for (int i = 0; i < players.size(); i++) {
+      assertEquals(players.get(i).getCountries().size(), board.getCountryCount(i));
+    }
+    assertEquals(players.indexOf(gameState.getCurrentPlayer()), board.getCurrentPlayer());
+  }
+
+  @Test
+  void continentOwnershipTest() {
+    SimulationBoard board = SimulationBoard.fromGameState(gameState);
+    int australia = ContinentName.AUSTRALIA.ordinal();
+    long mask = SimulationBoard.getContinentMask(australia);
+    assertEquals(4, Long.bitCount(mask));
+    while (mask != 0) {
+      board.setOwner(Long.numberOfTrailingZeros(mask), 0, 2);
+      mask &= mask - 1;
+    }
+    assertEquals(0, board.getContinentOwner(australia));
+    assertEquals(1, board.getContinentCount(0));
+    assertTrue(board.calculateDeployableTroops(0)
+        >= 3 + ContinentName.AUSTRALIA.getBonusTroops());
+  }
+
+  @Test
+  void applyToTest() {
+    SimulationBoard board = SimulationBoard.fromGameState(gameState);
+    int peru = CountryName.PERU.ordinal();
+    int newOwner = (board.getOwner(peru) + 1) % board.getPlayerCount();
+    board.setOwner(peru, newOwner, 7);
+    board.applyTo(gameState);
+    Country peruCountry = gameState.getCountries().stream()
+        .filter(c -> c.getCountryName() == CountryName.PERU).findFirst().orElseThrow();
+    assertEquals(7, peruCountry.getTroops());
+    assertSame(players.get(newOwner), peruCountry.getPlayer());
+    assertTrue(players.get(newOwner).getCountries().contains(peruCountry));
+    int owners = 0;
+    for (Player player : players) {
+      owners += player.getCountries().contains(peruCountry) ? 1 : 0;
+    }
+    assertEquals(1, owners);
+  }
+
+  @Test
+  void rolloutKeepsBoardConsistentTest() {
+    SimulationBoard board = SimulationBoard.fromGameState(gameState);
+    new BoardRollout(board, new Random(42)).run(60);
+    int ownedCountries = 0;
+    for (int i = 0; i < board.getPlayerCount(); i++) {
+      ownedCountries += board.getCountryCount(i);
+    }
+    assertEquals(SimulationBoard.COUNTRY_COUNT, ownedCountries);
+    for (int country = 0; country < SimulationBoard.COUNTRY_COUNT; country++) {
+      assertTrue(board.getTroops(country) >= 1);
+      assertTrue((board.getOwnedMask(board.getOwner(country)) & 1L << country) != 0);
+    }
+  }
+
+  @Test
+  void incrementalHashTest() {
+    SimulationBoard board = SimulationBoard.fromGameState(gameState);
+    assertEquals(board.computeHash(), board.getHash());
+    BoardRollout rollout = new BoardRollout(board, new Random(7));
+    for (int turn = 0; turn < 30 && !board.isGameOver(); turn++) {
+      rollout.playTurn();
+      assertEquals(board.computeHash(), board.getHash());
+    }
+    assertEquals(GamePhase.REINFORCEMENT_PHASE, board.getPhase());
+  }
+
+  @Test
+  void hashDependsOnStateOnlyTest() {
+    SimulationBoard board = SimulationBoard.fromGameState(gameState);
+    SimulationBoard copy = new SimulationBoard(board);
+    int peru = CountryName.PERU.ordinal();
+    copy.addTroops(peru, 1);
+    assertNotEquals(board.getHash(), copy.getHash());
+    copy.addTroops(peru, -1);
+    assertEquals(board.getHash(), copy.getHash());
+    gameState.getActivePlayers().add(gameState.getActivePlayers().poll());
+    SimulationBoard rotated = SimulationBoard.fromGameState(gameState);
+    assertNotEquals(board.getPlayer(0), rotated.getPlayer(0));
+    assertEquals(board.getHash(), rotated.getHash());
+  }
+
+  @Test
+  void updatedHashEqualsHashOfBoardTest() {
+    gameState.setCurrentPlayer(players.get(0));
+    players.get(0).setCurrentPhase(GamePhase.REINFORCEMENT_PHASE);
+    long hash = SimulationBoard.fromGameState(gameState).getHash();
+    GameState after = GameStateCopier.copy(gameState);
+    List<Player> copiedPlayers = new ArrayList<>(after.getActivePlayers());
+    for (Country country : after.getCountries()) {
+      if (country.getCountryName() == CountryName.PERU) {
+        country.setTroops(country.getTroops() + 3);
+      } else if (country.getCountryName() == CountryName.BRAZIL) {
+        country.setPlayer(copiedPlayers.get(2));
+        country.setTroops(12);
+      }
+    }
+    after.setCurrentPlayer(copiedPlayers.get(1));
+    copiedPlayers.get(1).setCurrentPhase(GamePhase.ATTACK_PHASE);
+    assertEquals(SimulationBoard.fromGameState(after).getHash(),
+        SimulationBoard.updateHash(hash, gameState, after));
+    after.getActivePlayers().remove(copiedPlayers.get(2));
+    for (Country country : after.getCountries()) {
+      if (country.getPlayer().equals(copiedPlayers.get(2))) {
+        country.setPlayer(copiedPlayers.get(0));
+      }
+    }
+    assertEquals(SimulationBoard.fromGameState(after).getHash(),
+        SimulationBoard.updateHash(hash, gameState, after));
+  }
+}
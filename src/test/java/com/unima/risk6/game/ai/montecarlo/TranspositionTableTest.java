@@ -0,0 +1,35 @@
+package com.unima.risk6.game.ai.montecarlo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class TranspositionTableTest {
+
+  @Test
+  void equalHashesShareStatisticsTest() {
+    TranspositionTable table = new TranspositionTable(8);
+    NodeStatistics statistics = table.lookup(42L);
+    statistics.incrementVisits();
+    assertSame(statistics, table.lookup(42L));
+    assertEquals(1, table.lookup(42L).getVisits());
+    assertNotSame(statistics, table.lookup(43L));
+    assertEquals(4, table.getLookups());
+    assertEquals(2, table.getHits());
+  }
+
+  @Test
+  void leastRecentlyUsedEntryIsReplacedTest() {
+    TranspositionTable table = new TranspositionTable(2);
+    NodeStatistics first = table.lookup(1L);
+    table.lookup(2L);
+    table.lookup(1L);
+    table.lookup(3L);
+    assertEquals(2, table.size());
+    assertSame(first, table.lookup(1L));
+    assertEquals(0, table.lookup(2L).getVisits());
+    assertEquals(2, table.size());
+  }
+}
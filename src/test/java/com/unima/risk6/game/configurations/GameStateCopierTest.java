@@ -0,0 +1,107 @@
+package com.unima.risk6.game.configurations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.bots.HardBot;
+import com.unima.risk6.game.logic.Reinforce;
+import com.unima.risk6.game.models.Continent;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.enums.CountryName;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class GameStateCopierTest {
+
+  static GameState gameState;
+
+  @BeforeAll
+  static void setUp() {
+    List<String> users = new ArrayList<>();
+    users.add("Alice");
+    users.add("Bob");
+    List<AiBot> bots = new ArrayList<>();
+    bots.add(new HardBot("Carl"));
+    gameState = GameConfiguration.configureGame(users, bots);
+    List<Player> players = new ArrayList<>(gameState.getActivePlayers());
+    int i = 0;
+    for (Country country : gameState.getCountries()) {
+      Player owner = players.get(i % players.size());
+      country.setPlayer(owner);
+      country.setTroops(1 + i % 7);
+      owner.getCountries().add(country);
+      i++;
+    }
+    gameState.getLastMoves()
+        .add(new Reinforce(getCountry(gameState, CountryName.PERU), 3));
+  }
+
+  @Test
+  void copyIsDeepAndEqualTest() {
+    GameState copy = GameStateCopier.copy(gameState);
+    assertEquals(gameState.getCountries().size(), copy.getCountries().size());
+    assertEquals(gameState.getContinents().size(), copy.getContinents().size());
+    Iterator<Player> originals = gameState.getActivePlayers().iterator();
+    for (Player copiedPlayer : copy.getActivePlayers()) {
+      Player original = originals.next();
+      assertEquals(original, copiedPlayer);
+      assertNotSame(original, copiedPlayer);
+      assertSame(original.getClass(), copiedPlayer.getClass());
+      assertNotSame(original.getHand(), copiedPlayer.getHand());
+      assertEquals(original.getCountries().size(), copiedPlayer.getCountries().size());
+      for (Country country : copiedPlayer.getCountries()) {
+        assertSame(copiedPlayer, country.getPlayer());
+        assertTrue(copy.getCountries().contains(country));
+      }
+    }
+    assertSame(copy.getActivePlayers().peek(), copy.getCurrentPlayer());
+    for (Country original : gameState.getCountries()) {
+      Country copied = getCountry(copy, original.getCountryName());
+      assertNotSame(original, copied);
+      assertEquals(original.getTroops(), copied.getTroops());
+      assertEquals(original.getAdjacentCountries().size(), copied.getAdjacentCountries().size());
+      for (Country neighbour : copied.getAdjacentCountries()) {
+        assertSame(getCountry(copy, neighbour.getCountryName()), neighbour);
+      }
+      assertTrue(copied.getContinent().getCountries().contains(copied));
+    }
+    Reinforce lastMove = (Reinforce) copy.getLastMoves().peek();
+    assertSame(getCountry(copy, CountryName.PERU), lastMove.getCountry());
+  }
+
+  @Test
+  void registryResolvesCountriesAndContinentsOfCopyTest() {
+    GameState copy = GameStateCopier.copy(gameState);
+    for (Country country : copy.getCountries()) {
+      assertSame(country, copy.getCountry(country.getCountryName()));
+      assertNotSame(country, gameState.getCountry(country.getCountryName()));
+    }
+    for (Continent continent : copy.getContinents()) {
+      assertSame(continent, copy.getContinent(continent.getContinentName()));
+    }
+  }
+
+  @Test
+  void copyDoesNotChangeOriginalTest() {
+    GameState copy = GameStateCopier.copy(gameState);
+    Country copiedPeru = getCountry(copy, CountryName.PERU);
+    int troops = getCountry(gameState, CountryName.PERU).getTroops();
+    copiedPeru.changeTroops(10);
+    copy.getCurrentPlayer().getCountries().clear();
+    assertEquals(troops, getCountry(gameState, CountryName.PERU).getTroops());
+    assertTrue(gameState.getCurrentPlayer().getCountries().size() > 0);
+  }
+
+  static Country getCountry(GameState gameState, CountryName countryName) {
+    return gameState.getCountries().stream().filter(c -> c.getCountryName().equals(countryName))
+        .findFirst().orElse(null);
+  }
+}
@@ -0,0 +1,90 @@
+package com.unima.risk6.game.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.unima.risk6.game.ai.models.BattleOdds;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.enums.CountryName;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class DiceKernelTest {
+
+  @Test
+  void testRoundOutcomesMatchExactOdds() {
+    SplittableRandom random = new SplittableRandom(42);
+    int rounds = 200_000;
+    for (int attackDice = 1; attackDice <= 3; attackDice++) {
+      for (int defendDice = 1; defendDice <= 2; defendDice++) {
+        int[] lossCounts = new int[3];
+        for (int i = 0; i < rounds; i++) {
+          int outcome = DiceKernel.roll(random, attackDice, defendDice);
+          int attackerLosses = DiceKernel.attackerLosses(outcome);
+          assertEquals(Math.min(attackDice, defendDice),
+              attackerLosses + DiceKernel.defenderLosses(outcome));
+          lossCounts[attackerLosses]++;
+        }
+        for (int losses = 0; losses < 3; losses++) {
+          assertEquals(BattleOdds.getRoundProbability(attackDice, defendDice, losses),
+              (double) lossCounts[losses] / rounds, 0.01);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testDiceAreSortedAndDecideLosses() {
+    SplittableRandom random = new SplittableRandom(7);
+    for (int i = 0; i < 10_000; i++) {
+      int outcome = DiceKernel.roll(random, 3, 2);
+      for (int die = 0; die < 3; die++) {
+        assertTrue(DiceKernel.attackDie(outcome, die) >= 1);
+        assertTrue(DiceKernel.attackDie(outcome, die) <= 6);
+      }
+      assertTrue(DiceKernel.attackDie(outcome, 0) >= DiceKernel.attackDie(outcome, 1));
+      assertTrue(DiceKernel.attackDie(outcome, 1) >= DiceKernel.attackDie(outcome, 2));
+      assertTrue(DiceKernel.defendDie(outcome, 0) >= DiceKernel.defendDie(outcome, 1));
+      int defenderLosses = 0;
+      for (int die = 0; die < 2; die++) {
+        if (DiceKernel.attackDie(outcome, die) > DiceKernel.defendDie(outcome, die)) {
+          defenderLosses++;
+        }
+      }
+      assertEquals(defenderLosses, DiceKernel.defenderLosses(outcome));
+    }
+  }
+
+  @Test
+  void testBlitzFightsUntilConquestOrExhaustion() {
+    SplittableRandom random = new SplittableRandom(3);
+    int conquests = 0;
+    int battles = 20_000;
+    for (int i = 0; i < battles; i++) {
+      int outcome = DiceKernel.blitz(random, 6, 4);
+      int attackersLeft = 6 - DiceKernel.blitzAttackerLosses(outcome);
+      int defendersLeft = 4 - DiceKernel.blitzDefenderLosses(outcome);
+      assertTrue(defendersLeft == 0 || attackersLeft == 1);
+      assertTrue(attackersLeft >= 1 && defendersLeft >= 0);
+      if (defendersLeft == 0) {
+        conquests++;
+        assertTrue(DiceKernel.blitzLastAttackDice(outcome) <= attackersLeft);
+      }
+    }
+    assertEquals(BattleOdds.getWinProbability(5, 4), (double) conquests / battles, 0.02);
+  }
+
+  @Test
+  void testAttackRecordsTheDiceOfTheKernel() {
+    Country attacking = new Country(CountryName.ALASKA);
+    Country defending = new Country(CountryName.ALBERTA);
+    attacking.setTroops(4);
+    defending.setTroops(1);
+    Attack attack = new Attack(attacking, defending, 3);
+    attack.calculateLosses(new SplittableRandom(1));
+    assertEquals(3, attack.getAttackDiceResult().size());
+    assertEquals(1, attack.getDefendDiceResult().size());
+    assertEquals(1, attack.getAttackerLosses() + attack.getDefenderLosses());
+    assertEquals(attack.getDefenderLosses() == 1, attack.getHasConquered());
+  }
+}
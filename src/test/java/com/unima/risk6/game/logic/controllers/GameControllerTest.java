@@ -328,6 +328,26 @@ class GameControllerTest {
     assertEquals(6, players[0].getContinents().size());
   }
 
+  @Test
+  void aggregatesFollowTroopChangesAndOwnershipTest() {
+    getContinentByContinentName(ContinentName.AUSTRALIA).getCountries()
+        .forEach(n -> addCountryToPlayer(n.getCountryName(), players[0]));
+    Country indonesia = getCountryByCountryName(CountryName.INDONESIA);
+    indonesia.setTroops(5);
+    getCountryByCountryName(CountryName.NEW_GUINEA).changeTroops(2);
+    assertEquals(4, players[0].getNumberOfCountries());
+    assertEquals(7, players[0].getNumberOfTroops());
+    assertTrue(players[0].ownsContinent(indonesia.getContinent()));
+
+    indonesia.setPlayer(players[1]);
+    assertEquals(3, players[0].getNumberOfCountries());
+    assertEquals(2, players[0].getNumberOfTroops());
+    assertFalse(players[0].ownsContinent(indonesia.getContinent()));
+    assertEquals(1, players[1].getNumberOfCountries());
+    assertEquals(5, gameController.countTroops().get(players[1]));
+    assertEquals(1, gameController.countCountries().get(players[1]));
+  }
+
   @Test
   void deployableTroopsCalculationWithContinentsTest() {
     getContinentByContinentName(ContinentName.AUSTRALIA).getCountries()
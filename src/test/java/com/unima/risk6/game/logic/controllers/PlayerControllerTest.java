@@ -214,4 +214,35 @@ class PlayerControllerTest {
     assertTrue(expected.containsAll(results));
   }
 
+  @Test
+  void frontierFollowsConquestTest() {
+    Country indonesia = getCountryByCountryName(CountryName.INDONESIA);
+    Country newGuinea = getCountryByCountryName(CountryName.NEW_GUINEA);
+    Country western = getCountryByCountryName(CountryName.WESTERN_AUSTRALIA);
+    Country eastern = getCountryByCountryName(CountryName.EASTERN_AUSTRALIA);
+    Country siam = getCountryByCountryName(CountryName.SIAM);
+    Player enemy = new Player("Juror 8");
+    siam.setPlayer(enemy);
+    playerController.addCountry(indonesia);
+    playerController.addCountry(newGuinea);
+    playerController.addCountry(western);
+    playerController.addCountry(eastern);
+    assertEquals(1, player.getBorderCountries().size());
+    assertTrue(indonesia.isBorderCountry());
+    assertEquals(1, player.getForeignNeighbours(indonesia));
+    assertFalse(eastern.isBorderCountry());
+
+    newGuinea.setPlayer(enemy);
+    assertTrue(player.getBorderCountries().containsAll(List.of(indonesia, western, eastern)));
+    assertFalse(player.getBorderCountries().contains(newGuinea));
+    assertEquals(2, player.getForeignNeighbours(indonesia));
+    assertEquals(3, enemy.getForeignNeighbours(newGuinea));
+    assertTrue(enemy.getBorderCountries().contains(siam));
+
+    newGuinea.setPlayer(player);
+    assertEquals(1, player.getBorderCountries().size());
+    assertEquals(0, enemy.getForeignNeighbours(newGuinea));
+    siam.setPlayer(null);
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.unima.risk6.game.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.models.Probabilities;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class TournamentRunnerTest {
+
+  @BeforeAll
+  static void setUp() {
+    Probabilities.init();
+  }
+
+  @Test
+  void headlessGameIsReproducibleTest() {
+    GameResult first = playGame(7L);
+    GameResult second = playGame(7L);
+    assertTrue(first.turns() > 0);
+    assertEquals(first.winner(), second.winner());
+    assertEquals(first.turns(), second.turns());
+  }
+
+  @Test
+  void tournamentTest() {
+    TournamentRunner runner = new TournamentRunner(
+        List.of(BotType.EASY, BotType.MEDIUM, BotType.MONTE_CARLO));
+    runner.setParallelism(4);
+    runner.setMaxTurns(300);
+    TournamentResult result = runner.run(8, 1L);
+    System.out.print(result);
+    assertEquals(8, result.getGames());
+    int decided = result.getWins().values().stream().mapToInt(Integer::intValue).sum();
+    assertEquals(8, decided + result.getUnfinishedGames());
+    assertEquals(3, result.getWins().size());
+    assertTrue(result.getGamesPerSecond() > 0);
+    assertTrue(result.getAverageTurns() > 0);
+  }
+
+  static GameResult playGame(long seed) {
+    List<AiBot> bots = List.of(BotType.EASY.create("Easy"), BotType.MEDIUM.create("Medium"));
+    return new HeadlessGame(bots, seed, 500).play();
+  }
+}
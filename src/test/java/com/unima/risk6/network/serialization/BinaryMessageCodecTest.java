@@ -0,0 +1,140 @@
+package com.unima.risk6.network.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.bots.EasyBot;
+import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.logic.Attack;
+import com.unima.risk6.game.logic.EndPhase;
+import com.unima.risk6.game.logic.Reinforce;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.enums.GamePhase;
+import com.unima.risk6.network.message.ChatMessage;
+import com.unima.risk6.network.message.GameStateDelta;
+import com.unima.risk6.network.message.GameStateDelta.CountryUpdate;
+import com.unima.risk6.network.message.Message;
+import com.unima.risk6.network.message.StandardMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BinaryMessageCodecTest {
+
+  private GameState gameState;
+
+  @BeforeEach
+  void setUp() {
+    gameState = GameConfiguration.configureGame(List.of("P1", "Jürgen"),
+        List.of((AiBot) new EasyBot("EASY 1")));
+    Iterator<Country> countries = gameState.getCountries().iterator();
+    int i = 0;
+    for (Player player : gameState.getActivePlayers()) {
+      player.setCurrentPhase(GamePhase.REINFORCEMENT_PHASE);
+      for (int j = 0; j < 3; j++) {
+        Country country = countries.next();
+        country.setPlayer(player);
+        country.setTroops(++i);
+        player.getCountries().add(country);
+      }
+    }
+    gameState.setVersion(4_000_000_000L);
+  }
+
+  @Test
+  void testMoveRoundTrip() {
+    Iterator<Country> countries = gameState.getCountries().iterator();
+    Attack attack = new Attack(countries.next(), countries.next(), 3);
+    attack.getAttackDiceResult().addAll(List.of(6, 4, 1));
+    attack.getDefendDiceResult().addAll(List.of(5, 5));
+    attack.setAttackerLosses(1);
+    attack.setDefenderLosses(1);
+
+    Attack decoded = (Attack) roundTrip(new StandardMessage<>(attack), gameState).getContent();
+    assertSame(attack.getAttackingCountry(), decoded.getAttackingCountry());
+    assertSame(attack.getDefendingCountry(), decoded.getDefendingCountry());
+    assertEquals(3, decoded.getTroopNumber());
+    assertEquals(attack.getAttackDiceResult(), decoded.getAttackDiceResult());
+    assertEquals(attack.getDefendDiceResult(), decoded.getDefendDiceResult());
+
+    EndPhase endPhase = (EndPhase) roundTrip(
+        new StandardMessage<>(new EndPhase(GamePhase.FORTIFY_PHASE), 200), null).getContent();
+    assertEquals(GamePhase.FORTIFY_PHASE, endPhase.getPhaseToEnd());
+  }
+
+  @Test
+  void testGameStateRoundTrip() {
+    gameState.getLastMoves().add(new Reinforce(gameState.getCountries().iterator().next(), 2));
+    GameState decoded = (GameState) roundTrip(new StandardMessage<>(gameState),
+        GameConfiguration.configureGame(new ArrayList<>(), new ArrayList<>())).getContent();
+    assertEquals(4_000_000_000L, decoded.getVersion());
+    assertEquals(serialize(new StandardMessage<>(gameState)),
+        serialize(new StandardMessage<>(decoded)));
+  }
+
+  @Test
+  void testDeltaRoundTrip() {
+    GameStateDelta delta = new GameStateDelta(7, 8);
+    Country country = gameState.getCountries().iterator().next();
+    delta.getCountries().add(new CountryUpdate(country.getCountryName(), "Jürgen", 12));
+    delta.getCountries().add(new CountryUpdate(country.getCountryName(), null, 0));
+    Player player = gameState.getCurrentPlayer();
+    delta.getPlayers().put(player.getUser(),
+        Serializer.toJsonTree(player).getAsJsonObject());
+    delta.setLostPlayers(List.of("P1"));
+    delta.setCurrentPlayer("Jürgen");
+    delta.setChatEnabled(true);
+
+    Message<?> decoded = roundTrip(new StandardMessage<>(delta), null);
+    assertEquals(serialize(new StandardMessage<>(delta)), serialize(decoded));
+  }
+
+  @Test
+  void testOnlyMovesAndGameStatesAreEncoded() {
+    assertFalse(BinaryMessageCodec.canEncode(new StandardMessage<>("text")));
+    assertFalse(BinaryMessageCodec.canEncode(new ChatMessage("hello")));
+    assertTrue(BinaryMessageCodec.canEncode(new StandardMessage<>(gameState)));
+  }
+
+  @Test
+  void testVarInts() {
+    ByteBuf buffer = Unpooled.buffer();
+    int[] values = {0, 1, -1, 127, 128, -300, Integer.MAX_VALUE, Integer.MIN_VALUE};
+    for (int value : values) {
+      BinaryMessageCodec.writeSignedVarInt(buffer, value);
+    }
+    BinaryMessageCodec.writeVarInt(buffer, 127);
+    assertEquals(1 + 1 + 1 + 2 + 2 + 2 + 5 + 5 + 1, buffer.readableBytes());
+    for (int value : values) {
+      assertEquals(value, BinaryMessageCodec.readSignedVarInt(buffer));
+    }
+    assertEquals(127, BinaryMessageCodec.readVarInt(buffer));
+  }
+
+  private static Message<?> roundTrip(Message<?> message, GameState context) {
+    ByteBuf buffer = BinaryMessageCodec.encode(message, UnpooledByteBufAllocator.DEFAULT);
+    try {
+      assertEquals(message.getContentType(), BinaryMessageCodec.peekContentType(buffer));
+      Message<?> decoded = BinaryMessageCodec.decode(buffer, context);
+      assertEquals(0, buffer.readableBytes());
+      assertEquals(message.getStatusCode(), decoded.getStatusCode());
+      return decoded;
+    } finally {
+      buffer.release();
+    }
+  }
+
+  private static String serialize(Message<?> message) {
+    return Serializer.serialize(message).replaceAll(".hashCode..\\d*?,", "");
+  }
+}
@@ -1,6 +1,7 @@
 package com.unima.risk6.network.serialization;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -18,10 +19,16 @@ import com.unima.risk6.game.models.Player;
 import com.unima.risk6.game.models.enums.ContinentName;
 import com.unima.risk6.game.models.enums.CountryName;
 import com.unima.risk6.network.message.StandardMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -46,6 +53,20 @@ public class SerializationTest {
 
   }
 
+  @Test
+  void testSerializationIntoBuffer() {
+    GameState gameState = GameConfiguration.configureGame(List.of("Jürgen", "P2"),
+        new ArrayList<>());
+    StandardMessage<GameState> message = new StandardMessage<>(gameState);
+    ByteBuf buffer = Serializer.serialize(message, PooledByteBufAllocator.DEFAULT);
+    try {
+      assertTrue(buffer.isDirect());
+      assertEquals(Serializer.serialize(message), buffer.toString(StandardCharsets.UTF_8));
+    } finally {
+      buffer.release();
+    }
+  }
+
   @Test
   void testSerializationAndDeserialization() {
     StandardMessage<String> standard = new StandardMessage<>("tetest");
@@ -183,4 +204,64 @@ public class SerializationTest {
     assertEquals(hashMap.get("lel"), hashMap2.get("lel"));
   }
 
+  @Test
+  void testDeserializedPlayersCountTheirCountries() {
+    GameState oldGamestate = GameConfiguration.configureGame(List.of("Peter", "Paul"),
+        new ArrayList<>());
+    List<Player> players = new ArrayList<>(oldGamestate.getActivePlayers());
+    int index = 0;
+    for (Country country : oldGamestate.getCountries()) {
+      Player owner = players.get(index++ % 3 == 0 ? 0 : 1);
+      owner.getCountries().add(country);
+      country.setPlayer(owner);
+      country.setTroops(index % 4 + 1);
+    }
+    @SuppressWarnings("unchecked")
+    StandardMessage<GameState> m2 = (StandardMessage<GameState>) Deserializer.deserialize(
+        Serializer.serialize(new StandardMessage<>(oldGamestate)),
+        GameConfiguration.configureGame(new ArrayList<>(), new ArrayList<>()));
+    GameState g2 = m2.getContent();
+    assertSame(g2.getActivePlayers().peek(), g2.getCurrentPlayer());
+    for (Player oldPlayer : players) {
+      Player newPlayer = g2.getActivePlayers().stream()
+          .filter(x -> x.getUser().equals(oldPlayer.getUser())).findFirst().orElseThrow();
+      assertEquals(oldPlayer.getNumberOfCountries(), newPlayer.getNumberOfCountries());
+      assertEquals(oldPlayer.getNumberOfTroops(), newPlayer.getNumberOfTroops());
+      assertEquals(oldPlayer.getBorderCountries().size(),
+          newPlayer.getBorderCountries().size());
+      for (Country country : newPlayer.getBorderCountries()) {
+        assertSame(newPlayer, country.getPlayer());
+        assertTrue(country.isBorderCountry());
+      }
+    }
+  }
+
+  @Test
+  void testConcurrentDeserializationUsesOwnGameState() throws Exception {
+    ArrayList<String> users = new ArrayList<>(List.of("Peter"));
+    GameState oldGamestate = GameConfiguration.configureGame(users, new ArrayList<>());
+    oldGamestate.getCurrentPlayer().getCountries()
+        .add(oldGamestate.getCountries().stream().findFirst().orElseThrow());
+    String json = Serializer.serialize(new StandardMessage<>(oldGamestate));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(() -> {
+          GameState context = GameConfiguration.configureGame(new ArrayList<>(),
+              new ArrayList<>());
+          GameState g2 = (GameState) Deserializer.deserialize(json, context).getContent();
+          Country country = g2.getCurrentPlayer().getCountries().iterator().next();
+          return g2 == context && context.getCountries().stream().anyMatch(c -> c == country);
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertNull(SerializationContext.getGameState());
+  }
+
 }
@@ -0,0 +1,78 @@
+package com.unima.risk6.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BackpressureHandlerTest {
+
+  private static final String LARGE_TEXT = "x".repeat(1024);
+
+  private EmbeddedChannel channel;
+  private BackpressureHandler backpressureHandler;
+
+  @BeforeEach
+  void setUp() {
+    backpressureHandler = new BackpressureHandler(1000);
+    channel = new EmbeddedChannel(backpressureHandler);
+    channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(256, 512));
+  }
+
+  @Test
+  void testUpdatesAreWrittenWhileWritable() {
+    assertSame(backpressureHandler, BackpressureHandler.of(channel));
+    backpressureHandler.writeGameUpdate(frame("update"));
+    assertEquals("update", ((TextWebSocketFrame) channel.readOutbound()).text());
+    assertEquals(1, backpressureHandler.getWrittenFrames());
+    assertEquals(0, backpressureHandler.getStalls());
+  }
+
+  @Test
+  void testOnlyLatestUpdateIsWrittenAfterStall() {
+    channel.write(frame(LARGE_TEXT));
+    assertFalse(channel.isWritable());
+    assertTrue(backpressureHandler.getPendingBytes() > 512);
+    backpressureHandler.writeGameUpdate(frame("first"));
+    backpressureHandler.writeGameUpdate(frame("second"));
+    backpressureHandler.writeGameUpdate(frame("third"));
+    assertEquals(2, backpressureHandler.getCoalescedFrames());
+    assertEquals(1, backpressureHandler.getStalls());
+
+    channel.flush();
+    assertTrue(channel.isWritable());
+    assertEquals(LARGE_TEXT, ((TextWebSocketFrame) channel.readOutbound()).text());
+    WebSocketFrame latest = channel.readOutbound();
+    assertEquals("third", ((TextWebSocketFrame) latest).text());
+    assertNull(channel.readOutbound());
+    latest.release();
+  }
+
+  @Test
+  void testStalledChannelIsClosed() {
+    channel.freezeTime();
+    channel.write(frame(LARGE_TEXT));
+    backpressureHandler.writeGameUpdate(frame("update"));
+    channel.advanceTimeBy(999, TimeUnit.MILLISECONDS);
+    channel.runScheduledPendingTasks();
+    assertTrue(channel.isOpen());
+    channel.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+    channel.runScheduledPendingTasks();
+    assertFalse(channel.isOpen());
+    assertNull(BackpressureHandler.of(channel));
+  }
+
+  private static WebSocketFrame frame(String text) {
+    return new TextWebSocketFrame(Unpooled.copiedBuffer(text.getBytes()));
+  }
+}
@@ -0,0 +1,85 @@
+package com.unima.risk6.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.ai.bots.EasyBot;
+import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.logic.controllers.DeckController;
+import com.unima.risk6.game.logic.controllers.GameController;
+import com.unima.risk6.game.logic.controllers.PlayerController;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.Player;
+import com.unima.risk6.game.models.enums.GamePhase;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.util.concurrent.GlobalEventExecutor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BotTurnSchedulerTest {
+
+  private GameState gameState;
+  private MoveProcessor moveProcessor;
+  private LobbyActor lobbyActor;
+
+  @BeforeEach
+  void setUp() {
+    gameState = GameConfiguration.configureGame(List.of("P1"),
+        List.of(new EasyBot("Easy 1"), new EasyBot("Easy 2")));
+    gameState.getActivePlayers().forEach(x -> x.setCurrentPhase(GamePhase.NOT_ACTIVE));
+    gameState.getActivePlayers().stream().filter(x -> x instanceof AiBot)
+        .forEach(x -> ((AiBot) x).setGameState(gameState));
+    List<Player> players = new ArrayList<>(gameState.getActivePlayers());
+    gameState.getActivePlayers().clear();
+    players.stream().filter(x -> x instanceof AiBot).forEach(gameState.getActivePlayers()::add);
+    players.stream().filter(x -> !(x instanceof AiBot)).forEach(gameState.getActivePlayers()::add);
+    gameState.setCurrentPlayer(gameState.getActivePlayers().peek());
+    gameState.getCurrentPlayer().setCurrentPhase(GamePhase.CLAIM_PHASE);
+    PlayerController playerController = new PlayerController();
+    playerController.setPlayer(gameState.getCurrentPlayer());
+    moveProcessor = new MoveProcessor(playerController, new GameController(gameState),
+        new DeckController(gameState.getDeck(), gameState.getRandom()));
+    lobbyActor = new LobbyActor("test");
+  }
+
+  @Test
+  void testConsecutiveBotTurnsAreScheduledUntilUsersTurn() throws Exception {
+    lobbyActor.setPacingProfile(PacingProfile.INSTANT);
+    BotTurnScheduler botTurnScheduler = new BotTurnScheduler(lobbyActor, moveProcessor,
+        new DefaultChannelGroup(GlobalEventExecutor.INSTANCE));
+    lobbyActor.tell(() -> botTurnScheduler.startTurn((AiBot) gameState.getCurrentPlayer()));
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    Player currentPlayer;
+    do {
+      Thread.sleep(10);
+      currentPlayer = readInActor(() -> gameState.getCurrentPlayer());
+    } while (currentPlayer instanceof AiBot && System.nanoTime() < deadline);
+
+    assertEquals("P1", currentPlayer.getUser());
+    long claimed = readInActor(() -> gameState.getCountries().stream()
+        .filter(Country::hasPlayer).count());
+    assertEquals(2, claimed);
+    lobbyActor.stop();
+  }
+
+  @Test
+  void testPacingProfilesScaleTheStandardPauses() {
+    assertEquals(3250, PacingProfile.STANDARD.delay(BotTurnScheduler.ATTACK_DELAY));
+    assertEquals(650, PacingProfile.FAST.delay(BotTurnScheduler.ATTACK_DELAY));
+    assertEquals(0, PacingProfile.INSTANT.delay(BotTurnScheduler.ATTACK_DELAY));
+    assertEquals(PacingProfile.STANDARD, PacingProfile.getDefault());
+  }
+
+  private <T> T readInActor(Supplier<T> read) throws Exception {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    lobbyActor.tell(() -> result.complete(read.get()));
+    return result.get(5, TimeUnit.SECONDS);
+  }
+}
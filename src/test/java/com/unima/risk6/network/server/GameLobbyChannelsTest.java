@@ -2,6 +2,8 @@ package com.unima.risk6.network.server;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -761,4 +763,41 @@ public class GameLobbyChannelsTest {
   }
 
 
+  @Test
+  void channelIndexFollowsJoinLeaveAndGameOver() {
+    GameLobbyChannels gameLobbyChannels = new GameLobbyChannels();
+    Channel channel = createChannel("123");
+    UserDto userDto = new UserDto("Name", 2, 10.5, 12, 1, 400);
+    gameLobbyChannels.putUsers(userDto, channel);
+    Channel channel2 = createChannel("456");
+    gameLobbyChannels.putUsers(new UserDto("Name2", 2, 10.5, 12, 1, 400), channel2);
+    LobbyConfiguration.setServerLobby(new ServerLobby("lele", "12123"));
+    GameServerFrameHandler gsh = createGameServerFramehandler(gameLobbyChannels);
+
+    assertTrue(gameLobbyChannels.containsUser(new UserDto("Name", 0, 0, 0, 0, 0)));
+    assertSame(GameServer.channels, gameLobbyChannels.getChannelGroupByChannel(channel));
+    assertNull(gameLobbyChannels.getGameLobbyByChannel(channel));
+
+    GameLobby gameLobby = new GameLobby("test", 3, "lele", true, 0, userDto);
+    gameLobbyChannels.createGameLobby(gameLobby, channel);
+    gameLobbyChannels.addUserToGameLobby(gameLobby, channel2);
+    assertSame(gameLobby, gameLobbyChannels.getGameLobbyByChannel(channel2));
+    assertSame(gameLobbyChannels.getChannelsByGameLobby(gameLobby),
+        gameLobbyChannels.getChannelGroupByChannel(channel2));
+    assertNull(gameLobbyChannels.getMoveProcessor(channel2));
+
+    gameLobbyChannels.removeUserFromGameLobby(channel2, gsh, false);
+    assertNull(gameLobbyChannels.getGameLobbyByChannel(channel2));
+
+    gameLobby.getBots().add("MediumBot #1");
+    MoveProcessor moveProcessor = gameLobbyChannels.createMoveProcessor(channel);
+    assertSame(moveProcessor, gameLobbyChannels.getMoveProcessor(channel));
+    gsh.setMoveProcessor(moveProcessor);
+    gsh.processStartGame(gameLobby);
+    gameLobbyChannels.handleGameOver(channel, gsh);
+    assertNull(gameLobbyChannels.getGameLobbyByChannel(channel));
+    assertNull(gameLobbyChannels.getMoveProcessor(channel));
+    assertEquals(0, gameLobbyChannels.channelLobbies.size());
+  }
+
 }
@@ -0,0 +1,123 @@
+package com.unima.risk6.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.unima.risk6.game.ai.AiBot;
+import com.unima.risk6.game.configurations.GameConfiguration;
+import com.unima.risk6.game.logic.EndPhase;
+import com.unima.risk6.game.logic.Reinforce;
+import com.unima.risk6.game.logic.controllers.DeckController;
+import com.unima.risk6.game.logic.controllers.GameController;
+import com.unima.risk6.game.logic.controllers.PlayerController;
+import com.unima.risk6.game.models.Country;
+import com.unima.risk6.game.models.GameState;
+import com.unima.risk6.game.models.enums.GamePhase;
+import com.unima.risk6.network.client.GameStateDeltaApplier;
+import com.unima.risk6.network.message.GameStateDelta;
+import com.unima.risk6.network.message.Message;
+import com.unima.risk6.network.message.StandardMessage;
+import com.unima.risk6.network.serialization.Deserializer;
+import com.unima.risk6.network.serialization.Serializer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameStateDeltaTrackerTest {
+
+  private GameState gameState;
+  private MoveProcessor moveProcessor;
+  private GameStateDeltaTracker tracker;
+
+  @BeforeEach
+  void setUp() {
+    gameState = GameConfiguration.configureGame(List.of("P1", "P2", "P3"),
+        new ArrayList<AiBot>());
+    gameState.getActivePlayers().forEach(x -> x.setCurrentPhase(GamePhase.CLAIM_PHASE));
+    PlayerController playerController = new PlayerController();
+    playerController.setPlayer(gameState.getCurrentPlayer());
+    moveProcessor = new MoveProcessor(playerController, new GameController(gameState),
+        new DeckController(gameState.getDeck(), gameState.getRandom()));
+    tracker = new GameStateDeltaTracker();
+  }
+
+  @Test
+  void testFirstUpdateContainsWholeGameState() {
+    Message<?> update = tracker.nextUpdate(gameState);
+    assertInstanceOf(GameState.class, update.getContent());
+    assertEquals(1, gameState.getVersion());
+  }
+
+  @Test
+  void testDeltaRebuildsGameStateOfServer() {
+    GameState client = receive(tracker.nextUpdate(gameState), null);
+    for (int i = 0; i < 3; i++) {
+      claimNeutralCountry();
+      moveProcessor.processEndPhase(new EndPhase(gameState.getCurrentPlayer().getCurrentPhase()));
+      String json = Serializer.serialize(tracker.nextUpdate(gameState));
+      assertTrue(json.length() < Serializer.serialize(new StandardMessage<>(gameState)).length());
+      client = receive(Deserializer.deserialize(json), client);
+      assertNotNull(client);
+      assertEquals(gameState.getVersion(), client.getVersion());
+      assertEquals(serialize(gameState), serialize(client));
+      moveProcessor.clearLastMoves();
+    }
+  }
+
+  @Test
+  void testDeltaOfOtherVersionIsRejected() {
+    GameState client = receive(tracker.nextUpdate(gameState), null);
+    claimNeutralCountry();
+    tracker.nextUpdate(gameState);
+    claimNeutralCountry();
+    Message<?> update = tracker.nextUpdate(gameState);
+    GameStateDelta delta = assertInstanceOf(GameStateDelta.class, update.getContent());
+    assertEquals(2, delta.getBaseVersion());
+    assertNull(GameStateDeltaApplier.apply(client, delta));
+  }
+
+  @Test
+  void testDeltaContainsOnlyChangedPlayers() {
+    tracker.nextUpdate(gameState);
+    String user = gameState.getCurrentPlayer().getUser();
+    claimNeutralCountry();
+    GameStateDelta delta = assertInstanceOf(GameStateDelta.class,
+        tracker.nextUpdate(gameState).getContent());
+    assertEquals(Set.of(user), delta.getPlayers().keySet());
+    moveProcessor.clearLastMoves();
+    delta = assertInstanceOf(GameStateDelta.class, tracker.nextUpdate(gameState).getContent());
+    assertTrue(delta.getPlayers().isEmpty());
+  }
+
+  @Test
+  void testOtherGameStateIsSentWhole() {
+    tracker.nextUpdate(gameState);
+    GameState other = GameConfiguration.configureGame(List.of("P1", "P2", "P3"),
+        new ArrayList<AiBot>());
+    assertInstanceOf(GameState.class, tracker.nextUpdate(other).getContent());
+  }
+
+  private void claimNeutralCountry() {
+    Country country = gameState.getCountries().stream().filter(x -> !x.hasPlayer())
+        .findFirst().orElseThrow();
+    moveProcessor.processReinforce(new Reinforce(country, 1));
+  }
+
+  private static GameState receive(Message<?> update, GameState client) {
+    if (update.getContent() instanceof GameStateDelta delta) {
+      return GameStateDeltaApplier.apply(client, delta);
+    }
+    return (GameState) Deserializer.deserialize(Serializer.serialize(update),
+        GameConfiguration.configureGame(new ArrayList<>(), new ArrayList<>())).getContent();
+  }
+
+  private static String serialize(GameState gameState) {
+    return Serializer.serialize(new StandardMessage<>(gameState))
+        .replaceAll(".hashCode..\\d*?,", "");
+  }
+}
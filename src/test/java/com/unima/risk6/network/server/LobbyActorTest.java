@@ -0,0 +1,63 @@
+package com.unima.risk6.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LobbyActorTest {
+
+  @Test
+  void testTasksRunOneAfterAnotherInOrder() throws InterruptedException {
+    LobbyActor lobbyActor = new LobbyActor("test");
+    List<Integer> order = new ArrayList<>();
+    AtomicInteger running = new AtomicInteger();
+    AtomicBoolean overlapped = new AtomicBoolean();
+    CountDownLatch done = new CountDownLatch(1000);
+    for (int i = 0; i < 1000; i++) {
+      int task = i;
+      lobbyActor.tell(() -> {
+        if (running.incrementAndGet() > 1) {
+          overlapped.set(true);
+        }
+        order.add(task);
+        running.decrementAndGet();
+        done.countDown();
+      });
+    }
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertFalse(overlapped.get());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, order.get(i));
+    }
+  }
+
+  @Test
+  void testScheduledTaskRunsAfterDelay() throws InterruptedException {
+    LobbyActor lobbyActor = new LobbyActor("test");
+    CountDownLatch done = new CountDownLatch(1);
+    long start = System.nanoTime();
+    lobbyActor.schedule(done::countDown, 50, TimeUnit.MILLISECONDS);
+    assertTrue(done.await(5, TimeUnit.SECONDS));
+    assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  void testStoppedActorDropsTasks() throws InterruptedException {
+    LobbyActor lobbyActor = new LobbyActor("test");
+    AtomicBoolean ran = new AtomicBoolean();
+    lobbyActor.schedule(() -> ran.set(true), 20, TimeUnit.MILLISECONDS);
+    lobbyActor.stop();
+    lobbyActor.tell(() -> ran.set(true));
+    Thread.sleep(100);
+    assertTrue(lobbyActor.isStopped());
+    assertFalse(ran.get());
+  }
+}
@@ -0,0 +1,91 @@
+package com.unima.risk6.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.unima.risk6.game.logic.EndPhase;
+import com.unima.risk6.game.models.UserDto;
+import com.unima.risk6.game.models.enums.GamePhase;
+import com.unima.risk6.network.message.ChatMessage;
+import com.unima.risk6.network.message.ConnectionMessage;
+import com.unima.risk6.network.message.Message;
+import com.unima.risk6.network.message.StandardMessage;
+import com.unima.risk6.network.message.enums.ConnectionActions;
+import com.unima.risk6.network.serialization.BinaryMessageCodec;
+import com.unima.risk6.network.serialization.Serializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ServerMessageDecoderTest {
+
+  private EmbeddedChannel channel;
+
+  @BeforeEach
+  void setUp() {
+    channel = new EmbeddedChannel(new ServerMessageDecoder(new GameLobbyChannels()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void testLobbyMessagesAreDecoded() {
+    channel.writeInbound(new TextWebSocketFrame(Serializer.serialize(
+        new ConnectionMessage<>(ConnectionActions.JOIN_SERVER_LOBBY,
+            new UserDto("Alice", 0, 0, 0, 0, 0)))));
+    ConnectionMessage<?> connectionMessage = assertInstanceOf(ConnectionMessage.class,
+        channel.readInbound());
+    assertEquals(ConnectionActions.JOIN_SERVER_LOBBY, connectionMessage.getConnectionActions());
+    assertEquals("Alice", ((UserDto) connectionMessage.getContent()).getUsername());
+
+    channel.writeInbound(new TextWebSocketFrame(Serializer.serialize(new ChatMessage("Hallo"))));
+    assertEquals("Hallo", assertInstanceOf(ChatMessage.class, channel.readInbound()).getContent());
+  }
+
+  @Test
+  void testMovesWithoutCountriesAreDecodedInBothFormats() {
+    StandardMessage<EndPhase> endPhase = new StandardMessage<>(
+        new EndPhase(GamePhase.ATTACK_PHASE));
+    channel.writeInbound(new TextWebSocketFrame(Serializer.serialize(endPhase)));
+    channel.writeInbound(new BinaryWebSocketFrame(
+        BinaryMessageCodec.encode(endPhase, UnpooledByteBufAllocator.DEFAULT)));
+    for (int i = 0; i < 2; i++) {
+      Message<?> message = channel.readInbound();
+      assertEquals(GamePhase.ATTACK_PHASE,
+          assertInstanceOf(EndPhase.class, message.getContent()).getPhaseToEnd());
+    }
+  }
+
+  @Test
+  void testInvalidFramesAreDropped() {
+    channel.writeInbound(new TextWebSocketFrame("not a message"));
+    channel.writeInbound(new TextWebSocketFrame("{\"content\":\"no content type\"}"));
+    channel.writeInbound(new TextWebSocketFrame("{\"contentType\":\"UNKNOWN\"}"));
+    channel.writeInbound(new TextWebSocketFrame(
+        "{\"contentType\":\"REINFORCE\",\"content\":{},\"statusCode\":-1}"));
+    assertNull(channel.readInbound());
+  }
+
+  @Test
+  void testInvalidBinaryAndUnsupportedFramesAreDropped() {
+    channel.writeInbound(new BinaryWebSocketFrame(Unpooled.EMPTY_BUFFER));
+    channel.writeInbound(new BinaryWebSocketFrame(Unpooled.wrappedBuffer(new byte[]{(byte) 255})));
+    ByteBuf truncated = BinaryMessageCodec.encode(
+        new StandardMessage<>(new EndPhase(GamePhase.ATTACK_PHASE)),
+        UnpooledByteBufAllocator.DEFAULT);
+    channel.writeInbound(new BinaryWebSocketFrame(truncated.capacity(1)));
+    channel.writeInbound(new ContinuationWebSocketFrame(Unpooled.wrappedBuffer(new byte[]{1})));
+    assertNull(channel.readInbound());
+  }
+}
@@ -0,0 +1,69 @@
+package com.unima.risk6.network.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import org.junit.jupiter.api.Test;
+
+class ServerTransportConfigurationTest {
+
+  @Test
+  void testSystemPropertiesOverrideTheDefaults() {
+    System.setProperty("server.tcpNoDelay", "false");
+    System.setProperty("server.writeBufferHighWaterMark", "131072");
+    try {
+      ServerTransportConfiguration configuration =
+          ServerTransportConfiguration.fromSystemProperties();
+      assertFalse(configuration.isTcpNoDelay());
+      assertEquals(131072, configuration.getWriteBufferHighWaterMark());
+      assertEquals(32 * 1024, configuration.getWriteBufferLowWaterMark());
+      assertTrue(configuration.isPooledAllocator());
+      assertFalse(configuration.isNativeTransport());
+      assertTrue(ServerTransportConfiguration.forDedicatedServer().isNativeTransport());
+    } finally {
+      System.clearProperty("server.tcpNoDelay");
+      System.clearProperty("server.writeBufferHighWaterMark");
+    }
+  }
+
+  @Test
+  void testNioTransportIsUsedWhenNativeTransportIsDisabled() {
+    ServerTransportConfiguration configuration = new ServerTransportConfiguration();
+    assertFalse(configuration.usesNativeTransport());
+    assertSame(NioServerSocketChannel.class, configuration.getServerChannelClass());
+    EventLoopGroup group = configuration.createEventLoopGroup(1);
+    assertTrue(group instanceof NioEventLoopGroup);
+    group.shutdownGracefully();
+  }
+
+  @Test
+  void testChildOptionsAreApplied() {
+    ServerTransportConfiguration configuration = new ServerTransportConfiguration();
+    configuration.setPooledAllocator(false);
+    configuration.setWriteBufferLowWaterMark(1024);
+    configuration.setWriteBufferHighWaterMark(4096);
+    ServerBootstrap bootstrap = new ServerBootstrap();
+    configuration.configure(bootstrap);
+    assertSame(UnpooledByteBufAllocator.DEFAULT,
+        bootstrap.config().childOptions().get(ChannelOption.ALLOCATOR));
+    assertEquals(true, bootstrap.config().childOptions().get(ChannelOption.TCP_NODELAY));
+    WriteBufferWaterMark waterMark = (WriteBufferWaterMark) bootstrap.config().childOptions()
+        .get(ChannelOption.WRITE_BUFFER_WATER_MARK);
+    assertEquals(1024, waterMark.low());
+    assertEquals(4096, waterMark.high());
+  }
+
+  @Test
+  void testSslContextIsSharedBetweenConnections() throws Exception {
+    assertSame(GameServerInitializer.getSslContext(), GameServerInitializer.getSslContext());
+  }
+}